@@ -0,0 +1,11 @@
+package com.toy.cnr.api.common.config;
+
+import com.toy.cnr.api.common.sse.SseHeartbeatProperties;
+import com.toy.cnr.api.common.sse.SseQueueProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({SseQueueProperties.class, SseHeartbeatProperties.class})
+public class SseConfig {
+}
@@ -0,0 +1,35 @@
+package com.toy.cnr.api.common.config;
+
+import com.toy.cnr.api.game.socket.GameSocketHandler;
+import com.toy.cnr.api.game.socket.GameSocketHandshakeInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket 설정.
+ * <p>
+ * {@code /v1/game/ws}: 좌표/핑 상향 + 좌표/게임 이벤트 하향을 하나의 연결로 처리하는 게임 채널
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final GameSocketHandler gameSocketHandler;
+    private final GameSocketHandshakeInterceptor gameSocketHandshakeInterceptor;
+
+    public WebSocketConfig(
+        GameSocketHandler gameSocketHandler,
+        GameSocketHandshakeInterceptor gameSocketHandshakeInterceptor
+    ) {
+        this.gameSocketHandler = gameSocketHandler;
+        this.gameSocketHandshakeInterceptor = gameSocketHandshakeInterceptor;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(gameSocketHandler, "/v1/game/ws")
+            .addInterceptors(gameSocketHandshakeInterceptor);
+    }
+}
@@ -0,0 +1,576 @@
+package com.toy.cnr.api.common.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 토픽 단위 SSE 브로드캐스터.
+ * <p>
+ * 같은 토픽을 보는 emitter들은 상위 구독(유즈케이스) 하나를 공유하고,
+ * 상위에서 인코딩한 {@link SseFrame} 바이트를 모든 emitter에 그대로 기록합니다.
+ * 첫 emitter 등록 시 상위 구독을 시작하고, 마지막 emitter가 끝나면 상위 구독을 해제합니다.
+ * <p>
+ * 상위 구독 스레드(Redis 리스너)는 프레임을 emitter별 송신 큐에 넣기만 하고, 실제 전송은 emitter마다
+ * 하나씩 둔 가상 스레드가 담당합니다. 느린 클라이언트는 자기 큐만 채우며 다른 구독자의 전송을 지연시키지 않습니다.
+ * 큐가 가득 차면 {@link SseOverflowPolicy}에 따라 오래된 프레임을 버리거나 연결을 끊습니다.
+ * <p>
+ * 재연결 시 놓친 프레임을 재생하려면 {@code replay}를 함께 넘깁니다. 재생하는 동안 도착한 실시간 프레임은
+ * 큐에 쌓였다가 재생 후 이어 보내며, 재생 목록에 이미 있는 {@code id:}는 건너뛰어 중복/누락 없이 이어집니다.
+ * <p>
+ * 응답 타임아웃 없이 열어 두는 연결이므로, 오프라인이 된 단말처럼 반쯤 열린 연결은 완료/오류 콜백이 오지 않습니다.
+ * 주기마다 한동안 보낸 프레임이 없는 연결에 하트비트 주석({@code :})을 보내 쓰기 실패를 드러내고,
+ * 전송 한 번이 {@code cnr.sse.heartbeat.write-timeout} 이상 끝나지 않는 연결은 정리(reaper)하여 상위 구독을 해제합니다.
+ * <p>
+ * Metric: {@code cnr.sse.queue.depth} (gauge, 스트림별 대기 프레임 수),
+ * {@code cnr.sse.queue.overflow} (counter, 스트림·정책별 큐 초과 횟수),
+ * {@code cnr.sse.streams} (gauge, 노드의 스트림·게임별 열린 연결 수, 방 스트림은 game 태그가 방 ID),
+ * {@code cnr.sse.reaped} (counter, 스트림별 전송 정체로 정리한 연결 수)
+ * <p>
+ * 사용 예시:
+ * <pre>{@code
+ * var emitter = new SseEmitter(0L);
+ * sseBroadcaster.register(
+ *     "game-events:" + gameId,
+ *     emitter,
+ *     SseOverflowPolicy.DISCONNECT,
+ *     sink -> useCase.subscribe(gameId, event -> sink.accept(frameEncoder.encode(event.type(), event))),
+ *     useCase::unsubscribe
+ * );
+ * return emitter;
+ * }</pre>
+ */
+@Component
+public class SseBroadcaster {
+
+    /** topic → 토픽 상태 (상위 구독 1개 + emitter 목록) */
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+
+    /** 스트림 종류(토픽 키의 첫 구간) → 대기 프레임 수 */
+    private final Map<String, AtomicLong> depths = new ConcurrentHashMap<>();
+
+    /** 스트림 종류 + 게임 ID → 열린 연결 수 (0이 되면 gauge 제거) */
+    private final Map<List<String>, StreamGauge> streamGauges = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("sse-heartbeat").daemon().factory()
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final int queueCapacity;
+    private final long heartbeatMillis;
+    private final long writeTimeoutMillis;
+
+    public SseBroadcaster(
+        MeterRegistry meterRegistry,
+        SseQueueProperties queueProperties,
+        SseHeartbeatProperties heartbeatProperties
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = queueProperties.capacity();
+        this.heartbeatMillis = heartbeatProperties.interval().toMillis();
+        this.writeTimeoutMillis = heartbeatProperties.writeTimeout().toMillis();
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleAtFixedRate(
+            () -> {
+                try {
+                    sweep();
+                } catch (Exception e) {
+                    // 한 번의 실패가 주기 작업을 중단시키지 않도록 무시
+                }
+            },
+            heartbeatMillis,
+            heartbeatMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * emitter를 토픽에 등록합니다.
+     *
+     * @param topic       토픽 키 (같은 키의 emitter들이 상위 구독과 프레임을 공유)
+     * @param emitter     등록할 emitter
+     * @param overflow    송신 큐가 가득 찼을 때의 처리
+     * @param subscribe   프레임 sink를 받아 상위 구독을 시작하고 subscriberId를 반환
+     * @param unsubscribe subscriberId로 상위 구독을 해제
+     */
+    public void register(
+        String topic,
+        SseEmitter emitter,
+        SseOverflowPolicy overflow,
+        Function<Consumer<SseFrame>, String> subscribe,
+        Consumer<String> unsubscribe
+    ) {
+        register(topic, emitter, overflow, subscribe, unsubscribe, null);
+    }
+
+    /**
+     * emitter를 토픽에 등록하고, 실시간 프레임보다 먼저 재생 프레임을 보냅니다.
+     * <p>
+     * 구독을 먼저 연 뒤 재생 목록을 조회하므로 두 구간 사이의 이벤트도 놓치지 않습니다.
+     *
+     * @param replay 재생할 프레임 목록 (오래된 순, 송신 스레드에서 조회). null이면 바로 실시간 전송
+     */
+    public void register(
+        String topic,
+        SseEmitter emitter,
+        SseOverflowPolicy overflow,
+        Function<Consumer<SseFrame>, String> subscribe,
+        Consumer<String> unsubscribe,
+        Supplier<List<SseFrame>> replay
+    ) {
+        register(List.of(new SseTopic(topic, subscribe, unsubscribe)), emitter, overflow, replay);
+    }
+
+    /**
+     * emitter 하나를 여러 토픽에 등록합니다. 모든 토픽의 프레임이 같은 송신 큐로 모이며,
+     * 게임 공용 토픽과 플레이어 개인 토픽처럼 공유 범위가 다른 구독을 한 연결로 받을 때 사용합니다.
+     * 연결 수 gauge와 하트비트는 첫 토픽 기준으로 한 번만 셉니다.
+     *
+     * @param subscriptions 등록할 토픽 (첫 토픽이 스트림 종류·게임을 정함)
+     * @param replay 재생할 프레임 목록 (오래된 순, 송신 스레드에서 조회). null이면 바로 실시간 전송
+     */
+    public void register(
+        List<SseTopic> subscriptions,
+        SseEmitter emitter,
+        SseOverflowPolicy overflow,
+        Supplier<List<SseFrame>> replay
+    ) {
+        var primary = subscriptions.getFirst().key();
+        var stream = streamOf(primary);
+        var member = new Member(
+            emitter, overflow, stream, depth(stream), scopeOf(primary),
+            subscriptions.stream().map(SseTopic::key).toList()
+        );
+        trackStream(member, 1);
+        try {
+            for (var subscription : subscriptions) {
+                join(subscription.key(), member, subscription.subscribe(), subscription.unsubscribe());
+            }
+        } catch (RuntimeException e) {
+            remove(member);
+            throw e;
+        }
+
+        emitter.onCompletion(() -> remove(member));
+        emitter.onTimeout(() -> remove(member));
+        emitter.onError(e -> remove(member));
+
+        member.thread = Thread.ofVirtual().name("sse-" + stream).start(() -> member.drain(replay));
+    }
+
+    /**
+     * 토픽에 합류합니다. 토픽이 없으면 맵 밖에서 상위 구독(Redis 리스너 등록)을 연 뒤 {@code putIfAbsent}로 설치하고,
+     * 동시에 다른 스레드가 먼저 설치했으면 방금 연 구독을 해제하고 그 토픽에 합류합니다.
+     * 마지막 emitter가 빠져 닫히는 중인 토픽을 만나면 새 토픽으로 다시 시도합니다.
+     */
+    private void join(
+        String topic,
+        Member member,
+        Function<Consumer<SseFrame>, String> subscribe,
+        Consumer<String> unsubscribe
+    ) {
+        while (true) {
+            var state = topics.get(topic);
+            if (state == null) {
+                var created = new Topic(unsubscribe);
+                created.members.put(member.emitter, member);
+                created.subscriberId = subscribe.apply(created::broadcast);
+                state = topics.putIfAbsent(topic, created);
+                if (state == null) {
+                    return;
+                }
+                unsubscribe.accept(created.subscriberId);
+            }
+            if (state.join(member)) {
+                return;
+            }
+            topics.remove(topic, state);
+        }
+    }
+
+    /** emitter를 모든 토픽에서 빼고 송신 큐를 닫습니다. 완료/오류 콜백이 여러 번 와도 한 번만 처리합니다. */
+    private void remove(Member member) {
+        if (!member.removed.compareAndSet(false, true)) {
+            return;
+        }
+        member.close();
+        trackStream(member, -1);
+        for (var topic : member.topicKeys) {
+            leave(topic, member.emitter);
+        }
+    }
+
+    private void leave(String topic, SseEmitter emitter) {
+        var state = topics.get(topic);
+        if (state == null) {
+            return;
+        }
+        state.members.remove(emitter);
+        if (state.closeIfEmpty()) {
+            topics.remove(topic, state);
+            state.unsubscribe.accept(state.subscriberId);
+        }
+    }
+
+    /**
+     * 주기 작업: 전송이 정체된 연결은 정리하고, 한동안 보낸 프레임이 없는 연결에는 하트비트를 보냅니다.
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        topics.forEach((topic, state) -> {
+            for (var member : state.members.values()) {
+                if (!member.topicKeys.getFirst().equals(topic)) {
+                    // 여러 토픽에 등록된 연결은 첫 토픽에서 한 번만 처리
+                    continue;
+                }
+                if (member.isStalled(now)) {
+                    reap(member);
+                } else {
+                    member.heartbeat(now);
+                }
+            }
+        });
+    }
+
+    /**
+     * 전송이 막힌 연결을 토픽에서 제거(마지막이면 상위 구독 해제)하고 송신 스레드를 깨웁니다.
+     * 막힌 쓰기와 같은 잠금을 기다릴 수 있으므로 emitter 종료는 별도 가상 스레드에서 합니다.
+     */
+    private void reap(Member member) {
+        member.reapedCounter.increment();
+        remove(member);
+        if (member.thread != null) {
+            member.thread.interrupt();
+        }
+        Thread.ofVirtual().name("sse-reaper").start(() ->
+            member.emitter.completeWithError(new IOException("SSE write stalled"))
+        );
+    }
+
+    private void trackStream(Member member, int delta) {
+        streamGauges.compute(List.of(member.stream, member.scope), (key, gauge) -> {
+            if (gauge == null) {
+                if (delta <= 0) {
+                    return null;
+                }
+                var count = new AtomicInteger();
+                gauge = new StreamGauge(count, Gauge.builder("cnr.sse.streams", count, AtomicInteger::get)
+                    .description("노드의 열린 SSE 연결 수")
+                    .tag("stream", member.stream)
+                    .tag("game", member.scope)
+                    .register(meterRegistry));
+            }
+            if (gauge.count.addAndGet(delta) <= 0) {
+                // 끝난 게임의 시계열이 남지 않도록 제거합니다.
+                meterRegistry.remove(gauge.gauge);
+                return null;
+            }
+            return gauge;
+        });
+    }
+
+    private AtomicLong depth(String stream) {
+        return depths.computeIfAbsent(stream, key -> {
+            var depth = new AtomicLong();
+            Gauge.builder("cnr.sse.queue.depth", depth, AtomicLong::get)
+                .description("SSE 송신 큐 대기 프레임 수")
+                .tag("stream", key)
+                .register(meterRegistry);
+            return depth;
+        });
+    }
+
+    private Counter overflowCounter(String stream, SseOverflowPolicy policy) {
+        return Counter.builder("cnr.sse.queue.overflow")
+            .description("SSE 송신 큐 초과 횟수")
+            .tag("stream", stream)
+            .tag("policy", policy.name())
+            .register(meterRegistry);
+    }
+
+    /** 토픽 키의 첫 구간 ({@code game-events}, {@code room-events}, {@code location}, {@code location-aoi}) */
+    private static String streamOf(String topic) {
+        int separator = topic.indexOf(':');
+        return separator < 0 ? topic : topic.substring(0, separator);
+    }
+
+    /** 토픽 키의 두 번째 구간 (게임 ID, 방 스트림은 방 ID) */
+    private static String scopeOf(String topic) {
+        int start = topic.indexOf(':');
+        if (start < 0) {
+            return "";
+        }
+        int end = topic.indexOf(':', start + 1);
+        return end < 0 ? topic.substring(start + 1) : topic.substring(start + 1, end);
+    }
+
+    private record StreamGauge(AtomicInteger count, Gauge gauge) {}
+
+    private static final class Topic {
+
+        private final Map<SseEmitter, Member> members = new ConcurrentHashMap<>();
+        private final Consumer<String> unsubscribe;
+        private final ReentrantLock lock = new ReentrantLock();
+        private String subscriberId;
+
+        /** 마지막 emitter가 빠져 상위 구독을 해제함 (더 이상 합류 불가) */
+        private boolean closed;
+
+        private Topic(Consumer<String> unsubscribe) {
+            this.unsubscribe = unsubscribe;
+        }
+
+        /** @return 합류했으면 true, 이미 닫힌 토픽이면 false */
+        private boolean join(Member member) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                members.put(member.emitter, member);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** 남은 emitter가 없으면 닫습니다. @return 이번 호출로 닫혔으면 true (상위 구독 해제 담당) */
+        private boolean closeIfEmpty() {
+            lock.lock();
+            try {
+                if (closed || !members.isEmpty()) {
+                    return false;
+                }
+                closed = true;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void broadcast(SseFrame frame) {
+            for (var member : members.values()) {
+                member.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * 토픽에 등록된 emitter 하나와 그 송신 큐.
+     * <p>
+     * 가상 스레드에서 블로킹하므로 모니터 대신 {@link ReentrantLock}을 사용합니다.
+     */
+    private final class Member {
+
+        private final SseEmitter emitter;
+        private final SseOverflowPolicy overflow;
+        private final String stream;
+        private final String scope;
+        private final List<String> topicKeys;
+        private final AtomicLong depth;
+        private final Counter overflowCounter;
+        private final Counter reapedCounter;
+
+        /** 토픽에서 제거됨 (완료/오류/정리 콜백 중복 방지) */
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        /** 송신 스레드 */
+        private volatile Thread thread;
+
+        /** 마지막으로 전송을 마친 시각 (등록 시각으로 시작) */
+        private volatile long lastWriteAt = System.currentTimeMillis();
+
+        /** 진행 중인 전송의 시작 시각 (전송 중이 아니면 0) */
+        private volatile long sendingSince;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final ArrayDeque<SseFrame> queue = new ArrayDeque<>();
+
+        /** 더 이상 전송하지 않음 (연결 종료 또는 큐 초과로 끊김) */
+        private boolean closed;
+
+        /** 큐 초과로 끊어야 함 (송신 스레드가 emitter를 종료) */
+        private boolean evicted;
+
+        private Member(
+            SseEmitter emitter,
+            SseOverflowPolicy overflow,
+            String stream,
+            AtomicLong depth,
+            String scope,
+            List<String> topicKeys
+        ) {
+            this.emitter = emitter;
+            this.overflow = overflow;
+            this.stream = stream;
+            this.scope = scope;
+            this.topicKeys = topicKeys;
+            this.depth = depth;
+            this.overflowCounter = overflowCounter(stream, overflow);
+            this.reapedCounter = Counter.builder("cnr.sse.reaped")
+                .description("전송 정체로 정리한 SSE 연결 수")
+                .tag("stream", stream)
+                .register(meterRegistry);
+        }
+
+        private boolean isStalled(long now) {
+            long since = sendingSince;
+            return since != 0 && now - since >= writeTimeoutMillis;
+        }
+
+        /** 대기 프레임도, 진행 중인 전송도 없이 한 주기가 지났으면 하트비트를 넣습니다. */
+        private void heartbeat(long now) {
+            if (sendingSince != 0 || now - lastWriteAt < heartbeatMillis) {
+                return;
+            }
+            lock.lock();
+            try {
+                if (closed || !queue.isEmpty()) {
+                    return;
+                }
+                queue.addLast(SseFrame.HEARTBEAT);
+                depth.incrementAndGet();
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void offer(SseFrame frame) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= queueCapacity) {
+                    overflowCounter.increment();
+                    if (overflow == SseOverflowPolicy.DISCONNECT) {
+                        evicted = true;
+                        closeLocked();
+                        return;
+                    }
+                    queue.pollFirst();
+                    depth.decrementAndGet();
+                }
+                queue.addLast(frame);
+                depth.incrementAndGet();
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            lock.lock();
+            try {
+                closeLocked();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void closeLocked() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            depth.addAndGet(-queue.size());
+            queue.clear();
+            notEmpty.signal();
+        }
+
+        /** 송신 스레드 본문: 재생 프레임을 먼저 보내고 이후 큐를 비웁니다. */
+        private void drain(Supplier<List<SseFrame>> replay) {
+            Set<String> replayedIds = new HashSet<>();
+            if (replay != null) {
+                for (var frame : replay.get()) {
+                    if (frame.id() != null) {
+                        replayedIds.add(frame.id());
+                    }
+                    if (!send(frame)) {
+                        return;
+                    }
+                }
+            }
+
+            while (true) {
+                SseFrame frame;
+                lock.lock();
+                try {
+                    while (queue.isEmpty() && !closed) {
+                        notEmpty.await();
+                    }
+                    if (closed) {
+                        if (evicted) {
+                            // 큐 초과: 연결을 끊어 클라이언트가 Last-Event-ID로 재연결하게 합니다.
+                            emitter.complete();
+                        }
+                        return;
+                    }
+                    frame = queue.pollFirst();
+                    depth.decrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+
+                if (frame.id() != null && !replayedIds.isEmpty() && replayedIds.remove(frame.id())) {
+                    continue;
+                }
+                if (!send(frame)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean send(SseFrame frame) {
+            sendingSince = System.currentTimeMillis();
+            try {
+                emitter.send(frame.items());
+                lastWriteAt = System.currentTimeMillis();
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결: onError/onCompletion 콜백에서 토픽에서 제거됩니다.
+                emitter.completeWithError(e);
+                return false;
+            } finally {
+                sendingSince = 0;
+            }
+        }
+    }
+}
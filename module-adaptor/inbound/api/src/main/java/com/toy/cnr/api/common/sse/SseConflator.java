@@ -0,0 +1,109 @@
+package com.toy.cnr.api.common.sse;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 최신 값 병합(conflation) + 주기 flush.
+ * <p>
+ * 상위 구독에서 받은 값을 키별 최신 값 하나만 남기고, tick마다 바뀐 값만 모아 한 번에 내보냅니다.
+ * {@link SseBroadcaster}의 상위 구독 자리에 끼워 쓰므로 같은 토픽의 emitter들은 병합 결과 프레임 하나를 공유합니다.
+ * <p>
+ * 사용 예시:
+ * <pre>{@code
+ * sseBroadcaster.register(
+ *     topic, emitter, overflow,
+ *     sink -> sseConflator.subscribe(
+ *         tick,
+ *         LocationResponse::playerId,
+ *         batch -> sink.accept(frameEncoder.encode("locations", batch)),
+ *         onValue -> useCase.subscribe(gameId, onValue)
+ *     ),
+ *     subscriberId -> sseConflator.unsubscribe(subscriberId, useCase::unsubscribe)
+ * );
+ * }</pre>
+ */
+@Component
+public class SseConflator {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("sse-conflator").daemon().factory()
+    );
+
+    /** 상위 subscriberId → flush 작업 */
+    private final Map<String, ScheduledFuture<?>> flushes = new ConcurrentHashMap<>();
+
+    /**
+     * 상위 구독을 열고 tick마다 병합된 값을 내보냅니다.
+     *
+     * @param tick      flush 주기
+     * @param keyOf     병합 키 (같은 키는 tick 안에서 마지막 값만 남김)
+     * @param onFlush   tick 동안 바뀐 값 목록 (비어 있으면 호출하지 않음)
+     * @param subscribe 값 sink를 받아 상위 구독을 시작하고 subscriberId를 반환
+     * @return 상위 subscriberId ({@link #unsubscribe}에 전달)
+     */
+    public <V> String subscribe(
+        Duration tick,
+        Function<V, String> keyOf,
+        Consumer<List<V>> onFlush,
+        Function<Consumer<V>, String> subscribe
+    ) {
+        var latest = new ConcurrentHashMap<String, V>();
+        var subscriberId = subscribe.apply(value -> latest.put(keyOf.apply(value), value));
+
+        var period = tick.toMillis();
+        var future = executor.scheduleAtFixedRate(
+            () -> {
+                try {
+                    flush(latest, onFlush);
+                } catch (Exception e) {
+                    // flush 실패가 주기 작업을 중단시키지 않도록 무시
+                }
+            },
+            period,
+            period,
+            TimeUnit.MILLISECONDS
+        );
+        flushes.put(subscriberId, future);
+        return subscriberId;
+    }
+
+    /**
+     * flush 작업을 멈추고 상위 구독을 해제합니다.
+     */
+    public void unsubscribe(String subscriberId, Consumer<String> unsubscribe) {
+        var future = flushes.remove(subscriberId);
+        if (future != null) {
+            future.cancel(false);
+        }
+        unsubscribe.accept(subscriberId);
+    }
+
+    private static <V> void flush(Map<String, V> latest, Consumer<List<V>> onFlush) {
+        if (latest.isEmpty()) {
+            return;
+        }
+        // 키별로 꺼내며 지우므로, flush 중에 들어온 값은 다음 tick에 나갑니다.
+        var batch = new ArrayList<V>(latest.size());
+        for (var key : latest.keySet()) {
+            var value = latest.remove(key);
+            if (value != null) {
+                batch.add(value);
+            }
+        }
+        if (!batch.isEmpty()) {
+            onFlush.accept(batch);
+        }
+    }
+}
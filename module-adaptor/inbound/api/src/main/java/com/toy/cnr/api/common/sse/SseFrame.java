@@ -0,0 +1,43 @@
+package com.toy.cnr.api.common.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 직렬화가 끝난 불변 SSE 프레임 ({@code event:}/{@code id:}/{@code data:} 줄과 빈 줄까지 포함한 바이트).
+ * <p>
+ * 한 번 인코딩한 프레임을 모든 emitter에 그대로 기록하므로 구독자 수만큼 재직렬화하지 않습니다.
+ */
+public final class SseFrame {
+
+    /** 하트비트 주석 프레임. 클라이언트는 무시하며, 끊긴 연결은 이 쓰기에서 실패가 드러납니다. */
+    static final SseFrame HEARTBEAT = new SseFrame(null, null, ":\n\n".getBytes(StandardCharsets.US_ASCII));
+
+    private final String event;
+    private final String id;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> items;
+
+    SseFrame(String event, String id, byte[] bytes) {
+        this.event = event;
+        this.id = id;
+        this.items = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+    }
+
+    /** SSE {@code event:} 이름 (없으면 null) */
+    public String event() {
+        return event;
+    }
+
+    /** SSE {@code id:} (없으면 null) */
+    public String id() {
+        return id;
+    }
+
+    /** {@link ResponseBodyEmitter#send(Set)}에 그대로 넘길 수 있는 원시 바이트 묶음 */
+    Set<ResponseBodyEmitter.DataWithMediaType> items() {
+        return items;
+    }
+}
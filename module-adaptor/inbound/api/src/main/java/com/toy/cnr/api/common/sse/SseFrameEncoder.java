@@ -0,0 +1,72 @@
+package com.toy.cnr.api.common.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 객체를 {@link SseFrame}으로 한 번만 인코딩합니다.
+ * <p>
+ * 출력 형식은 {@code SseEmitter.event().name(..).id(..).data(..)}와 같습니다.
+ */
+@Component
+public class SseFrameEncoder {
+
+    private static final byte[] EVENT = "event:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ID = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA = "data:".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    public SseFrameEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public SseFrame encode(String event, Object data) {
+        return encode(event, null, data);
+    }
+
+    /**
+     * @param event SSE {@code event:} 이름 (null이면 생략)
+     * @param id    SSE {@code id:} (null이면 생략)
+     * @param data  JSON으로 직렬화할 객체
+     */
+    public SseFrame encode(String event, String id, Object data) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var out = new ByteArrayOutputStream(json.length + 64);
+        if (event != null) {
+            writeLine(out, EVENT, event.getBytes(StandardCharsets.UTF_8));
+        }
+        if (id != null) {
+            writeLine(out, ID, id.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 들여쓰기 설정 등으로 JSON에 개행이 있으면 줄마다 data: 접두사를 붙입니다.
+        out.writeBytes(DATA);
+        for (byte b : json) {
+            out.write(b);
+            if (b == '\n') {
+                out.writeBytes(DATA);
+            }
+        }
+        out.write('\n');
+        out.write('\n');
+        return new SseFrame(event, id, out.toByteArray());
+    }
+
+    private static void writeLine(ByteArrayOutputStream out, byte[] field, byte[] value) {
+        out.writeBytes(field);
+        out.writeBytes(value);
+        out.write('\n');
+    }
+}
@@ -0,0 +1,35 @@
+package com.toy.cnr.api.common.sse;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * SSE 하트비트/정리 설정.
+ *
+ * <pre>{@code
+ * cnr:
+ *   sse:
+ *     heartbeat:
+ *       interval: 15s
+ *       write-timeout: 30s
+ * }</pre>
+ *
+ * @param interval     이 시간 동안 보낸 프레임이 없으면 하트비트 주석을 보냄 (기본 15초, 정리 주기 겸용)
+ * @param writeTimeout 전송 한 번이 이 시간 이상 끝나지 않으면 끊긴 연결로 보고 정리 (기본 30초)
+ */
+@ConfigurationProperties(prefix = "cnr.sse.heartbeat")
+public record SseHeartbeatProperties(
+    Duration interval,
+    Duration writeTimeout
+) {
+
+    public SseHeartbeatProperties {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            interval = Duration.ofSeconds(15);
+        }
+        if (writeTimeout == null || writeTimeout.isZero() || writeTimeout.isNegative()) {
+            writeTimeout = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.toy.cnr.api.common.sse;
+
+/**
+ * 구독자별 송신 큐가 가득 찼을 때의 처리 방식.
+ */
+public enum SseOverflowPolicy {
+
+    /** 가장 오래된 프레임을 버리고 새 프레임을 넣습니다 (최신 값만 의미 있는 좌표 스트림). */
+    DROP_OLDEST,
+
+    /**
+     * 연결을 끊습니다. 클라이언트는 {@code Last-Event-ID}로 재연결해 놓친 이벤트를 재생하거나,
+     * 재생이 불가능하면 상태를 다시 조회합니다 (이벤트 스트림).
+     */
+    DISCONNECT
+}
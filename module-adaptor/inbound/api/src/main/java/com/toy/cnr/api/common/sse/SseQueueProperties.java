@@ -0,0 +1,39 @@
+package com.toy.cnr.api.common.sse;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * SSE 구독자별 송신 큐 설정.
+ *
+ * <pre>{@code
+ * cnr:
+ *   sse:
+ *     queue:
+ *       capacity: 256
+ *       location-overflow: drop_oldest
+ *       event-overflow: disconnect
+ * }</pre>
+ *
+ * @param capacity         구독자당 대기 가능한 최대 프레임 수 (기본 256)
+ * @param locationOverflow 좌표 스트림 큐 초과 시 처리 (기본 DROP_OLDEST, 관심 영역 스트림은 들어옴/나감을 잃지 않도록 항상 DISCONNECT)
+ * @param eventOverflow    게임/방 이벤트 스트림 큐 초과 시 처리 (기본 DISCONNECT)
+ */
+@ConfigurationProperties(prefix = "cnr.sse.queue")
+public record SseQueueProperties(
+    Integer capacity,
+    SseOverflowPolicy locationOverflow,
+    SseOverflowPolicy eventOverflow
+) {
+
+    public SseQueueProperties {
+        if (capacity == null || capacity <= 0) {
+            capacity = 256;
+        }
+        if (locationOverflow == null) {
+            locationOverflow = SseOverflowPolicy.DROP_OLDEST;
+        }
+        if (eventOverflow == null) {
+            eventOverflow = SseOverflowPolicy.DISCONNECT;
+        }
+    }
+}
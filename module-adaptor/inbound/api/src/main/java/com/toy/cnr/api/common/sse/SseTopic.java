@@ -0,0 +1,18 @@
+package com.toy.cnr.api.common.sse;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * emitter 하나가 받을 토픽과 그 상위 구독 방법.
+ *
+ * @param key         토픽 키 (같은 키의 emitter들이 상위 구독과 프레임을 공유)
+ * @param subscribe   프레임 sink를 받아 상위 구독을 시작하고 subscriberId를 반환
+ * @param unsubscribe subscriberId로 상위 구독을 해제
+ */
+public record SseTopic(
+    String key,
+    Function<Consumer<SseFrame>, String> subscribe,
+    Consumer<String> unsubscribe
+) {
+}
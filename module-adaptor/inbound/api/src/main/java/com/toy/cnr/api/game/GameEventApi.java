@@ -1,8 +1,17 @@
 package com.toy.cnr.api.game;
 
+import com.toy.cnr.api.common.sse.SseBroadcaster;
+import com.toy.cnr.api.common.sse.SseFrame;
+import com.toy.cnr.api.common.sse.SseFrameEncoder;
+import com.toy.cnr.api.common.sse.SseOverflowPolicy;
+import com.toy.cnr.api.common.sse.SseQueueProperties;
+import com.toy.cnr.api.common.sse.SseTopic;
+import com.toy.cnr.api.common.util.UserPrincipalAdaptorUtil;
 import com.toy.cnr.api.game.request.GameEventSubscribeRequest;
+import com.toy.cnr.api.game.response.GameEventEntryResponse;
 import com.toy.cnr.api.game.response.GameEventResponse;
 import com.toy.cnr.api.game.usecase.GameEventUseCase;
+import com.toy.cnr.domain.common.CommandResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,21 +20,40 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 
 @Tag(name = "Game Event", description = "게임 이벤트 실시간 구독 API")
 @RestController
 @RequestMapping("/v1/game")
 public class GameEventApi {
 
+    /** 재생이 불가능할 때 보내는 이벤트. 클라이언트는 게임 상태를 한 번 다시 조회합니다. */
+    private static final String RESYNC_REQUIRED = "RESYNC_REQUIRED";
+
     private final GameEventUseCase gameEventUseCase;
+    private final SseBroadcaster sseBroadcaster;
+    private final SseFrameEncoder sseFrameEncoder;
+    private final SseOverflowPolicy overflowPolicy;
 
-    public GameEventApi(GameEventUseCase gameEventUseCase) {
+    public GameEventApi(
+        GameEventUseCase gameEventUseCase,
+        SseBroadcaster sseBroadcaster,
+        SseFrameEncoder sseFrameEncoder,
+        SseQueueProperties sseQueueProperties
+    ) {
         this.gameEventUseCase = gameEventUseCase;
+        this.sseBroadcaster = sseBroadcaster;
+        this.sseFrameEncoder = sseFrameEncoder;
+        this.overflowPolicy = sseQueueProperties.eventOverflow();
     }
 
     @Operation(
@@ -42,7 +70,20 @@ public class GameEventApi {
             | ANNOUNCEMENT           | 방장 공지                     | senderId, message                    |
             | GAME_STARTED           | 게임 시작                     | -                                    |
             | GAME_ENDED             | 게임 종료                     | winnerRole                           |
-            | ROLE_ASSIGNED          | 인게임 역할 배정               | playerId, role (POLICE / THIEF)      |
+            | ROLE_ASSIGNED          | 내 인게임 역할 배정 (본인에게만) | playerId, role (POLICE / THIEF)      |
+            | RESYNC_REQUIRED        | 놓친 이벤트 재생 불가          | gameId                               |
+
+            각 이벤트에는 SSE `id:`가 붙습니다. 재연결 시 마지막으로 받은 id를 `Last-Event-ID` 헤더로 보내면
+            그 이후 이벤트를 먼저 재생한 뒤 실시간 스트림으로 이어집니다.
+            재생 구간이 보관 범위를 벗어났으면 `RESYNC_REQUIRED`를 먼저 보내므로, 게임 상태를 한 번 다시 조회하세요.
+            수신이 느려 송신 대기열이 가득 찬 연결은 서버가 끊으므로, 같은 방식으로 재연결하면 됩니다.
+
+            `types`를 지정하면 해당 타입의 이벤트만 받습니다 (재생 포함). 생략하면 전체입니다.
+            `ROLE_ASSIGNED`처럼 한 플레이어에게만 의미 있는 이벤트는 인증된 사용자 본인에게만 전달되며,
+            이벤트 로그에 남지 않으므로 `id:`가 없고 재생 대상도 아닙니다.
+            ```
+            -d '{"gameId":"game-1","types":["PLAYER_ARRESTED","GAME_ENDED"]}'
+            ```
             """,
         responses = {
             @ApiResponse(
@@ -59,28 +100,57 @@ public class GameEventApi {
         value = "/events/subscribe",
         produces = MediaType.TEXT_EVENT_STREAM_VALUE
     )
-    public SseEmitter subscribeEvents(@RequestBody GameEventSubscribeRequest request) {
+    public SseEmitter subscribeEvents(
+        @RequestBody GameEventSubscribeRequest request,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
         var emitter = new SseEmitter(0L);
+        var gameId = request.gameId();
+        var playerId = UserPrincipalAdaptorUtil.getUserInfo().id().toString();
+        var types = request.types() == null || request.types().isEmpty() ? null : Set.copyOf(request.types());
 
-        var subscriberId = gameEventUseCase.subscribeToGameEvents(
-            request.gameId(),
-            event -> {
-                try {
-                    emitter.send(
-                        SseEmitter.event()
-                            .name(event.type())
-                            .data(event)
-                    );
-                } catch (IOException e) {
-                    emitter.completeWithError(e);
-                }
-            }
+        // 게임 이벤트는 같은 게임·타입 필터로 보는 모든 연결이 구독 하나를 공유하고, 이벤트당 한 번 인코딩한 프레임을 함께 받습니다.
+        // 개인 채널(역할 배정 등)만 플레이어별 토픽으로 따로 받아 같은 연결로 보냅니다.
+        var filter = types == null ? "" : ":" + String.join(",", new TreeSet<>(types));
+        sseBroadcaster.register(
+            List.of(
+                new SseTopic(
+                    "game-events:" + gameId + filter,
+                    sink -> gameEventUseCase.subscribeToGameEvents(
+                        gameId, null, types, entry -> sink.accept(encode(entry))
+                    ),
+                    gameEventUseCase::unsubscribe
+                ),
+                new SseTopic(
+                    "game-events:" + gameId + ":player:" + playerId + filter,
+                    sink -> gameEventUseCase.subscribeToPlayerEvents(
+                        gameId, playerId, types, entry -> sink.accept(encode(entry))
+                    ),
+                    gameEventUseCase::unsubscribe
+                )
+            ),
+            emitter,
+            overflowPolicy,
+            lastEventId == null || lastEventId.isBlank() ? null : replay(gameId, lastEventId, types)
         );
 
-        emitter.onCompletion(() -> gameEventUseCase.unsubscribe(subscriberId));
-        emitter.onTimeout(() -> gameEventUseCase.unsubscribe(subscriberId));
-        emitter.onError(e -> gameEventUseCase.unsubscribe(subscriberId));
-
         return emitter;
     }
+
+    private Supplier<List<SseFrame>> replay(String gameId, String lastEventId, Set<String> types) {
+        return () -> switch (gameEventUseCase.replay(gameId, lastEventId, types)) {
+            case CommandResult.Success(var entries, var msg) ->
+                entries.stream().map(this::encode).toList();
+            case CommandResult.ValidationError(var errors) -> resyncRequired(gameId);
+            case CommandResult.BusinessError(var reason) -> resyncRequired(gameId);
+        };
+    }
+
+    private List<SseFrame> resyncRequired(String gameId) {
+        return List.of(sseFrameEncoder.encode(RESYNC_REQUIRED, Map.of("gameId", gameId)));
+    }
+
+    private SseFrame encode(GameEventEntryResponse entry) {
+        return sseFrameEncoder.encode(entry.event().type(), entry.id(), entry.event());
+    }
 }
@@ -1,11 +1,18 @@
 package com.toy.cnr.api.game;
 
+import com.toy.cnr.api.common.sse.SseBroadcaster;
+import com.toy.cnr.api.common.sse.SseConflator;
+import com.toy.cnr.api.common.sse.SseFrameEncoder;
+import com.toy.cnr.api.common.sse.SseOverflowPolicy;
+import com.toy.cnr.api.common.sse.SseQueueProperties;
 import com.toy.cnr.api.common.util.ResponseMapper;
 import com.toy.cnr.api.common.util.UserPrincipalAdaptorUtil;
+import com.toy.cnr.api.game.request.LocationBatchPublishRequest;
 import com.toy.cnr.api.game.request.LocationPublishRequest;
 import com.toy.cnr.api.game.request.LocationSubscribeRequest;
 import com.toy.cnr.api.game.response.LocationResponse;
 import com.toy.cnr.api.game.usecase.GameLocationUseCase;
+import com.toy.cnr.domain.common.CommandResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
@@ -18,17 +25,44 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
 
 @Tag(name = "Game Location", description = "실시간 GPS 좌표 브로드캐스트 API")
 @RestController
 @RequestMapping("/v1/game")
 public class GameLocationApi {
 
+    /** 병합 전송 주기 하한/상한 (ms) */
+    private static final long MIN_CONFLATE_MILLIS = 250;
+    private static final long MAX_CONFLATE_MILLIS = 1_000;
+
+    /**
+     * 관심 영역 스트림의 큐 초과 처리. 들어옴/나감 프레임은 한 번만 오므로 버리면 클라이언트 화면이 어긋납니다.
+     * 오래된 프레임을 버리지 않고 연결을 끊어, 클라이언트가 다시 구독하며 현재 영역을 새로 받게 합니다.
+     */
+    private static final SseOverflowPolicy AREA_OVERFLOW_POLICY = SseOverflowPolicy.DISCONNECT;
+
     private final GameLocationUseCase gameLocationUseCase;
+    private final SseBroadcaster sseBroadcaster;
+    private final SseConflator sseConflator;
+    private final SseFrameEncoder sseFrameEncoder;
+    private final SseOverflowPolicy overflowPolicy;
 
-    public GameLocationApi(GameLocationUseCase gameLocationUseCase) {
+    public GameLocationApi(
+        GameLocationUseCase gameLocationUseCase,
+        SseBroadcaster sseBroadcaster,
+        SseConflator sseConflator,
+        SseFrameEncoder sseFrameEncoder,
+        SseQueueProperties sseQueueProperties
+    ) {
         this.gameLocationUseCase = gameLocationUseCase;
+        this.sseBroadcaster = sseBroadcaster;
+        this.sseConflator = sseConflator;
+        this.sseFrameEncoder = sseFrameEncoder;
+        this.overflowPolicy = sseQueueProperties.locationOverflow();
     }
 
     @Operation(
@@ -79,6 +113,29 @@ public class GameLocationApi {
         );
     }
 
+    @Operation(
+        summary = "좌표 일괄 발행",
+        description = """
+            단말이 버퍼링한 여러 좌표를 한 번에 발행합니다. 최대 500개까지 허용됩니다.
+            플레이어별 최신 좌표만 GeoHash에 저장·브로드캐스트되며, Redis 저장/발행은 각각 하나의 파이프라인으로 처리됩니다.
+            감옥 이탈/제한 구역 진입 검사는 배치 내 모든 좌표에 대해 시간순으로 수행됩니다.
+            ```
+            curl -X POST '{host}/v1/game/location/batch' \\
+              -H 'Authorization: Bearer <ACCESS_TOKEN>' \\
+              -H 'Content-Type: application/json' \\
+              -d '{"gameId":"game-1","fixes":[{"playerId":"player-1","longitude":127.0276,"latitude":37.4979,"timestamp":1741996800000},{"playerId":"player-1","longitude":127.0280,"latitude":37.4981,"timestamp":1741996801000}]}'
+            ```
+            """
+    )
+    @PostMapping("/location/batch")
+    public ResponseEntity<List<LocationResponse>> publishLocations(
+        @RequestBody LocationBatchPublishRequest request
+    ) {
+        return ResponseMapper.toResponseEntity(
+            gameLocationUseCase.publishLocations(request)
+        );
+    }
+
     @Operation(
         summary = "좌표 구독 (SSE)",
         description = """
@@ -100,6 +157,23 @@ public class GameLocationApi {
             event: location
             data: {"playerId":"player-1","longitude":127.0276,"latitude":37.4979,"timestamp":1741996800000}
             ```
+
+            `conflateMillis`를 지정하면 주기마다 바뀐 플레이어의 최신 좌표만 모아 `event: locations` 배열 하나로 받습니다.
+            ```
+            event: locations
+            data: [{"playerId":"player-1","longitude":127.0276,"latitude":37.4979,"timestamp":1741996800000},{"playerId":"player-2",...}]
+            ```
+
+            `radiusMeters`를 지정하면 플레이어 목록 대신 **내 최신 좌표 주변 반경** 안의 플레이어만 받습니다 (관심 영역, `role`로 역할 필터).
+            반경은 내 좌표를 따라 움직이며, 반경 안으로 들어오거나(`location-enter`) 안에서 움직이거나(`location-move`) 밖으로 나갈 때(`location-leave`)만 전송됩니다.
+            ```
+            -d '{"gameId":"game-1","radiusMeters":300,"role":"THIEF"}'
+            ```
+            수신 예시:
+            ```
+            event: location-enter
+            data: {"playerId":"player-2","longitude":127.0281,"latitude":37.4983,"timestamp":1741996800000}
+            ```
             """
     )
     @PostMapping(
@@ -107,34 +181,84 @@ public class GameLocationApi {
         produces = MediaType.TEXT_EVENT_STREAM_VALUE
     )
     public SseEmitter subscribeLocation(@RequestBody LocationSubscribeRequest request) {
+        if (request.radiusMeters() != null) {
+            return subscribeArea(request);
+        }
+
         var emitter = new SseEmitter(0L);
+        var gameId = request.gameId();
+        var playerIds = request.playerIds() == null ? List.<String>of() : request.playerIds();
 
-        gameLocationUseCase.subscribeToPlayers(
-            request.gameId(),
-            request.playerIds(),
-            location -> {
-                try {
-                    emitter.send(
-                        SseEmitter.event()
-                            .name("location")
-                            .data(location)
-                    );
-                } catch (IOException e) {
-                    emitter.completeWithError(e);
-                }
-            }
-        );
+        var topic = "location:" + gameId + ":" + String.join(",", new TreeSet<>(playerIds));
 
-        emitter.onCompletion(() ->
-            gameLocationUseCase.unsubscribe(request.gameId(), request.playerIds())
-        );
-        emitter.onTimeout(() ->
-            gameLocationUseCase.unsubscribe(request.gameId(), request.playerIds())
+        if (request.conflateMillis() == null) {
+            // 같은 플레이어 집합을 구독하는 연결들은 구독 하나와 인코딩된 프레임을 공유합니다.
+            sseBroadcaster.register(
+                topic,
+                emitter,
+                overflowPolicy,
+                sink -> gameLocationUseCase.subscribeToPlayers(
+                    gameId,
+                    playerIds,
+                    location -> sink.accept(sseFrameEncoder.encode("location", location))
+                ),
+                gameLocationUseCase::unsubscribe
+            );
+            return emitter;
+        }
+
+        // 병합 모드: 주기마다 플레이어별 최신 좌표만 배열 하나로 전송합니다 (주기가 같은 연결끼리 공유).
+        var tick = Duration.ofMillis(
+            Math.clamp(request.conflateMillis(), MIN_CONFLATE_MILLIS, MAX_CONFLATE_MILLIS)
         );
-        emitter.onError(e ->
-            gameLocationUseCase.unsubscribe(request.gameId(), request.playerIds())
+        sseBroadcaster.register(
+            topic + "@" + tick.toMillis(),
+            emitter,
+            overflowPolicy,
+            sink -> sseConflator.<LocationResponse>subscribe(
+                tick,
+                LocationResponse::playerId,
+                batch -> sink.accept(sseFrameEncoder.encode("locations", batch)),
+                onLocation -> gameLocationUseCase.subscribeToPlayers(gameId, playerIds, onLocation)
+            ),
+            subscriberId -> sseConflator.unsubscribe(subscriberId, gameLocationUseCase::unsubscribe)
         );
 
         return emitter;
     }
+
+    /**
+     * 관심 영역 모드: 현재 사용자 주변 반경의 들어옴/움직임/나감만 전송합니다.
+     * 구독자마다 반경 중심이 다르므로 토픽을 공유하지 않으며, 큐가 넘치면 프레임을 버리지 않고 연결을 끊습니다.
+     */
+    private SseEmitter subscribeArea(LocationSubscribeRequest request) {
+        var emitter = new SseEmitter(0L);
+        var gameId = request.gameId();
+        var viewerId = UserPrincipalAdaptorUtil.getUserInfo().id().toString();
+        var role = request.areaRole();
+
+        sseBroadcaster.register(
+            "location-aoi:" + gameId + ":" + viewerId + ":" + UUID.randomUUID(),
+            emitter,
+            AREA_OVERFLOW_POLICY,
+            sink -> subscriberIdOrThrow(gameLocationUseCase.subscribeToArea(
+                gameId,
+                viewerId,
+                request.radiusMeters(),
+                role,
+                update -> sink.accept(sseFrameEncoder.encode(update.eventName(), update.location()))
+            )),
+            gameLocationUseCase::unsubscribeArea
+        );
+        return emitter;
+    }
+
+    /** 구독 실패는 스트림을 열기 전에 400으로 응답합니다. */
+    private static String subscriberIdOrThrow(CommandResult<String> result) {
+        return switch (result) {
+            case CommandResult.Success(var subscriberId, var msg) -> subscriberId;
+            case CommandResult.ValidationError(var errors) -> throw new IllegalArgumentException(String.join(", ", errors));
+            case CommandResult.BusinessError(var reason) -> throw new IllegalArgumentException(reason);
+        };
+    }
 }
@@ -2,11 +2,20 @@ package com.toy.cnr.api.game.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
+
 @Schema(description = "게임 이벤트 구독 요청")
 public record GameEventSubscribeRequest(
     @Schema(description = "게임 세션 ID", example = "game-1")
     String gameId,
 
     @Schema(description = "구독하는 플레이어 ID", example = "player-1")
-    String playerId
+    String playerId,
+
+    @Schema(
+        description = "받을 이벤트 타입 목록. 생략하면 전체 (재연결 재생에도 같은 필터가 적용됩니다)",
+        example = "[\"PLAYER_ARRESTED\", \"GAME_ENDED\"]",
+        nullable = true
+    )
+    List<String> types
 ) {}
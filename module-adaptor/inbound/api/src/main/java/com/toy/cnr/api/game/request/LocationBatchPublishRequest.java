@@ -0,0 +1,45 @@
+package com.toy.cnr.api.game.request;
+
+import com.toy.cnr.domain.game.LocationBatchPublishCommand;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "좌표 일괄 발행 요청")
+public record LocationBatchPublishRequest(
+    @Schema(description = "게임 세션 ID", example = "game-1")
+    String gameId,
+
+    @Schema(description = "버퍼링된 좌표 목록 (최대 500개)")
+    List<Fix> fixes
+) {
+
+    @Schema(description = "단일 좌표")
+    public record Fix(
+        @Schema(description = "플레이어 ID", example = "player-1")
+        String playerId,
+
+        @Schema(description = "경도", example = "127.0276")
+        double longitude,
+
+        @Schema(description = "위도", example = "37.4979")
+        double latitude,
+
+        @Schema(description = "단말 측정 시각 (epoch millis, 생략 시 서버 수신 시각)", example = "1741996800000")
+        Long timestamp
+    ) {}
+
+    public LocationBatchPublishCommand toCommand() {
+        var commandFixes = fixes == null
+            ? List.<LocationBatchPublishCommand.Fix>of()
+            : fixes.stream()
+                .map(fix -> new LocationBatchPublishCommand.Fix(
+                    fix.playerId(),
+                    fix.longitude(),
+                    fix.latitude(),
+                    fix.timestamp() == null ? 0L : fix.timestamp()
+                ))
+                .toList();
+        return new LocationBatchPublishCommand(gameId, commandFixes);
+    }
+}
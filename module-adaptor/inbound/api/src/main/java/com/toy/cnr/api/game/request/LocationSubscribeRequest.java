@@ -1,5 +1,6 @@
 package com.toy.cnr.api.game.request;
 
+import com.toy.cnr.domain.game.PlayerRole;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -10,6 +11,29 @@ public record LocationSubscribeRequest(
     String gameId,
 
     @Schema(description = "구독할 플레이어 ID 목록", example = "[\"player-1\", \"player-2\"]")
-    List<String> playerIds
+    List<String> playerIds,
+
+    @Schema(
+        description = "병합 전송 주기 (ms). 생략하면 좌표마다 즉시 전송하고, "
+            + "지정하면 주기마다 바뀐 플레이어의 최신 좌표만 배열 하나로 전송합니다 (250~1000ms로 보정).",
+        example = "500",
+        nullable = true
+    )
+    Long conflateMillis,
+
+    @Schema(
+        description = "관심 영역 반경 (m). 지정하면 playerIds 대신 내 최신 좌표 주변 반경 안의 플레이어만 "
+            + "들어옴/움직임/나감(location-enter/move/leave)으로 전송합니다 (최대 5000m).",
+        example = "300",
+        nullable = true
+    )
+    Double radiusMeters,
+
+    @Schema(description = "관심 영역 역할 필터 (POLICE | THIEF). 생략하면 전체", example = "THIEF", nullable = true)
+    String role
 ) {
+    /** 관심 영역 역할 필터. 알 수 없는 역할이면 IllegalArgumentException */
+    public PlayerRole areaRole() {
+        return role == null || role.isBlank() ? null : PlayerRole.valueOf(role);
+    }
 }
@@ -0,0 +1,17 @@
+package com.toy.cnr.api.game.response;
+
+import com.toy.cnr.domain.game.GameEventEntry;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "이벤트 로그 ID가 붙은 게임 이벤트")
+public record GameEventEntryResponse(
+    @Schema(description = "이벤트 로그 ID (SSE id, 재연결 시 Last-Event-ID로 전달). 개인 채널 이벤트는 null", example = "1707350400000-0", nullable = true)
+    String id,
+
+    @Schema(description = "게임 이벤트")
+    GameEventResponse event
+) {
+    public static GameEventEntryResponse from(GameEventEntry entry) {
+        return new GameEventEntryResponse(entry.id(), GameEventResponse.from(entry.event()));
+    }
+}
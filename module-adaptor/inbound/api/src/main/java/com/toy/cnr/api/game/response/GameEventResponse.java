@@ -24,7 +24,10 @@ public record GameEventResponse(
             "ROLE_ASSIGNED",
             "GEM_COLLECTED",
             "GEM_SPAWNED",
-            "PING_ALERT"
+            "PING_ALERT",
+            "TIME_REMAINING",
+            "PLAYER_STALE",
+            "POLICE_NEARBY"
         }
     )
     String type,
@@ -105,6 +108,21 @@ public record GameEventResponse(
                 ),
                 e.timestamp()
             );
+            case GameEvent.TimeRemaining e -> new GameEventResponse(
+                e.gameId(), "TIME_REMAINING",
+                Map.of("remainingSeconds", String.valueOf(e.remainingSeconds())),
+                e.timestamp()
+            );
+            case GameEvent.PlayerStale e -> new GameEventResponse(
+                e.gameId(), "PLAYER_STALE",
+                Map.of("playerId", e.playerId(), "lastSeenAt", String.valueOf(e.lastSeenAt())),
+                e.timestamp()
+            );
+            case GameEvent.PoliceNearby e -> new GameEventResponse(
+                e.gameId(), "POLICE_NEARBY",
+                Map.of("playerId", e.playerId(), "distanceMeters", String.valueOf(e.distanceMeters())),
+                e.timestamp()
+            );
         };
     }
 }
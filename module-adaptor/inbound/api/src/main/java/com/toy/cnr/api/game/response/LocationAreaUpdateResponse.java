@@ -0,0 +1,25 @@
+package com.toy.cnr.api.game.response;
+
+import com.toy.cnr.domain.game.LocationAreaUpdate;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "관심 영역 좌표 변경 응답")
+public record LocationAreaUpdateResponse(
+    @Schema(description = "변경 종류 (ENTER | MOVE | LEAVE)", example = "ENTER")
+    String type,
+
+    @Schema(description = "대상 플레이어 좌표 (LEAVE면 마지막으로 알려진 좌표)")
+    LocationResponse location
+) {
+    public static LocationAreaUpdateResponse from(LocationAreaUpdate update) {
+        return new LocationAreaUpdateResponse(
+            update.type().name(),
+            LocationResponse.from(update.location())
+        );
+    }
+
+    /** SSE/WebSocket 이벤트 이름 ({@code location-enter}, {@code location-move}, {@code location-leave}) */
+    public String eventName() {
+        return "location-" + type.toLowerCase();
+    }
+}
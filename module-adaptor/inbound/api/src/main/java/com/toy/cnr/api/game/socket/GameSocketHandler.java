@@ -0,0 +1,317 @@
+package com.toy.cnr.api.game.socket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.api.game.request.LocationPublishRequest;
+import com.toy.cnr.api.game.request.SendPingRequest;
+import com.toy.cnr.api.game.response.GameEventEntryResponse;
+import com.toy.cnr.api.game.usecase.GameActionUseCase;
+import com.toy.cnr.api.game.usecase.GameEventUseCase;
+import com.toy.cnr.api.game.usecase.GameLocationUseCase;
+import com.toy.cnr.domain.common.CommandResult;
+import com.toy.cnr.domain.game.PlayerRole;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 게임 WebSocket 채널.
+ * <p>
+ * 플레이어당 게임당 연결 하나로 좌표/핑을 올리고, 좌표/게임 이벤트를 받습니다.
+ * 인증은 핸드셰이크에서 한 번만 수행하며({@link GameSocketHandshakeInterceptor}),
+ * 각 메시지는 SSE/REST와 같은 유즈케이스({@code LocationService}, {@code GameEventService}, {@code GameActionService})로 처리합니다.
+ * <p>
+ * 하향 전송은 {@link ConcurrentWebSocketSessionDecorator}로 감싸 여러 스레드(Redis 리스너)에서 안전하게 보내며,
+ * 전송이 {@link #SEND_TIME_LIMIT_MS} 이상 막히거나 대기 버퍼가 {@link #BUFFER_SIZE_LIMIT}을 넘으면 연결을 끊습니다.
+ * 클라이언트는 마지막 이벤트 ID를 {@code lastEventId}로 넘겨 재연결하면 놓친 이벤트를 재생받습니다.
+ */
+@Component
+public class GameSocketHandler extends TextWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int BUFFER_SIZE_LIMIT = 512 * 1024;
+
+    /** 재생이 불가능할 때 보내는 메시지. 클라이언트는 게임 상태를 한 번 다시 조회합니다. */
+    private static final String RESYNC_REQUIRED = "RESYNC_REQUIRED";
+
+    private final GameLocationUseCase gameLocationUseCase;
+    private final GameEventUseCase gameEventUseCase;
+    private final GameActionUseCase gameActionUseCase;
+    private final ObjectMapper objectMapper;
+
+    /** WebSocket 세션 ID → 연결 상태 */
+    private final Map<String, GameSocket> sockets = new ConcurrentHashMap<>();
+
+    public GameSocketHandler(
+        GameLocationUseCase gameLocationUseCase,
+        GameEventUseCase gameEventUseCase,
+        GameActionUseCase gameActionUseCase,
+        ObjectMapper objectMapper
+    ) {
+        this.gameLocationUseCase = gameLocationUseCase;
+        this.gameEventUseCase = gameEventUseCase;
+        this.gameActionUseCase = gameActionUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        var attributes = session.getAttributes();
+        var socket = new GameSocket(
+            new ConcurrentWebSocketSessionDecorator(
+                session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT, ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE
+            ),
+            (String) attributes.get(GameSocketHandshakeInterceptor.GAME_ID),
+            (String) attributes.get(GameSocketHandshakeInterceptor.PLAYER_ID)
+        );
+        sockets.put(session.getId(), socket);
+        @SuppressWarnings("unchecked")
+        var types = (Set<String>) attributes.get(GameSocketHandshakeInterceptor.TYPES);
+        socket.openEvents((String) attributes.get(GameSocketHandshakeInterceptor.LAST_EVENT_ID), types);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        var socket = sockets.get(session.getId());
+        if (socket == null) {
+            return;
+        }
+
+        GameSocketRequest request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), GameSocketRequest.class);
+        } catch (IOException e) {
+            socket.sendError("Malformed message");
+            return;
+        }
+
+        switch (request.type() == null ? "" : request.type()) {
+            case "location" -> socket.publishLocation(request);
+            case "ping" -> socket.sendPing(request);
+            case "watch" -> socket.watch(request);
+            default -> socket.sendError("Unknown message type: " + request.type());
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws IOException {
+        if (session.isOpen()) {
+            session.close(CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        var socket = sockets.remove(session.getId());
+        if (socket != null) {
+            socket.close();
+        }
+    }
+
+    /**
+     * 연결 하나의 구독 상태.
+     */
+    private final class GameSocket {
+
+        private final WebSocketSession session;
+        private final String gameId;
+        private final String playerId;
+
+        private String eventSubscriberId;
+        private volatile String locationSubscriberId;
+
+        /** 현재 좌표 구독의 해제 함수 (플레이어 목록 / 관심 영역) */
+        private Consumer<String> locationUnsubscribe;
+
+        /** 재생 중 도착한 실시간 이벤트 (null이면 실시간 전송 중) */
+        private List<GameEventEntryResponse> pending;
+
+        private GameSocket(WebSocketSession session, String gameId, String playerId) {
+            this.session = session;
+            this.gameId = gameId;
+            this.playerId = playerId;
+        }
+
+        /**
+         * 게임 이벤트 구독(게임 채널 + 내 개인 채널)을 엽니다. {@code lastEventId}가 있으면 구독을 먼저 연 뒤 놓친 이벤트를 재생하고,
+         * 재생 중 도착한 실시간 이벤트는 재생 목록과 겹치는 ID를 건너뛰고 이어 보냅니다.
+         *
+         * @param types 받을 이벤트 타입 (null이면 전체)
+         */
+        private void openEvents(String lastEventId, Set<String> types) {
+            if (lastEventId != null) {
+                pending = new ArrayList<>();
+            }
+            eventSubscriberId = gameEventUseCase.subscribeToGameEvents(gameId, playerId, types, this::onEvent);
+            if (lastEventId == null) {
+                return;
+            }
+
+            var replayedIds = new HashSet<String>();
+            switch (gameEventUseCase.replay(gameId, lastEventId, types)) {
+                case CommandResult.Success(var entries, var msg) -> {
+                    for (var entry : entries) {
+                        replayedIds.add(entry.id());
+                        sendEvent(entry);
+                    }
+                }
+                case CommandResult.ValidationError(var errors) -> sendResyncRequired();
+                case CommandResult.BusinessError(var reason) -> sendResyncRequired();
+            }
+
+            synchronized (this) {
+                for (var entry : pending) {
+                    if (entry.id() == null || !replayedIds.contains(entry.id())) {
+                        sendEvent(entry);
+                    }
+                }
+                pending = null;
+            }
+        }
+
+        private synchronized void onEvent(GameEventEntryResponse entry) {
+            if (pending != null) {
+                pending.add(entry);
+                return;
+            }
+            sendEvent(entry);
+        }
+
+        private void publishLocation(GameSocketRequest request) {
+            if (request.longitude() == null || request.latitude() == null) {
+                sendError("longitude and latitude are required");
+                return;
+            }
+            var result = gameLocationUseCase.publishLocation(
+                new LocationPublishRequest(gameId, playerId, request.longitude(), request.latitude())
+            );
+            sendIfFailed(result);
+        }
+
+        private void sendPing(GameSocketRequest request) {
+            if (request.pingType() == null || request.longitude() == null || request.latitude() == null) {
+                sendError("pingType, longitude and latitude are required");
+                return;
+            }
+            try {
+                var result = gameActionUseCase.sendPing(
+                    gameId,
+                    new SendPingRequest(request.pingType(), request.latitude(), request.longitude()),
+                    playerId
+                );
+                sendIfFailed(result);
+            } catch (IllegalArgumentException e) {
+                sendError("Unknown ping type: " + request.pingType());
+            }
+        }
+
+        /**
+         * 좌표 구독을 교체합니다. {@code radiusMeters}가 있으면 내 주변 반경(관심 영역)으로,
+         * 없으면 {@code playerIds} 목록으로 구독합니다.
+         */
+        private synchronized void watch(GameSocketRequest request) {
+            unwatch();
+            if (request.radiusMeters() != null) {
+                watchArea(request);
+                return;
+            }
+            var playerIds = request.playerIds();
+            if (playerIds == null || playerIds.isEmpty()) {
+                return;
+            }
+            locationSubscriberId = gameLocationUseCase.subscribeToPlayers(
+                gameId,
+                playerIds,
+                location -> send(new GameSocketMessage("location", null, location))
+            );
+            locationUnsubscribe = gameLocationUseCase::unsubscribe;
+        }
+
+        /**
+         * 관심 영역 구독. 세션 데코레이터는 버퍼 초과 시 메시지를 버리지 않고 연결을 끊으므로
+         * ({@code OverflowStrategy.TERMINATE}) 들어옴/나감 메시지가 빠진 채 스트림이 이어지지 않습니다.
+         */
+        private void watchArea(GameSocketRequest request) {
+            PlayerRole role;
+            try {
+                role = request.role() == null || request.role().isBlank() ? null : PlayerRole.valueOf(request.role());
+            } catch (IllegalArgumentException e) {
+                sendError("Unknown role: " + request.role());
+                return;
+            }
+            var result = gameLocationUseCase.subscribeToArea(
+                gameId,
+                playerId,
+                request.radiusMeters(),
+                role,
+                update -> send(new GameSocketMessage(update.eventName(), null, update.location()))
+            );
+            switch (result) {
+                case CommandResult.Success(var subscriberId, var msg) -> {
+                    locationSubscriberId = subscriberId;
+                    locationUnsubscribe = gameLocationUseCase::unsubscribeArea;
+                }
+                case CommandResult.ValidationError(var errors) -> sendError(String.join(", ", errors));
+                case CommandResult.BusinessError(var reason) -> sendError(reason);
+            }
+        }
+
+        private void unwatch() {
+            if (locationSubscriberId != null) {
+                locationUnsubscribe.accept(locationSubscriberId);
+                locationSubscriberId = null;
+                locationUnsubscribe = null;
+            }
+        }
+
+        private synchronized void close() {
+            if (eventSubscriberId != null) {
+                gameEventUseCase.unsubscribe(eventSubscriberId);
+                eventSubscriberId = null;
+            }
+            unwatch();
+        }
+
+        private void sendEvent(GameEventEntryResponse entry) {
+            send(new GameSocketMessage("event", entry.id(), entry.event()));
+        }
+
+        private void sendResyncRequired() {
+            send(new GameSocketMessage(RESYNC_REQUIRED, null, Map.of("gameId", gameId)));
+        }
+
+        private void sendIfFailed(CommandResult<?> result) {
+            switch (result) {
+                case CommandResult.Success(var data, var msg) -> { }
+                case CommandResult.ValidationError(var errors) -> sendError(String.join(", ", errors));
+                case CommandResult.BusinessError(var reason) -> sendError(reason);
+            }
+        }
+
+        private void sendError(String message) {
+            send(new GameSocketMessage("error", null, Map.of("message", message)));
+        }
+
+        private void send(GameSocketMessage message) {
+            if (!session.isOpen()) {
+                return;
+            }
+            try {
+                session.sendMessage(new TextMessage(objectMapper.writeValueAsBytes(message)));
+            } catch (IOException | IllegalStateException e) {
+                // 전송 지연/버퍼 초과 시 데코레이터가 연결을 닫습니다. 정리는 afterConnectionClosed에서 합니다.
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.toy.cnr.api.game.socket;
+
+import com.toy.cnr.api.common.util.UserPrincipalAdaptorUtil;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게임 WebSocket 핸드셰이크 인터셉터.
+ * <p>
+ * 핸드셰이크 요청은 일반 HTTP 요청과 같은 보안 필터 체인(JWT 검증 + 사용자 조회)을 통과하므로,
+ * 여기서는 인증된 사용자 ID와 게임 ID만 세션 속성으로 옮깁니다. 이후 메시지는 재인증하지 않습니다.
+ * <p>
+ * Query: {@code gameId} (필수), {@code lastEventId} (선택, 재연결 시 놓친 이벤트 재생),
+ * {@code types} (선택, 받을 게임 이벤트 타입을 쉼표로 구분)
+ */
+@Component
+public class GameSocketHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String GAME_ID = "gameId";
+    static final String PLAYER_ID = "playerId";
+    static final String LAST_EVENT_ID = "lastEventId";
+    static final String TYPES = "types";
+
+    @Override
+    public boolean beforeHandshake(
+        ServerHttpRequest request,
+        ServerHttpResponse response,
+        WebSocketHandler wsHandler,
+        Map<String, Object> attributes
+    ) {
+        var params = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams();
+        var gameId = params.getFirst(GAME_ID);
+        if (gameId == null || gameId.isBlank()) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        var user = UserPrincipalAdaptorUtil.getUserInfo();
+        attributes.put(GAME_ID, gameId);
+        attributes.put(PLAYER_ID, user.id().toString());
+
+        var lastEventId = params.getFirst(LAST_EVENT_ID);
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            attributes.put(LAST_EVENT_ID, lastEventId);
+        }
+
+        var types = params.getFirst(TYPES);
+        if (types != null && !types.isBlank()) {
+            attributes.put(TYPES, Set.of(types.split(",")));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(
+        ServerHttpRequest request,
+        ServerHttpResponse response,
+        WebSocketHandler wsHandler,
+        Exception exception
+    ) {
+    }
+}
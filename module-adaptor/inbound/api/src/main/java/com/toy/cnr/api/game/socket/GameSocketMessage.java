@@ -0,0 +1,24 @@
+package com.toy.cnr.api.game.socket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 게임 WebSocket 하향 메시지.
+ * <pre>{@code
+ * {"type":"location","data":{"playerId":"player-1","longitude":127.0276,"latitude":37.4979,"timestamp":1741996800000}}
+ * {"type":"event","id":"1741996800000-0","data":{"gameId":"game-1","type":"PLAYER_ARRESTED",...}}
+ * {"type":"RESYNC_REQUIRED","data":{"gameId":"game-1"}}
+ * {"type":"error","data":{"message":"..."}}
+ * }</pre>
+ *
+ * @param type 메시지 종류
+ * @param id   이벤트 로그 ID (event만, 재연결 시 {@code lastEventId}로 전달)
+ * @param data 페이로드
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GameSocketMessage(
+    String type,
+    String id,
+    Object data
+) {
+}
@@ -0,0 +1,31 @@
+package com.toy.cnr.api.game.socket;
+
+import java.util.List;
+
+/**
+ * 게임 WebSocket 상향 메시지.
+ * <pre>{@code
+ * {"type":"location","longitude":127.0276,"latitude":37.4979}
+ * {"type":"ping","pingType":"DANGER","longitude":127.0276,"latitude":37.4979}
+ * {"type":"watch","playerIds":["player-1","player-2"]}
+ * {"type":"watch","radiusMeters":300,"role":"THIEF"}
+ * }</pre>
+ *
+ * @param type      {@code location} | {@code ping} | {@code watch}
+ * @param longitude 경도 (location, ping)
+ * @param latitude  위도 (location, ping)
+ * @param pingType  {@code PingType} 이름 (ping)
+ * @param playerIds 좌표를 받을 플레이어 ID 목록 (watch, 이전 목록을 대체)
+ * @param radiusMeters 관심 영역 반경 (watch, 지정하면 playerIds 대신 내 주변 반경으로 구독)
+ * @param role      관심 영역 역할 필터 (watch, {@code PlayerRole} 이름, 생략하면 전체)
+ */
+public record GameSocketRequest(
+    String type,
+    Double longitude,
+    Double latitude,
+    String pingType,
+    List<String> playerIds,
+    Double radiusMeters,
+    String role
+) {
+}
@@ -1,15 +1,18 @@
 package com.toy.cnr.api.game.usecase;
 
-import com.toy.cnr.api.game.response.GameEventResponse;
+import com.toy.cnr.api.game.response.GameEventEntryResponse;
 import com.toy.cnr.application.game.service.GameEventService;
+import com.toy.cnr.domain.common.CommandResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
  * 게임 이벤트 구독 유즈케이스.
  * <p>
- * 게임 이벤트 SSE 구독을 오케스트레이션합니다.
+ * 게임 이벤트 SSE 구독과 재연결 시 놓친 이벤트 재생을 오케스트레이션합니다.
  * HTTP 관심사({@code SseEmitter}, {@code ResponseEntity})는 Controller가 담당합니다.
  */
 @Component
@@ -22,18 +25,56 @@ public class GameEventUseCase {
     }
 
     /**
-     * 게임 이벤트 채널을 구독합니다.
+     * 게임 이벤트 채널과 플레이어 개인 채널을 구독하고, 지정한 타입의 이벤트만 받습니다.
      *
-     * @param gameId  게임 세션 ID
-     * @param onEvent 이벤트 수신 시 호출되는 콜백
+     * @param gameId   게임 세션 ID
+     * @param playerId 개인 채널(역할 배정 등)을 함께 받을 플레이어 ID (null이면 게임 채널만)
+     * @param types    받을 이벤트 타입 (null 또는 빈 집합이면 전체)
+     * @param onEvent  이벤트 수신 시 호출되는 콜백 (개인 채널 이벤트는 ID 없음)
      * @return 구독 해제에 사용할 subscriberId
      */
-    public String subscribeToGameEvents(String gameId, Consumer<GameEventResponse> onEvent) {
-        return gameEventService.subscribe(gameId, event ->
-            onEvent.accept(GameEventResponse.from(event))
+    public String subscribeToGameEvents(
+        String gameId,
+        String playerId,
+        Set<String> types,
+        Consumer<GameEventEntryResponse> onEvent
+    ) {
+        return gameEventService.subscribe(gameId, playerId, types, entry ->
+            onEvent.accept(GameEventEntryResponse.from(entry))
         );
     }
 
+    /**
+     * 플레이어 개인 채널(역할 배정 등)만 구독하고, 지정한 타입의 이벤트만 받습니다.
+     *
+     * @param gameId   게임 세션 ID
+     * @param playerId 플레이어 ID
+     * @param types    받을 이벤트 타입 (null 또는 빈 집합이면 전체)
+     * @param onEvent  이벤트 수신 시 호출되는 콜백 (ID 없음)
+     * @return 구독 해제에 사용할 subscriberId
+     */
+    public String subscribeToPlayerEvents(
+        String gameId,
+        String playerId,
+        Set<String> types,
+        Consumer<GameEventEntryResponse> onEvent
+    ) {
+        return gameEventService.subscribeToPlayer(gameId, playerId, types, entry ->
+            onEvent.accept(GameEventEntryResponse.from(entry))
+        );
+    }
+
+    /**
+     * {@code lastEventId} 이후 놓친 이벤트 중 지정한 타입만 오래된 순으로 조회합니다.
+     * 구간이 잘렸거나 너무 많이 놓쳤으면 BusinessError를 반환합니다.
+     *
+     * @param types 받을 이벤트 타입 (null 또는 빈 집합이면 전체)
+     */
+    public CommandResult<List<GameEventEntryResponse>> replay(String gameId, String lastEventId, Set<String> types) {
+        return gameEventService.replay(gameId, lastEventId, types)
+            .map(entries -> entries.stream().map(GameEventEntryResponse::from).toList());
+    }
+
     /**
      * 구독을 해제합니다.
      */
@@ -1,9 +1,13 @@
 package com.toy.cnr.api.game.usecase;
 
+import com.toy.cnr.api.game.request.LocationBatchPublishRequest;
 import com.toy.cnr.api.game.request.LocationPublishRequest;
+import com.toy.cnr.api.game.response.LocationAreaUpdateResponse;
 import com.toy.cnr.api.game.response.LocationResponse;
+import com.toy.cnr.application.game.service.AreaOfInterestService;
 import com.toy.cnr.application.game.service.LocationService;
 import com.toy.cnr.domain.common.CommandResult;
+import com.toy.cnr.domain.game.PlayerRole;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -19,9 +23,14 @@ import java.util.function.Consumer;
 public class GameLocationUseCase {
 
     private final LocationService locationService;
+    private final AreaOfInterestService areaOfInterestService;
 
-    public GameLocationUseCase(LocationService locationService) {
+    public GameLocationUseCase(
+        LocationService locationService,
+        AreaOfInterestService areaOfInterestService
+    ) {
         this.locationService = locationService;
+        this.areaOfInterestService = areaOfInterestService;
     }
 
     /**
@@ -56,6 +65,16 @@ public class GameLocationUseCase {
             .map(LocationResponse::from);
     }
 
+    /**
+     * 버퍼링된 여러 좌표를 한 번에 발행합니다 (파이프라인 GeoHash 저장 + Pub/Sub 발행).
+     *
+     * @return 플레이어별로 저장된 최신 좌표 목록
+     */
+    public CommandResult<List<LocationResponse>> publishLocations(LocationBatchPublishRequest request) {
+        return locationService.publishLocations(request.toCommand())
+            .map(locations -> locations.stream().map(LocationResponse::from).toList());
+    }
+
     /**
      * 여러 플레이어의 좌표를 구독합니다.
      * Consumer 콜백으로 좌표를 전달하며, HTTP 관심사(SseEmitter)를 알지 못합니다.
@@ -63,13 +82,14 @@ public class GameLocationUseCase {
      * @param gameId     게임 세션 ID
      * @param playerIds  구독할 플레이어 ID 목록
      * @param onLocation 좌표 수신 시 호출되는 콜백
+     * @return 구독 해제에 사용할 subscriberId
      */
-    public void subscribeToPlayers(
+    public String subscribeToPlayers(
         String gameId,
         List<String> playerIds,
         Consumer<LocationResponse> onLocation
     ) {
-        locationService.subscribe(gameId, playerIds, location ->
+        return locationService.subscribe(gameId, playerIds, location ->
             onLocation.accept(LocationResponse.from(location))
         );
     }
@@ -77,7 +97,37 @@ public class GameLocationUseCase {
     /**
      * 구독을 해제합니다.
      */
-    public void unsubscribe(String gameId, List<String> playerIds) {
-        locationService.unsubscribe(gameId, playerIds);
+    public void unsubscribe(String subscriberId) {
+        locationService.unsubscribe(subscriberId);
+    }
+
+    /**
+     * 내 주변 반경(관심 영역)의 좌표 변경을 구독합니다.
+     * 반경 안으로 들어옴/안에서 움직임/밖으로 나감만 전달합니다.
+     *
+     * @param gameId       게임 세션 ID
+     * @param viewerId     반경 중심 플레이어 ID (현재 사용자)
+     * @param radiusMeters 반경 (미터)
+     * @param role         역할 필터 (null이면 전체)
+     * @param onUpdate     변경 수신 시 호출되는 콜백
+     * @return 구독 해제({@link #unsubscribeArea})에 사용할 subscriberId, 반경이 잘못되면 ValidationError
+     */
+    public CommandResult<String> subscribeToArea(
+        String gameId,
+        String viewerId,
+        double radiusMeters,
+        PlayerRole role,
+        Consumer<LocationAreaUpdateResponse> onUpdate
+    ) {
+        return areaOfInterestService.subscribe(gameId, viewerId, radiusMeters, role, update ->
+            onUpdate.accept(LocationAreaUpdateResponse.from(update))
+        );
+    }
+
+    /**
+     * 관심 영역 구독을 해제합니다.
+     */
+    public void unsubscribeArea(String subscriberId) {
+        areaOfInterestService.unsubscribe(subscriberId);
     }
 }
@@ -1,5 +1,9 @@
 package com.toy.cnr.api.room;
 
+import com.toy.cnr.api.common.sse.SseBroadcaster;
+import com.toy.cnr.api.common.sse.SseFrameEncoder;
+import com.toy.cnr.api.common.sse.SseOverflowPolicy;
+import com.toy.cnr.api.common.sse.SseQueueProperties;
 import com.toy.cnr.api.room.response.RoomEventResponse;
 import com.toy.cnr.api.room.usecase.RoomEventUseCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,17 +18,26 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-
 @Tag(name = "Room Event", description = "방 이벤트 실시간 구독 API")
 @RestController
 @RequestMapping("/v1/rooms")
 public class RoomEventApi {
 
     private final RoomEventUseCase roomEventUseCase;
+    private final SseBroadcaster sseBroadcaster;
+    private final SseFrameEncoder sseFrameEncoder;
+    private final SseOverflowPolicy overflowPolicy;
 
-    public RoomEventApi(RoomEventUseCase roomEventUseCase) {
+    public RoomEventApi(
+        RoomEventUseCase roomEventUseCase,
+        SseBroadcaster sseBroadcaster,
+        SseFrameEncoder sseFrameEncoder,
+        SseQueueProperties sseQueueProperties
+    ) {
         this.roomEventUseCase = roomEventUseCase;
+        this.sseBroadcaster = sseBroadcaster;
+        this.sseFrameEncoder = sseFrameEncoder;
+        this.overflowPolicy = sseQueueProperties.eventOverflow();
     }
 
     @Operation(
@@ -56,25 +69,17 @@ public class RoomEventApi {
     public SseEmitter subscribeRoomEvents(@PathVariable String roomId) {
         var emitter = new SseEmitter(0L);
 
-        var subscriberId = roomEventUseCase.subscribeToRoomEvents(
-            roomId,
-            event -> {
-                try {
-                    emitter.send(
-                        SseEmitter.event()
-                            .name(event.type())
-                            .data(event)
-                    );
-                } catch (IOException e) {
-                    emitter.completeWithError(e);
-                }
-            }
+        sseBroadcaster.register(
+            "room-events:" + roomId,
+            emitter,
+            overflowPolicy,
+            sink -> roomEventUseCase.subscribeToRoomEvents(
+                roomId,
+                event -> sink.accept(sseFrameEncoder.encode(event.type(), event))
+            ),
+            roomEventUseCase::unsubscribe
         );
 
-        emitter.onCompletion(() -> roomEventUseCase.unsubscribe(subscriberId));
-        emitter.onTimeout(() -> roomEventUseCase.unsubscribe(subscriberId));
-        emitter.onError(e -> roomEventUseCase.unsubscribe(subscriberId));
-
         return emitter;
     }
 }
@@ -0,0 +1,83 @@
+package com.toy.cnr.batch.game;
+
+import com.toy.cnr.batch.game.config.GameTimerProperties;
+import com.toy.cnr.port.game.GameTimerPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScheduledExecutorService 구현(local)과 타이밍 휠 구현(wheel)의 예약+취소 비용 비교.
+ * <p>
+ * {@code backlog}개의 타이머(1시간 안쪽 무작위 지연)를 미리 등록해 두고,
+ * 쿨다운처럼 곧 취소될 타이머를 하나 예약했다가 바로 취소하는 비용을 잽니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameTimerBenchmark {
+
+    private static final long HOUR_MS = 60 * 60 * 1000L;
+
+    @Param({"1000", "100000", "500000"})
+    public int backlog;
+
+    @Param({"local", "wheel"})
+    public String mode;
+
+    private GameTimerPort timer;
+    private SpringGameTimerAdapter local;
+    private TimingWheelGameTimerAdapter wheel;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (mode.equals("wheel")) {
+            wheel = new TimingWheelGameTimerAdapter(new GameTimerProperties("wheel", null, null, null, null, null));
+            wheel.start();
+            timer = wheel;
+        } else {
+            local = new SpringGameTimerAdapter();
+            timer = local;
+        }
+        timer.registerHandler("bench", key -> { });
+        for (int i = 0; i < backlog; i++) {
+            timer.schedule("bench:backlog-" + i, HOUR_MS + ThreadLocalRandom.current().nextLong(HOUR_MS));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+        if (local != null) {
+            local.stop();
+        }
+    }
+
+    @Benchmark
+    public void scheduleThenCancel() {
+        var taskId = "bench:" + sequence.incrementAndGet();
+        timer.schedule(taskId, 1_000 + ThreadLocalRandom.current().nextLong(60_000));
+        timer.cancel(taskId);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void scheduleThenCancelContended() {
+        scheduleThenCancel();
+    }
+}
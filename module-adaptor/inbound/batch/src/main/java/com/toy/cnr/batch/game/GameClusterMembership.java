@@ -0,0 +1,113 @@
+package com.toy.cnr.batch.game;
+
+import com.toy.cnr.application.game.util.ConsistentHashRing;
+import com.toy.cnr.batch.game.config.GameClusterProperties;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameNodeStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 서버 노드 멤버십과 게임 소유권.
+ * <p>
+ * 주기적으로 하트비트를 남기고 살아 있는 노드 목록을 읽어 {@link ConsistentHashRing}을 다시 만듭니다.
+ * 모든 노드가 같은 목록으로 같은 링을 만들므로, 게임마다 정확히 한 노드가 {@link #owns}로 자기 몫임을 압니다.
+ * 노드가 늘거나 줄면 그 노드 몫의 게임만 옮겨 갑니다.
+ * <p>
+ * 멤버십이 바뀌는 동안(하트비트 주기 이내)에는 노드마다 링이 잠시 다를 수 있으므로,
+ * 주기마다 한 번만 실행해야 하는 작업은 {@link #claim}으로 게임별 리스까지 겁니다.
+ * 멤버십을 읽지 못하면 마지막 링을 유지하고, 링에는 항상 자기 자신을 포함합니다.
+ */
+@Slf4j
+@Component
+public class GameClusterMembership {
+
+    private final GameNodeStore gameNodeStore;
+    private final GameClusterProperties properties;
+    private final ScheduledExecutorService executor;
+    private final ThrottledFailureLog refreshFailures = new ThrottledFailureLog(log, "Game cluster membership refresh");
+
+    private volatile ConsistentHashRing ring;
+
+    public GameClusterMembership(GameNodeStore gameNodeStore, GameClusterProperties properties) {
+        this.gameNodeStore = gameNodeStore;
+        this.properties = properties;
+        this.ring = new ConsistentHashRing(List.of(properties.nodeId()), properties.virtualNodes());
+        this.executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("game-cluster").daemon().factory()
+        );
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = properties.heartbeatInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::refresh, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+        // 다음 노드들이 TTL을 기다리지 않고 바로 게임을 나눠 갖도록 즉시 탈퇴
+        gameNodeStore.leave(properties.nodeId());
+    }
+
+    public String nodeId() {
+        return properties.nodeId();
+    }
+
+    /**
+     * 이 노드가 게임을 맡는지 반환합니다.
+     */
+    public boolean owns(String gameId) {
+        return properties.nodeId().equals(ring.ownerOf(gameId));
+    }
+
+    /**
+     * 이 노드가 게임을 맡고, 게임별 작업 리스까지 얻었는지 반환합니다.
+     *
+     * @param gameId    게임 ID
+     * @param task      작업 이름
+     * @param ttlMillis 리스 유지 시간 (작업 주기보다 조금 짧게)
+     */
+    public boolean claim(String gameId, String task, long ttlMillis) {
+        return owns(gameId)
+            && gameNodeStore.tryAcquireLease(gameId, task, properties.nodeId(), ttlMillis)
+                instanceof RepositoryResult.Found<Boolean> found
+            && found.data();
+    }
+
+    /**
+     * 하트비트를 남기고 살아 있는 노드로 링을 다시 만듭니다.
+     */
+    void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            if (gameNodeStore.heartbeat(properties.nodeId(), now + properties.nodeTtl().toMillis())
+                instanceof RepositoryResult.Error<Void> error) {
+                refreshFailures.warn(error.t());
+            }
+            var liveNodes = gameNodeStore.getLiveNodes(now);
+            if (liveNodes instanceof RepositoryResult.Error<Set<String>> error) {
+                refreshFailures.warn(error.t());
+            }
+            if (!(liveNodes instanceof RepositoryResult.Found<Set<String>> found)) {
+                return;
+            }
+            Set<String> nodes = new HashSet<>(found.data());
+            nodes.add(properties.nodeId());
+            ring = new ConsistentHashRing(nodes, properties.virtualNodes());
+        } catch (Exception e) {
+            // 마지막 링을 유지하고 다음 주기에 다시 시도
+            refreshFailures.warn(e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.toy.cnr.batch.game;
+
+import com.toy.cnr.application.game.service.GameTickService;
+import com.toy.cnr.batch.game.config.GameTickProperties;
+import com.toy.cnr.domain.game.GameStatus;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameRegistryStore;
+import com.toy.cnr.port.game.GameStateStore;
+import com.toy.cnr.port.game.GameTickStore;
+import com.toy.cnr.port.game.model.GameStateDto;
+import com.toy.cnr.port.game.model.GameTickSnapshotDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게임 틱 엔진 ({@code cnr.game.tick.enabled=true}).
+ * <p>
+ * 활성 게임 레지스트리의 게임을 {@code shards}개의 샤드에 나눠 담고, 샤드마다 단일 스레드가
+ * {@code interval} 고정 주기로 자기 게임 전체를 틱합니다. 스레드 수는 게임 수와 무관하게 샤드 수로 고정되며,
+ * 샤드별 시작 시점을 주기 안에서 엇갈려 Redis 부하가 한 순간에 몰리지 않게 합니다.
+ * <p>
+ * 샤드 틱 한 번은 {@link GameTickStore#loadSnapshots}로 샤드의 모든 게임 스냅샷을 한 번의 파이프라인으로 읽은 뒤
+ * 게임마다 {@link GameTickService#tick}을 호출합니다. 게임 설정·시작/종료 시각은 게임을 맡을 때 한 번만 읽어 두고,
+ * 상태는 매 틱 스냅샷의 값을 씁니다. ENDED가 된 게임은 샤드에서 내리고, 상태를 읽지 못한 게임은 그 틱만 건너뜁니다
+ * (게임이 정리되면 레지스트리에서 빠지므로 다음 레지스트리 갱신 때 내립니다).
+ * <p>
+ * 레지스트리는 {@code registryRefresh} 주기로 다시 읽어, {@link GameClusterMembership}의 해시 링에서
+ * 이 노드 몫인 게임만 맡고 빠지거나 다른 노드로 옮겨 간 게임을 내립니다.
+ * 게임을 새로 맡은 노드는 첫 틱에서 기준만 잡으므로(보석 보충도 한 주기 뒤) 인계 중 잠시 겹쳐도 중복 발행이 거의 없습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cnr.game.tick.enabled", havingValue = "true")
+public class GameTickEngine {
+
+    private final GameRegistryStore gameRegistryStore;
+    private final GameStateStore gameStateStore;
+    private final GameTickStore gameTickStore;
+    private final GameTickService gameTickService;
+    private final GameTickProperties properties;
+    private final GameClusterMembership membership;
+
+    private final Shard[] shards;
+    private final ScheduledExecutorService registryExecutor;
+
+    private final ThrottledFailureLog registryFailures = new ThrottledFailureLog(log, "Game tick registry refresh");
+    private final ThrottledFailureLog shardFailures = new ThrottledFailureLog(log, "Game tick shard");
+    private final ThrottledFailureLog gameFailures = new ThrottledFailureLog(log, "Game tick of a single game");
+
+    public GameTickEngine(
+        GameRegistryStore gameRegistryStore,
+        GameStateStore gameStateStore,
+        GameTickStore gameTickStore,
+        GameTickService gameTickService,
+        GameTickProperties properties,
+        GameClusterMembership membership
+    ) {
+        this.gameRegistryStore = gameRegistryStore;
+        this.gameStateStore = gameStateStore;
+        this.gameTickStore = gameTickStore;
+        this.gameTickService = gameTickService;
+        this.properties = properties;
+        this.membership = membership;
+
+        this.shards = new Shard[properties.shards()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i);
+        }
+        this.registryExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("game-tick-registry").daemon().factory()
+        );
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = properties.interval().toMillis();
+        for (var shard : shards) {
+            long initialDelay = intervalMillis * shard.index / shards.length;
+            shard.executor.scheduleAtFixedRate(shard::tick, initialDelay, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        registryExecutor.scheduleWithFixedDelay(
+            this::refreshRegistry, 0, properties.registryRefresh().toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        registryExecutor.shutdownNow();
+        for (var shard : shards) {
+            shard.executor.shutdownNow();
+        }
+    }
+
+    /** 이 노드가 틱하고 있는 게임 수 */
+    public int gameCount() {
+        int count = 0;
+        for (var shard : shards) {
+            count += shard.games.size();
+        }
+        return count;
+    }
+
+    /**
+     * 활성 게임 목록을 다시 읽어 이 노드 몫의 새 게임을 맡고, 목록에서 빠졌거나 다른 노드 몫이 된 게임을 내립니다.
+     */
+    void refreshRegistry() {
+        try {
+            var registryResult = gameRegistryStore.getActiveGameIds();
+            if (registryResult instanceof RepositoryResult.Error<Set<String>> error) {
+                registryFailures.warn(error.t());
+            }
+            if (!(registryResult instanceof RepositoryResult.Found<Set<String>> found)) {
+                return;
+            }
+            Set<String> ownedGameIds = found.data().stream()
+                .filter(membership::owns)
+                .collect(Collectors.toSet());
+
+            for (var shard : shards) {
+                shard.games.keySet().retainAll(ownedGameIds);
+            }
+            for (var gameId : ownedGameIds) {
+                var shard = shardOf(gameId);
+                if (shard.games.containsKey(gameId)) {
+                    continue;
+                }
+                if (gameStateStore.getGameState(gameId) instanceof RepositoryResult.Found<GameStateDto> stateFound
+                    && !stateFound.data().status().equals(GameStatus.ENDED.name())) {
+                    shard.games.putIfAbsent(gameId, new TickedGame(stateFound.data()));
+                }
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            registryFailures.warn(e);
+        }
+    }
+
+    private Shard shardOf(String gameId) {
+        return shards[Math.floorMod(gameId.hashCode(), shards.length)];
+    }
+
+    /**
+     * 게임 하나의 틱 정보: 맡을 때 읽은 게임 상태와 틱 사이 상태.
+     */
+    private record TickedGame(GameStateDto state, GameTickService.TickState tickState) {
+
+        TickedGame(GameStateDto state) {
+            this(state, new GameTickService.TickState());
+        }
+    }
+
+    /**
+     * 단일 스레드로 자기 게임을 틱하는 샤드.
+     */
+    private final class Shard {
+
+        private final int index;
+        private final ScheduledExecutorService executor;
+
+        /** gameId → 틱 정보 (레지스트리 스레드가 추가·제거, 샤드 스레드가 순회) */
+        private final Map<String, TickedGame> games = new ConcurrentHashMap<>();
+
+        Shard(int index) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("game-tick-" + index).daemon().factory()
+            );
+        }
+
+        void tick() {
+            if (games.isEmpty()) {
+                return;
+            }
+            try {
+                List<String> gameIds = new ArrayList<>(games.keySet());
+                var snapshotResult = gameTickStore.loadSnapshots(gameIds);
+                if (snapshotResult instanceof RepositoryResult.Error<Map<String, GameTickSnapshotDto>> error) {
+                    shardFailures.warn(error.t());
+                }
+                if (!(snapshotResult instanceof RepositoryResult.Found<Map<String, GameTickSnapshotDto>> found)) {
+                    return;
+                }
+                var snapshots = found.data();
+                long now = System.currentTimeMillis();
+
+                Set<String> finished = new HashSet<>();
+                for (var gameId : gameIds) {
+                    var game = games.get(gameId);
+                    var snapshot = snapshots.get(gameId);
+                    if (game == null || snapshot == null) {
+                        continue;
+                    }
+                    if (snapshot.status() == null) {
+                        // 상태를 알 수 없으면 종료로 보지 않고 이번 틱만 건너뜀
+                        continue;
+                    }
+                    if (snapshot.status().equals(GameStatus.ENDED.name())) {
+                        finished.add(gameId);
+                        continue;
+                    }
+                    var cached = game.state();
+                    var state = new GameStateDto(
+                        cached.gameId(), cached.roomId(), snapshot.status(),
+                        cached.settings(), cached.startedAt(), cached.endsAt()
+                    );
+                    try {
+                        gameTickService.tick(state, snapshot, game.tickState(), now);
+                    } catch (Exception e) {
+                        // 한 게임의 실패가 같은 샤드의 다른 게임 틱을 막지 않도록 로그만 남김
+                        gameFailures.warn(e);
+                    }
+                }
+                games.keySet().removeAll(finished);
+            } catch (Exception e) {
+                // 예외가 나가면 scheduleAtFixedRate가 멈추므로 로그만 남기고 다음 틱에 다시 시도
+                shardFailures.warn(e);
+            }
+        }
+    }
+}
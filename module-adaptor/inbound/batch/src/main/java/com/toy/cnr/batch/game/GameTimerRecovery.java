@@ -0,0 +1,27 @@
+package com.toy.cnr.batch.game;
+
+import com.toy.cnr.application.game.service.GameTimerService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 시작 시 활성 게임의 라이프사이클 타이머 복구.
+ * <p>
+ * local 모드에서는 재시작으로 사라진 메모리 타이머를, redis 모드에서는 저장소에 없는 타이머만
+ * 게임 상태({@code startedAt}/{@code endsAt})로부터 다시 예약합니다.
+ */
+@Component
+public class GameTimerRecovery {
+
+    private final GameTimerService gameTimerService;
+
+    public GameTimerRecovery(GameTimerService gameTimerService) {
+        this.gameTimerService = gameTimerService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        gameTimerService.restoreTimers();
+    }
+}
@@ -0,0 +1,30 @@
+package com.toy.cnr.batch.game;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * {@code "{type}:{key}"} 형식의 taskId를 해석해 타입별 핸들러를 호출하는 유틸.
+ */
+final class GameTimerTasks {
+
+    private GameTimerTasks() {}
+
+    /**
+     * taskId의 타입에 등록된 핸들러에 나머지 구간을 넘겨 실행합니다.
+     *
+     * @return 핸들러가 있어 실행했으면 true
+     */
+    static boolean run(Map<String, Consumer<String>> handlers, String taskId) {
+        int separator = taskId.indexOf(':');
+        if (separator < 0) {
+            return false;
+        }
+        var handler = handlers.get(taskId.substring(0, separator));
+        if (handler == null) {
+            return false;
+        }
+        handler.accept(taskId.substring(separator + 1));
+        return true;
+    }
+}
@@ -8,54 +8,97 @@ import com.toy.cnr.port.game.GameRegistryStore;
 import com.toy.cnr.port.game.GameStateStore;
 import com.toy.cnr.port.game.model.GameStateDto;
 import com.toy.cnr.port.room.model.RoomSettingsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
 
 /**
  * 보석 자동 스폰 스케줄러.
  * <p>
  * 30초마다 활성 게임 목록을 순회하며, PLAYING 상태인 게임의 AVAILABLE 보석 수가
  * {@link GemSpawnService#MAX_GEMS} 미만이면 보석 1개를 스폰합니다.
+ * 노드마다 {@link GameClusterMembership}의 해시 링으로 자기 몫의 게임만 맡고, 게임별 리스({@value #LEASE_MILLIS}ms)를
+ * 얻은 게임만 처리해 멤버십이 바뀌는 중에도 한 주기에 한 번만 스폰합니다. 맡은 게임은 가상 스레드에서 병렬로 처리합니다.
+ * 게임 틱 엔진({@code cnr.game.tick.enabled=true})을 쓰면 보석 보충을 틱에서 처리하므로 등록하지 않습니다.
+ * 한 게임의 실패는 다른 게임 스폰을 막지 않으며, 실패는 {@link ThrottledFailureLog}로 간격을 두고 남깁니다.
  */
+@Slf4j
 @Component
+@ConditionalOnProperty(name = "cnr.game.tick.enabled", havingValue = "false", matchIfMissing = true)
 public class GemSpawnScheduler {
 
+    static final String LEASE_TASK = "gem-spawn";
+
+    /** 스폰 주기(30초)보다 짧게 잡아 다음 주기에는 리스가 풀려 있도록 함 */
+    static final long LEASE_MILLIS = 25_000L;
+
     private final GameRegistryStore gameRegistryStore;
     private final GameStateStore gameStateStore;
     private final GemSpawnService gemSpawnService;
+    private final GameClusterMembership membership;
+
+    private final ThrottledFailureLog registryFailures = new ThrottledFailureLog(log, "Gem spawn registry read");
+    private final ThrottledFailureLog gameFailures = new ThrottledFailureLog(log, "Gem spawn of a single game");
 
     public GemSpawnScheduler(
         GameRegistryStore gameRegistryStore,
         GameStateStore gameStateStore,
-        GemSpawnService gemSpawnService
+        GemSpawnService gemSpawnService,
+        GameClusterMembership membership
     ) {
         this.gameRegistryStore = gameRegistryStore;
         this.gameStateStore = gameStateStore;
         this.gemSpawnService = gemSpawnService;
+        this.membership = membership;
     }
 
     @Scheduled(fixedDelay = 30_000)
     public void run() {
         var registryResult = gameRegistryStore.getActiveGameIds();
+        if (registryResult instanceof RepositoryResult.Error<Set<String>> error) {
+            registryFailures.warn(error.t());
+        }
         if (!(registryResult instanceof RepositoryResult.Found<Set<String>> found)) {
             return;
         }
 
-        for (var gameId : found.data()) {
+        // close()가 제출한 작업이 모두 끝날 때까지 기다리므로 다음 주기와 겹치지 않음
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var gameId : found.data()) {
+                if (membership.owns(gameId)) {
+                    executor.execute(() -> spawn(gameId));
+                }
+            }
+        }
+    }
+
+    private void spawn(String gameId) {
+        try {
+            if (!membership.claim(gameId, LEASE_TASK, LEASE_MILLIS)) {
+                return;
+            }
             var stateResult = gameStateStore.getGameState(gameId);
+            if (stateResult instanceof RepositoryResult.Error<GameStateDto> error) {
+                gameFailures.warn(error.t());
+            }
             if (!(stateResult instanceof RepositoryResult.Found<GameStateDto> stateFound)) {
-                continue;
+                return;
             }
             var state = stateFound.data();
             if (!state.status().equals(GameStatus.PLAYING.name())) {
-                continue;
+                return;
             }
             var playArea = extractPlayArea(state.settings());
             gemSpawnService.spawnIfNeeded(gameId, playArea);
+        } catch (Exception e) {
+            // 한 게임의 실패가 다른 게임 스폰을 막지 않도록 로그만 남김
+            gameFailures.warn(e);
         }
     }
 
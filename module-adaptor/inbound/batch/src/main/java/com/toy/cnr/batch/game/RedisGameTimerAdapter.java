@@ -0,0 +1,142 @@
+package com.toy.cnr.batch.game;
+
+import com.toy.cnr.batch.game.config.GameTimerProperties;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameTimerPort;
+import com.toy.cnr.port.game.GameTimerStore;
+import com.toy.cnr.port.game.model.ClaimedTimerDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis ZSET 기반 분산 게임 타이머 구현 ({@code cnr.game.timer.mode=redis}).
+ * <p>
+ * 예약·취소는 {@link GameTimerStore}에 마감 시각을 기록하기만 하고, 모든 노드가 {@code poll-interval}마다
+ * 만기 작업을 리스와 함께 가져가 실행합니다. 가져가기가 원자적이므로 한 작업은 한 노드에서만 실행되며,
+ * 실행 중 노드가 죽으면 리스 만료 후 다른 노드가 다시 실행합니다 (핸들러는 게임 상태를 확인하므로 재실행에 안전).
+ * <p>
+ * 핸들러가 예외를 던졌거나 아직 등록되지 않은 타입의 작업은 완료 처리하지 않고 리스 만료 후 다시 가져가며,
+ * {@code max-attempts}번 가져가도 완료하지 못하면 경고 로그를 남기고 제거합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cnr.game.timer.mode", havingValue = "redis")
+public class RedisGameTimerAdapter implements GameTimerPort {
+
+    private final GameTimerStore gameTimerStore;
+    private final long pollMillis;
+    private final long leaseMillis;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final ConcurrentHashMap<String, Consumer<String>> handlers =
+        new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("game-timer").daemon().factory()
+    );
+
+    private final ThrottledFailureLog pollFailures = new ThrottledFailureLog(log, "Game timer poll");
+
+    public RedisGameTimerAdapter(GameTimerStore gameTimerStore, GameTimerProperties properties) {
+        this.gameTimerStore = gameTimerStore;
+        this.pollMillis = properties.pollInterval().toMillis();
+        this.leaseMillis = properties.lease().toMillis();
+        this.batchSize = properties.batchSize();
+        this.maxAttempts = properties.maxAttempts();
+    }
+
+    @PostConstruct
+    void start() {
+        poller.scheduleWithFixedDelay(
+            () -> {
+                try {
+                    poll();
+                } catch (Exception e) {
+                    // 예외가 나가면 주기 작업이 멈추므로 로그만 남기고 다음 주기에 다시 시도
+                    pollFailures.warn(e);
+                }
+            },
+            pollMillis,
+            pollMillis,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void stop() {
+        poller.shutdownNow();
+    }
+
+    @Override
+    public void registerHandler(String type, Consumer<String> handler) {
+        handlers.put(type, handler);
+    }
+
+    @Override
+    public void schedule(String taskId, long delayMs) {
+        gameTimerStore.schedule(taskId, System.currentTimeMillis() + delayMs);
+    }
+
+    @Override
+    public void scheduleIfAbsent(String taskId, long delayMs) {
+        gameTimerStore.scheduleIfAbsent(taskId, System.currentTimeMillis() + delayMs);
+    }
+
+    @Override
+    public void cancel(String taskId) {
+        gameTimerStore.cancel(taskId);
+    }
+
+    /**
+     * 만기 작업을 가져와 각각 가상 스레드에서 실행하고, 끝나면 완료 처리합니다.
+     */
+    private void poll() {
+        long now = System.currentTimeMillis();
+        long leaseUntil = now + leaseMillis;
+        var claimed = gameTimerStore.claimDue(now, leaseUntil, batchSize);
+        if (claimed instanceof RepositoryResult.Error<List<ClaimedTimerDto>> error) {
+            pollFailures.warn(error.t());
+        }
+        if (!(claimed instanceof RepositoryResult.Found<List<ClaimedTimerDto>> found)) {
+            return;
+        }
+        for (var task : found.data()) {
+            Thread.ofVirtual().name("game-timer-" + task.taskId()).start(() -> run(task, leaseUntil));
+        }
+    }
+
+    /**
+     * 작업 하나를 실행합니다. 실행하지 못했으면 리스 만료 후 다시 가져가도록 남겨 두되,
+     * 시도 횟수가 한도에 닿았으면 제거합니다.
+     */
+    private void run(ClaimedTimerDto task, long leaseUntil) {
+        boolean handled;
+        try {
+            handled = GameTimerTasks.run(handlers, task.taskId());
+        } catch (Exception e) {
+            pollFailures.warn(e);
+            handled = false;
+        }
+        if (!handled && task.attempts() < maxAttempts) {
+            return;
+        }
+        if (!handled) {
+            log.warn("Game timer task {} dropped after {} attempts", task.taskId(), task.attempts());
+        }
+        var completed = gameTimerStore.complete(task.taskId(), leaseUntil);
+        if (completed instanceof RepositoryResult.Error<Void> error) {
+            pollFailures.warn(error.t());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.toy.cnr.batch.game;
 
 import com.toy.cnr.port.game.GameTimerPort;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -8,14 +10,18 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
- * ScheduledExecutorService 기반 게임 타이머 구현.
+ * ScheduledExecutorService 기반 게임 타이머 구현 ({@code cnr.game.timer.mode=local}).
  * <p>
  * 게임 ID별로 개별 타이머를 관리합니다.
  * 등록된 taskId를 통해 취소가 가능합니다.
+ * 노드 메모리에만 있으므로 재시작 시 GameTimerRecovery가 게임 상태로부터 다시 예약합니다.
  */
 @Component
+@ConditionalOnProperty(name = "cnr.game.timer.mode", havingValue = "local", matchIfMissing = true)
 public class SpringGameTimerAdapter implements GameTimerPort {
 
     private static final int THREAD_POOL_SIZE = 4;
@@ -26,27 +32,61 @@ public class SpringGameTimerAdapter implements GameTimerPort {
     private final ConcurrentHashMap<String, ScheduledFuture<?>> tasks =
         new ConcurrentHashMap<>();
 
+    private final ConcurrentHashMap<String, Consumer<String>> handlers =
+        new ConcurrentHashMap<>();
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
     @Override
-    public void schedule(String taskId, long delayMs, Runnable task) {
+    public void registerHandler(String type, Consumer<String> handler) {
+        handlers.put(type, handler);
+    }
+
+    @Override
+    public void schedule(String taskId, long delayMs) {
+        var previous = tasks.put(taskId, newTask(taskId, delayMs));
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    @Override
+    public void scheduleIfAbsent(String taskId, long delayMs) {
+        // 지연 0으로 예약 직후 끝난 작업은 자기 항목을 지우기 전에 끝났을 수 있으므로 완료된 항목은 없는 것으로 봅니다.
+        tasks.compute(taskId, (id, future) -> future == null || future.isDone() ? newTask(id, delayMs) : future);
+    }
+
+    @Override
+    public void cancel(String taskId) {
+        var future = tasks.remove(taskId);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * 작업을 예약합니다. 실행이 끝나면 자기 항목만 지워, 실행 중 다시 예약된 작업을 지우지 않습니다.
+     */
+    private ScheduledFuture<?> newTask(String taskId, long delayMs) {
+        var self = new AtomicReference<ScheduledFuture<?>>();
         var future = executor.schedule(
             () -> {
                 try {
-                    task.run();
+                    GameTimerTasks.run(handlers, taskId);
                 } finally {
-                    tasks.remove(taskId);
+                    var current = self.get();
+                    if (current != null) {
+                        tasks.remove(taskId, current);
+                    }
                 }
             },
             delayMs,
             TimeUnit.MILLISECONDS
         );
-        tasks.put(taskId, future);
-    }
-
-    @Override
-    public void cancel(String taskId) {
-        var future = tasks.remove(taskId);
-        if (future != null) {
-            future.cancel(false);
-        }
+        self.set(future);
+        return future;
     }
 }
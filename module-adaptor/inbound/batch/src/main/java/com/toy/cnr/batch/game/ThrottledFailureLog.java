@@ -0,0 +1,47 @@
+package com.toy.cnr.batch.game;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주기 작업의 실패를 warn 로그로 남기되, {@code intervalMillis}에 한 번만 남기는 유틸.
+ * <p>
+ * Redis 장애처럼 매 주기 같은 예외가 반복될 때 로그가 넘치지 않도록 하며,
+ * 그 사이 건너뛴 실패 횟수를 다음 로그에 함께 남깁니다. 여러 스레드에서 동시에 호출해도 안전합니다.
+ */
+final class ThrottledFailureLog {
+
+    /** 기본 로그 간격 */
+    static final long DEFAULT_INTERVAL_MILLIS = 10_000L;
+
+    private final Logger log;
+    private final String task;
+    private final long intervalMillis;
+
+    private final AtomicLong nextLogAt = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    ThrottledFailureLog(Logger log, String task) {
+        this(log, task, DEFAULT_INTERVAL_MILLIS);
+    }
+
+    ThrottledFailureLog(Logger log, String task, long intervalMillis) {
+        this.log = log;
+        this.task = task;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * @param cause 예외, 또는 저장소가 돌려준 {@link com.toy.cnr.port.common.RepositoryResult.Error}의 원인
+     */
+    void warn(Throwable cause) {
+        long now = System.currentTimeMillis();
+        long next = nextLogAt.get();
+        if (now < next || !nextLogAt.compareAndSet(next, now + intervalMillis)) {
+            suppressed.incrementAndGet();
+            return;
+        }
+        log.warn("{} failed (suppressed since last log : {})", task, suppressed.getAndSet(0), cause);
+    }
+}
@@ -0,0 +1,161 @@
+package com.toy.cnr.batch.game;
+
+import com.toy.cnr.application.game.util.HierarchicalTimingWheel;
+import com.toy.cnr.batch.game.config.GameTimerProperties;
+import com.toy.cnr.port.game.GameTimerPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 기반 게임 타이머 구현 ({@code cnr.game.timer.mode=wheel}).
+ * <p>
+ * 플레이어별 쿨다운·핑 만료처럼 타이머 수가 많아져도 예약·취소가 O(1)입니다
+ * (ScheduledThreadPoolExecutor는 힙이라 O(log n)).
+ * 휠 스레드 하나가 틱마다 시계를 진행하고, 만료된 작업은 가상 스레드에 넘겨 실행합니다.
+ * 예약된 작업이 없으면 다음 예약까지 대기합니다.
+ * 노드 메모리에만 있으므로 재시작 시 GameTimerRecovery가 게임 상태로부터 다시 예약합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "cnr.game.timer.mode", havingValue = "wheel")
+public class TimingWheelGameTimerAdapter implements GameTimerPort {
+
+    private final long tickMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition scheduled = lock.newCondition();
+
+    /** lock으로 보호 */
+    private final HierarchicalTimingWheel<String> wheel;
+
+    /** lock으로 보호: taskId → 휠 핸들 */
+    private final Map<String, HierarchicalTimingWheel.Timeout<String>> tasks = new HashMap<>();
+
+    private final ConcurrentHashMap<String, Consumer<String>> handlers =
+        new ConcurrentHashMap<>();
+
+    private final Thread worker;
+
+    public TimingWheelGameTimerAdapter(GameTimerProperties properties) {
+        this.tickMillis = properties.tick().toMillis();
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+        this.worker = Thread.ofPlatform().name("game-timer-wheel").daemon().unstarted(this::run);
+    }
+
+    @PostConstruct
+    void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.interrupt();
+    }
+
+    @Override
+    public void registerHandler(String type, Consumer<String> handler) {
+        handlers.put(type, handler);
+    }
+
+    @Override
+    public void schedule(String taskId, long delayMs) {
+        lock.lock();
+        try {
+            var previous = tasks.put(taskId, add(taskId, delayMs));
+            if (previous != null) {
+                wheel.cancel(previous);
+            }
+            scheduled.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void scheduleIfAbsent(String taskId, long delayMs) {
+        lock.lock();
+        try {
+            if (!tasks.containsKey(taskId)) {
+                tasks.put(taskId, add(taskId, delayMs));
+                scheduled.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel(String taskId) {
+        lock.lock();
+        try {
+            var timeout = tasks.remove(taskId);
+            if (timeout != null) {
+                wheel.cancel(timeout);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** lock을 잡은 상태에서 호출. 휠이 비어 있던 동안 멈춰 있던 시계를 현재로 맞춘 뒤 넣습니다. */
+    private HierarchicalTimingWheel.Timeout<String> add(String taskId, long delayMs) {
+        var now = System.currentTimeMillis();
+        if (wheel.size() == 0) {
+            wheel.advanceTo(now, id -> { });
+        }
+        return wheel.schedule(taskId, now + delayMs);
+    }
+
+    /** 등록된 작업 수 */
+    int size() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        List<String> expired = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            lock.lock();
+            try {
+                while (wheel.size() == 0) {
+                    scheduled.await();
+                }
+                wheel.advanceTo(System.currentTimeMillis(), taskId -> {
+                    tasks.remove(taskId);
+                    expired.add(taskId);
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            for (var taskId : expired) {
+                Thread.ofVirtual().name("game-timer-" + taskId).start(() -> GameTimerTasks.run(handlers, taskId));
+            }
+            expired.clear();
+
+            try {
+                TimeUnit.MILLISECONDS.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
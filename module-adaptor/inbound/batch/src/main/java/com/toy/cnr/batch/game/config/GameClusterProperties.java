@@ -0,0 +1,50 @@
+package com.toy.cnr.batch.game.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 게임 서버 노드 멤버십 설정.
+ * <p>
+ * 노드는 {@code heartbeatInterval}마다 {@code nodeTtl} 뒤 만료되는 하트비트를 남기고,
+ * 살아 있는 노드 목록으로 일관 해싱 링을 만들어 활성 게임의 주기 작업(보석 스폰, 게임 틱)을 나눠 맡습니다.
+ *
+ * <pre>{@code
+ * cnr:
+ *   game:
+ *     cluster:
+ *       heartbeat-interval: 5s
+ *       node-ttl: 15s
+ *       virtual-nodes: 128
+ * }</pre>
+ *
+ * @param nodeId            노드 ID (기본: 실행마다 새 UUID)
+ * @param heartbeatInterval 하트비트·링 갱신 주기 (기본 5s)
+ * @param nodeTtl           하트비트가 끊긴 노드를 목록에서 뺄 때까지의 시간 (기본 15s)
+ * @param virtualNodes      노드당 가상 노드 수 (기본 128)
+ */
+@ConfigurationProperties(prefix = "cnr.game.cluster")
+public record GameClusterProperties(
+    String nodeId,
+    Duration heartbeatInterval,
+    Duration nodeTtl,
+    Integer virtualNodes
+) {
+
+    public GameClusterProperties {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        if (heartbeatInterval == null || heartbeatInterval.toMillis() <= 0) {
+            heartbeatInterval = Duration.ofSeconds(5);
+        }
+        if (nodeTtl == null || nodeTtl.compareTo(heartbeatInterval) <= 0) {
+            nodeTtl = heartbeatInterval.multipliedBy(3);
+        }
+        if (virtualNodes == null || virtualNodes <= 0) {
+            virtualNodes = 128;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.toy.cnr.batch.game.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게임 틱 엔진 설정.
+ * <p>
+ * 켜면 노드의 활성 게임마다 {@code interval} 주기로 틱을 돌며 보석 보충·남은 시간 안내·좌표 끊김 감지·경찰 접근 판정을
+ * 한 번에 처리하고, 30초 주기 GemSpawnScheduler는 꺼집니다. 게임은 {@code shards}개의 단일 스레드 샤드에 나눠 담아
+ * 게임 수와 무관하게 스레드 수를 고정합니다.
+ *
+ * <pre>{@code
+ * cnr:
+ *   game:
+ *     tick:
+ *       enabled: true
+ *       interval: 1s
+ *       shards: 0
+ *       registry-refresh: 5s
+ * }</pre>
+ *
+ * @param enabled         틱 엔진 사용 여부 (기본 false)
+ * @param interval        게임별 틱 주기 (기본 1s)
+ * @param shards          샤드(스레드) 수, 0 이하면 CPU 수
+ * @param registryRefresh 활성 게임 레지스트리 재조회 주기 (기본 5s)
+ */
+@ConfigurationProperties(prefix = "cnr.game.tick")
+public record GameTickProperties(
+    Boolean enabled,
+    Duration interval,
+    Integer shards,
+    Duration registryRefresh
+) {
+
+    public GameTickProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (interval == null || interval.toMillis() <= 0) {
+            interval = Duration.ofSeconds(1);
+        }
+        if (shards == null || shards <= 0) {
+            shards = Runtime.getRuntime().availableProcessors();
+        }
+        if (registryRefresh == null || registryRefresh.toMillis() <= 0) {
+            registryRefresh = Duration.ofSeconds(5);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.toy.cnr.batch.game.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게임 라이프사이클 타이머 설정.
+ * <p>
+ * {@code mode}가 {@code redis}이면 마감 시각을 Redis ZSET에 저장하고 모든 노드가 주기적으로 만기 작업을 가져갑니다.
+ * 가져간 작업은 {@code lease} 동안 다른 노드에 보이지 않으며, 그 안에 완료하지 못하면(노드 장애, 핸들러 실패) 다시 실행되고,
+ * {@code max-attempts}번 가져가도 완료하지 못하면 경고 로그를 남기고 버립니다.
+ * {@code wheel}은 노드 메모리의 계층형 타이밍 휠로, 타이머가 많을 때 예약·취소 비용이 일정합니다.
+ *
+ * <pre>{@code
+ * cnr:
+ *   game:
+ *     timer:
+ *       mode: redis
+ *       poll-interval: 200ms
+ *       lease: 30s
+ *       batch-size: 100
+       max-attempts: 5
+ *       tick: 100ms
+ * }</pre>
+ *
+ * @param mode         {@code local} (노드 메모리), {@code wheel} (노드 메모리, 타이밍 휠) 또는 {@code redis} (기본 local)
+ * @param pollInterval 만기 작업 조회 주기 (기본 200ms)
+ * @param lease        가져간 작업의 리스 (기본 30s)
+ * @param batchSize    한 번에 가져갈 최대 작업 수 (기본 100)
+ * @param maxAttempts  작업을 버리기 전까지 가져갈 최대 횟수 (기본 5)
+ * @param tick         타이밍 휠 틱 크기 (기본 100ms. 예약이 있는 동안 휠 스레드가 틱마다 깨어나므로 너무 작으면 CPU를 계속 씀)
+ */
+@ConfigurationProperties(prefix = "cnr.game.timer")
+public record GameTimerProperties(
+    String mode,
+    Duration pollInterval,
+    Duration lease,
+    Integer batchSize,
+    Integer maxAttempts,
+    Duration tick
+) {
+
+    public GameTimerProperties {
+        if (mode == null || mode.isBlank()) {
+            mode = "local";
+        }
+        if (pollInterval == null || pollInterval.isZero() || pollInterval.isNegative()) {
+            pollInterval = Duration.ofMillis(200);
+        }
+        if (lease == null || lease.isZero() || lease.isNegative()) {
+            lease = Duration.ofSeconds(30);
+        }
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = 100;
+        }
+        if (maxAttempts == null || maxAttempts <= 0) {
+            maxAttempts = 5;
+        }
+        if (tick == null || tick.toMillis() <= 0) {
+            tick = Duration.ofMillis(100);
+        }
+    }
+}
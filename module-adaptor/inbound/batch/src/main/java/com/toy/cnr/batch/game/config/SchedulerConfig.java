@@ -1,5 +1,6 @@
 package com.toy.cnr.batch.game.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -10,5 +11,10 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  */
 @Configuration
 @EnableScheduling
+@EnableConfigurationProperties({
+    GameTimerProperties.class,
+    GameTickProperties.class,
+    GameClusterProperties.class
+})
 public class SchedulerConfig {
 }
@@ -0,0 +1,30 @@
+package com.toy.cnr.cache.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게임 이벤트 로그(Redis Stream) 설정.
+ * <p>
+ * 이벤트 발행 시 게임별 스트림에 함께 기록하고, SSE 재연결 시 {@code Last-Event-ID} 이후 구간을 재생합니다.
+ * 스트림은 {@code XADD MAXLEN ~}으로 근사 상한을 유지하므로 실제 길이는 설정값보다 조금 길 수 있습니다.
+ *
+ * <pre>{@code
+ * cnr:
+ *   cache:
+ *     event-log:
+ *       max-length: 1000
+ * }</pre>
+ *
+ * @param maxLength 게임당 보관할 최대 이벤트 수 (기본 1000)
+ */
+@ConfigurationProperties(prefix = "cnr.cache.event-log")
+public record CacheEventLogProperties(
+    Integer maxLength
+) {
+
+    public CacheEventLogProperties {
+        if (maxLength == null || maxLength <= 0) {
+            maxLength = 1000;
+        }
+    }
+}
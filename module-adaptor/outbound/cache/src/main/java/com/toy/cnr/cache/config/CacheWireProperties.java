@@ -0,0 +1,37 @@
+package com.toy.cnr.cache.config;
+
+import com.toy.cnr.cache.game.codec.WireFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Pub/Sub 채널별 발행 포맷 설정.
+ * <p>
+ * 구독 측은 포맷과 무관하게 JSON/바이너리를 모두 해석하므로, 롤아웃 시에는
+ * 모든 노드를 {@code json}으로 배포한 뒤 채널별로 {@code binary}로 전환합니다.
+ *
+ * <pre>{@code
+ * cnr:
+ *   cache:
+ *     wire:
+ *       location: binary
+ *       event: json
+ * }</pre>
+ *
+ * @param location 좌표 채널({@code game:{gameId}:location}) 발행 포맷 (기본 JSON)
+ * @param event    게임 이벤트 채널({@code game:{gameId}:events}) 발행 포맷 (기본 JSON)
+ */
+@ConfigurationProperties(prefix = "cnr.cache.wire")
+public record CacheWireProperties(
+    WireFormat location,
+    WireFormat event
+) {
+
+    public CacheWireProperties {
+        if (location == null) {
+            location = WireFormat.JSON;
+        }
+        if (event == null) {
+            event = WireFormat.JSON;
+        }
+    }
+}
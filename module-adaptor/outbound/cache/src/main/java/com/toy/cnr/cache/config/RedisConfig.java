@@ -2,6 +2,7 @@ package com.toy.cnr.cache.config;
 
 import java.time.Duration;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +24,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({CacheWireProperties.class, CacheEventLogProperties.class})
 public class RedisConfig {
 
     @Bean
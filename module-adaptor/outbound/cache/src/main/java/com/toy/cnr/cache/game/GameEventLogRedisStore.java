@@ -0,0 +1,102 @@
+package com.toy.cnr.cache.game;
+
+import com.toy.cnr.cache.game.codec.GameEventWireCodec;
+import com.toy.cnr.cache.game.key.GameKey;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameEventLogStore;
+import com.toy.cnr.port.game.model.GameEventEntryDto;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.toy.cnr.cache.game.LuaScripts.utf8;
+
+/**
+ * Redis Stream 기반 게임 이벤트 로그 조회 구현.
+ * <p>
+ * 기록은 {@link GameEventRedisPublisher}와 액션 스크립트가 발행과 함께 원자적으로 수행합니다.
+ * 로그는 근사 상한으로 잘리므로, 기준 ID가 로그의 첫 항목보다 오래됐으면 재생 구간이 불완전하다고 보고 NotFound를 반환합니다.
+ * <p>
+ * Redis key: {@code game:{gameId}:event-log}  (STREAM, field p = 이벤트 페이로드)
+ * <br>
+ * Redis command: XRANGE
+ */
+@Repository
+public class GameEventLogRedisStore implements GameEventLogStore {
+
+    private static final byte[] PAYLOAD_FIELD = utf8("p");
+
+    private final StringRedisTemplate redisTemplate;
+    private final GameEventWireCodec codec;
+
+    public GameEventLogRedisStore(
+        StringRedisTemplate redisTemplate,
+        GameEventWireCodec codec
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+    }
+
+    @Override
+    public RepositoryResult<List<GameEventEntryDto>> readAfter(String gameId, String lastEventId, int limit) {
+        try {
+            var key = utf8(GameKey.eventLog(gameId));
+            var records = redisTemplate.execute((RedisCallback<List<List<ByteRecord>>>) connection -> {
+                var streams = connection.streamCommands();
+                var head = streams.xRange(key, Range.unbounded(), Limit.limit().count(1));
+                var after = streams.xRange(
+                    key,
+                    Range.rightUnbounded(Range.Bound.exclusive(lastEventId)),
+                    Limit.limit().count(limit)
+                );
+                return Arrays.asList(head, after);
+            });
+
+            var head = records == null ? null : records.get(0);
+            if (head == null || head.isEmpty() || compareIds(lastEventId, head.getFirst().getId().getValue()) < 0) {
+                return new RepositoryResult.NotFound<>(
+                    "Event log truncated after: " + lastEventId + " in game: " + gameId
+                );
+            }
+
+            var after = records.get(1);
+            var entries = new ArrayList<GameEventEntryDto>(after == null ? 0 : after.size());
+            for (var record : after == null ? List.<ByteRecord>of() : after) {
+                entries.add(new GameEventEntryDto(record.getId().getValue(), codec.decode(payloadOf(record))));
+            }
+            return new RepositoryResult.Found<>(entries);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    private static byte[] payloadOf(ByteRecord record) {
+        for (var field : record.getValue().entrySet()) {
+            if (Arrays.equals(field.getKey(), PAYLOAD_FIELD)) {
+                return field.getValue();
+            }
+        }
+        throw new IllegalStateException("Missing payload in event log record: " + record.getId());
+    }
+
+    /** 스트림 ID {@code {millis}-{seq}} 비교 */
+    private static int compareIds(String a, String b) {
+        var left = a.split("-", 2);
+        var right = b.split("-", 2);
+        int byTime = Long.compare(Long.parseLong(left[0]), Long.parseLong(right[0]));
+        if (byTime != 0) {
+            return byTime;
+        }
+        return Long.compare(
+            left.length > 1 ? Long.parseLong(left[1]) : 0L,
+            right.length > 1 ? Long.parseLong(right[1]) : 0L
+        );
+    }
+}
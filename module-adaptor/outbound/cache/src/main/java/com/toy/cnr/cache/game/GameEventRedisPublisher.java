@@ -1,30 +1,89 @@
 package com.toy.cnr.cache.game;
 
+import com.toy.cnr.cache.config.CacheEventLogProperties;
+import com.toy.cnr.cache.config.CacheWireProperties;
+import com.toy.cnr.cache.game.codec.GameEventWireCodec;
+import com.toy.cnr.cache.game.codec.WireFormat;
 import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.game.GameEventPublisher;
 import com.toy.cnr.port.game.model.GameEventDto;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static com.toy.cnr.cache.game.LuaScripts.utf8;
+
 /**
- * Redis Pub/Sub 기반 게임 이벤트 발행 구현.
+ * Redis Stream + Pub/Sub 기반 게임 이벤트 발행 구현.
+ * <p>
+ * 이벤트를 게임별 이벤트 로그(상한 {@code cnr.cache.event-log.max-length})에 추가하고,
+ * 부여된 스트림 ID를 붙여 채널로 발행합니다 (스크립트 하나, 1 round trip).
+ * 발행 포맷은 {@code cnr.cache.wire.event}로 선택합니다.
  * <p>
- * Channel: {@code game:{gameId}:events}
+ * Redis key: {@code game:{gameId}:event-log}  (STREAM, field p = 이벤트 페이로드)
  * <br>
- * Redis command: PUBLISH
+ * Channel: {@code game:{gameId}:events}  (메시지: {@code 0x1E{streamId}\n{payload}})
+ * <br>
+ * Channel: {@code game:{gameId}:player:{playerId}:events}  (개인 이벤트, 로그 미기록, 메시지: {@code {payload}})
+ * <br>
+ * Redis command: EVALSHA({@code scripts/event_append.lua}), PUBLISH (개인 이벤트)
  */
 @Component
 public class GameEventRedisPublisher implements GameEventPublisher {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final RedisScript<String> APPEND_SCRIPT =
+        LuaScripts.load(String.class, "scripts/lib/event.lua", "scripts/event_append.lua");
+
+    private final StringRedisTemplate redisTemplate;
+    private final GameEventWireCodec codec;
+    private final WireFormat format;
+    private final byte[] maxLength;
 
-    public GameEventRedisPublisher(RedisTemplate<String, Object> redisTemplate) {
+    public GameEventRedisPublisher(
+        StringRedisTemplate redisTemplate,
+        GameEventWireCodec codec,
+        CacheWireProperties wireProperties,
+        CacheEventLogProperties eventLogProperties
+    ) {
         this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.format = wireProperties.event();
+        this.maxLength = utf8(Integer.toString(eventLogProperties.maxLength()));
     }
 
     @Override
     public void publish(String gameId, GameEventDto event) {
-        var channel = GameKey.events(gameId);
-        redisTemplate.convertAndSend(channel, event);
+        var payload = encode(event);
+        redisTemplate.execute(
+            APPEND_SCRIPT,
+            RedisSerializer.byteArray(),
+            RedisSerializer.string(),
+            List.of(GameKey.eventLog(gameId)),
+            utf8(GameKey.events(gameId)),
+            payload,
+            maxLength
+        );
+    }
+
+    @Override
+    public void publishToPlayer(String gameId, String playerId, GameEventDto event) {
+        // 로그에 기록하지 않으므로 ID 프레임 없이 페이로드만 발행: 구독 측은 ID 없는 이벤트로 해석합니다.
+        var message = encode(event);
+        var channel = utf8(GameKey.playerEvents(gameId, playerId));
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, message));
+    }
+
+    private byte[] encode(GameEventDto event) {
+        try {
+            return codec.encode(event, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
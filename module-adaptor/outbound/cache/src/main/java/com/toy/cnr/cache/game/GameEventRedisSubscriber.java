@@ -1,67 +1,201 @@
 package com.toy.cnr.cache.game;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.cache.game.codec.GameEventWireCodec;
 import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.game.GameEventSubscriber;
-import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.GameEventEntryDto;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
- * Redis Pub/Sub 기반 게임 이벤트 구독 구현.
+ * Redis Pub/Sub 기반 게임 이벤트 구독 구현 (노드 로컬 이벤트 허브).
  * <p>
  * 동일 게임 채널에 복수의 클라이언트(SSE 커넥션)가 독립적으로 구독할 수 있도록
  * UUID 기반 {@code subscriberId}로 각 구독을 관리합니다.
  * <p>
- * Channel: {@code game:{gameId}:events}
+ * 노드당 채널별로 하나의 {@link MessageListener}만 {@link RedisMessageListenerContainer}에 등록하고,
+ * 수신한 이벤트를 한 번만 역직렬화({@link GameEventWireCodec}, JSON/바이너리 자동 판별)한 뒤
+ * 그 이벤트 타입을 구독한 로컬 구독자에게만 분배합니다.
+ * 각 이벤트에는 이벤트 로그의 스트림 ID가 함께 전달되어 SSE {@code id:}로 사용됩니다.
+ * 플레이어 ID를 지정한 구독은 그 플레이어의 개인 채널도 함께 구독하며 (같은 subscriberId),
+ * {@link #subscribeToPlayer}는 개인 채널만 구독합니다.
+ * 첫 구독자가 생길 때 채널을 구독하고, 마지막 구독자가 해제될 때 채널 구독을 해제합니다.
+ * 채널 구독/해제(Redis 왕복)는 맵의 잠금 밖에서 하므로 다른 채널의 구독을 막지 않습니다.
+ * <p>
+ * Channel: {@code game:{gameId}:events}  (메시지: {@code 0x1E{streamId}\n{payload}}, 이전 버전 노드는 {@code {payload}})
+ * <br>
+ * Channel: {@code game:{gameId}:player:{playerId}:events}  (메시지: {@code {payload}})
  */
 @Component
 public class GameEventRedisSubscriber implements GameEventSubscriber {
 
     private final RedisMessageListenerContainer listenerContainer;
-    private final ObjectMapper objectMapper;
-    private final Map<String, MessageListener> activeListeners = new ConcurrentHashMap<>();
+    private final GameEventWireCodec codec;
+
+    /** 채널 이름 → 채널 (Redis 구독 1개 + 로컬 구독자 목록) */
+    private final Map<String, EventChannel> channels = new ConcurrentHashMap<>();
+
+    /** subscriberId → 구독 중인 채널 이름 목록 */
+    private final Map<String, List<String>> subscriberChannels = new ConcurrentHashMap<>();
 
     public GameEventRedisSubscriber(
         RedisMessageListenerContainer listenerContainer,
-        ObjectMapper objectMapper
+        GameEventWireCodec codec
     ) {
         this.listenerContainer = listenerContainer;
-        this.objectMapper = objectMapper;
+        this.codec = codec;
     }
 
     @Override
-    public String subscribe(String gameId, Consumer<GameEventDto> onMessage) {
-        var subscriberId = GameKey.generateSubscriberId(gameId);
-        var topic = new ChannelTopic(GameKey.events(gameId));
+    public String subscribe(
+        String gameId,
+        String playerId,
+        Set<String> types,
+        Consumer<GameEventEntryDto> onMessage
+    ) {
+        var channelNames = playerId == null
+            ? List.of(GameKey.events(gameId))
+            : List.of(GameKey.events(gameId), GameKey.playerEvents(gameId, playerId));
+        return subscribe(gameId, channelNames, types, onMessage);
+    }
 
-        MessageListener listener = (message, pattern) -> {
-            try {
-                var dto = objectMapper.readValue(message.getBody(), GameEventDto.class);
-                onMessage.accept(dto);
-            } catch (Exception e) {
-                // 역직렬화 실패 시 무시
-            }
-        };
+    @Override
+    public String subscribeToPlayer(
+        String gameId,
+        String playerId,
+        Set<String> types,
+        Consumer<GameEventEntryDto> onMessage
+    ) {
+        return subscribe(gameId, List.of(GameKey.playerEvents(gameId, playerId)), types, onMessage);
+    }
+
+    private String subscribe(
+        String gameId,
+        List<String> channelNames,
+        Set<String> types,
+        Consumer<GameEventEntryDto> onMessage
+    ) {
+        var subscriberId = GameKey.generateSubscriberId(gameId);
+        var subscription = new Subscription(types == null || types.isEmpty() ? null : Set.copyOf(types), onMessage);
+        subscriberChannels.put(subscriberId, channelNames);
 
-        activeListeners.put(subscriberId, listener);
-        listenerContainer.addMessageListener(listener, topic);
+        for (var channelName : channelNames) {
+            join(channelName, subscriberId, subscription);
+        }
 
         return subscriberId;
     }
 
+    /**
+     * 채널에 구독자를 추가합니다. 채널이 없으면 맵 밖에서 리스너를 등록(Redis SUBSCRIBE)한 뒤
+     * {@code putIfAbsent}로 설치하고, 다른 스레드가 먼저 설치했으면 방금 등록한 리스너를 해제합니다.
+     * 마지막 구독자가 빠져 닫히는 중인 채널을 만나면 새 채널로 다시 시도합니다.
+     */
+    private void join(String channelName, String subscriberId, Subscription subscription) {
+        while (true) {
+            var channel = channels.get(channelName);
+            if (channel == null) {
+                var created = new EventChannel();
+                listenerContainer.addMessageListener(created.listener, new ChannelTopic(channelName));
+                channel = channels.putIfAbsent(channelName, created);
+                if (channel == null) {
+                    channel = created;
+                } else {
+                    listenerContainer.removeMessageListener(created.listener);
+                }
+            }
+            if (channel.join(subscriberId, subscription)) {
+                return;
+            }
+            channels.remove(channelName, channel);
+        }
+    }
+
     @Override
     public void unsubscribe(String subscriberId) {
-        var listener = activeListeners.remove(subscriberId);
-        if (listener != null) {
-            listenerContainer.removeMessageListener(listener);
+        var channelNames = subscriberChannels.remove(subscriberId);
+        if (channelNames == null) {
+            return;
         }
+
+        for (var channelName : channelNames) {
+            var channel = channels.get(channelName);
+            if (channel != null && channel.leave(subscriberId)) {
+                channels.remove(channelName, channel);
+                listenerContainer.removeMessageListener(channel.listener);
+            }
+        }
+    }
+
+    /**
+     * 구독 하나의 이벤트 타입 필터와 콜백.
+     *
+     * @param types 받을 이벤트 타입 (null이면 전체)
+     */
+    private record Subscription(Set<String> types, Consumer<GameEventEntryDto> onMessage) {
+
+        boolean accepts(String type) {
+            return types == null || types.contains(type);
+        }
+    }
+
+    /**
+     * 채널 하나의 구독 상태.
+     */
+    private final class EventChannel {
+
+        /** subscriberId → 구독 */
+        private final Map<String, Subscription> subscribers = new ConcurrentHashMap<>();
+
+        /** 마지막 구독자가 빠져 리스너를 해제함 (더 이상 구독자 추가 불가) */
+        private boolean closed;
+
+        /** @return 추가했으면 true, 이미 닫힌 채널이면 false */
+        synchronized boolean join(String subscriberId, Subscription subscription) {
+            if (closed) {
+                return false;
+            }
+            subscribers.put(subscriberId, subscription);
+            return true;
+        }
+
+        /** @return 마지막 구독자가 빠져 이번 호출로 닫혔으면 true (리스너 해제 담당) */
+        synchronized boolean leave(String subscriberId) {
+            subscribers.remove(subscriberId);
+            if (closed || !subscribers.isEmpty()) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        private final MessageListener listener = (message, pattern) -> {
+            GameEventEntryDto entry;
+            try {
+                entry = codec.decodeEntry(message.getBody());
+            } catch (Exception e) {
+                // 역직렬화 실패 시 무시
+                return;
+            }
+            var type = entry.event().type();
+            for (var subscription : subscribers.values()) {
+                if (!subscription.accepts(type)) {
+                    continue;
+                }
+                try {
+                    subscription.onMessage().accept(entry);
+                } catch (Exception e) {
+                    // 한 구독자의 실패가 다른 구독자에게 전파되지 않도록 무시
+                }
+            }
+        };
     }
 }
@@ -0,0 +1,73 @@
+package com.toy.cnr.cache.game;
+
+import com.toy.cnr.cache.game.key.GameKey;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameNodeStore;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Redis ZSET 기반 노드 멤버십 구현.
+ * <p>
+ * score에 노드 만료 시각을 두어, 하트비트가 끊긴 노드는 만료 시각이 지나면 목록에서 빠집니다.
+ * 게임별 작업 리스는 {@code SET NX PX}로 겁니다.
+ * <p>
+ * Redis key: {@code game:nodes}  (ZSET member: nodeId, score: 만료 시각)
+ * <br>
+ * Redis key: {@code game:{gameId}:lease:{task}}  (STRING: nodeId, TTL: 리스 유지 시간)
+ */
+@Repository
+public class GameNodeRedisStore implements GameNodeStore {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public GameNodeRedisStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public RepositoryResult<Void> heartbeat(String nodeId, long expiresAt) {
+        try {
+            redisTemplate.opsForZSet().add(GameKey.nodes(), nodeId, expiresAt);
+            return new RepositoryResult.Found<>(null);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<Void> leave(String nodeId) {
+        try {
+            redisTemplate.opsForZSet().remove(GameKey.nodes(), nodeId);
+            return new RepositoryResult.Found<>(null);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<Set<String>> getLiveNodes(long now) {
+        try {
+            var zSet = redisTemplate.opsForZSet();
+            zSet.removeRangeByScore(GameKey.nodes(), Double.NEGATIVE_INFINITY, now);
+            var nodes = zSet.rangeByScore(GameKey.nodes(), now, Double.POSITIVE_INFINITY);
+            return new RepositoryResult.Found<>(nodes == null ? Set.of() : nodes);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<Boolean> tryAcquireLease(String gameId, String task, String nodeId, long ttlMillis) {
+        try {
+            var acquired = redisTemplate.opsForValue()
+                .setIfAbsent(GameKey.gameLease(gameId, task), nodeId, Duration.ofMillis(ttlMillis));
+            return new RepositoryResult.Found<>(Boolean.TRUE.equals(acquired));
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+}
@@ -5,32 +5,86 @@ import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.GameStateStore;
 import com.toy.cnr.port.game.model.GameStateDto;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Redis HASH 기반 게임 상태 저장소 구현.
+ * Redis HASH 기반 게임 상태 저장소 구현 (노드 로컬 near-cache 포함).
+ * <p>
+ * 게임 설정(폴리곤 등)은 시작 후 변하지 않으므로 {@code data} 필드에 한 번 저장하고,
+ * 자주 바뀌는 상태는 별도의 {@code status} 필드에 둡니다.
+ * <ul>
+ *   <li>{@code data}: 게임 시작 시점의 {@link GameStateDto} JSON — 노드별로 한 번만 파싱하여 캐시</li>
+ *   <li>{@code status}: 현재 {@code GameStatus} — {@link #STATUS_TTL_MILLIS} 동안 캐시</li>
+ * </ul>
+ * {@link #updateStatus}는 게임이 있고 아직 종료되지 않았을 때만 {@code status} 필드를 갱신하고
+ * (존재·종료 확인과 쓰기를 스크립트 하나로) 무효화 채널에 gameId를 발행하며,
+ * 모든 노드는 수신 즉시 그 게임의 캐시 항목을 버립니다. 다른 노드에서 종료된 게임도 이때 빠지므로 캐시에 남지 않으며,
+ * 알림이 유실되어도 TTL 이후 status를 다시 조회하고 ENDED를 확인하면 버립니다.
  * <p>
- * Redis key: {@code game:{gameId}:state}
+ * Redis key: {@code game:{gameId}:state}  (HASH: data, status)
+ * <br>
+ * Channel: {@code game:state:invalidations}
+ * <br>
+ * Redis command: HSET, HMGET, HGET, PUBLISH, EVALSHA({@code scripts/game_status_update.lua})
  */
 @Repository
 public class GameStateRedisStore implements GameStateStore {
 
     private static final String DATA_FIELD = "data";
+    private static final String STATUS_FIELD = "status";
+
+    /** 종료된 게임은 더 이상 조회가 잦지 않으므로 캐시하지 않습니다 (GameStatus.ENDED) */
+    private static final String ENDED_STATUS = "ENDED";
+
+    /** 무효화 알림 유실에 대비한 status 캐시 유효 시간 */
+    static final long STATUS_TTL_MILLIS = 1_000L;
+
+    private static final RedisScript<Long> STATUS_UPDATE_SCRIPT =
+        LuaScripts.load(Long.class, "scripts/game_status_update.lua");
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final Map<String, CachedState> nearCache = new ConcurrentHashMap<>();
 
-    public GameStateRedisStore(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+    public GameStateRedisStore(
+        RedisTemplate<String, Object> redisTemplate,
+        ObjectMapper objectMapper,
+        RedisMessageListenerContainer listenerContainer
+    ) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+
+        MessageListener invalidationListener = (message, pattern) -> {
+            var gameId = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (gameId != null) {
+                nearCache.remove(gameId.toString());
+            }
+        };
+        listenerContainer.addMessageListener(
+            invalidationListener,
+            new ChannelTopic(GameKey.gameStateInvalidations())
+        );
     }
 
     @Override
     public RepositoryResult<Void> saveGameState(GameStateDto gameState) {
         try {
             var key = GameKey.gameState(gameState.gameId());
-            redisTemplate.opsForHash().put(key, DATA_FIELD, objectMapper.writeValueAsString(gameState));
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                DATA_FIELD, objectMapper.writeValueAsString(gameState),
+                STATUS_FIELD, gameState.status()
+            ));
+            nearCache.remove(gameState.gameId());
+            notifyInvalidation(gameState.gameId());
             return new RepositoryResult.Found<>(null);
         } catch (Exception e) {
             return new RepositoryResult.Error<>(e);
@@ -40,29 +94,96 @@ public class GameStateRedisStore implements GameStateStore {
     @Override
     public RepositoryResult<GameStateDto> getGameState(String gameId) {
         try {
-            var key = GameKey.gameState(gameId);
-            var value = redisTemplate.opsForHash().get(key, DATA_FIELD);
-            if (value == null) {
-                return new RepositoryResult.NotFound<>("GameState not found: " + gameId);
+            long now = System.currentTimeMillis();
+            var cached = nearCache.get(gameId);
+            if (cached == null) {
+                return load(gameId, now);
+            }
+            if (cached.isStatusFresh(now)) {
+                return new RepositoryResult.Found<>(cached.toDto());
             }
-            return new RepositoryResult.Found<>(objectMapper.readValue(value.toString(), GameStateDto.class));
+
+            // 설정은 캐시를 그대로 쓰고 status만 다시 조회
+            var status = redisTemplate.opsForHash().get(GameKey.gameState(gameId), STATUS_FIELD);
+            if (status == null) {
+                nearCache.remove(gameId);
+                return load(gameId, now);
+            }
+            var refreshed = cached.withStatus(status.toString(), now);
+            cache(gameId, refreshed);
+            return new RepositoryResult.Found<>(refreshed.toDto());
         } catch (Exception e) {
             return new RepositoryResult.Error<>(e);
         }
     }
 
     @Override
-    public RepositoryResult<Void> updateStatus(String gameId, String status) {
+    public RepositoryResult<Boolean> updateStatus(String gameId, String status) {
         try {
-            var result = getGameState(gameId);
-            if (result instanceof RepositoryResult.NotFound<GameStateDto> notFound) {
-                return new RepositoryResult.NotFound<>(notFound.message());
+            var updated = redisTemplate.execute(
+                STATUS_UPDATE_SCRIPT, List.of(GameKey.gameState(gameId)), status, ENDED_STATUS
+            );
+            if (updated == null || updated < 0) {
+                return new RepositoryResult.NotFound<>("GameState not found: " + gameId);
             }
-            if (result instanceof RepositoryResult.Error<GameStateDto> error) {
-                return new RepositoryResult.Error<>(error.t());
+            if (updated == 0) {
+                return new RepositoryResult.Found<>(false);
             }
-            var state = ((RepositoryResult.Found<GameStateDto>) result).data();
-            var updated = new GameStateDto(
+            nearCache.computeIfPresent(gameId, (id, cached) ->
+                ENDED_STATUS.equals(status) ? null : cached.withStatus(status, System.currentTimeMillis())
+            );
+            notifyInvalidation(gameId);
+            return new RepositoryResult.Found<>(true);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    private RepositoryResult<GameStateDto> load(String gameId, long now) throws Exception {
+        List<Object> values = redisTemplate.opsForHash()
+            .multiGet(GameKey.gameState(gameId), List.of(DATA_FIELD, STATUS_FIELD));
+        var data = values.get(0);
+        if (data == null) {
+            return new RepositoryResult.NotFound<>("GameState not found: " + gameId);
+        }
+
+        var state = objectMapper.readValue(data.toString(), GameStateDto.class);
+        // status 필드가 없으면(이전 포맷) data에 포함된 status를 사용
+        var status = values.get(1) != null ? values.get(1).toString() : state.status();
+        var cached = new CachedState(state, status, now);
+        cache(gameId, cached);
+        return new RepositoryResult.Found<>(cached.toDto());
+    }
+
+    private void cache(String gameId, CachedState cached) {
+        if (ENDED_STATUS.equals(cached.status())) {
+            nearCache.remove(gameId);
+        } else {
+            nearCache.put(gameId, cached);
+        }
+    }
+
+    private void notifyInvalidation(String gameId) {
+        redisTemplate.convertAndSend(GameKey.gameStateInvalidations(), gameId);
+    }
+
+    /**
+     * 캐시 항목. {@code settings}를 포함한 불변 부분과 마지막으로 확인한 status를 함께 보관합니다.
+     *
+     * @param statusCachedAt status를 확인한 시각
+     */
+    private record CachedState(GameStateDto state, String status, long statusCachedAt) {
+
+        boolean isStatusFresh(long now) {
+            return now - statusCachedAt < STATUS_TTL_MILLIS;
+        }
+
+        CachedState withStatus(String newStatus, long now) {
+            return new CachedState(state, newStatus, now);
+        }
+
+        GameStateDto toDto() {
+            return new GameStateDto(
                 state.gameId(),
                 state.roomId(),
                 status,
@@ -70,9 +191,6 @@ public class GameStateRedisStore implements GameStateStore {
                 state.startedAt(),
                 state.endsAt()
             );
-            return saveGameState(updated);
-        } catch (Exception e) {
-            return new RepositoryResult.Error<>(e);
         }
     }
 }
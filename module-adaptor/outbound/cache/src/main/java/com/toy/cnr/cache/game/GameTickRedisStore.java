@@ -0,0 +1,153 @@
+package com.toy.cnr.cache.game;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.cache.game.key.GameKey;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameTickStore;
+import com.toy.cnr.port.game.model.GameTickSnapshotDto;
+import com.toy.cnr.port.game.model.GemDto;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.toy.cnr.cache.game.LuaScripts.utf8;
+
+/**
+ * 게임 틱 스냅샷 저장소 구현.
+ * <p>
+ * 게임마다 스크립트 하나로 게임 status, 플레이어 역할·상태, 마지막 좌표·측정 시각, 보석을 읽고,
+ * 여러 게임의 스크립트 호출(EVALSHA)을 하나의 파이프라인으로 보내 틱당 1 round trip으로 처리합니다.
+ * 서버에 스크립트가 없으면(NOSCRIPT) SCRIPT LOAD 후 한 번 다시 보냅니다.
+ * <p>
+ * Redis key: {@code game:{gameId}:state}, {@code game:{gameId}:player-ids}, {@code game:{gameId}:player:{playerId}},
+ * {@code game:{gameId}:location-times}, {@code game:{gameId}:locations}, {@code game:{gameId}:gems}
+ * <br>
+ * Redis command: EVALSHA({@code scripts/tick_snapshot.lua}) × 게임 수 (파이프라인), SCRIPT LOAD
+ */
+@Repository
+public class GameTickRedisStore implements GameTickStore {
+
+    private static final RedisScript<List> SNAPSHOT_SCRIPT =
+        LuaScripts.load(List.class, "scripts/tick_snapshot.lua");
+
+    private static final int PLAYER_STRIDE = 6;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public GameTickRedisStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public RepositoryResult<Map<String, GameTickSnapshotDto>> loadSnapshots(Collection<String> gameIds) {
+        if (gameIds.isEmpty()) {
+            return new RepositoryResult.Found<>(Map.of());
+        }
+        try {
+            var ids = List.copyOf(gameIds);
+            List<Object> replies;
+            try {
+                replies = pipeline(ids);
+            } catch (Exception e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(utf8(SNAPSHOT_SCRIPT.getScriptAsString()))
+                );
+                replies = pipeline(ids);
+            }
+
+            var snapshots = new HashMap<String, GameTickSnapshotDto>(ids.size() * 2);
+            for (int i = 0; i < ids.size() && i < replies.size(); i++) {
+                if (replies.get(i) instanceof List<?> flat) {
+                    snapshots.put(ids.get(i), toSnapshot(ids.get(i), flat));
+                }
+            }
+            return new RepositoryResult.Found<>(snapshots);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    private List<Object> pipeline(List<String> gameIds) {
+        var sha = utf8(SNAPSHOT_SCRIPT.getSha1());
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (var gameId : gameIds) {
+                evalSnapshot(connection, sha, gameId);
+            }
+            return null;
+        }, RedisSerializer.string());
+    }
+
+    private static void evalSnapshot(RedisConnection connection, byte[] sha, String gameId) {
+        connection.scriptingCommands().evalSha(
+            sha, ReturnType.MULTI, 5,
+            utf8(GameKey.gamePlayerIds(gameId)),
+            utf8(GameKey.locationTimes(gameId)),
+            utf8(GameKey.locations(gameId)),
+            utf8(GameKey.gameGems(gameId)),
+            utf8(GameKey.gameState(gameId)),
+            utf8(GameKey.gamePrefix(gameId))
+        );
+    }
+
+    private GameTickSnapshotDto toSnapshot(String gameId, List<?> flat) throws Exception {
+        // status 필드는 RedisTemplate의 JSON 직렬화로 저장된 문자열
+        var rawStatus = text(flat, 0);
+        var status = rawStatus.isEmpty() ? null : objectMapper.readValue(rawStatus, String.class);
+
+        int playerCount = Integer.parseInt(text(flat, 1));
+        var players = new ArrayList<GameTickSnapshotDto.TickPlayerDto>(playerCount);
+        int offset = 2;
+        for (int i = 0; i < playerCount; i++, offset += PLAYER_STRIDE) {
+            // ID 집합에만 남고 HASH가 사라진 플레이어는 건너뜀
+            if (text(flat, offset + 1).isEmpty()) {
+                continue;
+            }
+            var lastSeenAt = text(flat, offset + 3);
+            var longitude = text(flat, offset + 4);
+            var latitude = text(flat, offset + 5);
+            players.add(new GameTickSnapshotDto.TickPlayerDto(
+                text(flat, offset),
+                text(flat, offset + 1),
+                text(flat, offset + 2),
+                lastSeenAt.isEmpty() ? 0L : Long.parseLong(lastSeenAt),
+                longitude.isEmpty() ? null : Double.valueOf(longitude),
+                latitude.isEmpty() ? null : Double.valueOf(latitude)
+            ));
+        }
+
+        var gems = new ArrayList<GemDto>(Math.max(0, flat.size() - offset));
+        for (int i = offset; i < flat.size(); i++) {
+            gems.add(objectMapper.readValue(text(flat, i), GemDto.class));
+        }
+        return new GameTickSnapshotDto(gameId, status, players, gems);
+    }
+
+    private static String text(List<?> flat, int index) {
+        var value = flat.get(index);
+        return value == null ? "" : value.toString();
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (var cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
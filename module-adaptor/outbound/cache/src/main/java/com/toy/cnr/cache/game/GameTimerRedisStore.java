@@ -0,0 +1,114 @@
+package com.toy.cnr.cache.game;
+
+import com.toy.cnr.cache.game.key.GameKey;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameTimerStore;
+import com.toy.cnr.port.game.model.ClaimedTimerDto;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis ZSET 기반 게임 타이머 저장소 구현.
+ * <p>
+ * score에 실행 시각을 두고, 가져가기(claim)는 만기 조회와 리스(score를 리스 만료 시각으로 미룸)를
+ * 스크립트 하나로 처리해 같은 작업을 두 노드가 동시에 가져가지 않게 합니다.
+ * 가져갈 때마다 시도 횟수를 HASH에 올리고, 완료·재예약·취소 시 지웁니다.
+ * <p>
+ * Redis key: {@code game:timers}  (ZSET member: taskId, score: 실행 시각 또는 리스 만료 시각),
+ * {@code game:timers:attempts}  (HASH field: taskId, value: 가져간 횟수)
+ * <br>
+ * Redis command: ZADD, ZADD NX, ZREM, HDEL, EVALSHA({@code scripts/timer_claim.lua}, {@code scripts/timer_complete.lua})
+ */
+@Repository
+public class GameTimerRedisStore implements GameTimerStore {
+
+    private static final RedisScript<List> CLAIM_SCRIPT =
+        LuaScripts.load(List.class, "scripts/timer_claim.lua");
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+        LuaScripts.load(Long.class, "scripts/timer_complete.lua");
+
+    private final StringRedisTemplate redisTemplate;
+
+    public GameTimerRedisStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public RepositoryResult<Void> schedule(String taskId, long dueAt) {
+        try {
+            redisTemplate.opsForZSet().add(GameKey.timers(), taskId, dueAt);
+            redisTemplate.opsForHash().delete(GameKey.timerAttempts(), taskId);
+            return new RepositoryResult.Found<>(null);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<Void> scheduleIfAbsent(String taskId, long dueAt) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForZSet().addIfAbsent(GameKey.timers(), taskId, dueAt))) {
+                redisTemplate.opsForHash().delete(GameKey.timerAttempts(), taskId);
+            }
+            return new RepositoryResult.Found<>(null);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<Void> cancel(String taskId) {
+        try {
+            redisTemplate.opsForZSet().remove(GameKey.timers(), taskId);
+            redisTemplate.opsForHash().delete(GameKey.timerAttempts(), taskId);
+            return new RepositoryResult.Found<>(null);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RepositoryResult<List<ClaimedTimerDto>> claimDue(long now, long leaseUntil, int limit) {
+        try {
+            List<String> claimed = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(GameKey.timers(), GameKey.timerAttempts()),
+                Long.toString(now),
+                Long.toString(leaseUntil),
+                Integer.toString(limit)
+            );
+            if (claimed == null) {
+                return new RepositoryResult.Found<>(List.of());
+            }
+            // 스크립트 결과: taskId, 시도 횟수 쌍의 평탄 목록
+            var tasks = new ArrayList<ClaimedTimerDto>(claimed.size() / 2);
+            for (int i = 0; i + 1 < claimed.size(); i += 2) {
+                tasks.add(new ClaimedTimerDto(claimed.get(i), Integer.parseInt(claimed.get(i + 1))));
+            }
+            return new RepositoryResult.Found<>(tasks);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<Void> complete(String taskId, long leaseUntil) {
+        try {
+            redisTemplate.execute(
+                COMPLETE_SCRIPT,
+                List.of(GameKey.timers(), GameKey.timerAttempts()),
+                taskId,
+                Long.toString(leaseUntil)
+            );
+            return new RepositoryResult.Found<>(null);
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+}
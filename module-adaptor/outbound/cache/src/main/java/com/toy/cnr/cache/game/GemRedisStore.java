@@ -1,29 +1,62 @@
 package com.toy.cnr.cache.game;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.cache.config.CacheEventLogProperties;
+import com.toy.cnr.cache.config.CacheWireProperties;
+import com.toy.cnr.cache.game.codec.GameEventWireCodec;
+import com.toy.cnr.cache.game.codec.WireFormat;
 import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.GemStore;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import com.toy.cnr.port.game.model.GameEventDto;
 import com.toy.cnr.port.game.model.GemDto;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+import static com.toy.cnr.cache.game.LuaScripts.STRING_ELEMENTS;
+import static com.toy.cnr.cache.game.LuaScripts.utf8;
+
 /**
  * Redis HASH 기반 보석 저장소 구현.
  * <p>
+ * 값은 문자열 JSON 그대로 저장해 서버 측 스크립트(cjson)에서 읽고 고칠 수 있게 합니다.
+ * 보석 획득은 검증·거리 판정·상태 변경·이벤트 발행을 스크립트 하나로 처리해 먼저 도착한 요청만 성공합니다.
+ * <p>
  * Redis key: {@code game:{gameId}:gems}  (HASH field: gemId → JSON)
+ * <br>
+ * Redis key: {@code game:{gameId}:event-log}  (STREAM: 액션 이벤트를 발행과 함께 기록)
+ * <br>
+ * Redis command: HSET, HGET, HVALS, EVALSHA({@code scripts/gem_collect.lua})
  */
 @Repository
 public class GemRedisStore implements GemStore {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final RedisScript<List> COLLECT_SCRIPT =
+        LuaScripts.load(List.class, "scripts/lib/action.lua", "scripts/lib/event.lua", "scripts/gem_collect.lua");
+
+    private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final GameEventWireCodec eventCodec;
+    private final WireFormat eventFormat;
+    private final byte[] eventLogMaxLength;
 
-    public GemRedisStore(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+    public GemRedisStore(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper,
+        GameEventWireCodec eventCodec,
+        CacheWireProperties wireProperties,
+        CacheEventLogProperties eventLogProperties
+    ) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.eventCodec = eventCodec;
+        this.eventFormat = wireProperties.event();
+        this.eventLogMaxLength = utf8(Integer.toString(eventLogProperties.maxLength()));
     }
 
     @Override
@@ -75,4 +108,38 @@ public class GemRedisStore implements GemStore {
     public RepositoryResult<Void> updateGem(String gameId, GemDto gem) {
         return saveGem(gameId, gem);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RepositoryResult<GameActionResultDto> collectGem(
+        String gameId,
+        String robberId,
+        String gemId,
+        double radiusMeters,
+        GameEventDto event
+    ) {
+        try {
+            List<String> reply = redisTemplate.execute(
+                COLLECT_SCRIPT,
+                RedisSerializer.byteArray(),
+                STRING_ELEMENTS,
+                List.of(
+                    GameKey.gamePlayer(gameId, robberId),
+                    GameKey.gameGems(gameId),
+                    GameKey.locations(gameId),
+                    GameKey.eventLog(gameId)
+                ),
+                utf8(robberId),
+                utf8(gemId),
+                utf8(Double.toString(radiusMeters)),
+                utf8(Long.toString(event.timestamp())),
+                utf8(GameKey.events(gameId)),
+                eventCodec.encode(event, eventFormat),
+                eventLogMaxLength
+            );
+            return new RepositoryResult.Found<>(LuaScripts.toActionResult(reply));
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
 }
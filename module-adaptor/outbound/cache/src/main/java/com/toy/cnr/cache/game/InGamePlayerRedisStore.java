@@ -1,36 +1,115 @@
 package com.toy.cnr.cache.game;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.cache.config.CacheEventLogProperties;
+import com.toy.cnr.cache.config.CacheWireProperties;
+import com.toy.cnr.cache.game.codec.GameEventWireCodec;
+import com.toy.cnr.cache.game.codec.WireFormat;
 import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.InGamePlayerStore;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import com.toy.cnr.port.game.model.GameEventDto;
 import com.toy.cnr.port.game.model.InGamePlayerDto;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+
+import static com.toy.cnr.cache.game.LuaScripts.STRING_ELEMENTS;
+import static com.toy.cnr.cache.game.LuaScripts.utf8;
 
 /**
  * Redis HASH 기반 인게임 플레이어 저장소 구현.
  * <p>
- * Redis key: {@code game:{gameId}:players}  (HASH field: playerId → JSON)
+ * 플레이어마다 필드별 HASH를 두어 통계는 HINCRBY, 상태는 HSET으로 직접 갱신합니다 (JSON 재직렬화 없음).
+ * 플레이어 저장 시 역할/상태 파티션을 스크립트 하나로 원자적으로 이동합니다.
+ * 체포/구출은 검증·거리 판정·상태 변경·이벤트 발행을 스크립트 하나로 처리해 동시 요청 중 먼저 도착한 요청만 성공합니다.
+ * <p>
+ * Redis key: {@code game:{gameId}:player:{playerId}}  (HASH: playerName, role, status, 통계, lastUpdatedAt)
+ * <br>
+ * Redis key: {@code game:{gameId}:player-ids}  (SET: 게임 참가 playerId)
+ * <br>
+ * Redis key: {@code game:{gameId}:player-partitions}  (HASH field: playerId → "{role}:{status}")
+ * <br>
+ * Redis key: {@code game:{gameId}:members:{role}:{status}}  (SET: 역할·상태별 playerId 인덱스)
+ * <br>
+ * Redis key: {@code game:{gameId}:locations:{role}:{status}}  (GEO: 역할·상태별 좌표, ZSCORE/ZADD로 이동)
+ * <br>
+ * Redis key: {@code game:{gameId}:event-log}  (STREAM: 액션 이벤트를 발행과 함께 기록)
+ * <br>
+ * Redis command: EVALSHA({@code scripts/player_save.lua}, {@code scripts/player_list.lua},
+ * {@code scripts/player_arrest.lua}, {@code scripts/player_rescue.lua}), HMGET, SMEMBERS
  */
 @Repository
 public class InGamePlayerRedisStore implements InGamePlayerStore {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private static final RedisScript<Long> SAVE_SCRIPT =
+        LuaScripts.load(Long.class, "scripts/lib/partition.lua", "scripts/player_save.lua");
+    private static final RedisScript<List> LIST_SCRIPT =
+        LuaScripts.load(List.class, "scripts/player_list.lua");
+    private static final RedisScript<List> ARREST_SCRIPT =
+        LuaScripts.load(List.class, "scripts/lib/partition.lua", "scripts/lib/action.lua",
+            "scripts/lib/event.lua", "scripts/player_arrest.lua");
+    private static final RedisScript<List> RESCUE_SCRIPT =
+        LuaScripts.load(List.class, "scripts/lib/partition.lua", "scripts/lib/action.lua",
+            "scripts/lib/event.lua", "scripts/player_rescue.lua");
+
+    /** HMGET/일괄 조회 시 필드 순서 (값만 전송하고 이 순서로 해석) */
+    private static final List<String> FIELDS = List.of(
+        "playerName", "role", "status",
+        "arrestCount", "gemsCollected", "rescueCount", "escapeCount",
+        "lastUpdatedAt"
+    );
 
-    public InGamePlayerRedisStore(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+    private final StringRedisTemplate redisTemplate;
+    private final GameEventWireCodec eventCodec;
+    private final WireFormat eventFormat;
+    private final byte[] eventLogMaxLength;
+
+    public InGamePlayerRedisStore(
+        StringRedisTemplate redisTemplate,
+        GameEventWireCodec eventCodec,
+        CacheWireProperties wireProperties,
+        CacheEventLogProperties eventLogProperties
+    ) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+        this.eventCodec = eventCodec;
+        this.eventFormat = wireProperties.event();
+        this.eventLogMaxLength = utf8(Integer.toString(eventLogProperties.maxLength()));
     }
 
     @Override
     public RepositoryResult<Void> savePlayer(String gameId, InGamePlayerDto player) {
         try {
-            var key = GameKey.gamePlayers(gameId);
-            redisTemplate.opsForHash().put(key, player.playerId(), objectMapper.writeValueAsString(player));
+            var args = new ArrayList<String>(2 + FIELDS.size() * 2);
+            args.add(player.playerId());
+            args.add(GameKey.gamePrefix(gameId));
+            if (player.playerName() != null) {
+                args.add("playerName");
+                args.add(player.playerName());
+            }
+            addField(args, "role", player.role());
+            addField(args, "status", player.status());
+            addField(args, "arrestCount", player.arrestCount());
+            addField(args, "gemsCollected", player.gemsCollected());
+            addField(args, "rescueCount", player.rescueCount());
+            addField(args, "escapeCount", player.escapeCount());
+            addField(args, "lastUpdatedAt", player.lastUpdatedAt());
+
+            redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(
+                    GameKey.gamePlayer(gameId, player.playerId()),
+                    GameKey.gamePlayerIds(gameId),
+                    GameKey.playerPartitions(gameId),
+                    GameKey.locations(gameId)
+                ),
+                args.toArray()
+            );
             return new RepositoryResult.Found<>(null);
         } catch (Exception e) {
             return new RepositoryResult.Error<>(e);
@@ -40,31 +119,37 @@ public class InGamePlayerRedisStore implements InGamePlayerStore {
     @Override
     public RepositoryResult<InGamePlayerDto> getPlayer(String gameId, String playerId) {
         try {
-            var key = GameKey.gamePlayers(gameId);
-            var value = redisTemplate.opsForHash().get(key, playerId);
-            if (value == null) {
+            var key = GameKey.gamePlayer(gameId, playerId);
+            var values = redisTemplate.<String, String>opsForHash().multiGet(key, FIELDS);
+            if (values == null || values.get(1) == null) {
                 return new RepositoryResult.NotFound<>("Player not found: " + playerId + " in game: " + gameId);
             }
-            return new RepositoryResult.Found<>(objectMapper.readValue(value.toString(), InGamePlayerDto.class));
+            return new RepositoryResult.Found<>(toDto(playerId, values, 0));
         } catch (Exception e) {
             return new RepositoryResult.Error<>(e);
         }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public RepositoryResult<List<InGamePlayerDto>> getAllPlayers(String gameId) {
         try {
-            var key = GameKey.gamePlayers(gameId);
-            var values = redisTemplate.opsForHash().values(key);
-            var players = values.stream()
-                .map(v -> {
-                    try {
-                        return objectMapper.readValue(v.toString(), InGamePlayerDto.class);
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                })
-                .toList();
+            var args = new ArrayList<String>(1 + FIELDS.size());
+            args.add(GameKey.gamePrefix(gameId));
+            args.addAll(FIELDS);
+
+            // SMEMBERS + 플레이어별 HMGET을 스크립트 하나로 (필드 이름 없이 값만 반환)
+            List<String> flat = redisTemplate.execute(LIST_SCRIPT, List.of(GameKey.gamePlayerIds(gameId)), args.toArray());
+
+            int stride = 1 + FIELDS.size();
+            var players = new ArrayList<InGamePlayerDto>(flat == null ? 0 : flat.size() / stride);
+            for (int i = 0; flat != null && i + stride <= flat.size(); i += stride) {
+                // ID 집합에만 남고 HASH가 사라진 플레이어는 건너뜀
+                if (flat.get(i + 2) == null) {
+                    continue;
+                }
+                players.add(toDto(flat.get(i), flat, i + 1));
+            }
             return new RepositoryResult.Found<>(players);
         } catch (Exception e) {
             return new RepositoryResult.Error<>(e);
@@ -75,4 +160,96 @@ public class InGamePlayerRedisStore implements InGamePlayerStore {
     public RepositoryResult<Void> updatePlayer(String gameId, InGamePlayerDto player) {
         return savePlayer(gameId, player);
     }
+
+    @Override
+    public RepositoryResult<Set<String>> getPlayerIds(String gameId, String role, String status) {
+        try {
+            var members = redisTemplate.opsForSet().members(GameKey.gameMembers(gameId, role, status));
+            return new RepositoryResult.Found<>(members == null ? Set.of() : Set.copyOf(members));
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<GameActionResultDto> arrest(
+        String gameId,
+        String copsId,
+        String robberId,
+        double radiusMeters,
+        GameEventDto event
+    ) {
+        return executeAction(ARREST_SCRIPT, gameId, copsId, robberId, radiusMeters, event);
+    }
+
+    @Override
+    public RepositoryResult<GameActionResultDto> rescue(
+        String gameId,
+        String rescuerId,
+        String rescuedId,
+        double radiusMeters,
+        GameEventDto event
+    ) {
+        return executeAction(RESCUE_SCRIPT, gameId, rescuerId, rescuedId, radiusMeters, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RepositoryResult<GameActionResultDto> executeAction(
+        RedisScript<List> script,
+        String gameId,
+        String actorId,
+        String targetId,
+        double radiusMeters,
+        GameEventDto event
+    ) {
+        try {
+            List<String> reply = redisTemplate.execute(
+                script,
+                RedisSerializer.byteArray(),
+                STRING_ELEMENTS,
+                List.of(
+                    GameKey.gamePlayer(gameId, actorId),
+                    GameKey.gamePlayer(gameId, targetId),
+                    GameKey.playerPartitions(gameId),
+                    GameKey.locations(gameId),
+                    GameKey.eventLog(gameId)
+                ),
+                utf8(actorId),
+                utf8(targetId),
+                utf8(Double.toString(radiusMeters)),
+                utf8(Long.toString(event.timestamp())),
+                utf8(GameKey.events(gameId)),
+                eventCodec.encode(event, eventFormat),
+                utf8(GameKey.gamePrefix(gameId)),
+                eventLogMaxLength
+            );
+            return new RepositoryResult.Found<>(LuaScripts.toActionResult(reply));
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    private static void addField(List<String> args, String field, Object value) {
+        args.add(field);
+        args.add(String.valueOf(value));
+    }
+
+    /** {@link #FIELDS} 순서의 값 목록(offset부터)을 DTO로 변환 */
+    private static InGamePlayerDto toDto(String playerId, List<String> values, int offset) {
+        return new InGamePlayerDto(
+            playerId,
+            values.get(offset),
+            values.get(offset + 1),
+            values.get(offset + 2),
+            parseInt(values.get(offset + 3)),
+            parseInt(values.get(offset + 4)),
+            parseInt(values.get(offset + 5)),
+            parseInt(values.get(offset + 6)),
+            values.get(offset + 7) == null ? 0L : Long.parseLong(values.get(offset + 7))
+        );
+    }
+
+    private static int parseInt(String value) {
+        return value == null ? 0 : Integer.parseInt(value);
+    }
 }
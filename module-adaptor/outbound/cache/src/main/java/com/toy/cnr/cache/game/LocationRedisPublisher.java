@@ -1,15 +1,25 @@
 package com.toy.cnr.cache.game;
 
+import com.toy.cnr.cache.config.CacheWireProperties;
+import com.toy.cnr.cache.game.codec.LocationWireCodec;
+import com.toy.cnr.cache.game.codec.WireFormat;
 import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.game.LocationPublisher;
 import com.toy.cnr.port.game.model.LocationDto;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Redis Pub/Sub 기반 좌표 이벤트 발행 구현.
  * <p>
- * Channel: {@code game:{gameId}:player:{playerId}:location}
+ * 발행 포맷은 {@code cnr.cache.wire.location}으로 선택합니다.
+ * JSON은 좌표 1개당 메시지 1개, BINARY는 {@link #publishAll} 시 여러 좌표를 하나의 프레임으로 묶어 발행합니다.
+ * <p>
+ * Channel: {@code game:{gameId}:location}  (게임당 단일 채널, payload의 playerId로 구분)
  * <br>
  * Redis command: PUBLISH
  */
@@ -17,14 +27,43 @@ import org.springframework.stereotype.Component;
 public class LocationRedisPublisher implements LocationPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final LocationWireCodec codec;
+    private final WireFormat format;
 
-    public LocationRedisPublisher(RedisTemplate<String, Object> redisTemplate) {
+    public LocationRedisPublisher(
+        RedisTemplate<String, Object> redisTemplate,
+        LocationWireCodec codec,
+        CacheWireProperties wireProperties
+    ) {
         this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.format = wireProperties.location();
     }
 
     @Override
-    public void publish(String gameId, String playerId, LocationDto location) {
-        var channel = GameKey.location(gameId, playerId);
-        redisTemplate.convertAndSend(channel, location);
+    @SuppressWarnings("unchecked")
+    public void publishAll(String gameId, List<LocationDto> locations) {
+        if (locations.isEmpty()) {
+            return;
+        }
+        var channel = GameKey.locationChannel(gameId);
+        if (format == WireFormat.BINARY) {
+            publishRaw(channel, codec.encode(locations));
+            return;
+        }
+
+        var channelBytes = RedisSerializer.string().serialize(channel);
+        var valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (var location : locations) {
+                connection.publish(channelBytes, valueSerializer.serialize(location));
+            }
+            return null;
+        });
+    }
+
+    private void publishRaw(String channel, byte[] payload) {
+        var channelBytes = RedisSerializer.string().serialize(channel);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channelBytes, payload));
     }
 }
@@ -1,42 +1,136 @@
 package com.toy.cnr.cache.game;
 
+import com.toy.cnr.cache.config.CacheWireProperties;
+import com.toy.cnr.cache.game.codec.LocationWireCodec;
+import com.toy.cnr.cache.game.codec.WireFormat;
 import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.LocationStore;
 import com.toy.cnr.port.game.model.LocationDto;
+import com.toy.cnr.port.game.model.NearbyLocationDto;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.geo.Distance;
-import org.springframework.data.geo.Point;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.data.redis.domain.geo.Metrics;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.toy.cnr.cache.game.LuaScripts.STRING_ELEMENTS;
+import static com.toy.cnr.cache.game.LuaScripts.utf8;
+
 /**
  * Redis GeoHash 기반 좌표 저장소 구현.
  * <p>
- * Redis key: {@code game:{gameId}:locations}
+ * Redis key: {@code game:{gameId}:locations}  (GEO member: playerId 원문 문자열)
+ * <br>
+ * Redis key: {@code game:{gameId}:locations:{role}:{status}}  (역할·상태별 파티션 GEO, 좌표 갱신 시 함께 기록)
+ * <br>
+ * Redis key: {@code game:{gameId}:location-times}  (HASH playerId → 좌표 측정 시각)
  * <br>
- * Redis command: GEOADD, GEOPOS
+ * Redis command: GEOADD, GEOPOS, GEODIST, GEOSEARCH, EVALSHA({@code scripts/location_update.lua}, {@code scripts/location_batch_update.lua})
  */
 @Repository
 public class LocationRedisStore implements LocationStore {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final RedisScript<List> UPDATE_SCRIPT = loadScript("scripts/location_update.lua");
+    private static final RedisScript<List> BATCH_UPDATE_SCRIPT = loadScript("scripts/location_batch_update.lua");
 
-    public LocationRedisStore(RedisTemplate<String, Object> redisTemplate) {
+    private final StringRedisTemplate redisTemplate;
+    private final LocationWireCodec codec;
+    private final WireFormat format;
+
+    public LocationRedisStore(
+        StringRedisTemplate redisTemplate,
+        LocationWireCodec codec,
+        CacheWireProperties wireProperties
+    ) {
         this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.format = wireProperties.location();
     }
 
     @Override
-    public RepositoryResult<Void> saveLocation(
-        String gameId,
-        String playerId,
-        double longitude,
-        double latitude
-    ) {
+    @SuppressWarnings("unchecked")
+    public RepositoryResult<LocationDto> updateLocation(String gameId, LocationDto location) {
         try {
-            var key = GameKey.locations(gameId);
-            redisTemplate.opsForGeo().add(key, new Point(longitude, latitude), playerId);
-            return new RepositoryResult.Found<>(null);
+            var payload = codec.encode(location, format);
+
+            // DefaultRedisScript는 SHA1을 캐시하고 EVALSHA로 실행하며, NOSCRIPT 시 EVAL로 재시도합니다.
+            List<String> previous = redisTemplate.execute(
+                UPDATE_SCRIPT,
+                RedisSerializer.byteArray(),
+                STRING_ELEMENTS,
+                List.of(GameKey.locations(gameId), GameKey.locationTimes(gameId), GameKey.playerPartitions(gameId)),
+                utf8(location.playerId()),
+                utf8(Double.toString(location.longitude())),
+                utf8(Double.toString(location.latitude())),
+                utf8(Long.toString(location.timestamp())),
+                utf8(GameKey.locationChannel(gameId)),
+                payload,
+                utf8(GameKey.gamePrefix(gameId))
+            );
+
+            if (previous == null || previous.size() < 3) {
+                return new RepositoryResult.Found<>(null);
+            }
+            return new RepositoryResult.Found<>(new LocationDto(
+                location.playerId(),
+                Double.parseDouble(previous.get(0)),
+                Double.parseDouble(previous.get(1)),
+                Long.parseLong(previous.get(2))
+            ));
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<Map<String, LocationDto>> saveLocations(String gameId, List<LocationDto> locations) {
+        if (locations.isEmpty()) {
+            return new RepositoryResult.Found<>(Map.of());
+        }
+        try {
+            var args = new ArrayList<String>(1 + locations.size() * 4);
+            args.add(GameKey.gamePrefix(gameId));
+            for (var location : locations) {
+                args.add(location.playerId());
+                args.add(Double.toString(location.longitude()));
+                args.add(Double.toString(location.latitude()));
+                args.add(Long.toString(location.timestamp()));
+            }
+
+            // 전체/파티션 GEOADD와 측정 시각 기록을 스크립트 하나로 원자적으로 수행
+            List<String> previous = redisTemplate.execute(
+                BATCH_UPDATE_SCRIPT,
+                List.of(GameKey.locations(gameId), GameKey.locationTimes(gameId), GameKey.playerPartitions(gameId)),
+                args.toArray()
+            );
+
+            var result = new HashMap<String, LocationDto>();
+            for (int i = 0; previous != null && i < locations.size() && i * 3 + 2 < previous.size(); i++) {
+                var longitude = previous.get(i * 3);
+                if (longitude == null || longitude.isEmpty()) {
+                    continue;
+                }
+                var playerId = locations.get(i).playerId();
+                result.put(playerId, new LocationDto(
+                    playerId,
+                    Double.parseDouble(longitude),
+                    Double.parseDouble(previous.get(i * 3 + 1)),
+                    Long.parseLong(previous.get(i * 3 + 2))
+                ));
+            }
+            return new RepositoryResult.Found<>(result);
         } catch (Exception e) {
             return new RepositoryResult.Error<>(e);
         }
@@ -82,4 +176,99 @@ public class LocationRedisStore implements LocationStore {
         }
     }
 
+    @Override
+    public RepositoryResult<List<NearbyLocationDto>> searchWithinRadius(
+        String gameId,
+        String centerMember,
+        double radiusMeters,
+        boolean withDist,
+        boolean withCoord
+    ) {
+        try {
+            var results = redisTemplate.opsForGeo().search(
+                GameKey.locations(gameId),
+                GeoReference.fromMember(centerMember),
+                new Distance(radiusMeters, Metrics.METERS),
+                searchArgs(withDist, withCoord)
+            );
+            return new RepositoryResult.Found<>(toNearby(results, withDist));
+        } catch (Exception e) {
+            // 기준 멤버가 GEO 키에 없으면 Redis가 오류를 반환합니다.
+            if (isMissingMember(e)) {
+                return new RepositoryResult.NotFound<>("Location not found for player: " + centerMember);
+            }
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    @Override
+    public RepositoryResult<List<NearbyLocationDto>> searchWithinRadius(
+        String gameId,
+        String role,
+        String status,
+        double longitude,
+        double latitude,
+        double radiusMeters,
+        boolean withDist,
+        boolean withCoord
+    ) {
+        try {
+            var results = redisTemplate.opsForGeo().search(
+                GameKey.locations(gameId, role, status),
+                GeoReference.fromCoordinate(longitude, latitude),
+                new Distance(radiusMeters, Metrics.METERS),
+                searchArgs(withDist, withCoord)
+            );
+            return new RepositoryResult.Found<>(toNearby(results, withDist));
+        } catch (Exception e) {
+            return new RepositoryResult.Error<>(e);
+        }
+    }
+
+    private static RedisGeoCommands.GeoSearchCommandArgs searchArgs(boolean withDist, boolean withCoord) {
+        var args = RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().sortAscending();
+        if (withDist) {
+            args = args.includeDistance();
+        }
+        if (withCoord) {
+            args = args.includeCoordinates();
+        }
+        return args;
+    }
+
+    private static List<NearbyLocationDto> toNearby(
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results,
+        boolean withDist
+    ) {
+        if (results == null) {
+            return List.of();
+        }
+        return results.getContent().stream()
+            .map(result -> {
+                var point = result.getContent().getPoint();
+                return new NearbyLocationDto(
+                    result.getContent().getName(),
+                    withDist ? result.getDistance().getValue() : null,
+                    point != null ? point.getX() : null,
+                    point != null ? point.getY() : null
+                );
+            })
+            .toList();
+    }
+
+    private static boolean isMissingMember(Throwable e) {
+        for (var cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("could not decode requested zset member")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static RedisScript<List> loadScript(String path) {
+        var script = new DefaultRedisScript<List>();
+        script.setLocation(new ClassPathResource(path));
+        script.setResultType(List.class);
+        return script;
+    }
 }
@@ -1,6 +1,6 @@
 package com.toy.cnr.cache.game;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.cache.game.codec.LocationWireCodec;
 import com.toy.cnr.cache.game.key.GameKey;
 import com.toy.cnr.port.game.LocationSubscriber;
 import com.toy.cnr.port.game.model.LocationDto;
@@ -9,62 +9,193 @@ import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
  * Redis Pub/Sub 기반 좌표 이벤트 구독 구현.
  * <p>
- * {@link RedisMessageListenerContainer}에 동적으로 {@link MessageListener}를
- * 등록/해제하여 채널 구독을 관리합니다.
+ * 노드당 게임별로 하나의 {@link MessageListener}만 {@link RedisMessageListenerContainer}에 등록하고,
+ * 수신한 좌표를 한 번만 역직렬화({@link LocationWireCodec}, JSON/바이너리 자동 판별)한 뒤 해당 플레이어를 구독 중인 로컬 구독자들에게 분배합니다.
+ * 관심 영역 필터링처럼 게임 전체 좌표가 필요한 구독자는 {@link #subscribeAll}로 모든 좌표를 받습니다.
+ * 첫 구독자가 생길 때 채널을 구독하고, 마지막 구독자가 해제될 때 채널 구독을 해제합니다.
+ * 채널 구독/해제(Redis 왕복)는 맵의 잠금 밖에서 하므로 다른 게임의 구독을 막지 않습니다.
  * <p>
- * Channel: {@code game:{gameId}:player:{playerId}:location}
+ * Channel: {@code game:{gameId}:location}
  */
 @Component
 public class LocationRedisSubscriber implements LocationSubscriber {
 
     private final RedisMessageListenerContainer listenerContainer;
-    private final ObjectMapper objectMapper;
-    private final Map<String, MessageListener> activeListeners = new ConcurrentHashMap<>();
+    private final LocationWireCodec codec;
+
+    /** gameId → 게임 채널 (Redis 구독 1개 + 로컬 구독자 라우팅) */
+    private final Map<String, GameChannel> channels = new ConcurrentHashMap<>();
+
+    /** subscriberId → gameId */
+    private final Map<String, String> subscriberGames = new ConcurrentHashMap<>();
 
     public LocationRedisSubscriber(
         RedisMessageListenerContainer listenerContainer,
-        ObjectMapper objectMapper
+        LocationWireCodec codec
     ) {
         this.listenerContainer = listenerContainer;
-        this.objectMapper = objectMapper;
+        this.codec = codec;
     }
 
     @Override
-    public void subscribe(
-        String gameId,
-        String playerId,
-        Consumer<LocationDto> onMessage
-    ) {
-        var channel = GameKey.location(gameId, playerId);
-        var topic = new ChannelTopic(channel);
+    public String subscribe(String gameId, Set<String> playerIds, Consumer<LocationDto> onMessage) {
+        var subscriberId = GameKey.generateSubscriberId(gameId);
+        subscriberGames.put(subscriberId, gameId);
+        join(gameId, channel -> channel.add(subscriberId, playerIds, onMessage));
+        return subscriberId;
+    }
+
+    @Override
+    public String subscribeAll(String gameId, Consumer<LocationDto> onMessage) {
+        var subscriberId = GameKey.generateSubscriberId(gameId);
+        subscriberGames.put(subscriberId, gameId);
+        join(gameId, channel -> channel.wildcard.put(subscriberId, onMessage));
+        return subscriberId;
+    }
+
+    @Override
+    public void unsubscribe(String subscriberId) {
+        var gameId = subscriberGames.remove(subscriberId);
+        if (gameId == null) {
+            return;
+        }
+
+        var channel = channels.get(gameId);
+        if (channel != null && channel.leave(subscriberId)) {
+            channels.remove(gameId, channel);
+            listenerContainer.removeMessageListener(channel.listener);
+        }
+    }
+
+    /**
+     * 게임 채널에 구독자를 추가합니다. 채널이 없으면 맵 밖에서 리스너를 등록(Redis SUBSCRIBE)한 뒤
+     * {@code putIfAbsent}로 설치하고, 다른 스레드가 먼저 설치했으면 방금 등록한 리스너를 해제합니다.
+     * 마지막 구독자가 빠져 닫히는 중인 채널을 만나면 새 채널로 다시 시도합니다.
+     */
+    private void join(String gameId, Consumer<GameChannel> registration) {
+        while (true) {
+            var channel = channels.get(gameId);
+            if (channel == null) {
+                var created = new GameChannel();
+                listenerContainer.addMessageListener(created.listener, new ChannelTopic(GameKey.locationChannel(gameId)));
+                channel = channels.putIfAbsent(gameId, created);
+                if (channel == null) {
+                    channel = created;
+                } else {
+                    listenerContainer.removeMessageListener(created.listener);
+                }
+            }
+            if (channel.join(registration)) {
+                return;
+            }
+            channels.remove(gameId, channel);
+        }
+    }
 
-        MessageListener listener = (message, pattern) -> {
+    /**
+     * 게임 하나의 좌표 채널 구독 상태.
+     * playerId 인덱스를 유지하여 메시지당 해당 플레이어 구독자에게만 전달합니다.
+     */
+    private final class GameChannel {
+
+        /** subscriberId → 구독 중인 playerId 집합 */
+        private final Map<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
+
+        /** playerId → (subscriberId → 콜백) */
+        private final Map<String, Map<String, Consumer<LocationDto>>> byPlayer = new ConcurrentHashMap<>();
+
+        /** subscriberId → 콜백 (모든 플레이어 좌표 수신) */
+        private final Map<String, Consumer<LocationDto>> wildcard = new ConcurrentHashMap<>();
+
+        private final MessageListener listener = (message, pattern) -> {
+            List<LocationDto> locations;
             try {
-                var dto = objectMapper.readValue(message.getBody(), LocationDto.class);
-                onMessage.accept(dto);
+                locations = codec.decode(message.getBody());
             } catch (Exception e) {
                 // 역직렬화 실패 시 무시
+                return;
+            }
+            for (var dto : locations) {
+                dispatch(dto);
             }
         };
 
-        activeListeners.put(channel, listener);
-        listenerContainer.addMessageListener(listener, topic);
-    }
+        private void dispatch(LocationDto dto) {
+            var consumers = byPlayer.get(dto.playerId());
+            if (consumers != null) {
+                deliver(consumers.values(), dto);
+            }
+            if (!wildcard.isEmpty()) {
+                deliver(wildcard.values(), dto);
+            }
+        }
 
-    @Override
-    public void unsubscribe(String gameId, String playerId) {
-        var channel = GameKey.location(gameId, playerId);
-        var listener = activeListeners.remove(channel);
-        if (listener != null) {
-            listenerContainer.removeMessageListener(listener);
+        private static void deliver(Iterable<Consumer<LocationDto>> consumers, LocationDto dto) {
+            for (var consumer : consumers) {
+                try {
+                    consumer.accept(dto);
+                } catch (Exception e) {
+                    // 한 구독자의 실패가 다른 구독자에게 전파되지 않도록 무시
+                }
+            }
         }
-    }
 
+        /** 마지막 구독자가 빠져 리스너를 해제함 (더 이상 구독자 추가 불가) */
+        private boolean closed;
+
+        /** @return 추가했으면 true, 이미 닫힌 채널이면 false */
+        synchronized boolean join(Consumer<GameChannel> registration) {
+            if (closed) {
+                return false;
+            }
+            registration.accept(this);
+            return true;
+        }
+
+        /** @return 마지막 구독자가 빠져 이번 호출로 닫혔으면 true (리스너 해제 담당) */
+        synchronized boolean leave(String subscriberId) {
+            remove(subscriberId);
+            if (closed || !isEmpty()) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        void add(String subscriberId, Set<String> playerIds, Consumer<LocationDto> onMessage) {
+            subscriptions.put(subscriberId, Set.copyOf(playerIds));
+            for (var playerId : playerIds) {
+                byPlayer.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>()).put(subscriberId, onMessage);
+            }
+        }
+
+        void remove(String subscriberId) {
+            if (wildcard.remove(subscriberId) != null) {
+                return;
+            }
+            var playerIds = subscriptions.remove(subscriberId);
+            if (playerIds == null) {
+                return;
+            }
+            for (var playerId : playerIds) {
+                byPlayer.computeIfPresent(playerId, (k, consumers) -> {
+                    consumers.remove(subscriberId);
+                    return consumers.isEmpty() ? null : consumers;
+                });
+            }
+        }
+
+        boolean isEmpty() {
+            return subscriptions.isEmpty() && wildcard.isEmpty();
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package com.toy.cnr.cache.game;
+
+import com.toy.cnr.port.game.model.GameActionOutcome;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 서버 측 Lua 스크립트 로딩/결과 해석 유틸.
+ * <p>
+ * 공용 함수({@code scripts/lib/*.lua})를 본문 스크립트 앞에 이어 붙여 하나의 스크립트로 로드합니다.
+ */
+final class LuaScripts {
+
+    /** 스크립트가 반환한 multi-bulk의 각 원소를 문자열로 역직렬화 */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final RedisSerializer<List> STRING_ELEMENTS = (RedisSerializer) RedisSerializer.string();
+
+    private LuaScripts() {}
+
+    /**
+     * 주어진 경로의 스크립트들을 순서대로 이어 붙여 로드합니다. 마지막 경로가 본문입니다.
+     */
+    static <T> RedisScript<T> load(Class<T> resultType, String... paths) {
+        var source = new StringBuilder();
+        for (var path : paths) {
+            try (var in = new ClassPathResource(path).getInputStream()) {
+                source.append(StreamUtils.copyToString(in, StandardCharsets.UTF_8)).append('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load script: " + path, e);
+            }
+        }
+        return RedisScript.of(source.toString(), resultType);
+    }
+
+    /**
+     * 액션 스크립트 결과 {@code {outcome, distance, remaining}}를 해석합니다.
+     */
+    static GameActionResultDto toActionResult(List<String> reply) {
+        if (reply == null || reply.isEmpty()) {
+            throw new IllegalStateException("Empty action script reply");
+        }
+        return new GameActionResultDto(
+            GameActionOutcome.valueOf(reply.get(0)),
+            reply.size() > 1 && !reply.get(1).isEmpty() ? Double.valueOf(reply.get(1)) : null,
+            reply.size() > 2 && !reply.get(2).isEmpty() ? Long.valueOf(reply.get(2)) : null
+        );
+    }
+
+    static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
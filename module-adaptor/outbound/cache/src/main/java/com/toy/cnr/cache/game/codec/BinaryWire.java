@@ -0,0 +1,178 @@
+package com.toy.cnr.cache.game.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 Pub/Sub 페이로드의 공통 프레임 규격과 저수준 읽기/쓰기 도구.
+ * <p>
+ * 프레임: {@code [MAGIC 0xCE][VERSION][KIND][body...]}
+ * <ul>
+ *   <li>정수: unsigned LEB128 varint, 부호 있는 값은 zigzag 인코딩</li>
+ *   <li>문자열: varint(length + 1) + UTF-8 (0 = null)</li>
+ *   <li>위경도: 1e-7도 단위로 양자화한 int32 (약 1.1cm 정밀도)</li>
+ *   <li>시각: {@link #EPOCH_MILLIS} 기준 varint millis</li>
+ * </ul>
+ * JSON 페이로드는 항상 {@code '{'} 로 시작하므로 첫 바이트만으로 포맷을 구분할 수 있습니다.
+ */
+final class BinaryWire {
+
+    static final byte MAGIC = (byte) 0xCE;
+    static final byte VERSION_1 = 1;
+
+    static final byte KIND_LOCATION_BATCH = 1;
+    static final byte KIND_GAME_EVENT = 2;
+
+    /** 2025-01-01T00:00:00Z — 타임스탬프 varint 길이를 줄이기 위한 기준 시각 */
+    static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+    private static final double COORDINATE_SCALE = 1e7;
+
+    private BinaryWire() {}
+
+    static boolean isBinary(byte[] payload) {
+        return payload != null && payload.length >= 3 && payload[0] == MAGIC;
+    }
+
+    static int quantize(double degrees) {
+        return (int) Math.round(degrees * COORDINATE_SCALE);
+    }
+
+    static double dequantize(int value) {
+        return value / COORDINATE_SCALE;
+    }
+
+    static final class Writer {
+
+        private final ByteArrayOutputStream out;
+
+        Writer(byte kind, int sizeHint) {
+            this.out = new ByteArrayOutputStream(sizeHint);
+            out.write(MAGIC);
+            out.write(VERSION_1);
+            out.write(kind);
+        }
+
+        Writer varLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+            return this;
+        }
+
+        Writer zigZag(long value) {
+            return varLong((value << 1) ^ (value >> 63));
+        }
+
+        Writer int32(int value) {
+            out.write(value >>> 24);
+            out.write(value >>> 16);
+            out.write(value >>> 8);
+            out.write(value);
+            return this;
+        }
+
+        Writer string(String value) {
+            if (value == null) {
+                return varLong(0);
+            }
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            varLong(bytes.length + 1L);
+            out.writeBytes(bytes);
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    static final class Reader {
+
+        private final byte[] buf;
+        private int pos;
+
+        /**
+         * 프레임 헤더를 검증하고 본문 시작 위치로 이동합니다.
+         *
+         * @throws IllegalArgumentException 매직/버전/종류가 일치하지 않는 경우
+         */
+        Reader(byte[] payload, byte expectedKind) {
+            if (!isBinary(payload)) {
+                throw new IllegalArgumentException("Not a binary wire frame");
+            }
+            if (payload[1] != VERSION_1) {
+                throw new IllegalArgumentException("Unsupported wire version: " + payload[1]);
+            }
+            if (payload[2] != expectedKind) {
+                throw new IllegalArgumentException("Unexpected wire kind: " + payload[2]);
+            }
+            this.buf = payload;
+            this.pos = 3;
+        }
+
+        /**
+         * @throws IllegalArgumentException 프레임이 잘렸거나 varint가 10바이트를 넘는 경우
+         */
+        long varLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                require(1);
+                byte b = buf[pos++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        long zigZag() {
+            long raw = varLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        /**
+         * 뒤따르는 요소 개수를 읽습니다. 요소마다 최소 1바이트이므로 남은 바이트보다 많으면 잘린 프레임입니다.
+         */
+        int count() {
+            long count = varLong();
+            if (count < 0 || count > buf.length - pos) {
+                throw new IllegalArgumentException("Truncated wire frame");
+            }
+            return (int) count;
+        }
+
+        int int32() {
+            require(4);
+            int value = (buf[pos] & 0xFF) << 24
+                | (buf[pos + 1] & 0xFF) << 16
+                | (buf[pos + 2] & 0xFF) << 8
+                | (buf[pos + 3] & 0xFF);
+            pos += 4;
+            return value;
+        }
+
+        String string() {
+            long raw = varLong();
+            if (raw == 0) {
+                return null;
+            }
+            long length = raw - 1;
+            if (length < 0 || length > buf.length - pos) {
+                throw new IllegalArgumentException("Truncated wire frame");
+            }
+            var value = new String(buf, pos, (int) length, StandardCharsets.UTF_8);
+            pos += (int) length;
+            return value;
+        }
+
+        private void require(int bytes) {
+            if (buf.length - pos < bytes) {
+                throw new IllegalArgumentException("Truncated wire frame");
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.toy.cnr.cache.game.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.GameEventEntryDto;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 게임 이벤트 Pub/Sub 페이로드 코덱.
+ * <p>
+ * 바이너리 v1 본문: {@code [gameId][type][timestamp][entryCount]} 뒤에 {@code [key][value]} 반복.
+ * <p>
+ * 디코딩은 첫 바이트로 바이너리/JSON을 판별하므로 두 포맷이 섞인 채널에서도 동작합니다.
+ * <p>
+ * 게임 채널 메시지는 프레임 표식과 이벤트 로그 ID를 앞에 붙인 {@code 0x1E{streamId}\n{payload}} 형태이며,
+ * 표식이 없는 메시지는 ID 없는 이벤트로 해석해 이전 버전 노드와 섞여 배포되어도 동작합니다 ({@link #decodeEntry}).
+ */
+@Component
+public class GameEventWireCodec {
+
+    /** 이벤트 로그 ID 프레임 표식 (ASCII record separator) */
+    static final byte ENTRY_FRAME = 0x1E;
+
+    private final ObjectMapper objectMapper;
+
+    public GameEventWireCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 이벤트를 지정한 포맷으로 인코딩합니다 (서버 측 스크립트가 직접 발행할 페이로드).
+     *
+     * @throws IOException JSON 직렬화 실패 시
+     */
+    public byte[] encode(GameEventDto event, WireFormat format) throws IOException {
+        if (format == WireFormat.BINARY) {
+            return encode(event);
+        }
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    public byte[] encode(GameEventDto event) {
+        var data = event.data() == null ? Map.<String, String>of() : event.data();
+        var writer = new BinaryWire.Writer(BinaryWire.KIND_GAME_EVENT, 64 + data.size() * 32)
+            .string(event.gameId())
+            .string(event.type())
+            .zigZag(event.timestamp() - BinaryWire.EPOCH_MILLIS)
+            .varLong(data.size());
+        data.forEach((key, value) -> writer.string(key).string(value));
+        return writer.toByteArray();
+    }
+
+    /**
+     * 채널 메시지를 해석합니다.
+     * <ul>
+     *   <li>{@code 0x1E{streamId}\n{payload}}: 이벤트 로그 ID가 붙은 메시지</li>
+     *   <li>{@code {payload}}: ID 없는 메시지 (개인 채널, 또는 ID 프레임 이전 버전 노드가 발행한 메시지)</li>
+     * </ul>
+     * JSON은 '{'로, 바이너리는 {@code 0xCE}로 시작하므로 프레임 표식 {@link #ENTRY_FRAME}과 겹치지 않습니다.
+     *
+     * @throws IOException ID 구분자가 없거나 페이로드 파싱 실패 시
+     */
+    public GameEventEntryDto decodeEntry(byte[] message) throws IOException {
+        if (message.length == 0 || message[0] != ENTRY_FRAME) {
+            return new GameEventEntryDto(null, decode(message));
+        }
+        int separator = -1;
+        for (int i = 1; i < message.length; i++) {
+            if (message[i] == '\n') {
+                separator = i;
+                break;
+            }
+        }
+        if (separator < 0) {
+            throw new IOException("Missing event id in game event message");
+        }
+        var id = new String(message, 1, separator - 1, StandardCharsets.US_ASCII);
+        return new GameEventEntryDto(id, decode(Arrays.copyOfRange(message, separator + 1, message.length)));
+    }
+
+    /**
+     * @throws IOException JSON 파싱 실패 시
+     */
+    public GameEventDto decode(byte[] payload) throws IOException {
+        if (!BinaryWire.isBinary(payload)) {
+            return objectMapper.readValue(payload, GameEventDto.class);
+        }
+
+        var reader = new BinaryWire.Reader(payload, BinaryWire.KIND_GAME_EVENT);
+        var gameId = reader.string();
+        var type = reader.string();
+        long timestamp = reader.zigZag() + BinaryWire.EPOCH_MILLIS;
+        int size = reader.count();
+
+        var data = new LinkedHashMap<String, String>(size * 2);
+        for (int i = 0; i < size; i++) {
+            data.put(reader.string(), reader.string());
+        }
+        return new GameEventDto(gameId, type, data, timestamp);
+    }
+}
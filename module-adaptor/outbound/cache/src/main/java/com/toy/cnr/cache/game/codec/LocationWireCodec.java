@@ -0,0 +1,86 @@
+package com.toy.cnr.cache.game.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.port.game.model.LocationDto;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌표 Pub/Sub 페이로드 코덱.
+ * <p>
+ * 바이너리 v1 본문: {@code [count][baseTimestamp]} 뒤에 좌표마다
+ * {@code [playerId][lat int32][lon int32][timestamp delta(zigzag)]}.
+ * 타임스탬프 delta는 직전 좌표(첫 좌표는 baseTimestamp) 기준입니다.
+ * 좌표 1개 기준 약 20바이트로, {@code @class}를 포함한 JSON 대비 크기가 1/6 수준입니다.
+ * <p>
+ * 디코딩은 첫 바이트로 바이너리/JSON을 판별하므로 두 포맷이 섞인 채널에서도 동작합니다.
+ */
+@Component
+public class LocationWireCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public LocationWireCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 단일 좌표를 지정한 포맷으로 인코딩합니다.
+     *
+     * @throws IOException JSON 직렬화 실패 시
+     */
+    public byte[] encode(LocationDto location, WireFormat format) throws IOException {
+        if (format == WireFormat.BINARY) {
+            return encode(List.of(location));
+        }
+        return objectMapper.writeValueAsBytes(location);
+    }
+
+    /**
+     * 좌표 목록을 하나의 바이너리 프레임으로 인코딩합니다.
+     */
+    public byte[] encode(List<LocationDto> locations) {
+        long base = locations.isEmpty() ? 0 : locations.getFirst().timestamp() - BinaryWire.EPOCH_MILLIS;
+        var writer = new BinaryWire.Writer(BinaryWire.KIND_LOCATION_BATCH, 8 + locations.size() * 24)
+            .varLong(locations.size())
+            .zigZag(base);
+
+        long previous = base + BinaryWire.EPOCH_MILLIS;
+        for (var location : locations) {
+            writer.string(location.playerId())
+                .int32(BinaryWire.quantize(location.latitude()))
+                .int32(BinaryWire.quantize(location.longitude()))
+                .zigZag(location.timestamp() - previous);
+            previous = location.timestamp();
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * 바이너리 프레임 또는 단일 JSON 객체를 좌표 목록으로 디코딩합니다.
+     *
+     * @throws IOException JSON 파싱 실패 시
+     */
+    public List<LocationDto> decode(byte[] payload) throws IOException {
+        if (!BinaryWire.isBinary(payload)) {
+            return List.of(objectMapper.readValue(payload, LocationDto.class));
+        }
+
+        var reader = new BinaryWire.Reader(payload, BinaryWire.KIND_LOCATION_BATCH);
+        int count = reader.count();
+        long timestamp = reader.zigZag() + BinaryWire.EPOCH_MILLIS;
+
+        var locations = new ArrayList<LocationDto>(count);
+        for (int i = 0; i < count; i++) {
+            var playerId = reader.string();
+            double latitude = BinaryWire.dequantize(reader.int32());
+            double longitude = BinaryWire.dequantize(reader.int32());
+            timestamp += reader.zigZag();
+            locations.add(new LocationDto(playerId, longitude, latitude, timestamp));
+        }
+        return locations;
+    }
+}
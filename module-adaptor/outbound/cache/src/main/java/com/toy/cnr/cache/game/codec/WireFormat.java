@@ -0,0 +1,13 @@
+package com.toy.cnr.cache.game.codec;
+
+/**
+ * Pub/Sub 페이로드 포맷.
+ */
+public enum WireFormat {
+
+    /** {@code GenericJackson2JsonRedisSerializer} JSON (기존 포맷) */
+    JSON,
+
+    /** {@link BinaryWire} 기반 버전 바이너리 포맷 */
+    BINARY
+}
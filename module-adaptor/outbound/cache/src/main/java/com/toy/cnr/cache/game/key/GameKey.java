@@ -4,16 +4,32 @@ import lombok.experimental.UtilityClass;
 
 import java.util.UUID;
 
+/**
+ * Redis 키·채널 이름.
+ * <p>
+ * 게임별 데이터 키는 {@code game:{gameId}:...} 형태로 gameId를 해시 태그로 감싸,
+ * 한 게임의 키가 Redis Cluster에서 모두 같은 슬롯에 놓이게 합니다.
+ * 스크립트가 접두사({@link #gamePrefix})로 조립하는 파티션·플레이어 키도 같은 슬롯이므로 클러스터에서도 원자적으로 실행됩니다.
+ * Pub/Sub 채널은 슬롯과 무관하므로 태그를 붙이지 않습니다.
+ */
 @UtilityClass
 public class GameKey {
 
     // Location
-    public static String location(String gameId, String playerId) {
-        return "game:" + gameId + ":player:" + playerId + ":location";
+    public static String locationChannel(String gameId) {
+        return "game:" + gameId + ":location";
     }
 
     public static String locations(String gameId) {
-        return "game:" + gameId + ":locations";
+        return prefix(gameId) + "locations";
+    }
+
+    public static String locations(String gameId, String role, String status) {
+        return prefix(gameId) + "locations:" + role + ":" + status;
+    }
+
+    public static String locationTimes(String gameId) {
+        return prefix(gameId) + "location-times";
     }
 
     // Game events
@@ -21,19 +37,49 @@ public class GameKey {
         return "game:" + gameId + ":events";
     }
 
+    /** 플레이어 개인 이벤트 채널 (역할 배정 등 한 명에게만 보내는 이벤트) */
+    public static String playerEvents(String gameId, String playerId) {
+        return "game:" + gameId + ":player:" + playerId + ":events";
+    }
+
+    public static String eventLog(String gameId) {
+        return prefix(gameId) + "event-log";
+    }
+
     // Game state
     public static String gameState(String gameId) {
-        return "game:" + gameId + ":state";
+        return prefix(gameId) + "state";
+    }
+
+    public static String gameStateInvalidations() {
+        return "game:state:invalidations";
     }
 
     // InGame players
-    public static String gamePlayers(String gameId) {
-        return "game:" + gameId + ":players";
+    public static String gamePlayer(String gameId, String playerId) {
+        return prefix(gameId) + "player:" + playerId;
+    }
+
+    public static String gamePlayerIds(String gameId) {
+        return prefix(gameId) + "player-ids";
+    }
+
+    public static String playerPartitions(String gameId) {
+        return prefix(gameId) + "player-partitions";
+    }
+
+    /** 스크립트에서 파티션 키를 조립할 때 사용하는 게임 키 접두사 */
+    public static String gamePrefix(String gameId) {
+        return prefix(gameId);
+    }
+
+    public static String gameMembers(String gameId, String role, String status) {
+        return prefix(gameId) + "members:" + role + ":" + status;
     }
 
     // Gems
     public static String gameGems(String gameId) {
-        return "game:" + gameId + ":gems";
+        return prefix(gameId) + "gems";
     }
 
     // Room
@@ -55,6 +101,30 @@ public class GameKey {
         return "game:active";
     }
 
+    // Lifecycle timers
+    public static String timers() {
+        return "game:timers";
+    }
+
+    public static String timerAttempts() {
+        return "game:timers:attempts";
+    }
+
+    // Cluster membership
+    public static String nodes() {
+        return "game:nodes";
+    }
+
+    /** 게임별 주기 작업 리스 */
+    public static String gameLease(String gameId, String task) {
+        return prefix(gameId) + "lease:" + task;
+    }
+
+    /** 게임별 데이터 키 접두사 {@code game:{gameId}:} (gameId는 해시 태그) */
+    private static String prefix(String gameId) {
+        return "game:{" + gameId + "}:";
+    }
+
     public static String generateSubscriberId(String gameId) {
         return gameId + ":" + UUID.randomUUID();
     }
@@ -0,0 +1,11 @@
+-- 게임 이벤트 기록 + 발행 (원자적, 1 round trip)
+-- lib/event.lua 뒤에 이어 붙여 로드됩니다.
+--
+-- KEYS[1] : game:{gameId}:event-log   (STREAM, field p = 이벤트 페이로드)
+-- ARGV[1] : 이벤트 Pub/Sub 채널
+-- ARGV[2] : 이벤트 페이로드 (JSON 또는 바이너리)
+-- ARGV[3] : 스트림 최대 길이 (근사)
+--
+-- return : 스트림 ID
+
+return append_event(KEYS[1], ARGV[3], ARGV[1], ARGV[2])
@@ -0,0 +1,18 @@
+-- 게임 status 필드 비교 후 갱신 (원자적)
+-- 상태 HASH가 없으면(게임이 없거나 이미 정리됨) 새로 만들지 않고,
+-- 이미 종료 상태면 덮어쓰지 않습니다 (종료는 한 번만 일어나야 GAME_ENDED도 한 번만 발행됩니다).
+--
+-- KEYS[1] : game:{gameId}:state   (HASH: data, status)
+-- ARGV[1] : status (RedisTemplate 값 직렬화 결과)
+-- ARGV[2] : 종료 status (같은 방식으로 직렬화한 ENDED)
+--
+-- return : 1 = 갱신, 0 = 이미 종료되어 그대로 둠, -1 = 게임 없음
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+if redis.call('HGET', KEYS[1], 'status') == ARGV[2] then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'status', ARGV[1])
+return 1
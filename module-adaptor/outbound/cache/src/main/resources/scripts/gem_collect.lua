@@ -0,0 +1,70 @@
+-- 보석 획득 (원자적, 1 round trip)
+-- lib/action.lua, lib/event.lua 뒤에 이어 붙여 로드됩니다.
+--
+-- KEYS[1] : game:{gameId}:player:{robberId}   (HASH)
+-- KEYS[2] : game:{gameId}:gems                (HASH gemId -> JSON)
+-- KEYS[3] : game:{gameId}:locations           (GEO, 전체 플레이어)
+-- KEYS[4] : game:{gameId}:event-log           (STREAM, 이벤트 로그)
+-- ARGV[1] : robberId
+-- ARGV[2] : gemId
+-- ARGV[3] : 획득 반경 (미터)
+-- ARGV[4] : 처리 시각 (epoch millis)
+-- ARGV[5] : 이벤트 Pub/Sub 채널
+-- ARGV[6] : 이벤트 페이로드 (JSON 또는 바이너리)
+-- ARGV[7] : 이벤트 로그 최대 길이 (근사)
+--
+-- 보석 좌표는 GEO 키에 없으므로 거리는 GEOPOS + 하버사인으로 계산합니다.
+--
+-- return : {outcome, distance, ''}
+
+local robberId, gemId = ARGV[1], ARGV[2]
+
+local function haversine_meters(lat1, lon1, lat2, lon2)
+    local r = 6371000
+    local dLat = math.rad(lat2 - lat1)
+    local dLon = math.rad(lon2 - lon1)
+    local a = math.sin(dLat / 2) ^ 2
+        + math.cos(math.rad(lat1)) * math.cos(math.rad(lat2)) * math.sin(dLon / 2) ^ 2
+    return r * 2 * math.atan2(math.sqrt(a), math.sqrt(1 - a))
+end
+
+local robber = redis.call('HMGET', KEYS[1], 'role', 'status')
+if not robber[1] then
+    return outcome('ACTOR_NOT_FOUND')
+end
+if robber[1] ~= 'THIEF' then
+    return outcome('ACTOR_ROLE_MISMATCH')
+end
+if robber[2] ~= 'ACTIVE' then
+    return outcome('ACTOR_NOT_ACTIVE')
+end
+
+local gem = load_json(KEYS[2], gemId)
+if not gem then
+    return outcome('TARGET_NOT_FOUND')
+end
+if gem.status ~= 'AVAILABLE' then
+    return outcome('TARGET_STATUS_MISMATCH')
+end
+
+local position = redis.call('GEOPOS', KEYS[3], robberId)[1]
+if not position then
+    return outcome('LOCATION_NOT_FOUND')
+end
+local distance = haversine_meters(
+    tonumber(position[2]), tonumber(position[1]),
+    tonumber(gem.latitude), tonumber(gem.longitude)
+)
+if distance > tonumber(ARGV[3]) then
+    return outcome('OUT_OF_RANGE', distance)
+end
+
+gem.status = 'COLLECTED'
+gem.collectedBy = robberId
+save_json(KEYS[2], gemId, gem)
+
+redis.call('HINCRBY', KEYS[1], 'gemsCollected', 1)
+redis.call('HSET', KEYS[1], 'lastUpdatedAt', ARGV[4])
+
+append_event(KEYS[4], ARGV[7], ARGV[5], ARGV[6])
+return outcome('SUCCESS', distance)
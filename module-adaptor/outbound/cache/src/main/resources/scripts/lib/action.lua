@@ -0,0 +1,21 @@
+-- 공용: 인게임 액션 스크립트 헬퍼
+--
+-- 결과는 {outcome, distance, remaining} 문자열 배열로 반환합니다.
+-- (Lua 실수는 Redis 응답에서 정수로 잘리므로 거리는 문자열로 돌려줍니다.)
+-- outcome 값은 GameActionOutcome 상수 이름과 같습니다.
+
+local function outcome(name, distance, remaining)
+    return { name, distance and tostring(distance) or '', remaining and tostring(remaining) or '' }
+end
+
+local function load_json(key, field)
+    local raw = redis.call('HGET', key, field)
+    if not raw then
+        return nil
+    end
+    return cjson.decode(raw)
+end
+
+local function save_json(key, field, value)
+    redis.call('HSET', key, field, cjson.encode(value))
+end
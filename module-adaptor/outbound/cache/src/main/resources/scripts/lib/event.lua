@@ -0,0 +1,13 @@
+-- 공용: 게임 이벤트 기록 + 발행
+--
+-- 이벤트를 게임별 스트림(상한 MAXLEN ~)에 추가하고, 부여된 스트림 ID를 붙여 Pub/Sub으로 발행합니다.
+-- 발행 메시지: "\x1E{streamId}\n{payload}" (구독 측은 0x1E로 시작하는 메시지만 첫 줄바꿈 앞을 이벤트 ID로 해석,
+-- 0x1E 없이 페이로드만 있는 이전 버전 메시지는 ID 없는 이벤트로 해석하므로 혼합 배포 중에도 새 노드가 모두 받음)
+--
+-- return : 스트림 ID
+
+local function append_event(stream, maxlen, channel, payload)
+    local id = redis.call('XADD', stream, 'MAXLEN', '~', maxlen, '*', 'p', payload)
+    redis.call('PUBLISH', channel, '\30' .. id .. '\n' .. payload)
+    return id
+end
@@ -0,0 +1,32 @@
+-- 공용: 역할/상태 파티션 이동
+--
+-- 액션 스크립트 앞에 이어 붙여 로드합니다 (LuaScripts.load).
+-- 파티션 키(members:*, locations:*)는 파티션 값에서 파생되므로 접두사로 조립합니다.
+-- ({gameId}는 해시 태그이므로 조립한 키도 KEYS와 같은 슬롯에 있어 Redis Cluster에서도 동작합니다.)
+--
+-- prefix     : 키 접두사 "game:{gameId}:"
+-- partitions : game:{gameId}:player-partitions (HASH playerId -> "{role}:{status}")
+-- locations  : game:{gameId}:locations         (GEO, 전체 플레이어)
+-- return     : 파티션이 바뀌었으면 1, 그대로면 0
+
+local function move_partition(prefix, partitions, locations, playerId, partition)
+    local previous = redis.call('HGET', partitions, playerId)
+    redis.call('HSET', partitions, playerId, partition)
+
+    if previous == partition then
+        return 0
+    end
+
+    if previous then
+        redis.call('SREM', prefix .. 'members:' .. previous, playerId)
+        redis.call('ZREM', prefix .. 'locations:' .. previous, playerId)
+    end
+    redis.call('SADD', prefix .. 'members:' .. partition, playerId)
+
+    -- 전체 GEO 키의 geohash score를 그대로 옮겨 좌표를 유지
+    local score = redis.call('ZSCORE', locations, playerId)
+    if score then
+        redis.call('ZADD', prefix .. 'locations:' .. partition, score, playerId)
+    end
+    return 1
+end
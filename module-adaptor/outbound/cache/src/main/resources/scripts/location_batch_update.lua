@@ -0,0 +1,42 @@
+-- 여러 플레이어 좌표 일괄 갱신 (원자적, 1 round trip)
+-- 저장된 측정 시각보다 오래된 좌표(늦게 도착한 배치)는 저장하지 않습니다.
+--
+-- KEYS[1] : game:{gameId}:locations         (GEO)
+-- KEYS[2] : game:{gameId}:location-times    (HASH playerId -> 측정 시각)
+-- KEYS[3] : game:{gameId}:player-partitions (HASH playerId -> "{role}:{status}")
+-- ARGV[1] : 키 접두사 "game:{gameId}:"
+-- ARGV[2..] : playerId, longitude, latitude, timestamp 4개씩 반복
+--
+-- return : 플레이어마다 {longitude, latitude, timestamp} (이전 좌표가 없으면 빈 문자열 3개)
+--          반환된 timestamp가 보낸 timestamp보다 늦으면 그 플레이어는 저장되지 않은 것입니다.
+
+local prefix = ARGV[1]
+local result = {}
+
+for i = 2, #ARGV, 4 do
+    local playerId = ARGV[i]
+    local previous = redis.call('GEOPOS', KEYS[1], playerId)[1]
+    local previousTimestamp = redis.call('HGET', KEYS[2], playerId)
+
+    if not previousTimestamp or tonumber(ARGV[i + 3]) >= tonumber(previousTimestamp) then
+        redis.call('GEOADD', KEYS[1], ARGV[i + 1], ARGV[i + 2], playerId)
+        redis.call('HSET', KEYS[2], playerId, ARGV[i + 3])
+
+        local partition = redis.call('HGET', KEYS[3], playerId)
+        if partition then
+            redis.call('GEOADD', prefix .. 'locations:' .. partition, ARGV[i + 1], ARGV[i + 2], playerId)
+        end
+    end
+
+    if previous then
+        table.insert(result, previous[1])
+        table.insert(result, previous[2])
+        table.insert(result, previousTimestamp or '0')
+    else
+        table.insert(result, '')
+        table.insert(result, '')
+        table.insert(result, '')
+    end
+end
+
+return result
@@ -0,0 +1,32 @@
+-- 좌표 갱신 (원자적, 1 round trip)
+--
+-- KEYS[1] : game:{gameId}:locations        (GEO)
+-- KEYS[2] : game:{gameId}:location-times   (HASH playerId -> 측정 시각)
+-- KEYS[3] : game:{gameId}:player-partitions (HASH playerId -> "{role}:{status}")
+-- ARGV[1] : playerId
+-- ARGV[2] : longitude
+-- ARGV[3] : latitude
+-- ARGV[4] : timestamp (epoch millis)
+-- ARGV[5] : Pub/Sub 채널
+-- ARGV[6] : Pub/Sub 페이로드 (JSON 또는 바이너리)
+-- ARGV[7] : 키 접두사 "game:{gameId}:" — 파티션 GEO 키 game:{gameId}:locations:{role}:{status} 조립용
+--
+-- return : 이전 좌표 {longitude, latitude, timestamp} 또는 nil
+
+local previous = redis.call('GEOPOS', KEYS[1], ARGV[1])[1]
+local previousTimestamp = redis.call('HGET', KEYS[2], ARGV[1])
+
+redis.call('GEOADD', KEYS[1], ARGV[2], ARGV[3], ARGV[1])
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[4])
+
+local partition = redis.call('HGET', KEYS[3], ARGV[1])
+if partition then
+    redis.call('GEOADD', ARGV[7] .. 'locations:' .. partition, ARGV[2], ARGV[3], ARGV[1])
+end
+
+redis.call('PUBLISH', ARGV[5], ARGV[6])
+
+if not previous then
+    return nil
+end
+return { previous[1], previous[2], previousTimestamp or '0' }
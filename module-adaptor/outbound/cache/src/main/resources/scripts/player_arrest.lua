@@ -0,0 +1,59 @@
+-- 체포 (원자적, 1 round trip)
+-- lib/partition.lua, lib/action.lua, lib/event.lua 뒤에 이어 붙여 로드됩니다.
+--
+-- KEYS[1] : game:{gameId}:player:{copsId}     (HASH)
+-- KEYS[2] : game:{gameId}:player:{robberId}   (HASH)
+-- KEYS[3] : game:{gameId}:player-partitions   (HASH playerId -> "{role}:{status}")
+-- KEYS[4] : game:{gameId}:locations           (GEO, 전체 플레이어)
+-- KEYS[5] : game:{gameId}:event-log           (STREAM, 이벤트 로그)
+-- ARGV[1] : copsId
+-- ARGV[2] : robberId
+-- ARGV[3] : 체포 반경 (미터)
+-- ARGV[4] : 처리 시각 (epoch millis)
+-- ARGV[5] : 이벤트 Pub/Sub 채널
+-- ARGV[6] : 이벤트 페이로드 (JSON 또는 바이너리)
+-- ARGV[7] : 키 접두사 "game:{gameId}:"
+-- ARGV[8] : 이벤트 로그 최대 길이 (근사)
+--
+-- return : {outcome, distance, 남은 ACTIVE 도둑 수}
+
+local copsId, robberId, prefix = ARGV[1], ARGV[2], ARGV[7]
+
+local cops = redis.call('HMGET', KEYS[1], 'role', 'status')
+if not cops[1] then
+    return outcome('ACTOR_NOT_FOUND')
+end
+if cops[1] ~= 'POLICE' then
+    return outcome('ACTOR_ROLE_MISMATCH')
+end
+if cops[2] ~= 'ACTIVE' then
+    return outcome('ACTOR_NOT_ACTIVE')
+end
+
+local robber = redis.call('HMGET', KEYS[2], 'role', 'status')
+if not robber[1] then
+    return outcome('TARGET_NOT_FOUND')
+end
+if robber[1] ~= 'THIEF' then
+    return outcome('TARGET_ROLE_MISMATCH')
+end
+if robber[2] ~= 'ACTIVE' then
+    return outcome('TARGET_STATUS_MISMATCH')
+end
+
+local distance = redis.call('GEODIST', KEYS[4], copsId, robberId, 'm')
+if not distance then
+    return outcome('LOCATION_NOT_FOUND')
+end
+if tonumber(distance) > tonumber(ARGV[3]) then
+    return outcome('OUT_OF_RANGE', distance)
+end
+
+redis.call('HSET', KEYS[2], 'status', 'ARRESTED', 'lastUpdatedAt', ARGV[4])
+move_partition(prefix, KEYS[3], KEYS[4], robberId, robber[1] .. ':ARRESTED')
+
+redis.call('HINCRBY', KEYS[1], 'arrestCount', 1)
+redis.call('HSET', KEYS[1], 'lastUpdatedAt', ARGV[4])
+
+append_event(KEYS[5], ARGV[8], ARGV[5], ARGV[6])
+return outcome('SUCCESS', distance, redis.call('SCARD', prefix .. 'members:THIEF:ACTIVE'))
@@ -0,0 +1,22 @@
+-- 게임 전체 플레이어 일괄 조회 (1 round trip)
+--
+-- KEYS[1] : game:{gameId}:player-ids   (SET, 게임 참가 playerId)
+-- ARGV[1] : 키 접두사 "game:{gameId}:"
+-- ARGV[2..] : 읽을 필드 이름 (순서대로 반환)
+--
+-- 플레이어 키(game:{gameId}:player:{playerId})는 ID 집합에서 파생되므로 스크립트 내부에서 조립합니다.
+-- ({gameId}는 해시 태그이므로 조립한 키도 KEYS와 같은 슬롯에 있어 Redis Cluster에서도 동작합니다.)
+--
+-- return : playerId 뒤에 필드 값이 이어지는 평탄한 배열 (필드 이름 없이 값만 전송)
+
+local fields = { unpack(ARGV, 2) }
+local result = {}
+
+for _, playerId in ipairs(redis.call('SMEMBERS', KEYS[1])) do
+    local values = redis.call('HMGET', ARGV[1] .. 'player:' .. playerId, unpack(fields))
+    result[#result + 1] = playerId
+    for i = 1, #fields do
+        result[#result + 1] = values[i]
+    end
+end
+return result
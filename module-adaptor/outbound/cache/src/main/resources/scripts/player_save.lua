@@ -0,0 +1,16 @@
+-- 인게임 플레이어 저장 + 역할/상태 파티션 이동 (원자적)
+-- lib/partition.lua 뒤에 이어 붙여 로드됩니다.
+--
+-- KEYS[1] : game:{gameId}:player:{playerId}   (HASH 필드별 플레이어 정보)
+-- KEYS[2] : game:{gameId}:player-ids          (SET, 게임 참가 playerId)
+-- KEYS[3] : game:{gameId}:player-partitions   (HASH playerId -> "{role}:{status}")
+-- KEYS[4] : game:{gameId}:locations           (GEO, 전체 플레이어)
+-- ARGV[1] : playerId
+-- ARGV[2] : 키 접두사 "game:{gameId}:"
+-- ARGV[3..] : field, value 쌍 (role, status 포함)
+
+redis.call('HSET', KEYS[1], unpack(ARGV, 3))
+redis.call('SADD', KEYS[2], ARGV[1])
+
+local fields = redis.call('HMGET', KEYS[1], 'role', 'status')
+return move_partition(ARGV[2], KEYS[3], KEYS[4], ARGV[1], fields[1] .. ':' .. fields[2])
@@ -0,0 +1,59 @@
+-- 게임 틱 스냅샷 조회 (1 round trip, 틱마다 여러 게임을 파이프라인으로 묶어 호출)
+--
+-- KEYS[1] : game:{gameId}:player-ids      (SET, 게임 참가 playerId)
+-- KEYS[2] : game:{gameId}:location-times  (HASH playerId → 좌표 측정 시각)
+-- KEYS[3] : game:{gameId}:locations       (GEO, 전체 플레이어 좌표)
+-- KEYS[4] : game:{gameId}:gems            (HASH gemId → JSON)
+-- KEYS[5] : game:{gameId}:state           (HASH, status 필드 / 이전 포맷은 data JSON 안의 status)
+-- ARGV[1] : 키 접두사 "game:{gameId}:"
+--
+-- return : 평탄한 배열
+--   [게임 status(JSON 문자열), 플레이어 수, (playerId, role, status, 측정 시각, 경도, 위도) × 플레이어 수, 보석 JSON...]
+--   없는 값은 빈 문자열
+
+-- status 필드가 없으면(이전 포맷) data에 저장된 게임 상태 JSON의 status를 같은 JSON 문자열 형태로 돌려줍니다.
+-- data는 RedisTemplate이 JSON 문자열로 한 번 더 감싸 저장하므로 문자열이 나오면 한 번 더 해석합니다.
+local function game_status(state_key)
+    local status = redis.call('HGET', state_key, 'status')
+    if status then
+        return status
+    end
+    local data = redis.call('HGET', state_key, 'data')
+    if not data then
+        return ''
+    end
+    local ok, decoded = pcall(cjson.decode, data)
+    if ok and type(decoded) == 'string' then
+        ok, decoded = pcall(cjson.decode, decoded)
+    end
+    if ok and type(decoded) == 'table' and type(decoded.status) == 'string' then
+        return cjson.encode(decoded.status)
+    end
+    return ''
+end
+
+local ids = redis.call('SMEMBERS', KEYS[1])
+local result = { game_status(KEYS[5]), tostring(#ids) }
+
+local times = {}
+local positions = {}
+if #ids > 0 then
+    times = redis.call('HMGET', KEYS[2], unpack(ids))
+    positions = redis.call('GEOPOS', KEYS[3], unpack(ids))
+end
+
+for i, playerId in ipairs(ids) do
+    local fields = redis.call('HMGET', ARGV[1] .. 'player:' .. playerId, 'role', 'status')
+    local position = positions[i]
+    result[#result + 1] = playerId
+    result[#result + 1] = fields[1] or ''
+    result[#result + 1] = fields[2] or ''
+    result[#result + 1] = times[i] or ''
+    result[#result + 1] = position and position[1] or ''
+    result[#result + 1] = position and position[2] or ''
+end
+
+for _, gem in ipairs(redis.call('HVALS', KEYS[4])) do
+    result[#result + 1] = gem
+end
+return result
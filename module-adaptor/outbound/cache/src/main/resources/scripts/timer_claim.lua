@@ -0,0 +1,18 @@
+-- 만기 타이머 가져오기 + 리스 + 시도 횟수 증가 (원자적, 1 round trip)
+--
+-- KEYS[1] : game:timers           (ZSET, member = taskId, score = 실행 시각)
+-- KEYS[2] : game:timers:attempts  (HASH, field = taskId, value = 가져간 횟수)
+-- ARGV[1] : 현재 시각 (epoch millis)
+-- ARGV[2] : 리스 만료 시각 (epoch millis) — 가져간 작업의 새 score
+-- ARGV[3] : 최대 개수
+--
+-- return : { taskId1, 시도 횟수1, taskId2, 시도 횟수2, ... }
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+local claimed = {}
+for _, id in ipairs(due) do
+    redis.call('ZADD', KEYS[1], 'XX', ARGV[2], id)
+    claimed[#claimed + 1] = id
+    claimed[#claimed + 1] = tostring(redis.call('HINCRBY', KEYS[2], id, 1))
+end
+return claimed
@@ -0,0 +1,16 @@
+-- 리스를 건 타이머 완료 (원자적)
+-- 실행 중 다시 예약·취소되었거나 리스가 만료되어 다른 노드가 가져갔으면 score가 달라지므로 남겨 둡니다.
+--
+-- KEYS[1] : game:timers           (ZSET, member = taskId, score = 실행 시각)
+-- KEYS[2] : game:timers:attempts  (HASH, field = taskId, value = 가져간 횟수)
+-- ARGV[1] : taskId
+-- ARGV[2] : 리스 만료 시각 (claim 시 설정한 score)
+--
+-- return : 1 = 제거, 0 = 남겨 둠
+
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if score and tonumber(score) == tonumber(ARGV[2]) then
+    redis.call('HDEL', KEYS[2], ARGV[1])
+    return redis.call('ZREM', KEYS[1], ARGV[1])
+end
+return 0
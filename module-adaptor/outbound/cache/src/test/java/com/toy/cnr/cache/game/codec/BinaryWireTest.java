@@ -0,0 +1,210 @@
+package com.toy.cnr.cache.game.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryWireTest {
+
+    private static final byte KIND = BinaryWire.KIND_LOCATION_BATCH;
+
+    private static BinaryWire.Reader readerOf(BinaryWire.Writer writer) {
+        return new BinaryWire.Reader(writer.toByteArray(), KIND);
+    }
+
+    // ────────────────────────────────────────────────────
+    // varint / zigzag
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("varLong / zigZag")
+    class VarInt {
+
+        @Test
+        @DisplayName("[성공] varLong 왕복 — 7비트 경계, 음수(unsigned 64비트), 극값")
+        void varLong_roundTrip() {
+            long[] values = {0L, 1L, 127L, 128L, 16_383L, 16_384L, Integer.MAX_VALUE, Long.MAX_VALUE, -1L, Long.MIN_VALUE};
+            var writer = new BinaryWire.Writer(KIND, 64);
+            for (long value : values) {
+                writer.varLong(value);
+            }
+
+            var reader = readerOf(writer);
+            for (long value : values) {
+                assertEquals(value, reader.varLong());
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] zigZag 왕복 — 음수, Long.MIN_VALUE / Long.MAX_VALUE")
+        void zigZag_roundTrip() {
+            long[] values = {0L, 1L, -1L, 63L, -64L, 64L, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+            var writer = new BinaryWire.Writer(KIND, 64);
+            for (long value : values) {
+                writer.zigZag(value);
+            }
+
+            var reader = readerOf(writer);
+            for (long value : values) {
+                assertEquals(value, reader.zigZag());
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] zigZag는 작은 음수를 1바이트로 인코딩")
+        void zigZag_smallNegative_oneByte() {
+            var bytes = new BinaryWire.Writer(KIND, 16).zigZag(-64L).toByteArray();
+
+            assertEquals(3 + 1, bytes.length);
+        }
+
+        @Test
+        @DisplayName("[성공] Long.MIN_VALUE varLong → 10바이트")
+        void varLong_negative_tenBytes() {
+            var bytes = new BinaryWire.Writer(KIND, 16).varLong(Long.MIN_VALUE).toByteArray();
+
+            assertEquals(3 + 10, bytes.length);
+        }
+
+        @Test
+        @DisplayName("[실패] 연속 비트가 계속 켜진 varint가 잘림 → Truncated wire frame")
+        void varLong_truncated() {
+            var bytes = new BinaryWire.Writer(KIND, 16).varLong(Long.MAX_VALUE).toByteArray();
+            var truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+            var e = assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader(truncated, KIND).varLong());
+            assertEquals("Truncated wire frame", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("[실패] 10바이트를 넘는 varint → Malformed varint")
+        void varLong_tooLong() {
+            var bytes = new byte[3 + 11];
+            bytes[0] = BinaryWire.MAGIC;
+            bytes[1] = BinaryWire.VERSION_1;
+            bytes[2] = KIND;
+            Arrays.fill(bytes, 3, bytes.length, (byte) 0x80);
+
+            var e = assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader(bytes, KIND).varLong());
+            assertEquals("Malformed varint", e.getMessage());
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // int32 / string / count
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("int32 / string / count")
+    class Fields {
+
+        @Test
+        @DisplayName("[성공] int32 왕복 — 부호·극값")
+        void int32_roundTrip() {
+            int[] values = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+            var writer = new BinaryWire.Writer(KIND, 32);
+            for (int value : values) {
+                writer.int32(value);
+            }
+
+            var reader = readerOf(writer);
+            for (int value : values) {
+                assertEquals(value, reader.int32());
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] null·빈 문자열·UTF-8 문자열 왕복")
+        void string_roundTrip() {
+            var reader = readerOf(new BinaryWire.Writer(KIND, 32).string(null).string("").string("경찰-01"));
+
+            assertNull(reader.string());
+            assertEquals("", reader.string());
+            assertEquals("경찰-01", reader.string());
+        }
+
+        @Test
+        @DisplayName("[실패] 문자열 길이가 남은 바이트보다 큼 → Truncated wire frame")
+        void string_truncated() {
+            var bytes = new BinaryWire.Writer(KIND, 32).string("player-001").toByteArray();
+            var truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+            var e = assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader(truncated, KIND).string());
+            assertEquals("Truncated wire frame", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("[실패] int32 4바이트 미만 → Truncated wire frame")
+        void int32_truncated() {
+            var bytes = new BinaryWire.Writer(KIND, 8).int32(42).toByteArray();
+            var truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+            assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader(truncated, KIND).int32());
+        }
+
+        @Test
+        @DisplayName("[실패] 요소 개수가 남은 바이트보다 큼 → Truncated wire frame")
+        void count_exceedsRemaining() {
+            var bytes = new BinaryWire.Writer(KIND, 8).varLong(1_000_000L).toByteArray();
+
+            var e = assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader(bytes, KIND).count());
+            assertEquals("Truncated wire frame", e.getMessage());
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // 양자화 / 헤더
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("quantize / header")
+    class QuantizeAndHeader {
+
+        @Test
+        @DisplayName("[성공] 위경도 경계값(±180, ±90) 1e-7도 양자화 왕복 — int32 범위 안")
+        void quantize_bounds() {
+            for (double degrees : new double[]{180.0, -180.0, 90.0, -90.0, 0.0, 127.0276368, -33.8688197}) {
+                assertEquals(degrees, BinaryWire.dequantize(BinaryWire.quantize(degrees)), 1e-7);
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 1e-7 미만 차이는 반올림")
+        void quantize_rounds() {
+            assertEquals(1_800_000_000, BinaryWire.quantize(180.0));
+            assertEquals(-1_800_000_000, BinaryWire.quantize(-180.0));
+            assertEquals(1, BinaryWire.quantize(0.00000006));
+            assertEquals(0, BinaryWire.quantize(0.00000004));
+        }
+
+        @Test
+        @DisplayName("[실패] 버전 불일치 → Unsupported wire version")
+        void reader_versionMismatch() {
+            var bytes = new BinaryWire.Writer(KIND, 8).toByteArray();
+            bytes[1] = 2;
+
+            var e = assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader(bytes, KIND));
+            assertEquals("Unsupported wire version: 2", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("[실패] 종류 불일치 → Unexpected wire kind")
+        void reader_kindMismatch() {
+            var bytes = new BinaryWire.Writer(BinaryWire.KIND_GAME_EVENT, 8).toByteArray();
+
+            var e = assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader(bytes, KIND));
+            assertEquals("Unexpected wire kind: " + BinaryWire.KIND_GAME_EVENT, e.getMessage());
+        }
+
+        @Test
+        @DisplayName("[실패] 매직 바이트 없음(JSON) → Not a binary wire frame")
+        void reader_notBinary() {
+            assertFalse(BinaryWire.isBinary("{}".getBytes()));
+            assertThrows(IllegalArgumentException.class, () -> new BinaryWire.Reader("{\"a\":1}".getBytes(), KIND));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.toy.cnr.cache.game.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.LocationDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventWireCodecTest {
+
+    private final GameEventWireCodec codec = new GameEventWireCodec(new ObjectMapper());
+
+    private static final String GAME_ID = "game-001";
+    private static final long TIMESTAMP = 1_760_000_000_000L;
+
+    private static byte[] entryFrame(String id, byte[] payload) {
+        var out = new ByteArrayOutputStream();
+        out.write(GameEventWireCodec.ENTRY_FRAME);
+        out.writeBytes(id.getBytes(StandardCharsets.US_ASCII));
+        out.write('\n');
+        out.writeBytes(payload);
+        return out.toByteArray();
+    }
+
+    // ────────────────────────────────────────────────────
+    // decode
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("decode")
+    class Decode {
+
+        @Test
+        @DisplayName("[성공] BINARY 왕복 — data 순서·UTF-8 값 유지")
+        void encodeDecode_binary() throws Exception {
+            var event = new GameEventDto(GAME_ID, "PLAYER_ARRESTED",
+                Map.of("copsId", "경찰-01", "robberId", "도둑-02"), TIMESTAMP);
+
+            var payload = codec.encode(event, WireFormat.BINARY);
+
+            assertEquals(BinaryWire.MAGIC, payload[0]);
+            assertEquals(event, codec.decode(payload));
+        }
+
+        @Test
+        @DisplayName("[성공] null gameId/type, null data 값 → null 유지, null data → 빈 map")
+        void encodeDecode_nullFields() throws Exception {
+            var data = new HashMap<String, String>();
+            data.put("winnerRole", null);
+
+            var decoded = codec.decode(codec.encode(new GameEventDto(null, null, data, TIMESTAMP)));
+            var decodedWithoutData = codec.decode(codec.encode(new GameEventDto(GAME_ID, "GAME_STARTED", null, TIMESTAMP)));
+
+            assertNull(decoded.gameId());
+            assertNull(decoded.type());
+            assertTrue(decoded.data().containsKey("winnerRole"));
+            assertNull(decoded.data().get("winnerRole"));
+            assertEquals(Map.of(), decodedWithoutData.data());
+        }
+
+        @Test
+        @DisplayName("[성공] 기준 시각 이전·이후 극단 타임스탬프 왕복 (zigzag)")
+        void encodeDecode_timestamps() throws Exception {
+            for (long timestamp : new long[]{0L, BinaryWire.EPOCH_MILLIS, Long.MAX_VALUE / 2, -1L}) {
+                var event = new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), timestamp);
+
+                assertEquals(timestamp, codec.decode(codec.encode(event)).timestamp());
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] JSON 포맷 인코딩 → '{'로 시작, 그대로 디코딩 (JSON 폴백)")
+        void encodeDecode_json() throws Exception {
+            var event = new GameEventDto(GAME_ID, "GAME_ENDED", Map.of("winnerRole", "POLICE"), TIMESTAMP);
+
+            var payload = codec.encode(event, WireFormat.JSON);
+
+            assertEquals('{', payload[0]);
+            assertEquals(event, codec.decode(payload));
+        }
+
+        @Test
+        @DisplayName("[실패] 좌표 프레임 → Unexpected wire kind")
+        void decode_kindMismatch() {
+            var payload = new LocationWireCodec(new ObjectMapper())
+                .encode(List.of(new LocationDto("player-001", 127.0, 37.0, TIMESTAMP)));
+
+            var e = assertThrows(IllegalArgumentException.class, () -> codec.decode(payload));
+            assertEquals("Unexpected wire kind: " + BinaryWire.KIND_LOCATION_BATCH, e.getMessage());
+        }
+
+        @Test
+        @DisplayName("[실패] 지원하지 않는 버전 → Unsupported wire version")
+        void decode_versionMismatch() {
+            var payload = codec.encode(new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP));
+            payload[1] = 9;
+
+            var e = assertThrows(IllegalArgumentException.class, () -> codec.decode(payload));
+            assertEquals("Unsupported wire version: 9", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("[실패] 잘린 프레임 → Truncated wire frame")
+        void decode_truncated() {
+            var payload = codec.encode(new GameEventDto(GAME_ID, "GAME_ENDED", Map.of("winnerRole", "POLICE"), TIMESTAMP));
+            var truncated = Arrays.copyOf(payload, payload.length - 3);
+
+            var e = assertThrows(IllegalArgumentException.class, () -> codec.decode(truncated));
+            assertEquals("Truncated wire frame", e.getMessage());
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // decodeEntry
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("decodeEntry")
+    class DecodeEntry {
+
+        @Test
+        @DisplayName("[성공] 0x1E 프레임 → 이벤트 로그 ID와 이벤트 (BINARY·JSON 모두)")
+        void decodeEntry_framed() throws Exception {
+            var event = new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP);
+
+            for (var format : WireFormat.values()) {
+                var entry = codec.decodeEntry(entryFrame("1760000000000-0", codec.encode(event, format)));
+
+                assertEquals("1760000000000-0", entry.id());
+                assertEquals(event, entry.event());
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 프레임 표식 없는 메시지 → ID 없는 이벤트 (이전 버전 호환)")
+        void decodeEntry_unframed() throws Exception {
+            var event = new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP);
+
+            var entry = codec.decodeEntry(codec.encode(event, WireFormat.JSON));
+
+            assertNull(entry.id());
+            assertEquals(event, entry.event());
+        }
+
+        @Test
+        @DisplayName("[실패] 프레임 표식 뒤 줄바꿈 없음 → IOException")
+        void decodeEntry_missingSeparator() {
+            var message = new byte[]{GameEventWireCodec.ENTRY_FRAME, '1', '-', '0'};
+
+            assertThrows(IOException.class, () -> codec.decodeEntry(message));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.toy.cnr.cache.game.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.LocationDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocationWireCodecTest {
+
+    private final LocationWireCodec codec = new LocationWireCodec(new ObjectMapper());
+
+    private static final long TIMESTAMP = 1_760_000_000_000L;
+
+    // ────────────────────────────────────────────────────
+    // BINARY
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("binary")
+    class Binary {
+
+        @Test
+        @DisplayName("[성공] 여러 좌표 왕복 — 1e-7도 정밀도, 시각 역순(음수 delta) 포함")
+        void encodeDecode_batch() throws Exception {
+            var locations = List.of(
+                new LocationDto("player-001", 127.0276368, 37.4979502, TIMESTAMP),
+                new LocationDto("player-002", 180.0, 90.0, TIMESTAMP - 5_000L),
+                new LocationDto("player-003", -180.0, -90.0, TIMESTAMP + 1L)
+            );
+
+            var decoded = codec.decode(codec.encode(locations));
+
+            assertEquals(locations.size(), decoded.size());
+            for (int i = 0; i < locations.size(); i++) {
+                var expected = locations.get(i);
+                var actual = decoded.get(i);
+                assertEquals(expected.playerId(), actual.playerId());
+                assertEquals(expected.longitude(), actual.longitude(), 1e-7);
+                assertEquals(expected.latitude(), actual.latitude(), 1e-7);
+                assertEquals(expected.timestamp(), actual.timestamp());
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 단일 좌표 BINARY 포맷 → 매직 바이트로 시작, 1개짜리 배치로 디코딩")
+        void encode_singleBinary() throws Exception {
+            var location = new LocationDto("player-001", 127.0, 37.0, TIMESTAMP);
+
+            var payload = codec.encode(location, WireFormat.BINARY);
+
+            assertEquals(BinaryWire.MAGIC, payload[0]);
+            assertEquals(List.of(location), codec.decode(payload));
+        }
+
+        @Test
+        @DisplayName("[성공] null playerId, 기준 시각 이전 타임스탬프(음수 base) 왕복")
+        void encodeDecode_nullPlayerIdAndOldTimestamp() throws Exception {
+            var location = new LocationDto(null, 0.0, 0.0, 0L);
+
+            var decoded = codec.decode(codec.encode(List.of(location)));
+
+            assertEquals(List.of(location), decoded);
+        }
+
+        @Test
+        @DisplayName("[성공] 빈 목록 왕복")
+        void encodeDecode_empty() throws Exception {
+            assertEquals(List.of(), codec.decode(codec.encode(List.of())));
+        }
+
+        @Test
+        @DisplayName("[실패] 잘린 프레임 → IllegalArgumentException")
+        void decode_truncated() {
+            var payload = codec.encode(List.of(new LocationDto("player-001", 127.0, 37.0, TIMESTAMP)));
+
+            var truncated = Arrays.copyOf(payload, payload.length - 2);
+
+            var e = assertThrows(IllegalArgumentException.class, () -> codec.decode(truncated));
+            assertEquals("Truncated wire frame", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("[실패] 게임 이벤트 프레임 → Unexpected wire kind")
+        void decode_kindMismatch() {
+            var payload = new GameEventWireCodec(new ObjectMapper())
+                .encode(new GameEventDto("game-001", "GAME_STARTED", null, TIMESTAMP));
+
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(payload));
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // JSON
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("json")
+    class Json {
+
+        @Test
+        @DisplayName("[성공] JSON 포맷 인코딩 → '{'로 시작, 정밀도 손실 없이 디코딩")
+        void encodeDecode_json() throws Exception {
+            var location = new LocationDto("player-001", 127.02763681234, 37.49795021234, TIMESTAMP);
+
+            var payload = codec.encode(location, WireFormat.JSON);
+
+            assertEquals('{', payload[0]);
+            assertEquals(List.of(location), codec.decode(payload));
+        }
+
+        @Test
+        @DisplayName("[성공] 매직 바이트 없는 페이로드 → JSON으로 해석 (이전 포맷 호환)")
+        void decode_jsonFallback() throws Exception {
+            var payload = """
+                {"playerId":"player-001","longitude":127.0,"latitude":37.0,"timestamp":1760000000000}
+                """.getBytes();
+
+            var decoded = codec.decode(payload);
+
+            assertEquals(List.of(new LocationDto("player-001", 127.0, 37.0, TIMESTAMP)), decoded);
+        }
+    }
+}
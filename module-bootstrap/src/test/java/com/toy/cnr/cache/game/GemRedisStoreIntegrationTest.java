@@ -0,0 +1,176 @@
+package com.toy.cnr.cache.game;
+
+import com.toy.cnr.AbstractIntegrationTest;
+import com.toy.cnr.cache.game.key.GameKey;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.GameActionOutcome;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.GemDto;
+import com.toy.cnr.port.game.model.InGamePlayerDto;
+import com.toy.cnr.port.game.model.LocationDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.toy.cnr.cache.game.InGamePlayerRedisStoreIntegrationTest.runConcurrently;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 보석 획득 스크립트({@code gem_collect.lua}와 {@code lib/*.lua})를 실제 Redis에서 검증합니다.
+ */
+class GemRedisStoreIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    GemRedisStore gemRedisStore;
+
+    @Autowired
+    InGamePlayerRedisStore inGamePlayerRedisStore;
+
+    @Autowired
+    LocationRedisStore locationRedisStore;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    private static final String THIEF_ID = "thief-001";
+    private static final String GEM_ID = "gem-001";
+    private static final double RADIUS_METERS = 10.0;
+
+    /** 보석 좌표와 약 5.5m 떨어진 위도 / 약 1.1km 떨어진 위도 */
+    private static final double GEM_LATITUDE = 37.5;
+    private static final double GEM_LONGITUDE = 127.0;
+    private static final double LATITUDE_NEAR = GEM_LATITUDE + 0.00005;
+    private static final double LATITUDE_FAR = GEM_LATITUDE + 0.01;
+
+    private String gameId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = "it-" + UUID.randomUUID();
+        gemRedisStore.saveGem(gameId, new GemDto(GEM_ID, GEM_LATITUDE, GEM_LONGITUDE, "AVAILABLE", null, 1_000L));
+    }
+
+    // ── 헬퍼 ────────────────────────────────────────────────────────────────────
+
+    private void givenPlayer(String playerId, String role, String status, double latitude) {
+        inGamePlayerRedisStore.savePlayer(gameId, new InGamePlayerDto(
+            playerId, playerId, role, status, 0, 0, 0, 0, 1_000L
+        ));
+        locationRedisStore.saveLocations(gameId, List.of(new LocationDto(playerId, GEM_LONGITUDE, latitude, 1_000L)));
+    }
+
+    private GameActionResultDto collect(String robberId) {
+        return unwrap(gemRedisStore.collectGem(
+            gameId, robberId, GEM_ID, RADIUS_METERS, new GameEventDto(gameId, "GEM_COLLECTED", Map.of(), 2_000L)
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unwrap(RepositoryResult<T> result) {
+        assertInstanceOf(RepositoryResult.Found.class, result);
+        return ((RepositoryResult.Found<T>) result).data();
+    }
+
+    private GemDto gem() {
+        return unwrap(gemRedisStore.getGem(gameId, GEM_ID));
+    }
+
+    private long eventLogSize() {
+        Long size = redisTemplate.opsForStream().size(GameKey.eventLog(gameId));
+        return size == null ? 0 : size;
+    }
+
+    // ── 테스트 케이스 ────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("[성공] 반경 내 ACTIVE 도둑 → COLLECTED, 획득자 기록, 획득 수 증가, 이벤트 기록")
+    void collectGem_success() {
+        givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+
+        var result = collect(THIEF_ID);
+
+        assertEquals(GameActionOutcome.SUCCESS, result.outcome());
+        assertTrue(result.distanceMeters() > 0 && result.distanceMeters() <= RADIUS_METERS);
+        assertEquals("COLLECTED", gem().status());
+        assertEquals(THIEF_ID, gem().collectedBy());
+        assertEquals(1, unwrap(inGamePlayerRedisStore.getPlayer(gameId, THIEF_ID)).gemsCollected());
+        assertEquals(1, eventLogSize());
+    }
+
+    @Test
+    @DisplayName("[실패] 반경 밖 → OUT_OF_RANGE, 거리 반환, 보석 그대로")
+    void collectGem_outOfRange() {
+        givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_FAR);
+
+        var result = collect(THIEF_ID);
+
+        assertEquals(GameActionOutcome.OUT_OF_RANGE, result.outcome());
+        assertTrue(result.distanceMeters() > RADIUS_METERS);
+        assertEquals("AVAILABLE", gem().status());
+        assertEquals(0, eventLogSize());
+    }
+
+    @Test
+    @DisplayName("[실패] 경찰이 획득 시도 → ACTOR_ROLE_MISMATCH")
+    void collectGem_actorRoleMismatch() {
+        givenPlayer("police-001", "POLICE", "ACTIVE", LATITUDE_NEAR);
+
+        assertEquals(GameActionOutcome.ACTOR_ROLE_MISMATCH, collect("police-001").outcome());
+        assertEquals("AVAILABLE", gem().status());
+    }
+
+    @Test
+    @DisplayName("[실패] 체포된 도둑 → ACTOR_NOT_ACTIVE")
+    void collectGem_actorNotActive() {
+        givenPlayer(THIEF_ID, "THIEF", "ARRESTED", LATITUDE_NEAR);
+
+        assertEquals(GameActionOutcome.ACTOR_NOT_ACTIVE, collect(THIEF_ID).outcome());
+    }
+
+    @Test
+    @DisplayName("[실패] 이미 획득한 보석 → TARGET_STATUS_MISMATCH, 획득 수 그대로")
+    void collectGem_alreadyCollected() {
+        givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+        collect(THIEF_ID);
+
+        var result = collect(THIEF_ID);
+
+        assertEquals(GameActionOutcome.TARGET_STATUS_MISMATCH, result.outcome());
+        assertEquals(1, unwrap(inGamePlayerRedisStore.getPlayer(gameId, THIEF_ID)).gemsCollected());
+        assertEquals(1, eventLogSize());
+    }
+
+    @Test
+    @DisplayName("[실패] 없는 보석 → TARGET_NOT_FOUND")
+    void collectGem_gemNotFound() {
+        givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+        redisTemplate.opsForHash().delete(GameKey.gameGems(gameId), GEM_ID);
+
+        assertEquals(GameActionOutcome.TARGET_NOT_FOUND, collect(THIEF_ID).outcome());
+    }
+
+    @Test
+    @DisplayName("[성공] 도둑 여럿이 같은 보석을 동시에 획득 → 한 명만 SUCCESS, 획득자는 그 한 명")
+    void collectGem_concurrent_firstWriterWins() throws Exception {
+        int thiefCount = 8;
+        for (int i = 0; i < thiefCount; i++) {
+            givenPlayer("thief-" + i, "THIEF", "ACTIVE", LATITUDE_NEAR);
+        }
+
+        var outcomes = runConcurrently(thiefCount, i -> collect("thief-" + i).outcome());
+
+        assertEquals(1, outcomes.stream().filter(GameActionOutcome.SUCCESS::equals).count());
+        assertEquals(thiefCount - 1,
+            outcomes.stream().filter(GameActionOutcome.TARGET_STATUS_MISMATCH::equals).count());
+        var winner = "thief-" + outcomes.indexOf(GameActionOutcome.SUCCESS);
+        assertEquals(winner, gem().collectedBy());
+        assertEquals(1, eventLogSize());
+    }
+}
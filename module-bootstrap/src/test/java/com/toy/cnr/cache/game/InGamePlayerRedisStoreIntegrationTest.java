@@ -0,0 +1,305 @@
+package com.toy.cnr.cache.game;
+
+import com.toy.cnr.AbstractIntegrationTest;
+import com.toy.cnr.cache.game.key.GameKey;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.GameActionOutcome;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.InGamePlayerDto;
+import com.toy.cnr.port.game.model.LocationDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 체포·구출 스크립트({@code player_arrest.lua}, {@code player_rescue.lua}와 {@code lib/*.lua})를 실제 Redis에서 검증합니다.
+ */
+class InGamePlayerRedisStoreIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    InGamePlayerRedisStore inGamePlayerRedisStore;
+
+    @Autowired
+    LocationRedisStore locationRedisStore;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    private static final String POLICE_ID = "police-001";
+    private static final String THIEF_ID = "thief-001";
+    private static final String RESCUER_ID = "thief-002";
+    private static final double RADIUS_METERS = 10.0;
+
+    /** 기준 좌표와 약 5.5m 떨어진 위도 / 약 1.1km 떨어진 위도 */
+    private static final double LATITUDE = 37.5;
+    private static final double LONGITUDE = 127.0;
+    private static final double LATITUDE_NEAR = LATITUDE + 0.00005;
+    private static final double LATITUDE_FAR = LATITUDE + 0.01;
+
+    private String gameId;
+
+    @BeforeEach
+    void setUp() {
+        gameId = "it-" + UUID.randomUUID();
+    }
+
+    // ── 헬퍼 ────────────────────────────────────────────────────────────────────
+
+    private void givenPlayer(String playerId, String role, String status, double latitude) {
+        inGamePlayerRedisStore.savePlayer(gameId, new InGamePlayerDto(
+            playerId, playerId, role, status, 0, 0, 0, 0, 1_000L
+        ));
+        locationRedisStore.saveLocations(gameId, List.of(new LocationDto(playerId, LONGITUDE, latitude, 1_000L)));
+    }
+
+    private GameEventDto event(String type) {
+        return new GameEventDto(gameId, type, Map.of(), 2_000L);
+    }
+
+    private GameActionResultDto arrest(String copsId, String robberId) {
+        return unwrap(inGamePlayerRedisStore.arrest(gameId, copsId, robberId, RADIUS_METERS, event("PLAYER_ARRESTED")));
+    }
+
+    private GameActionResultDto rescue(String rescuerId, String rescuedId) {
+        return unwrap(inGamePlayerRedisStore.rescue(gameId, rescuerId, rescuedId, RADIUS_METERS, event("PLAYER_RESCUED")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unwrap(RepositoryResult<T> result) {
+        assertInstanceOf(RepositoryResult.Found.class, result);
+        return ((RepositoryResult.Found<T>) result).data();
+    }
+
+    private InGamePlayerDto player(String playerId) {
+        return unwrap(inGamePlayerRedisStore.getPlayer(gameId, playerId));
+    }
+
+    private Set<String> partition(String role, String status) {
+        return unwrap(inGamePlayerRedisStore.getPlayerIds(gameId, role, status));
+    }
+
+    private long eventLogSize() {
+        Long size = redisTemplate.opsForStream().size(GameKey.eventLog(gameId));
+        return size == null ? 0 : size;
+    }
+
+    // ── 테스트 케이스 ────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("arrest")
+    class Arrest {
+
+        @Test
+        @DisplayName("[성공] 반경 내 ACTIVE 도둑 → ARRESTED, 파티션 이동, 체포 수 증가, 이벤트 기록")
+        void arrest_success() {
+            givenPlayer(POLICE_ID, "POLICE", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+
+            var result = arrest(POLICE_ID, THIEF_ID);
+
+            assertEquals(GameActionOutcome.SUCCESS, result.outcome());
+            assertTrue(result.distanceMeters() > 0 && result.distanceMeters() <= RADIUS_METERS);
+            assertEquals(0L, result.remainingActiveThieves());
+            assertEquals("ARRESTED", player(THIEF_ID).status());
+            assertEquals(1, player(POLICE_ID).arrestCount());
+            assertEquals(Set.of(THIEF_ID), partition("THIEF", "ARRESTED"));
+            assertTrue(partition("THIEF", "ACTIVE").isEmpty());
+            assertEquals(1, eventLogSize());
+        }
+
+        @Test
+        @DisplayName("[실패] 반경 밖 → OUT_OF_RANGE, 거리 반환, 상태·이벤트 변경 없음")
+        void arrest_outOfRange() {
+            givenPlayer(POLICE_ID, "POLICE", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_FAR);
+
+            var result = arrest(POLICE_ID, THIEF_ID);
+
+            assertEquals(GameActionOutcome.OUT_OF_RANGE, result.outcome());
+            assertTrue(result.distanceMeters() > RADIUS_METERS);
+            assertEquals("ACTIVE", player(THIEF_ID).status());
+            assertEquals(0, eventLogSize());
+        }
+
+        @Test
+        @DisplayName("[실패] 도둑이 체포 시도 → ACTOR_ROLE_MISMATCH")
+        void arrest_actorRoleMismatch() {
+            givenPlayer(RESCUER_ID, "THIEF", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+
+            var result = arrest(RESCUER_ID, THIEF_ID);
+
+            assertEquals(GameActionOutcome.ACTOR_ROLE_MISMATCH, result.outcome());
+            assertNull(result.distanceMeters());
+            assertEquals("ACTIVE", player(THIEF_ID).status());
+        }
+
+        @Test
+        @DisplayName("[실패] 경찰 대상 → TARGET_ROLE_MISMATCH")
+        void arrest_targetRoleMismatch() {
+            givenPlayer(POLICE_ID, "POLICE", "ACTIVE", LATITUDE);
+            givenPlayer("police-002", "POLICE", "ACTIVE", LATITUDE_NEAR);
+
+            assertEquals(GameActionOutcome.TARGET_ROLE_MISMATCH, arrest(POLICE_ID, "police-002").outcome());
+        }
+
+        @Test
+        @DisplayName("[실패] 이미 체포된 도둑 → TARGET_STATUS_MISMATCH, 체포 수 그대로")
+        void arrest_alreadyArrested() {
+            givenPlayer(POLICE_ID, "POLICE", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+            arrest(POLICE_ID, THIEF_ID);
+
+            var result = arrest(POLICE_ID, THIEF_ID);
+
+            assertEquals(GameActionOutcome.TARGET_STATUS_MISMATCH, result.outcome());
+            assertEquals(1, player(POLICE_ID).arrestCount());
+            assertEquals(1, eventLogSize());
+        }
+
+        @Test
+        @DisplayName("[실패] 좌표 없는 도둑 → LOCATION_NOT_FOUND")
+        void arrest_locationNotFound() {
+            givenPlayer(POLICE_ID, "POLICE", "ACTIVE", LATITUDE);
+            inGamePlayerRedisStore.savePlayer(gameId, new InGamePlayerDto(
+                THIEF_ID, THIEF_ID, "THIEF", "ACTIVE", 0, 0, 0, 0, 1_000L
+            ));
+
+            assertEquals(GameActionOutcome.LOCATION_NOT_FOUND, arrest(POLICE_ID, THIEF_ID).outcome());
+        }
+
+        @Test
+        @DisplayName("[성공] 경찰 여럿이 같은 도둑을 동시에 체포 → 한 명만 SUCCESS, 나머지 TARGET_STATUS_MISMATCH")
+        void arrest_concurrent_firstWriterWins() throws Exception {
+            int policeCount = 8;
+            givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+            for (int i = 0; i < policeCount; i++) {
+                givenPlayer("police-" + i, "POLICE", "ACTIVE", LATITUDE);
+            }
+
+            var outcomes = runConcurrently(policeCount, i -> arrest("police-" + i, THIEF_ID).outcome());
+
+            assertEquals(1, outcomes.stream().filter(GameActionOutcome.SUCCESS::equals).count());
+            assertEquals(policeCount - 1,
+                outcomes.stream().filter(GameActionOutcome.TARGET_STATUS_MISMATCH::equals).count());
+            assertEquals(1, eventLogSize());
+        }
+    }
+
+    @Nested
+    @DisplayName("rescue")
+    class Rescue {
+
+        @Test
+        @DisplayName("[성공] 반경 내 ARRESTED 동료 → ACTIVE, 파티션 복귀, 구출 수 증가, 이벤트 기록")
+        void rescue_success() {
+            givenPlayer(RESCUER_ID, "THIEF", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ARRESTED", LATITUDE_NEAR);
+
+            var result = rescue(RESCUER_ID, THIEF_ID);
+
+            assertEquals(GameActionOutcome.SUCCESS, result.outcome());
+            assertTrue(result.distanceMeters() <= RADIUS_METERS);
+            assertNull(result.remainingActiveThieves());
+            assertEquals("ACTIVE", player(THIEF_ID).status());
+            assertEquals(1, player(RESCUER_ID).rescueCount());
+            assertEquals(Set.of(RESCUER_ID, THIEF_ID), partition("THIEF", "ACTIVE"));
+            assertTrue(partition("THIEF", "ARRESTED").isEmpty());
+            assertEquals(1, eventLogSize());
+        }
+
+        @Test
+        @DisplayName("[실패] 반경 밖 → OUT_OF_RANGE, 상태 변경 없음")
+        void rescue_outOfRange() {
+            givenPlayer(RESCUER_ID, "THIEF", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ARRESTED", LATITUDE_FAR);
+
+            var result = rescue(RESCUER_ID, THIEF_ID);
+
+            assertEquals(GameActionOutcome.OUT_OF_RANGE, result.outcome());
+            assertEquals("ARRESTED", player(THIEF_ID).status());
+            assertEquals(0, eventLogSize());
+        }
+
+        @Test
+        @DisplayName("[실패] 경찰이 구출 시도 → ACTOR_ROLE_MISMATCH")
+        void rescue_actorRoleMismatch() {
+            givenPlayer(POLICE_ID, "POLICE", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ARRESTED", LATITUDE_NEAR);
+
+            assertEquals(GameActionOutcome.ACTOR_ROLE_MISMATCH, rescue(POLICE_ID, THIEF_ID).outcome());
+        }
+
+        @Test
+        @DisplayName("[실패] 체포된 도둑이 구출 시도 → ACTOR_NOT_ACTIVE")
+        void rescue_actorNotActive() {
+            givenPlayer(RESCUER_ID, "THIEF", "ARRESTED", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ARRESTED", LATITUDE_NEAR);
+
+            assertEquals(GameActionOutcome.ACTOR_NOT_ACTIVE, rescue(RESCUER_ID, THIEF_ID).outcome());
+        }
+
+        @Test
+        @DisplayName("[실패] 체포되지 않은 동료 → TARGET_STATUS_MISMATCH")
+        void rescue_targetNotArrested() {
+            givenPlayer(RESCUER_ID, "THIEF", "ACTIVE", LATITUDE);
+            givenPlayer(THIEF_ID, "THIEF", "ACTIVE", LATITUDE_NEAR);
+
+            assertEquals(GameActionOutcome.TARGET_STATUS_MISMATCH, rescue(RESCUER_ID, THIEF_ID).outcome());
+        }
+
+        @Test
+        @DisplayName("[성공] 동료 여럿이 같은 도둑을 동시에 구출 → 한 명만 SUCCESS")
+        void rescue_concurrent_firstWriterWins() throws Exception {
+            int rescuerCount = 8;
+            givenPlayer(THIEF_ID, "THIEF", "ARRESTED", LATITUDE_NEAR);
+            for (int i = 0; i < rescuerCount; i++) {
+                givenPlayer("rescuer-" + i, "THIEF", "ACTIVE", LATITUDE);
+            }
+
+            var outcomes = runConcurrently(rescuerCount, i -> rescue("rescuer-" + i, THIEF_ID).outcome());
+
+            assertEquals(1, outcomes.stream().filter(GameActionOutcome.SUCCESS::equals).count());
+            assertEquals(1, eventLogSize());
+        }
+    }
+
+    /**
+     * 작업 {@code count}개를 동시에 시작해 결과를 모읍니다.
+     */
+    static <T> List<T> runConcurrently(int count, IntFunction<T> task) throws Exception {
+        var start = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(count)) {
+            var futures = new ArrayList<Future<T>>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.apply(index);
+                }));
+            }
+            start.countDown();
+            var results = new ArrayList<T>(count);
+            for (var future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
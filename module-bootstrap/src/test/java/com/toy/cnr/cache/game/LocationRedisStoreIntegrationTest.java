@@ -0,0 +1,157 @@
+package com.toy.cnr.cache.game;
+
+import com.toy.cnr.AbstractIntegrationTest;
+import com.toy.cnr.cache.game.key.GameKey;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.InGamePlayerDto;
+import com.toy.cnr.port.game.model.LocationDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 좌표 저장 스크립트({@code location_update.lua}, {@code location_batch_update.lua})를 실제 Redis에서 검증합니다.
+ */
+class LocationRedisStoreIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    LocationRedisStore locationRedisStore;
+
+    @Autowired
+    InGamePlayerRedisStore inGamePlayerRedisStore;
+
+    @Autowired
+    StringRedisTemplate redisTemplate;
+
+    private static final String PLAYER_ID = "player-001";
+    private static final double COORDINATE_DELTA = 1e-5;
+
+    // ── 헬퍼 ────────────────────────────────────────────────────────────────────
+
+    private static String newGameId() {
+        return "it-" + UUID.randomUUID();
+    }
+
+    @SuppressWarnings("unchecked")
+    private LocationDto storedLocation(String gameId) {
+        var result = locationRedisStore.getLocation(gameId, PLAYER_ID);
+        assertInstanceOf(RepositoryResult.Found.class, result);
+        return ((RepositoryResult.Found<LocationDto>) result).data();
+    }
+
+    @SuppressWarnings("unchecked")
+    private LocationDto updateLocation(String gameId, LocationDto location) {
+        var result = locationRedisStore.updateLocation(gameId, location);
+        assertInstanceOf(RepositoryResult.Found.class, result);
+        return ((RepositoryResult.Found<LocationDto>) result).data();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, LocationDto> saveLocations(String gameId, LocationDto location) {
+        var result = locationRedisStore.saveLocations(gameId, List.of(location));
+        assertInstanceOf(RepositoryResult.Found.class, result);
+        return ((RepositoryResult.Found<Map<String, LocationDto>>) result).data();
+    }
+
+    // ── 테스트 케이스 ────────────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("updateLocation")
+    class UpdateLocation {
+
+        @Test
+        @DisplayName("[성공] 첫 좌표 → GEO·측정 시각 저장, 직전 좌표 없음(Found(null))")
+        void updateLocation_first_stored() {
+            var gameId = newGameId();
+
+            var previous = updateLocation(gameId, new LocationDto(PLAYER_ID, 127.1, 37.1, 1_000L));
+
+            assertNull(previous);
+            var stored = storedLocation(gameId);
+            assertEquals(37.1, stored.latitude(), COORDINATE_DELTA);
+            assertEquals(127.1, stored.longitude(), COORDINATE_DELTA);
+            assertEquals("1000", redisTemplate.opsForHash().get(GameKey.locationTimes(gameId), PLAYER_ID));
+        }
+
+        @Test
+        @DisplayName("[성공] 두 번째 좌표 → 덮어쓰고 직전 좌표·측정 시각 반환")
+        void updateLocation_second_returnsPrevious() {
+            var gameId = newGameId();
+            updateLocation(gameId, new LocationDto(PLAYER_ID, 127.1, 37.1, 1_000L));
+
+            var previous = updateLocation(gameId, new LocationDto(PLAYER_ID, 127.2, 37.2, 2_000L));
+
+            assertEquals(PLAYER_ID, previous.playerId());
+            assertEquals(37.1, previous.latitude(), COORDINATE_DELTA);
+            assertEquals(127.1, previous.longitude(), COORDINATE_DELTA);
+            assertEquals(1_000L, previous.timestamp());
+            assertEquals(37.2, storedLocation(gameId).latitude(), COORDINATE_DELTA);
+        }
+
+        @Test
+        @DisplayName("[성공] 파티션이 있는 플레이어 → 역할·상태별 GEO에도 기록")
+        void updateLocation_partitionedPlayer_partitionGeoUpdated() {
+            var gameId = newGameId();
+            inGamePlayerRedisStore.savePlayer(gameId, new InGamePlayerDto(
+                PLAYER_ID, PLAYER_ID, "THIEF", "ACTIVE", 0, 0, 0, 0, 1_000L
+            ));
+
+            updateLocation(gameId, new LocationDto(PLAYER_ID, 127.1, 37.1, 1_000L));
+
+            var positions = redisTemplate.opsForGeo().position(GameKey.locations(gameId, "THIEF", "ACTIVE"), PLAYER_ID);
+            assertNotNull(positions);
+            assertNotNull(positions.getFirst());
+            assertEquals(37.1, positions.getFirst().getY(), COORDINATE_DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("saveLocations")
+    class SaveLocations {
+
+        @Test
+        @DisplayName("[성공] 첫 좌표 → 저장, 직전 좌표 없음")
+        void saveLocations_first_stored() {
+            var gameId = newGameId();
+
+            var previous = saveLocations(gameId, new LocationDto(PLAYER_ID, 127.1, 37.1, 1_000L));
+
+            assertTrue(previous.isEmpty());
+            assertEquals(37.1, storedLocation(gameId).latitude(), COORDINATE_DELTA);
+        }
+
+        @Test
+        @DisplayName("[성공] 더 늦은 측정 시각 → 덮어쓰고 직전 좌표 반환")
+        void saveLocations_newer_overwrites() {
+            var gameId = newGameId();
+            saveLocations(gameId, new LocationDto(PLAYER_ID, 127.1, 37.1, 1_000L));
+
+            var previous = saveLocations(gameId, new LocationDto(PLAYER_ID, 127.2, 37.2, 2_000L));
+
+            assertEquals(1_000L, previous.get(PLAYER_ID).timestamp());
+            assertEquals(37.2, storedLocation(gameId).latitude(), COORDINATE_DELTA);
+        }
+
+        @Test
+        @DisplayName("[성공] 저장된 측정 시각보다 오래된 좌표 → 저장하지 않고, 더 늦은 직전 측정 시각 반환")
+        void saveLocations_stale_skipped() {
+            var gameId = newGameId();
+            saveLocations(gameId, new LocationDto(PLAYER_ID, 127.2, 37.2, 2_000L));
+
+            var previous = saveLocations(gameId, new LocationDto(PLAYER_ID, 127.1, 37.1, 1_000L));
+
+            assertEquals(2_000L, previous.get(PLAYER_ID).timestamp());
+            var stored = storedLocation(gameId);
+            assertEquals(37.2, stored.latitude(), COORDINATE_DELTA);
+            assertEquals(127.2, stored.longitude(), COORDINATE_DELTA);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.toy.cnr.application.game.mapper;
 
 import com.toy.cnr.domain.game.GameEvent;
+import com.toy.cnr.domain.game.GameEventEntry;
 import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.GameEventEntryDto;
 
 import java.util.Map;
 
@@ -80,9 +82,29 @@ public final class GameEventMapper {
                 ),
                 e.timestamp()
             );
+            case GameEvent.TimeRemaining e -> new GameEventDto(
+                e.gameId(), "TIME_REMAINING",
+                Map.of("remainingSeconds", String.valueOf(e.remainingSeconds())),
+                e.timestamp()
+            );
+            case GameEvent.PlayerStale e -> new GameEventDto(
+                e.gameId(), "PLAYER_STALE",
+                Map.of("playerId", e.playerId(), "lastSeenAt", String.valueOf(e.lastSeenAt())),
+                e.timestamp()
+            );
+            case GameEvent.PoliceNearby e -> new GameEventDto(
+                e.gameId(), "POLICE_NEARBY",
+                Map.of("playerId", e.playerId(), "distanceMeters", String.valueOf(e.distanceMeters())),
+                e.timestamp()
+            );
         };
     }
 
+    /** GameEventEntryDto(port) → GameEventEntry(domain) — 구독/재생 경로 */
+    public static GameEventEntry toDomain(GameEventEntryDto dto) {
+        return new GameEventEntry(dto.id(), toDomain(dto.event()));
+    }
+
     /** GameEventDto(port) → GameEvent(domain) — 구독 경로 */
     public static GameEvent toDomain(GameEventDto dto) {
         return switch (dto.type()) {
@@ -152,6 +174,23 @@ public final class GameEventMapper {
                 Double.parseDouble(dto.data().get("longitude")),
                 dto.timestamp()
             );
+            case "TIME_REMAINING" -> new GameEvent.TimeRemaining(
+                dto.gameId(),
+                Long.parseLong(dto.data().get("remainingSeconds")),
+                dto.timestamp()
+            );
+            case "PLAYER_STALE" -> new GameEvent.PlayerStale(
+                dto.gameId(),
+                dto.data().get("playerId"),
+                Long.parseLong(dto.data().get("lastSeenAt")),
+                dto.timestamp()
+            );
+            case "POLICE_NEARBY" -> new GameEvent.PoliceNearby(
+                dto.gameId(),
+                dto.data().get("playerId"),
+                Double.parseDouble(dto.data().get("distanceMeters")),
+                dto.timestamp()
+            );
             default -> throw new IllegalArgumentException("Unknown game event type: " + dto.type());
         };
     }
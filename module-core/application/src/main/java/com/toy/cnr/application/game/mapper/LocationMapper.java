@@ -1,5 +1,6 @@
 package com.toy.cnr.application.game.mapper;
 
+import com.toy.cnr.domain.game.LocationBatchPublishCommand;
 import com.toy.cnr.domain.game.LocationPublishCommand;
 import com.toy.cnr.domain.game.PlayerLocation;
 import com.toy.cnr.port.game.model.LocationDto;
@@ -27,6 +28,16 @@ public final class LocationMapper {
         );
     }
 
+    /** 배치 fix → LocationDto. 측정 시각이 없으면(0 이하) 서버 수신 시각을, 수신 시각보다 미래면 수신 시각을 사용합니다. */
+    public static LocationDto toDto(LocationBatchPublishCommand.Fix fix, long receivedAt) {
+        return new LocationDto(
+            fix.playerId(),
+            fix.longitude(),
+            fix.latitude(),
+            fix.timestamp() > 0 ? Math.min(fix.timestamp(), receivedAt) : receivedAt
+        );
+    }
+
     public static PlayerLocation fromCommand(LocationPublishCommand command, long timestamp) {
         return new PlayerLocation(
             command.gameId(),
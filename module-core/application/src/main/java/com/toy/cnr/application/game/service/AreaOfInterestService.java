@@ -0,0 +1,411 @@
+package com.toy.cnr.application.game.service;
+
+import com.toy.cnr.application.game.mapper.LocationMapper;
+import com.toy.cnr.application.game.util.SpatialGridIndex;
+import com.toy.cnr.domain.common.CommandResult;
+import com.toy.cnr.domain.game.LocationAreaUpdate;
+import com.toy.cnr.domain.game.PlayerLocation;
+import com.toy.cnr.domain.game.PlayerRole;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.InGamePlayerStore;
+import com.toy.cnr.port.game.LocationStore;
+import com.toy.cnr.port.game.LocationSubscriber;
+import com.toy.cnr.port.game.model.InGamePlayerDto;
+import com.toy.cnr.port.game.model.LocationDto;
+import com.toy.cnr.port.game.model.NearbyLocationDto;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 관심 영역(AOI) 좌표 구독 서비스.
+ * <p>
+ * 구독자가 플레이어 목록 대신 "내 주변 반경 R (선택: 역할 필터)"을 지정하면,
+ * 노드 로컬 게임별 공간 인덱스({@link SpatialGridIndex})로 좌표가 들어올 때마다 구독자 반경을 평가해
+ * 반경 안으로 들어옴({@code ENTER}), 안에서 움직임({@code MOVE}), 밖으로 나감({@code LEAVE})만 전달합니다.
+ * <p>
+ * 게임당 상위 구독({@link LocationSubscriber#subscribeAll}) 하나로 모든 좌표를 받아 인덱스를 갱신하며,
+ * 좌표 한 건마다 그 좌표 근처의 구독자와 그 플레이어를 보고 있던 구독자만 평가합니다.
+ * 반경은 구독자(플레이어)의 최신 좌표를 따라 움직입니다.
+ * 마지막 구독자가 해제되면 게임 인덱스와 상위 구독을 정리합니다.
+ */
+@Service
+public class AreaOfInterestService {
+
+    /** 공간 인덱스 격자 크기 (미터) */
+    static final double CELL_METERS = 100;
+
+    /** 허용하는 최대 구독 반경 (미터). 더 크면 보정합니다. */
+    static final double MAX_RADIUS_METERS = 5_000;
+
+    /** 역할을 모르는 플레이어가 나타났을 때 역할 목록을 다시 읽는 최소 간격 */
+    static final long ROLE_RELOAD_INTERVAL_MS = 5_000;
+
+    private final LocationSubscriber locationSubscriber;
+    private final LocationStore locationStore;
+    private final InGamePlayerStore inGamePlayerStore;
+
+    /** gameId → 게임 관심 영역 상태 */
+    private final Map<String, GameArea> areas = new ConcurrentHashMap<>();
+
+    /** subscriberId → gameId */
+    private final Map<String, String> subscriberGames = new ConcurrentHashMap<>();
+
+    public AreaOfInterestService(
+        LocationSubscriber locationSubscriber,
+        LocationStore locationStore,
+        InGamePlayerStore inGamePlayerStore
+    ) {
+        this.locationSubscriber = locationSubscriber;
+        this.locationStore = locationStore;
+        this.inGamePlayerStore = inGamePlayerStore;
+    }
+
+    /**
+     * 구독자 주변 반경의 좌표 변경을 구독합니다.
+     * 구독 시점에 이미 반경 안에 있는 플레이어는 {@code ENTER}로 먼저 전달합니다.
+     *
+     * @param gameId       게임 세션 ID
+     * @param viewerId     반경 중심이 되는 플레이어 ID (구독자 본인)
+     * @param radiusMeters 반경 (미터, {@link #MAX_RADIUS_METERS}로 보정)
+     * @param role         이 역할의 플레이어만 전달 (null이면 전체)
+     * @param onUpdate     변경 수신 콜백
+     * @return 구독 해제에 사용할 subscriberId, 반경이 0 이하면 ValidationError
+     */
+    public CommandResult<String> subscribe(
+        String gameId,
+        String viewerId,
+        double radiusMeters,
+        PlayerRole role,
+        Consumer<LocationAreaUpdate> onUpdate
+    ) {
+        if (!(radiusMeters > 0)) {
+            return new CommandResult.ValidationError<>(List.of("radiusMeters must be positive"));
+        }
+        var radius = Math.min(radiusMeters, MAX_RADIUS_METERS);
+        var subscriberId = UUID.randomUUID().toString();
+        var viewer = new Viewer(subscriberId, viewerId, radius, role, onUpdate);
+
+        // 구독 시점의 주변 좌표는 락 밖에서 한 번 조회해 인덱스를 채웁니다.
+        var seeds = loadSeeds(gameId, viewerId, radius);
+
+        var deliveries = new ArrayList<Delivery>();
+        subscriberGames.put(subscriberId, gameId);
+        // 상위 구독(Redis 리스너 등록)은 맵 밖에서 열고 putIfAbsent로 설치합니다.
+        // 먼저 설치한 스레드가 있으면 방금 연 구독을 해제하고, 닫히는 중인 게임 상태를 만나면 새로 만듭니다.
+        while (true) {
+            var area = areas.get(gameId);
+            if (area == null) {
+                var created = new GameArea(gameId);
+                created.upstreamId = locationSubscriber.subscribeAll(gameId, created::onFix);
+                area = areas.putIfAbsent(gameId, created);
+                if (area == null) {
+                    area = created;
+                } else {
+                    locationSubscriber.unsubscribe(created.upstreamId);
+                }
+            }
+            if (area.addViewer(viewer, seeds, deliveries)) {
+                break;
+            }
+            areas.remove(gameId, area);
+        }
+        deliver(deliveries);
+
+        return new CommandResult.Success<>(subscriberId, null);
+    }
+
+    /**
+     * 구독을 해제합니다.
+     */
+    public void unsubscribe(String subscriberId) {
+        if (subscriberId == null) {
+            return;
+        }
+        var gameId = subscriberGames.remove(subscriberId);
+        if (gameId == null) {
+            return;
+        }
+        var area = areas.get(gameId);
+        if (area != null && area.removeViewer(subscriberId)) {
+            areas.remove(gameId, area);
+            locationSubscriber.unsubscribe(area.upstreamId);
+        }
+    }
+
+    private List<PlayerLocation> loadSeeds(String gameId, String viewerId, double radius) {
+        var seeds = new ArrayList<PlayerLocation>();
+        if (!(locationStore.getLocation(gameId, viewerId) instanceof RepositoryResult.Found<LocationDto> viewerFound)) {
+            // 아직 좌표를 발행하지 않은 구독자: 첫 좌표가 들어오면 그때부터 평가합니다.
+            return seeds;
+        }
+        seeds.add(LocationMapper.toDomain(gameId, viewerFound.data()));
+
+        var nearby = locationStore.searchWithinRadius(gameId, viewerId, radius, false, true);
+        if (nearby instanceof RepositoryResult.Found<List<NearbyLocationDto>> nearbyFound) {
+            long now = System.currentTimeMillis();
+            for (var dto : nearbyFound.data()) {
+                if (dto.playerId().equals(viewerId) || dto.longitude() == null || dto.latitude() == null) {
+                    continue;
+                }
+                seeds.add(new PlayerLocation(gameId, dto.playerId(), dto.longitude(), dto.latitude(), now));
+            }
+        }
+        return seeds;
+    }
+
+    private static void deliver(List<Delivery> deliveries) {
+        for (var delivery : deliveries) {
+            try {
+                delivery.viewer.onUpdate.accept(delivery.update);
+            } catch (Exception e) {
+                // 한 구독자의 실패가 다른 구독자에게 전파되지 않도록 무시
+            }
+        }
+    }
+
+    private record Delivery(Viewer viewer, LocationAreaUpdate update) {}
+
+    /**
+     * 구독자 한 명의 반경 설정과 현재 보이는 플레이어 집합.
+     */
+    private static final class Viewer {
+
+        private final String subscriberId;
+        private final String viewerId;
+        private final double radius;
+        private final PlayerRole role;
+        private final Consumer<LocationAreaUpdate> onUpdate;
+        private final Set<String> visible = new HashSet<>();
+
+        private Viewer(
+            String subscriberId,
+            String viewerId,
+            double radius,
+            PlayerRole role,
+            Consumer<LocationAreaUpdate> onUpdate
+        ) {
+            this.subscriberId = subscriberId;
+            this.viewerId = viewerId;
+            this.radius = radius;
+            this.role = role;
+            this.onUpdate = onUpdate;
+        }
+    }
+
+    /**
+     * 게임 하나의 관심 영역 상태 (공간 인덱스 + 구독자).
+     * <p>
+     * 상위 구독 리스너와 구독/해제가 동시에 접근하므로 모든 변경은 인스턴스 락 안에서 하고,
+     * 콜백 호출은 락을 놓은 뒤 합니다.
+     */
+    private final class GameArea {
+
+        private final String gameId;
+        private final SpatialGridIndex<String> players = new SpatialGridIndex<>(CELL_METERS);
+        private final Map<String, PlayerLocation> latest = new HashMap<>();
+
+        /** viewerId → 그 플레이어를 중심으로 하는 구독자들 */
+        private final Map<String, List<Viewer>> viewersByCenter = new HashMap<>();
+
+        /** subscriberId → 구독자 */
+        private final Map<String, Viewer> viewers = new HashMap<>();
+
+        /** playerId → 그 플레이어가 현재 보이는 구독자들 */
+        private final Map<String, Set<Viewer>> seenBy = new HashMap<>();
+
+        private Map<String, PlayerRole> roles = Map.of();
+        private long rolesLoadedAt;
+        private double maxRadius;
+
+        private String upstreamId;
+
+        /** 마지막 구독자가 빠져 상위 구독을 해제함 (더 이상 구독자 추가 불가) */
+        private boolean closed;
+
+        private GameArea(String gameId) {
+            this.gameId = gameId;
+        }
+
+        /**
+         * @return 추가했으면 true, 이미 닫힌 게임 상태면 false
+         */
+        private synchronized boolean addViewer(Viewer viewer, List<PlayerLocation> seeds, List<Delivery> out) {
+            if (closed) {
+                return false;
+            }
+            for (var seed : seeds) {
+                // 상위 구독으로 이미 더 최신 좌표가 들어왔으면 조회 결과로 덮어쓰지 않습니다.
+                if (!latest.containsKey(seed.playerId())) {
+                    index(seed);
+                }
+            }
+            viewers.put(viewer.subscriberId, viewer);
+            viewersByCenter.computeIfAbsent(viewer.viewerId, id -> new ArrayList<>()).add(viewer);
+            maxRadius = Math.max(maxRadius, viewer.radius);
+            if (viewer.role != null && roles.isEmpty()) {
+                reloadRoles();
+            }
+            refresh(viewer, out);
+            return true;
+        }
+
+        /**
+         * @return 마지막 구독자가 빠져 이번 호출로 닫혔으면 true (상위 구독 해제 담당)
+         */
+        private synchronized boolean removeViewer(String subscriberId) {
+            var viewer = viewers.remove(subscriberId);
+            if (viewer == null) {
+                return false;
+            }
+            viewersByCenter.computeIfPresent(viewer.viewerId, (id, list) -> {
+                list.remove(viewer);
+                return list.isEmpty() ? null : list;
+            });
+            for (var playerId : viewer.visible) {
+                unsee(playerId, viewer);
+            }
+            maxRadius = viewers.values().stream().mapToDouble(v -> v.radius).max().orElse(0);
+            if (viewers.isEmpty()) {
+                closed = true;
+            }
+            return closed;
+        }
+
+        private void onFix(LocationDto dto) {
+            var deliveries = new ArrayList<Delivery>();
+            synchronized (this) {
+                var location = LocationMapper.toDomain(gameId, dto);
+                index(location);
+
+                // 움직인 플레이어를 중심으로 하는 구독자: 반경 전체를 다시 평가합니다.
+                var centered = viewersByCenter.get(location.playerId());
+                if (centered != null) {
+                    for (var viewer : centered) {
+                        refresh(viewer, deliveries);
+                    }
+                }
+
+                // 그 외 구독자: 가까이 있거나 이 플레이어를 보고 있던 구독자만 평가합니다.
+                var candidates = new LinkedHashSet<Viewer>();
+                players.forEachWithin(location.latitude(), location.longitude(), maxRadius, (playerId, distance) -> {
+                    var list = viewersByCenter.get(playerId);
+                    if (list != null) {
+                        candidates.addAll(list);
+                    }
+                });
+                var watching = seenBy.get(location.playerId());
+                if (watching != null) {
+                    candidates.addAll(watching);
+                }
+                for (var viewer : candidates) {
+                    if (!viewer.viewerId.equals(location.playerId())) {
+                        evaluate(viewer, location, deliveries);
+                    }
+                }
+            }
+            deliver(deliveries);
+        }
+
+        private void index(PlayerLocation location) {
+            players.put(location.playerId(), location.latitude(), location.longitude());
+            latest.put(location.playerId(), location);
+        }
+
+        /** 한 플레이어가 움직였을 때 구독자 하나의 보임 상태를 갱신합니다. */
+        private void evaluate(Viewer viewer, PlayerLocation location, List<Delivery> out) {
+            var playerId = location.playerId();
+            var inside = matchesRole(viewer, playerId)
+                && players.distanceMeters(viewer.viewerId, playerId) <= viewer.radius;
+            var wasVisible = viewer.visible.contains(playerId);
+
+            if (inside && wasVisible) {
+                out.add(new Delivery(viewer, new LocationAreaUpdate(LocationAreaUpdate.Type.MOVE, location)));
+            } else if (inside) {
+                see(playerId, viewer);
+                out.add(new Delivery(viewer, new LocationAreaUpdate(LocationAreaUpdate.Type.ENTER, location)));
+            } else if (wasVisible) {
+                unsee(playerId, viewer);
+                out.add(new Delivery(viewer, new LocationAreaUpdate(LocationAreaUpdate.Type.LEAVE, location)));
+            }
+        }
+
+        /** 구독자 중심이 움직였을 때 반경 전체를 다시 평가합니다 (들어옴/나감만 전달). */
+        private void refresh(Viewer viewer, List<Delivery> out) {
+            var center = latest.get(viewer.viewerId);
+            if (center == null) {
+                return;
+            }
+            var inside = new HashSet<String>();
+            players.forEachWithin(center.latitude(), center.longitude(), viewer.radius, (playerId, distance) -> {
+                if (!playerId.equals(viewer.viewerId) && matchesRole(viewer, playerId)) {
+                    inside.add(playerId);
+                }
+            });
+
+            for (var playerId : List.copyOf(viewer.visible)) {
+                if (!inside.contains(playerId)) {
+                    unsee(playerId, viewer);
+                    out.add(new Delivery(viewer, new LocationAreaUpdate(LocationAreaUpdate.Type.LEAVE, latest.get(playerId))));
+                }
+            }
+            for (var playerId : inside) {
+                if (!viewer.visible.contains(playerId)) {
+                    see(playerId, viewer);
+                    out.add(new Delivery(viewer, new LocationAreaUpdate(LocationAreaUpdate.Type.ENTER, latest.get(playerId))));
+                }
+            }
+        }
+
+        private void see(String playerId, Viewer viewer) {
+            viewer.visible.add(playerId);
+            seenBy.computeIfAbsent(playerId, id -> new HashSet<>()).add(viewer);
+        }
+
+        private void unsee(String playerId, Viewer viewer) {
+            viewer.visible.remove(playerId);
+            seenBy.computeIfPresent(playerId, (id, set) -> {
+                set.remove(viewer);
+                return set.isEmpty() ? null : set;
+            });
+        }
+
+        private boolean matchesRole(Viewer viewer, String playerId) {
+            if (viewer.role == null) {
+                return true;
+            }
+            var role = roles.get(playerId);
+            if (role == null && System.currentTimeMillis() - rolesLoadedAt >= ROLE_RELOAD_INTERVAL_MS) {
+                reloadRoles();
+                role = roles.get(playerId);
+            }
+            return role == viewer.role;
+        }
+
+        /** 역할은 게임 중 바뀌지 않으므로 모르는 플레이어가 나타났을 때만 (간격을 두고) 다시 읽습니다. */
+        private void reloadRoles() {
+            rolesLoadedAt = System.currentTimeMillis();
+            if (!(inGamePlayerStore.getAllPlayers(gameId) instanceof RepositoryResult.Found<List<InGamePlayerDto>> found)) {
+                return;
+            }
+            var loaded = new HashMap<String, PlayerRole>();
+            for (var player : found.data()) {
+                try {
+                    loaded.put(player.playerId(), PlayerRole.valueOf(player.role()));
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    // 역할 미배정 플레이어는 필터에 걸리지 않음
+                }
+            }
+            roles = loaded;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.toy.cnr.application.game.service;
 
 import com.toy.cnr.application.common.ResultMapper;
+import com.toy.cnr.application.game.mapper.GameEventMapper;
 import com.toy.cnr.application.game.mapper.GemMapper;
 import com.toy.cnr.application.game.mapper.InGamePlayerMapper;
 import com.toy.cnr.application.room.mapper.RoomMapper;
@@ -30,7 +31,6 @@ public class GameActionService {
     private final GameStateStore gameStateStore;
     private final InGamePlayerStore inGamePlayerStore;
     private final GemStore gemStore;
-    private final LocationStore locationStore;
     private final GameEventService gameEventService;
     private final GameRegistryStore gameRegistryStore;
     private final GameTimerService gameTimerService;
@@ -40,7 +40,6 @@ public class GameActionService {
         GameStateStore gameStateStore,
         InGamePlayerStore inGamePlayerStore,
         GemStore gemStore,
-        LocationStore locationStore,
         GameEventService gameEventService,
         GameRegistryStore gameRegistryStore,
         GameTimerService gameTimerService,
@@ -49,7 +48,6 @@ public class GameActionService {
         this.gameStateStore = gameStateStore;
         this.inGamePlayerStore = inGamePlayerStore;
         this.gemStore = gemStore;
-        this.locationStore = locationStore;
         this.gameEventService = gameEventService;
         this.gameRegistryStore = gameRegistryStore;
         this.gameTimerService = gameTimerService;
@@ -92,8 +90,8 @@ public class GameActionService {
             );
             inGamePlayerStore.savePlayer(gameId, inGamePlayer);
 
-            // Publish role assigned event
-            gameEventService.publish(new GameEvent.RoleAssigned(
+            // Role assignment goes only to the assigned player (private channel)
+            gameEventService.publishToPlayer(player.playerId(), new GameEvent.RoleAssigned(
                 gameId, player.playerId(), role.name(), now
             ));
         }
@@ -120,206 +118,107 @@ public class GameActionService {
 
     /**
      * 도둑 체포 (경찰 전용).
+     * <p>
+     * 검증·거리 판정·상태 변경·이벤트 발행은 저장소의 원자적 스크립트 한 번으로 처리되어,
+     * 같은 도둑을 동시에 체포하면 먼저 도착한 요청만 성공합니다.
      */
     public CommandResult<Void> arrest(ArrestCommand command) {
-        // Validate cops
-        var copsResult = inGamePlayerStore.getPlayer(command.gameId(), command.copsId());
-        return ResultMapper.toCommandResult(copsResult).flatMap(copsDto -> {
-            if (!copsDto.role().equals(PlayerRole.POLICE.name())) {
-                return new CommandResult.BusinessError<>("Only cops can arrest");
-            }
-            if (!copsDto.status().equals(PlayerStatus.ACTIVE.name())) {
-                return new CommandResult.BusinessError<>("Cops player is not active");
-            }
-
-            // Validate robber
-            var robberResult = inGamePlayerStore.getPlayer(command.gameId(), command.robberId());
-            return ResultMapper.toCommandResult(robberResult).flatMap(robberDto -> {
-                if (!robberDto.role().equals(PlayerRole.THIEF.name())) {
-                    return new CommandResult.BusinessError<>("Target is not a robber");
-                }
-                if (!robberDto.status().equals(PlayerStatus.ACTIVE.name())) {
-                    return new CommandResult.BusinessError<>("Robber is already arrested");
+        var gameId = command.gameId();
+        var stateResult = gameStateStore.getGameState(gameId);
+        return ResultMapper.toCommandResult(stateResult).flatMap(stateDto -> {
+            var event = new GameEvent.PlayerArrested(
+                gameId, command.copsId(), command.robberId(), System.currentTimeMillis()
+            );
+            var actionResult = inGamePlayerStore.arrest(
+                gameId, command.copsId(), command.robberId(),
+                actionRadius(stateDto), GameEventMapper.toDto(event)
+            );
+            return ResultMapper.toCommandResult(actionResult).flatMap(action -> switch (action.outcome()) {
+                case SUCCESS -> {
+                    // 마지막 ACTIVE 도둑이 체포되면 경찰 승리
+                    if (action.remainingActiveThieves() != null && action.remainingActiveThieves() == 0) {
+                        gameTimerService.endGame(gameId, PlayerRole.POLICE.name());
+                    }
+                    yield new CommandResult.Success<>(null, "Arrested");
                 }
-
-                // Check distance
-                var stateResult = gameStateStore.getGameState(command.gameId());
-                return ResultMapper.toCommandResult(stateResult).flatMap(stateDto -> {
-                    double radius = stateDto.settings() != null
-                        ? stateDto.settings().actionRadiusMeters()
-                        : 1.0;
-                    var distResult = locationStore.getDistanceMeters(
-                        command.gameId(), command.copsId(), command.robberId()
-                    );
-                    return ResultMapper.toCommandResult(distResult).flatMap(dist -> {
-                        if (dist > radius) {
-                            return new CommandResult.BusinessError<>(
-                                "Robber is out of arrest range: " + dist + "m"
-                            );
-                        }
-
-                        // Arrest: update robber status
-                        var arrestedRobber = new InGamePlayerDto(
-                            robberDto.playerId(), robberDto.playerName(),
-                            robberDto.role(), PlayerStatus.ARRESTED.name(),
-                            robberDto.arrestCount(), robberDto.gemsCollected(),
-                            robberDto.rescueCount(), robberDto.escapeCount(),
-                            System.currentTimeMillis()
-                        );
-                        inGamePlayerStore.updatePlayer(command.gameId(), arrestedRobber);
-
-                        // Update cops arrest count
-                        var updatedCops = new InGamePlayerDto(
-                            copsDto.playerId(), copsDto.playerName(),
-                            copsDto.role(), copsDto.status(),
-                            copsDto.arrestCount() + 1, copsDto.gemsCollected(),
-                            copsDto.rescueCount(), copsDto.escapeCount(),
-                            System.currentTimeMillis()
-                        );
-                        inGamePlayerStore.updatePlayer(command.gameId(), updatedCops);
-
-                        // Publish event
-                        gameEventService.publish(new GameEvent.PlayerArrested(
-                            command.gameId(), command.copsId(), command.robberId(),
-                            System.currentTimeMillis()
-                        ));
-
-                        // Check if all robbers arrested
-                        checkAllRobbersArrested(command.gameId());
-
-                        return new CommandResult.Success<>(null, "Arrested");
-                    });
-                });
+                case ACTOR_NOT_FOUND -> playerNotFound(gameId, command.copsId());
+                case ACTOR_ROLE_MISMATCH -> new CommandResult.BusinessError<>("Only cops can arrest");
+                case ACTOR_NOT_ACTIVE -> new CommandResult.BusinessError<>("Cops player is not active");
+                case TARGET_NOT_FOUND -> playerNotFound(gameId, command.robberId());
+                case TARGET_ROLE_MISMATCH -> new CommandResult.BusinessError<>("Target is not a robber");
+                case TARGET_STATUS_MISMATCH -> new CommandResult.BusinessError<>("Robber is already arrested");
+                case LOCATION_NOT_FOUND -> locationNotFound(command.copsId(), command.robberId());
+                case OUT_OF_RANGE -> new CommandResult.BusinessError<>(
+                    "Robber is out of arrest range: " + action.distanceMeters() + "m"
+                );
             });
         });
     }
 
     /**
      * 동료 구출 (도둑 전용).
+     * <p>
+     * 체포와 마찬가지로 저장소의 원자적 스크립트 한 번으로 처리됩니다.
      */
     public CommandResult<Void> rescue(RescueCommand command) {
-        var rescuerResult = inGamePlayerStore.getPlayer(command.gameId(), command.rescuerId());
-        return ResultMapper.toCommandResult(rescuerResult).flatMap(rescuerDto -> {
-            if (!rescuerDto.role().equals(PlayerRole.THIEF.name())) {
-                return new CommandResult.BusinessError<>("Only robbers can rescue");
-            }
-            if (!rescuerDto.status().equals(PlayerStatus.ACTIVE.name())) {
-                return new CommandResult.BusinessError<>("Rescuer is not active");
-            }
-
-            var rescuedResult = inGamePlayerStore.getPlayer(command.gameId(), command.rescuedId());
-            return ResultMapper.toCommandResult(rescuedResult).flatMap(rescuedDto -> {
-                if (!rescuedDto.status().equals(PlayerStatus.ARRESTED.name())) {
-                    return new CommandResult.BusinessError<>("Target is not arrested");
-                }
-
-                var stateResult = gameStateStore.getGameState(command.gameId());
-                return ResultMapper.toCommandResult(stateResult).flatMap(stateDto -> {
-                    double radius = stateDto.settings() != null
-                        ? stateDto.settings().actionRadiusMeters()
-                        : 1.0;
-                    var distResult = locationStore.getDistanceMeters(
-                        command.gameId(), command.rescuerId(), command.rescuedId()
-                    );
-                    return ResultMapper.toCommandResult(distResult).flatMap(dist -> {
-                        if (dist > radius) {
-                            return new CommandResult.BusinessError<>(
-                                "Target is out of rescue range: " + dist + "m"
-                            );
-                        }
-
-                        // Rescue: restore to ACTIVE
-                        var rescuedActive = new InGamePlayerDto(
-                            rescuedDto.playerId(), rescuedDto.playerName(),
-                            rescuedDto.role(), PlayerStatus.ACTIVE.name(),
-                            rescuedDto.arrestCount(), rescuedDto.gemsCollected(),
-                            rescuedDto.rescueCount(), rescuedDto.escapeCount(),
-                            System.currentTimeMillis()
-                        );
-                        inGamePlayerStore.updatePlayer(command.gameId(), rescuedActive);
-
-                        // Update rescuer rescue count
-                        var updatedRescuer = new InGamePlayerDto(
-                            rescuerDto.playerId(), rescuerDto.playerName(),
-                            rescuerDto.role(), rescuerDto.status(),
-                            rescuerDto.arrestCount(), rescuerDto.gemsCollected(),
-                            rescuerDto.rescueCount() + 1, rescuerDto.escapeCount(),
-                            System.currentTimeMillis()
-                        );
-                        inGamePlayerStore.updatePlayer(command.gameId(), updatedRescuer);
-
-                        gameEventService.publish(new GameEvent.PlayerRescued(
-                            command.gameId(), command.rescuerId(), command.rescuedId(),
-                            System.currentTimeMillis()
-                        ));
-
-                        return new CommandResult.Success<>(null, "Rescued");
-                    });
-                });
+        var gameId = command.gameId();
+        var stateResult = gameStateStore.getGameState(gameId);
+        return ResultMapper.toCommandResult(stateResult).flatMap(stateDto -> {
+            var event = new GameEvent.PlayerRescued(
+                gameId, command.rescuerId(), command.rescuedId(), System.currentTimeMillis()
+            );
+            var actionResult = inGamePlayerStore.rescue(
+                gameId, command.rescuerId(), command.rescuedId(),
+                actionRadius(stateDto), GameEventMapper.toDto(event)
+            );
+            return ResultMapper.toCommandResult(actionResult).flatMap(action -> switch (action.outcome()) {
+                case SUCCESS -> new CommandResult.Success<>(null, "Rescued");
+                case ACTOR_NOT_FOUND -> playerNotFound(gameId, command.rescuerId());
+                case ACTOR_ROLE_MISMATCH -> new CommandResult.BusinessError<>("Only robbers can rescue");
+                case ACTOR_NOT_ACTIVE -> new CommandResult.BusinessError<>("Rescuer is not active");
+                case TARGET_NOT_FOUND -> playerNotFound(gameId, command.rescuedId());
+                case TARGET_ROLE_MISMATCH, TARGET_STATUS_MISMATCH ->
+                    new CommandResult.BusinessError<>("Target is not arrested");
+                case LOCATION_NOT_FOUND -> locationNotFound(command.rescuerId(), command.rescuedId());
+                case OUT_OF_RANGE -> new CommandResult.BusinessError<>(
+                    "Target is out of rescue range: " + action.distanceMeters() + "m"
+                );
             });
         });
     }
 
     /**
      * 보석 획득 (도둑 전용).
+     * <p>
+     * 같은 보석을 동시에 획득하면 먼저 도착한 요청만 성공합니다.
      */
     public CommandResult<Void> collectGem(CollectGemCommand command) {
-        var playerResult = inGamePlayerStore.getPlayer(command.gameId(), command.robberId());
-        return ResultMapper.toCommandResult(playerResult).flatMap(playerDto -> {
-            if (!playerDto.role().equals(PlayerRole.THIEF.name())) {
-                return new CommandResult.BusinessError<>("Only robbers can collect gems");
-            }
-            if (!playerDto.status().equals(PlayerStatus.ACTIVE.name())) {
-                return new CommandResult.BusinessError<>("Player is not active");
-            }
-
-            var gemResult = gemStore.getGem(command.gameId(), command.gemId());
-            return ResultMapper.toCommandResult(gemResult).flatMap(gemDto -> {
-                if (!gemDto.status().equals(GemStatus.AVAILABLE.name())) {
-                    return new CommandResult.BusinessError<>("Gem is already collected");
-                }
-
-                var stateResult = gameStateStore.getGameState(command.gameId());
-                return ResultMapper.toCommandResult(stateResult).flatMap(stateDto -> {
-                    double radius = stateDto.settings() != null
-                        ? stateDto.settings().actionRadiusMeters()
-                        : 1.0;
-                    var playerLocResult = locationStore.getLocation(command.gameId(), command.robberId());
-                    return ResultMapper.toCommandResult(playerLocResult).flatMap(loc -> {
-                        double dist = haversineMeters(
-                            loc.latitude(), loc.longitude(),
-                            gemDto.latitude(), gemDto.longitude()
-                        );
-                        if (dist > radius) {
-                            return new CommandResult.BusinessError<>(
-                                "Gem is out of collect range: " + dist + "m"
-                            );
-                        }
-
-                        // Collect gem
-                        var collectedGem = new com.toy.cnr.port.game.model.GemDto(
-                            gemDto.gemId(), gemDto.latitude(), gemDto.longitude(),
-                            GemStatus.COLLECTED.name(), command.robberId(), gemDto.spawnedAt()
-                        );
-                        gemStore.updateGem(command.gameId(), collectedGem);
-
-                        var updatedPlayer = new InGamePlayerDto(
-                            playerDto.playerId(), playerDto.playerName(),
-                            playerDto.role(), playerDto.status(),
-                            playerDto.arrestCount(), playerDto.gemsCollected() + 1,
-                            playerDto.rescueCount(), playerDto.escapeCount(),
-                            System.currentTimeMillis()
-                        );
-                        inGamePlayerStore.updatePlayer(command.gameId(), updatedPlayer);
-
-                        gameEventService.publish(new GameEvent.GemCollected(
-                            command.gameId(), command.robberId(), command.gemId(),
-                            System.currentTimeMillis()
-                        ));
-
-                        return new CommandResult.Success<>(null, "Gem collected");
-                    });
-                });
+        var gameId = command.gameId();
+        var stateResult = gameStateStore.getGameState(gameId);
+        return ResultMapper.toCommandResult(stateResult).flatMap(stateDto -> {
+            var event = new GameEvent.GemCollected(
+                gameId, command.robberId(), command.gemId(), System.currentTimeMillis()
+            );
+            var actionResult = gemStore.collectGem(
+                gameId, command.robberId(), command.gemId(),
+                actionRadius(stateDto), GameEventMapper.toDto(event)
+            );
+            return ResultMapper.toCommandResult(actionResult).flatMap(action -> switch (action.outcome()) {
+                case SUCCESS -> new CommandResult.Success<>(null, "Gem collected");
+                case ACTOR_NOT_FOUND -> playerNotFound(gameId, command.robberId());
+                case ACTOR_ROLE_MISMATCH -> new CommandResult.BusinessError<>("Only robbers can collect gems");
+                case ACTOR_NOT_ACTIVE -> new CommandResult.BusinessError<>("Player is not active");
+                case TARGET_NOT_FOUND -> new CommandResult.BusinessError<>(
+                    "Gem not found: " + command.gemId() + " in game: " + gameId
+                );
+                case TARGET_ROLE_MISMATCH, TARGET_STATUS_MISMATCH ->
+                    new CommandResult.BusinessError<>("Gem is already collected");
+                case LOCATION_NOT_FOUND -> new CommandResult.BusinessError<>(
+                    "Location not found for player: " + command.robberId()
+                );
+                case OUT_OF_RANGE -> new CommandResult.BusinessError<>(
+                    "Gem is out of collect range: " + action.distanceMeters() + "m"
+                );
             });
         });
     }
@@ -342,29 +241,17 @@ public class GameActionService {
         });
     }
 
-    private void checkAllRobbersArrested(String gameId) {
-        var allResult = inGamePlayerStore.getAllPlayers(gameId);
-        if (!(allResult instanceof com.toy.cnr.port.common.RepositoryResult.Found<List<InGamePlayerDto>> found)) {
-            return;
-        }
-        var players = found.data();
-        boolean allRobbersArrested = players.stream()
-            .filter(p -> p.role().equals(PlayerRole.THIEF.name()))
-            .allMatch(p -> p.status().equals(PlayerStatus.ARRESTED.name()));
+    private static double actionRadius(GameStateDto stateDto) {
+        return stateDto.settings() != null ? stateDto.settings().actionRadiusMeters() : 1.0;
+    }
 
-        if (allRobbersArrested) {
-            gameTimerService.endGame(gameId, PlayerRole.POLICE.name());
-        }
+    private static CommandResult<Void> playerNotFound(String gameId, String playerId) {
+        return new CommandResult.BusinessError<>("Player not found: " + playerId + " in game: " + gameId);
     }
 
-    /** 두 GPS 좌표 간 거리 계산 (미터) */
-    private static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6371000;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    private static CommandResult<Void> locationNotFound(String playerId1, String playerId2) {
+        return new CommandResult.BusinessError<>(
+            "Location not found for one of the players: " + playerId1 + ", " + playerId2
+        );
     }
 }
@@ -1,31 +1,47 @@
 package com.toy.cnr.application.game.service;
 
+import com.toy.cnr.application.common.ResultMapper;
 import com.toy.cnr.application.game.mapper.GameEventMapper;
+import com.toy.cnr.domain.common.CommandResult;
 import com.toy.cnr.domain.game.GameEvent;
+import com.toy.cnr.domain.game.GameEventEntry;
+import com.toy.cnr.port.game.GameEventLogStore;
 import com.toy.cnr.port.game.GameEventPublisher;
 import com.toy.cnr.port.game.GameEventSubscriber;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
  * 게임 이벤트 발행/구독 서비스.
  * <p>
- * GameEventPublisher(Pub/Sub PUBLISH),
- * GameEventSubscriber(Pub/Sub SUBSCRIBE) 포트를 사용합니다.
+ * GameEventPublisher(이벤트 로그 기록 + Pub/Sub PUBLISH),
+ * GameEventSubscriber(Pub/Sub SUBSCRIBE),
+ * GameEventLogStore(재연결 시 놓친 이벤트 재생) 포트를 사용합니다.
+ * <p>
+ * 한 플레이어에게만 의미 있는 이벤트(역할 배정 등)는 {@link #publishToPlayer}로 개인 채널에 발행하여,
+ * 게임 인원이 늘어도 전달 수가 관련 구독자 수에만 비례하도록 합니다.
  */
 @Service
 public class GameEventService {
 
+    /** 한 번에 재생할 최대 이벤트 수. 이보다 많이 놓쳤으면 전체 상태를 다시 조회하는 편이 저렴합니다. */
+    static final int MAX_REPLAY_EVENTS = 500;
+
     private final GameEventPublisher gameEventPublisher;
     private final GameEventSubscriber gameEventSubscriber;
+    private final GameEventLogStore gameEventLogStore;
 
     public GameEventService(
         GameEventPublisher gameEventPublisher,
-        GameEventSubscriber gameEventSubscriber
+        GameEventSubscriber gameEventSubscriber,
+        GameEventLogStore gameEventLogStore
     ) {
         this.gameEventPublisher = gameEventPublisher;
         this.gameEventSubscriber = gameEventSubscriber;
+        this.gameEventLogStore = gameEventLogStore;
     }
 
     /**
@@ -36,18 +52,68 @@ public class GameEventService {
     }
 
     /**
-     * 게임 이벤트 채널을 구독합니다.
+     * 게임 이벤트를 플레이어 한 명의 개인 채널로 발행합니다 (이벤트 로그 미기록).
+     */
+    public void publishToPlayer(String playerId, GameEvent event) {
+        gameEventPublisher.publishToPlayer(event.gameId(), playerId, GameEventMapper.toDto(event));
+    }
+
+    /**
+     * 게임 이벤트 채널과 플레이어 개인 채널을 구독하고, 지정한 타입의 이벤트만 받습니다.
      *
-     * @param gameId  게임 세션 ID
-     * @param onEvent 이벤트 수신 시 호출되는 콜백 (도메인 모델 전달)
+     * @param gameId   게임 세션 ID
+     * @param playerId 개인 채널을 함께 구독할 플레이어 ID (null이면 게임 채널만)
+     * @param types    받을 이벤트 타입 (예: {@code PLAYER_ARRESTED}, null 또는 빈 집합이면 전체)
+     * @param onEvent  이벤트 수신 시 호출되는 콜백 (이벤트 로그 ID가 붙은 도메인 모델, 개인 채널 이벤트는 ID 없음)
      * @return 구독 해제에 사용할 subscriberId
      */
-    public String subscribe(String gameId, Consumer<GameEvent> onEvent) {
-        return gameEventSubscriber.subscribe(gameId, dto ->
+    public String subscribe(String gameId, String playerId, Set<String> types, Consumer<GameEventEntry> onEvent) {
+        return gameEventSubscriber.subscribe(gameId, playerId, types, dto ->
             onEvent.accept(GameEventMapper.toDomain(dto))
         );
     }
 
+    /**
+     * 플레이어 개인 채널만 구독하고, 지정한 타입의 이벤트만 받습니다.
+     *
+     * @param gameId   게임 세션 ID
+     * @param playerId 플레이어 ID
+     * @param types    받을 이벤트 타입 (null 또는 빈 집합이면 전체)
+     * @param onEvent  이벤트 수신 시 호출되는 콜백 (ID 없음)
+     * @return 구독 해제에 사용할 subscriberId
+     */
+    public String subscribeToPlayer(String gameId, String playerId, Set<String> types, Consumer<GameEventEntry> onEvent) {
+        return gameEventSubscriber.subscribeToPlayer(gameId, playerId, types, dto ->
+            onEvent.accept(GameEventMapper.toDomain(dto))
+        );
+    }
+
+    /**
+     * {@code lastEventId} 이후 놓친 이벤트를 오래된 순으로 조회합니다 (재연결 시 재생용).
+     * <p>
+     * 로그 상한으로 구간이 잘렸거나 {@link #MAX_REPLAY_EVENTS}보다 많이 놓쳤으면 BusinessError를 반환하며,
+     * 이 경우 클라이언트는 게임 상태를 한 번 다시 조회해야 합니다.
+     *
+     * @param types 받을 이벤트 타입 (null 또는 빈 집합이면 전체)
+     */
+    public CommandResult<List<GameEventEntry>> replay(String gameId, String lastEventId, Set<String> types) {
+        var result = gameEventLogStore.readAfter(gameId, lastEventId, MAX_REPLAY_EVENTS + 1);
+        return ResultMapper.toCommandResult(result).flatMap(entries -> {
+            if (entries.size() > MAX_REPLAY_EVENTS) {
+                return new CommandResult.BusinessError<>(
+                    "Too many missed events since: " + lastEventId
+                );
+            }
+            return new CommandResult.Success<>(
+                entries.stream()
+                    .filter(entry -> types == null || types.isEmpty() || types.contains(entry.event().type()))
+                    .map(GameEventMapper::toDomain)
+                    .toList(),
+                "Replayed"
+            );
+        });
+    }
+
     /**
      * 구독을 해제합니다.
      */
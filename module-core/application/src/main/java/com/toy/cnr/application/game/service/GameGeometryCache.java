@@ -0,0 +1,132 @@
+package com.toy.cnr.application.game.service;
+
+import com.toy.cnr.application.game.util.PreparedPolygon;
+import com.toy.cnr.application.game.util.TriangulatedPolygon;
+import com.toy.cnr.domain.room.GeoPoint;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameStateStore;
+import com.toy.cnr.port.game.model.GameStateDto;
+import com.toy.cnr.port.room.model.RoomSettingsDto;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임별 구역(플레이/감옥/제한 구역) 폴리곤을 {@link PreparedPolygon}으로 준비해 두는 노드 로컬 캐시.
+ * <p>
+ * 구역 설정은 게임 시작 후 변하지 않으므로 게임당 한 번만 조회·전처리합니다.
+ * 플레이 구역은 보석 스폰 좌표를 뽑기 위해 {@link TriangulatedPolygon}으로도 삼각 분할해 둡니다.
+ * 게임 종료 시 {@link #evict(String)}로 제거하며, 다른 노드에서 종료된 게임은
+ * {@link #IDLE_EVICT_MILLIS} 동안 조회되지 않으면 다음 적재 시점에 정리됩니다.
+ */
+@Component
+public class GameGeometryCache {
+
+    static final long IDLE_EVICT_MILLIS = 30 * 60 * 1000L;
+
+    private final GameStateStore gameStateStore;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public GameGeometryCache(GameStateStore gameStateStore) {
+        this.gameStateStore = gameStateStore;
+    }
+
+    /**
+     * 게임의 구역 폴리곤을 반환합니다. 캐시에 없으면 게임 상태를 조회하여 적재합니다.
+     *
+     * @return 구역 폴리곤, 게임 상태를 조회할 수 없으면 {@code null}
+     */
+    public GameGeometry get(String gameId) {
+        long now = System.currentTimeMillis();
+        var entry = entries.get(gameId);
+        if (entry != null) {
+            entry.lastAccessedAt = now;
+            return entry.geometry;
+        }
+
+        var geometry = load(gameId);
+        if (geometry == null) {
+            return null;
+        }
+        evictIdle(now);
+        entries.put(gameId, new Entry(geometry, now));
+        return geometry;
+    }
+
+    /**
+     * 게임의 캐시 항목을 제거합니다.
+     */
+    public void evict(String gameId) {
+        entries.remove(gameId);
+    }
+
+    private GameGeometry load(String gameId) {
+        var stateResult = gameStateStore.getGameState(gameId);
+        if (!(stateResult instanceof RepositoryResult.Found<GameStateDto> stateFound)) {
+            return null;
+        }
+        var settings = stateFound.data().settings();
+        if (settings == null) {
+            return GameGeometry.EMPTY;
+        }
+        return new GameGeometry(
+            prepare(settings.playArea()),
+            prepare(settings.prisonArea()),
+            prepare(settings.restrictedArea()),
+            triangulate(settings.playArea())
+        );
+    }
+
+    private void evictIdle(long now) {
+        entries.values().removeIf(entry -> now - entry.lastAccessedAt > IDLE_EVICT_MILLIS);
+    }
+
+    private static PreparedPolygon prepare(List<RoomSettingsDto.GeoPointDto> points) {
+        if (points == null || points.size() < 3) {
+            return PreparedPolygon.EMPTY;
+        }
+        return PreparedPolygon.of(toGeoPoints(points));
+    }
+
+    private static TriangulatedPolygon triangulate(List<RoomSettingsDto.GeoPointDto> points) {
+        if (points == null || points.size() < 3) {
+            return TriangulatedPolygon.EMPTY;
+        }
+        return TriangulatedPolygon.of(toGeoPoints(points));
+    }
+
+    private static List<GeoPoint> toGeoPoints(List<RoomSettingsDto.GeoPointDto> points) {
+        return points.stream()
+            .map(p -> new GeoPoint(p.latitude(), p.longitude()))
+            .toList();
+    }
+
+    /**
+     * 한 게임의 전처리된 구역 폴리곤. 설정되지 않은 구역은 {@link PreparedPolygon#EMPTY}입니다.
+     *
+     * @param playAreaTriangles 플레이 구역 삼각 분할 (설정되지 않았거나 분할할 수 없으면 {@link TriangulatedPolygon#EMPTY})
+     */
+    public record GameGeometry(
+        PreparedPolygon playArea,
+        PreparedPolygon prisonArea,
+        PreparedPolygon restrictedArea,
+        TriangulatedPolygon playAreaTriangles
+    ) {
+        static final GameGeometry EMPTY = new GameGeometry(
+            PreparedPolygon.EMPTY, PreparedPolygon.EMPTY, PreparedPolygon.EMPTY, TriangulatedPolygon.EMPTY
+        );
+    }
+
+    private static final class Entry {
+
+        private final GameGeometry geometry;
+        private volatile long lastAccessedAt;
+
+        private Entry(GameGeometry geometry, long lastAccessedAt) {
+            this.geometry = geometry;
+            this.lastAccessedAt = lastAccessedAt;
+        }
+    }
+}
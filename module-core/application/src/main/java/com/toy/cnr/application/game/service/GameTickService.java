@@ -0,0 +1,200 @@
+package com.toy.cnr.application.game.service;
+
+import com.toy.cnr.application.game.util.SpatialGridIndex;
+import com.toy.cnr.domain.game.GameEvent;
+import com.toy.cnr.domain.game.GameStatus;
+import com.toy.cnr.domain.game.PlayerRole;
+import com.toy.cnr.domain.game.PlayerStatus;
+import com.toy.cnr.domain.room.GeoPoint;
+import com.toy.cnr.port.game.model.GameStateDto;
+import com.toy.cnr.port.game.model.GameTickSnapshotDto;
+import com.toy.cnr.port.room.model.RoomSettingsDto;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게임 틱 서비스.
+ * <p>
+ * 게임 하나의 주기 작업을 스냅샷 한 장으로 한 번에 처리합니다 (GameTickEngine이 게임마다 고정 주기로 호출).
+ * <ol>
+ *   <li>남은 시간 안내: 분이 바뀔 때마다, 그리고 30초/10초 전에 {@link GameEvent.TimeRemaining} 발행</li>
+ *   <li>좌표 끊김 감지: ACTIVE 플레이어의 마지막 좌표가 {@link #STALE_AFTER_MILLIS} 이상 지나면 {@link GameEvent.PlayerStale} 1회 발행</li>
+ *   <li>보석 보충: {@link #GEM_TOP_UP_INTERVAL_MILLIS}마다 AVAILABLE 보석이 부족하면 스냅샷의 보석·경찰 위치를 피해 1개 스폰 (PLAYING)</li>
+ *   <li>경찰 접근: ACTIVE 경찰이 ACTIVE 도둑 {@link #PROXIMITY_METERS} 안에 들어오면 그 도둑에게만 {@link GameEvent.PoliceNearby} 발행 (PLAYING)</li>
+ * </ol>
+ * 틱 사이에 기억해야 하는 값(직전 안내 시점, 이미 알린 플레이어 등)은 게임별 {@link TickState}에 둡니다.
+ */
+@Service
+public class GameTickService {
+
+    static final long STALE_AFTER_MILLIS = 60_000L;
+    static final long GEM_TOP_UP_INTERVAL_MILLIS = 30_000L;
+    static final double PROXIMITY_METERS = 50;
+
+    private final GemSpawnService gemSpawnService;
+    private final GameEventService gameEventService;
+
+    public GameTickService(GemSpawnService gemSpawnService, GameEventService gameEventService) {
+        this.gemSpawnService = gemSpawnService;
+        this.gameEventService = gameEventService;
+    }
+
+    /**
+     * 게임 하나의 틱을 처리합니다. 진행 중(ESCAPE_PHASE/PLAYING)이 아닌 게임은 건너뜁니다.
+     *
+     * @param state     게임 상태
+     * @param snapshot  이번 틱의 스냅샷
+     * @param tickState 게임별 틱 상태 (같은 게임의 틱은 한 스레드에서만 호출)
+     * @param now       틱 시각 (epoch millis)
+     */
+    public void tick(GameStateDto state, GameTickSnapshotDto snapshot, TickState tickState, long now) {
+        boolean playing = state.status().equals(GameStatus.PLAYING.name());
+        if (!playing && !state.status().equals(GameStatus.ESCAPE_PHASE.name())) {
+            return;
+        }
+
+        announceTimeRemaining(state, tickState, now);
+        detectStalePlayers(state, snapshot, tickState, now);
+        if (playing) {
+            topUpGems(state, snapshot, tickState, now);
+            evaluateProximity(state.gameId(), snapshot, tickState, now);
+        }
+    }
+
+    private void announceTimeRemaining(GameStateDto state, TickState tickState, long now) {
+        long remainingSeconds = Math.ceilDiv(state.endsAt() - now, 1000L);
+        if (remainingSeconds <= 0) {
+            return;
+        }
+        long milestone = milestone(remainingSeconds);
+        long previous = tickState.lastMilestone;
+        tickState.lastMilestone = milestone;
+        // 첫 틱(노드 시작·게임 인수)은 기준만 잡고 알리지 않음
+        if (previous > 0 && milestone < previous) {
+            gameEventService.publish(new GameEvent.TimeRemaining(state.gameId(), milestone, now));
+        }
+    }
+
+    /** 남은 시간이 속한 안내 구간의 상한 (초): 1분 초과는 분 단위, 이후 60/30/10 */
+    static long milestone(long remainingSeconds) {
+        if (remainingSeconds > 60) {
+            return Math.ceilDiv(remainingSeconds, 60L) * 60;
+        }
+        if (remainingSeconds > 30) {
+            return 60;
+        }
+        if (remainingSeconds > 10) {
+            return 30;
+        }
+        return 10;
+    }
+
+    private void detectStalePlayers(
+        GameStateDto state,
+        GameTickSnapshotDto snapshot,
+        TickState tickState,
+        long now
+    ) {
+        var stale = new HashSet<String>();
+        for (var player : snapshot.players()) {
+            if (!player.status().equals(PlayerStatus.ACTIVE.name())) {
+                continue;
+            }
+            // 좌표를 한 번도 보내지 않은 플레이어는 게임 시작 시각부터 계산
+            long lastSeenAt = Math.max(player.lastSeenAt(), state.startedAt());
+            if (now - lastSeenAt < STALE_AFTER_MILLIS) {
+                continue;
+            }
+            stale.add(player.playerId());
+            if (!tickState.stalePlayers.contains(player.playerId())) {
+                gameEventService.publish(new GameEvent.PlayerStale(
+                    state.gameId(), player.playerId(), player.lastSeenAt(), now
+                ));
+            }
+        }
+        tickState.stalePlayers = stale;
+    }
+
+    private void topUpGems(GameStateDto state, GameTickSnapshotDto snapshot, TickState tickState, long now) {
+        if (tickState.nextGemTopUpAt == 0) {
+            tickState.nextGemTopUpAt = now + GEM_TOP_UP_INTERVAL_MILLIS;
+            return;
+        }
+        if (now < tickState.nextGemTopUpAt) {
+            return;
+        }
+        tickState.nextGemTopUpAt = now + GEM_TOP_UP_INTERVAL_MILLIS;
+
+        var police = snapshot.players().stream()
+            .filter(player -> isActiveWithLocation(player, PlayerRole.POLICE))
+            .map(player -> new GeoPoint(player.latitude(), player.longitude()))
+            .toList();
+        gemSpawnService.spawnIfNeeded(state.gameId(), playArea(state.settings()), snapshot.gems(), police);
+    }
+
+    private void evaluateProximity(String gameId, GameTickSnapshotDto snapshot, TickState tickState, long now) {
+        var thieves = new SpatialGridIndex<String>(PROXIMITY_METERS);
+        for (var player : snapshot.players()) {
+            if (isActiveWithLocation(player, PlayerRole.THIEF)) {
+                thieves.put(player.playerId(), player.latitude(), player.longitude());
+            }
+        }
+
+        Map<String, Double> nearby = new HashMap<>();
+        if (thieves.size() > 0) {
+            for (var player : snapshot.players()) {
+                if (isActiveWithLocation(player, PlayerRole.POLICE)) {
+                    thieves.forEachWithin(player.latitude(), player.longitude(), PROXIMITY_METERS,
+                        (thiefId, distance) -> nearby.merge(thiefId, distance, Math::min));
+                }
+            }
+        }
+
+        nearby.forEach((thiefId, distance) -> {
+            if (!tickState.nearbyThieves.contains(thiefId)) {
+                gameEventService.publishToPlayer(thiefId, new GameEvent.PoliceNearby(gameId, thiefId, distance, now));
+            }
+        });
+        tickState.nearbyThieves = nearby.keySet();
+    }
+
+    private static boolean isActiveWithLocation(GameTickSnapshotDto.TickPlayerDto player, PlayerRole role) {
+        return player.role().equals(role.name())
+            && player.status().equals(PlayerStatus.ACTIVE.name())
+            && player.latitude() != null
+            && player.longitude() != null;
+    }
+
+    private static List<GeoPoint> playArea(RoomSettingsDto settings) {
+        if (settings == null || settings.playArea() == null) {
+            return Collections.emptyList();
+        }
+        return settings.playArea().stream()
+            .map(p -> new GeoPoint(p.latitude(), p.longitude()))
+            .toList();
+    }
+
+    /**
+     * 게임 하나의 틱 사이 상태. 같은 게임의 틱은 한 스레드에서만 돌므로 동기화하지 않습니다.
+     */
+    public static final class TickState {
+
+        /** 직전 틱의 남은 시간 안내 구간 (초, 아직 없으면 0) */
+        private long lastMilestone;
+
+        /** 다음 보석 보충 시각 (아직 없으면 0) */
+        private long nextGemTopUpAt;
+
+        /** 끊김을 이미 알린 플레이어 */
+        private Set<String> stalePlayers = Set.of();
+
+        /** 경찰 접근을 이미 알린 도둑 */
+        private Set<String> nearbyThieves = Set.of();
+    }
+}
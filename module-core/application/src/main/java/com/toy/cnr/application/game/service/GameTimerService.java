@@ -10,6 +10,8 @@ import com.toy.cnr.port.game.GameTimerPort;
 import com.toy.cnr.port.game.model.GameStateDto;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 /**
  * 게임 라이프사이클 타이머 서비스.
  * <p>
@@ -18,25 +20,36 @@ import org.springframework.stereotype.Service;
  *   <li>escape timer: escapeTimeMinutes 후 ESCAPE_PHASE → PLAYING 전환</li>
  *   <li>end timer: gameDurationMinutes 후 게임이 아직 PLAYING이면 ENDED + GameEnded(THIEF) 발행</li>
  * </ol>
+ * 타이머는 다른 노드에서 실행될 수 있으므로 타입별 핸들러를 생성 시 등록하고 taskId만 예약합니다.
+ * 노드 재시작 시 {@link #restoreTimers()}가 활성 게임의 {@code startedAt}/{@code endsAt}으로 빠진 타이머를 다시 예약합니다.
  */
 @Service
 public class GameTimerService {
 
+    static final String ESCAPE = "escape";
+    static final String END = "end";
+
     private final GameTimerPort gameTimerPort;
     private final GameStateStore gameStateStore;
     private final GameRegistryStore gameRegistryStore;
     private final GameEventService gameEventService;
+    private final GameGeometryCache gameGeometryCache;
 
     public GameTimerService(
         GameTimerPort gameTimerPort,
         GameStateStore gameStateStore,
         GameRegistryStore gameRegistryStore,
-        GameEventService gameEventService
+        GameEventService gameEventService,
+        GameGeometryCache gameGeometryCache
     ) {
         this.gameTimerPort = gameTimerPort;
         this.gameStateStore = gameStateStore;
         this.gameRegistryStore = gameRegistryStore;
         this.gameEventService = gameEventService;
+        this.gameGeometryCache = gameGeometryCache;
+
+        gameTimerPort.registerHandler(ESCAPE, this::onEscapeTimer);
+        gameTimerPort.registerHandler(END, this::onEndTimer);
     }
 
     /**
@@ -47,43 +60,88 @@ public class GameTimerService {
      * @param totalMs  전체 게임 시간 (밀리초) — 이후 도둑 승리로 종료
      */
     public void scheduleGame(String gameId, long escapeMs, long totalMs) {
-        // Timer 1: ESCAPE_PHASE → PLAYING
-        gameTimerPort.schedule("escape:" + gameId, escapeMs, () -> {
-            var result = gameStateStore.getGameState(gameId);
-            if (result instanceof RepositoryResult.Found<GameStateDto> found
-                && found.data().status().equals(GameStatus.ESCAPE_PHASE.name())) {
-                gameStateStore.updateStatus(gameId, GameStatus.PLAYING.name());
-            }
-        });
+        gameTimerPort.schedule(taskId(ESCAPE, gameId), escapeMs);
+        gameTimerPort.schedule(taskId(END, gameId), totalMs);
+    }
 
-        // Timer 2: PLAYING → ENDED (robbers win by time)
-        gameTimerPort.schedule("end:" + gameId, totalMs, () -> {
-            var result = gameStateStore.getGameState(gameId);
-            if (result instanceof RepositoryResult.Found<GameStateDto> found
-                && found.data().status().equals(GameStatus.PLAYING.name())) {
-                endGame(gameId, PlayerRole.THIEF.name());
+    /**
+     * 활성 게임의 라이프사이클 타이머를 게임 상태로부터 다시 예약합니다 (노드 시작 시).
+     * 이미 예약된 타이머는 건드리지 않고, 마감이 지난 타이머는 바로 실행되도록 예약합니다.
+     *
+     * @return 확인한 활성 게임 수
+     */
+    public int restoreTimers() {
+        if (!(gameRegistryStore.getActiveGameIds() instanceof RepositoryResult.Found<Set<String>> registry)) {
+            return 0;
+        }
+        var now = System.currentTimeMillis();
+        int restored = 0;
+        for (var gameId : registry.data()) {
+            if (!(gameStateStore.getGameState(gameId) instanceof RepositoryResult.Found<GameStateDto> found)) {
+                continue;
             }
-        });
+            var state = found.data();
+            if (state.status().equals(GameStatus.ESCAPE_PHASE.name()) && state.settings() != null) {
+                long escapeEndsAt = state.startedAt() + (long) state.settings().escapeTimeMinutes() * 60 * 1000;
+                gameTimerPort.scheduleIfAbsent(taskId(ESCAPE, gameId), Math.max(0, escapeEndsAt - now));
+            }
+            if (!state.status().equals(GameStatus.ENDED.name())) {
+                gameTimerPort.scheduleIfAbsent(taskId(END, gameId), Math.max(0, state.endsAt() - now));
+            }
+            restored++;
+        }
+        return restored;
+    }
+
+    /** Timer 1: ESCAPE_PHASE → PLAYING */
+    private void onEscapeTimer(String gameId) {
+        var result = gameStateStore.getGameState(gameId);
+        if (result instanceof RepositoryResult.Found<GameStateDto> found
+            && found.data().status().equals(GameStatus.ESCAPE_PHASE.name())) {
+            gameStateStore.updateStatus(gameId, GameStatus.PLAYING.name());
+        }
+    }
+
+    /** Timer 2: PLAYING → ENDED (robbers win by time) */
+    private void onEndTimer(String gameId) {
+        var result = gameStateStore.getGameState(gameId);
+        if (result instanceof RepositoryResult.Found<GameStateDto> found
+            && found.data().status().equals(GameStatus.PLAYING.name())) {
+            endGame(gameId, PlayerRole.THIEF.name());
+        }
     }
 
     /**
      * 게임을 즉시 종료합니다 (경찰 승리 시 호출).
-     * 등록된 타이머를 취소하고 ENDED 상태로 전환 후 GameEnded 이벤트를 발행합니다.
+     * ENDED 상태로 전환하고, 이 호출이 실제로 전환했을 때만 타이머를 취소하고 GameEnded 이벤트를 발행합니다.
+     * 마지막 체포와 종료 타이머가 동시에 종료해도 이벤트는 한 번만 발행됩니다.
+     * 게임 상태가 이미 없으면 타이머와 활성 게임 등록만 정리합니다.
      *
      * @param gameId     게임 ID
      * @param winnerRole 승리 역할 이름 ("POLICE" 또는 "THIEF")
      */
     public void endGame(String gameId, String winnerRole) {
+        var transition = gameStateStore.updateStatus(gameId, GameStatus.ENDED.name());
+        boolean ended = transition instanceof RepositoryResult.Found<Boolean> found && found.data();
+        if (!ended && !(transition instanceof RepositoryResult.NotFound<Boolean>)) {
+            return;
+        }
         cancelTimers(gameId);
-        gameStateStore.updateStatus(gameId, GameStatus.ENDED.name());
         gameRegistryStore.unregister(gameId);
-        gameEventService.publish(new GameEvent.GameEnded(
-            gameId, winnerRole, System.currentTimeMillis()
-        ));
+        gameGeometryCache.evict(gameId);
+        if (ended) {
+            gameEventService.publish(new GameEvent.GameEnded(
+                gameId, winnerRole, System.currentTimeMillis()
+            ));
+        }
     }
 
     private void cancelTimers(String gameId) {
-        gameTimerPort.cancel("escape:" + gameId);
-        gameTimerPort.cancel("end:" + gameId);
+        gameTimerPort.cancel(taskId(ESCAPE, gameId));
+        gameTimerPort.cancel(taskId(END, gameId));
+    }
+
+    private static String taskId(String type, String gameId) {
+        return type + ":" + gameId;
     }
 }
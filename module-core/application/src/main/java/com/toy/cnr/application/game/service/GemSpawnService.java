@@ -1,12 +1,20 @@
 package com.toy.cnr.application.game.service;
 
+import com.toy.cnr.application.game.spawn.GemPlacementContext;
+import com.toy.cnr.application.game.spawn.GemPlacementRule;
 import com.toy.cnr.application.game.util.PolygonUtils;
+import com.toy.cnr.application.game.util.PreparedPolygon;
+import com.toy.cnr.application.game.util.SpatialGridIndex;
 import com.toy.cnr.domain.game.GameEvent;
 import com.toy.cnr.domain.game.GemStatus;
+import com.toy.cnr.domain.game.PlayerRole;
+import com.toy.cnr.domain.game.PlayerStatus;
 import com.toy.cnr.domain.room.GeoPoint;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.GemStore;
+import com.toy.cnr.port.game.LocationStore;
 import com.toy.cnr.port.game.model.GemDto;
+import com.toy.cnr.port.game.model.NearbyLocationDto;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,39 +25,64 @@ import java.util.UUID;
  * 보석 스폰/조회 서비스.
  * <p>
  * 게임 시작 시 초기 보석을 스폰하고,
- * GemSpawnScheduler가 주기적으로 {@link #spawnIfNeeded}를 호출하여 보석 개수를 유지합니다.
+ * GemSpawnScheduler 또는 게임 틱(GameTickService)이 주기적으로 {@link #spawnIfNeeded}를 호출하여 보석 개수를 유지합니다.
+ * <p>
+ * 스폰 좌표는 {@link GameGeometryCache}에 캐시된 플레이 구역 삼각 분할에서 기각 없이 뽑습니다.
+ * 게임 상태를 읽을 수 없거나 분할할 수 없는 폴리곤(자기 교차)이면 넘겨받은 폴리곤으로 기각 샘플링합니다.
+ * <p>
+ * 뽑은 후보는 등록된 {@link GemPlacementRule}(보석 간격, 경찰 접근 금지, 금지 구역)로 판정해 모두 통과한 첫 후보에 놓습니다.
+ * 현재 보석·경찰 위치는 스폰마다 {@link GemPlacementContext}의 격자 인덱스에 담아 후보 판정이 주변 칸만 훑게 합니다.
+ * {@value #MAX_PLACEMENT_ATTEMPTS}개 후보가 모두 거절되면 이번 스폰은 건너뛰고 다음 주기에 다시 시도합니다.
  */
 @Service
 public class GemSpawnService {
 
     static final int MAX_GEMS = 5;
     static final int INITIAL_GEM_COUNT = 3;
+    static final int MAX_PLACEMENT_ATTEMPTS = 30;
 
     private static final Random RANDOM = new Random();
 
     private final GemStore gemStore;
+    private final LocationStore locationStore;
     private final GameEventService gameEventService;
+    private final GameGeometryCache gameGeometryCache;
+    private final List<GemPlacementRule> placementRules;
 
-    public GemSpawnService(GemStore gemStore, GameEventService gameEventService) {
+    public GemSpawnService(
+        GemStore gemStore,
+        LocationStore locationStore,
+        GameEventService gameEventService,
+        GameGeometryCache gameGeometryCache,
+        List<GemPlacementRule> placementRules
+    ) {
         this.gemStore = gemStore;
+        this.locationStore = locationStore;
         this.gameEventService = gameEventService;
+        this.gameGeometryCache = gameGeometryCache;
+        this.placementRules = placementRules;
     }
 
     /**
-     * 게임 시작 시 초기 보석을 스폰합니다.
+     * 게임 시작 시 초기 보석을 스폰합니다. 앞서 놓은 보석도 간격 판정에 반영합니다.
      *
      * @param gameId   게임 ID
      * @param playArea 활동 구역 폴리곤
      */
     public void spawnInitialGems(String gameId, List<GeoPoint> playArea) {
+        if (playArea == null || playArea.isEmpty()) {
+            return;
+        }
+        var geometry = gameGeometryCache.get(gameId);
+        var context = placementContext(geometry, List.of(), List.of());
         for (int i = 0; i < INITIAL_GEM_COUNT; i++) {
-            spawnGem(gameId, playArea);
+            spawnGem(gameId, playArea, geometry, context);
         }
     }
 
     /**
      * 현재 AVAILABLE 보석 수가 MAX_GEMS 미만이면 보석 1개를 스폰합니다.
-     * GemSpawnScheduler에서 주기적으로 호출합니다.
+     * GemSpawnScheduler에서 주기적으로 호출하며, 보석과 ACTIVE 경찰 위치를 직접 조회합니다.
      *
      * @param gameId   게임 ID
      * @param playArea 활동 구역 폴리곤
@@ -59,20 +92,38 @@ public class GemSpawnService {
         if (!(result instanceof RepositoryResult.Found<List<GemDto>> found)) {
             return;
         }
-        long availableCount = found.data().stream()
-            .filter(g -> g.status().equals(GemStatus.AVAILABLE.name()))
-            .count();
-
-        if (availableCount < MAX_GEMS) {
-            spawnGem(gameId, playArea);
+        var gems = found.data();
+        if (availableCount(gems) >= MAX_GEMS || playArea == null || playArea.isEmpty()) {
+            return;
         }
+
+        var geometry = gameGeometryCache.get(gameId);
+        var police = activePolice(gameId, geometry);
+        spawnGem(gameId, playArea, geometry, placementContext(geometry, gems, police));
     }
 
-    private void spawnGem(String gameId, List<GeoPoint> playArea) {
-        if (playArea == null || playArea.isEmpty()) {
+    /**
+     * 이미 읽어 둔 보석·경찰 위치로 판단해, AVAILABLE 보석이 MAX_GEMS 미만이면 보석 1개를 스폰합니다.
+     * 게임 틱에서 스냅샷으로 읽은 경우 호출합니다.
+     *
+     * @param gems   게임의 모든 보석
+     * @param police ACTIVE 경찰 위치
+     */
+    public void spawnIfNeeded(String gameId, List<GeoPoint> playArea, List<GemDto> gems, List<GeoPoint> police) {
+        if (availableCount(gems) >= MAX_GEMS || playArea == null || playArea.isEmpty()) {
             return;
         }
-        var point = PolygonUtils.randomPoint(playArea, RANDOM);
+        var geometry = gameGeometryCache.get(gameId);
+        spawnGem(gameId, playArea, geometry, placementContext(geometry, gems, police));
+    }
+
+    private void spawnGem(
+        String gameId,
+        List<GeoPoint> playArea,
+        GameGeometryCache.GameGeometry geometry,
+        GemPlacementContext context
+    ) {
+        var point = placeGem(playArea, geometry, context);
         if (point == null) {
             return;
         }
@@ -82,9 +133,96 @@ public class GemSpawnService {
             GemStatus.AVAILABLE.name(), null, now);
 
         gemStore.saveGem(gameId, gem);
+        context.addGem(gemId, point.latitude(), point.longitude());
 
         gameEventService.publish(new GameEvent.GemSpawned(
             gameId, gemId, point.latitude(), point.longitude(), now
         ));
     }
+
+    /**
+     * 후보를 뽑아 모든 배치 규칙을 통과한 첫 후보를 반환합니다.
+     *
+     * @return 배치할 좌표, 후보를 뽑지 못했거나 모두 거절되면 null
+     */
+    private GeoPoint placeGem(
+        List<GeoPoint> playArea,
+        GameGeometryCache.GameGeometry geometry,
+        GemPlacementContext context
+    ) {
+        for (int attempt = 0; attempt < MAX_PLACEMENT_ATTEMPTS; attempt++) {
+            var candidate = randomPoint(playArea, geometry);
+            if (candidate == null) {
+                return null;
+            }
+            if (accepts(context, candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private boolean accepts(GemPlacementContext context, GeoPoint candidate) {
+        for (var rule : placementRules) {
+            if (!rule.accepts(context, candidate.latitude(), candidate.longitude())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static GeoPoint randomPoint(List<GeoPoint> playArea, GameGeometryCache.GameGeometry geometry) {
+        if (geometry != null && !geometry.playAreaTriangles().isEmpty()) {
+            return geometry.playAreaTriangles().sample(RANDOM);
+        }
+        return PolygonUtils.randomPoint(playArea, RANDOM);
+    }
+
+    private static GemPlacementContext placementContext(
+        GameGeometryCache.GameGeometry geometry,
+        List<GemDto> gems,
+        List<GeoPoint> police
+    ) {
+        var availableGems = gems.stream()
+            .filter(g -> g.status().equals(GemStatus.AVAILABLE.name()))
+            .map(g -> new GemPlacementContext.Gem(g.gemId(), g.latitude(), g.longitude()))
+            .toList();
+        return GemPlacementContext.of(
+            availableGems,
+            police,
+            geometry != null ? geometry.prisonArea() : PreparedPolygon.EMPTY,
+            geometry != null ? geometry.restrictedArea() : PreparedPolygon.EMPTY
+        );
+    }
+
+    private static long availableCount(List<GemDto> gems) {
+        return gems.stream()
+            .filter(g -> g.status().equals(GemStatus.AVAILABLE.name()))
+            .count();
+    }
+
+    /**
+     * 플레이 구역을 덮는 원 안의 ACTIVE 경찰 위치를 역할/상태 파티션에서 한 번에 조회합니다.
+     */
+    private List<GeoPoint> activePolice(String gameId, GameGeometryCache.GameGeometry geometry) {
+        if (geometry == null || geometry.playArea().isEmpty()) {
+            return List.of();
+        }
+        var area = geometry.playArea();
+        double centerLat = (area.minLat() + area.maxLat()) / 2;
+        double centerLon = (area.minLon() + area.maxLon()) / 2;
+        double radiusMeters = SpatialGridIndex.distanceMeters(centerLat, centerLon, area.maxLat(), area.maxLon());
+
+        var result = locationStore.searchWithinRadius(
+            gameId, PlayerRole.POLICE.name(), PlayerStatus.ACTIVE.name(),
+            centerLon, centerLat, radiusMeters, false, true
+        );
+        if (!(result instanceof RepositoryResult.Found<List<NearbyLocationDto>> found)) {
+            return List.of();
+        }
+        return found.data().stream()
+            .filter(location -> location.latitude() != null && location.longitude() != null)
+            .map(location -> new GeoPoint(location.latitude(), location.longitude()))
+            .toList();
+    }
 }
@@ -8,11 +8,10 @@ import com.toy.cnr.domain.game.RobberNearby;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.InGamePlayerStore;
 import com.toy.cnr.port.game.LocationStore;
-import com.toy.cnr.port.game.model.InGamePlayerDto;
 import com.toy.cnr.port.game.model.LocationDto;
+import com.toy.cnr.port.game.model.NearbyLocationDto;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -36,7 +35,9 @@ public class GeoService {
 
     /**
      * 경찰 기준 반경(미터) 내에 있는 ACTIVE 상태 도둑 목록을 조회합니다.
-     * 거리는 Redis GEODIST로 계산하며, 반경 값은 호출자가 임의로 지정합니다.
+     * 경찰 좌표를 기준으로 ACTIVE 도둑 파티션만 반경 검색(GEOSEARCH)하므로
+     * 플레이어 수와 무관하게 Redis 왕복 횟수가 일정하고 후처리 필터링이 없습니다.
+     * 결과는 가까운 순으로 정렬됩니다.
      *
      * @param gameId        게임 세션 ID
      * @param copsPlayerId  경찰(요청자) 플레이어 ID
@@ -60,43 +61,33 @@ public class GeoService {
                 return new CommandResult.BusinessError<>("Only cops can query robbers nearby");
             }
 
-            var allResult = inGamePlayerStore.getAllPlayers(gameId);
-            if (!(allResult instanceof RepositoryResult.Found<List<InGamePlayerDto>> found)) {
-                return new CommandResult.BusinessError<>("Failed to load players");
+            var copsLocation = locationStore.getLocation(gameId, copsPlayerId);
+            if (copsLocation instanceof RepositoryResult.NotFound<LocationDto>) {
+                return new CommandResult.Success<>(List.of(), null);
+            }
+            if (!(copsLocation instanceof RepositoryResult.Found<LocationDto> copsFound)) {
+                return new CommandResult.BusinessError<>("Failed to load cops location");
             }
 
-            List<RobberNearby> nearby = new ArrayList<>();
-            for (var player : found.data()) {
-                if (!player.role().equals(PlayerRole.THIEF.name())) {
-                    continue;
-                }
-                if (!player.status().equals(PlayerStatus.ACTIVE.name())) {
-                    continue;
-                }
-                String robberId = player.playerId();
-
-                var distResult = locationStore.getDistanceMeters(gameId, copsPlayerId, robberId);
-                if (!(distResult instanceof RepositoryResult.Found<Double> distFound)) {
-                    continue;
-                }
-                double distance = distFound.data();
-                if (distance > radiusMeters) {
-                    continue;
-                }
-
-                var locResult = locationStore.getLocation(gameId, robberId);
-                if (!(locResult instanceof RepositoryResult.Found<LocationDto> locFound)) {
-                    continue;
-                }
-                var loc = locFound.data();
-                nearby.add(new RobberNearby(
-                    robberId,
-                    distance,
-                    loc.longitude(),
-                    loc.latitude()
-                ));
+            // ACTIVE 도둑 파티션만 GEOSEARCH
+            var center = copsFound.data();
+            var searchResult = locationStore.searchWithinRadius(
+                gameId, PlayerRole.THIEF.name(), PlayerStatus.ACTIVE.name(),
+                center.longitude(), center.latitude(), radiusMeters, true, true
+            );
+            if (!(searchResult instanceof RepositoryResult.Found<List<NearbyLocationDto>> searchFound)) {
+                return new CommandResult.BusinessError<>("Failed to search locations");
             }
 
+            List<RobberNearby> nearby = searchFound.data().stream()
+                .map(location -> new RobberNearby(
+                    location.playerId(),
+                    location.distanceMeters(),
+                    location.longitude(),
+                    location.latitude()
+                ))
+                .toList();
+
             return new CommandResult.Success<>(nearby, null);
         });
     }
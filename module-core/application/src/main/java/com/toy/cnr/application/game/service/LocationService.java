@@ -1,21 +1,27 @@
 package com.toy.cnr.application.game.service;
 
 import com.toy.cnr.application.game.mapper.LocationMapper;
-import com.toy.cnr.application.game.util.PolygonUtils;
+import com.toy.cnr.application.game.util.PreparedPolygon;
 import com.toy.cnr.application.common.ResultMapper;
 import com.toy.cnr.domain.common.CommandResult;
 import com.toy.cnr.domain.game.GameEvent;
+import com.toy.cnr.domain.game.LocationBatchPublishCommand;
 import com.toy.cnr.domain.game.LocationPublishCommand;
 import com.toy.cnr.domain.game.PlayerLocation;
 import com.toy.cnr.domain.game.PlayerStatus;
-import com.toy.cnr.domain.room.GeoPoint;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.*;
-import com.toy.cnr.port.game.model.GameStateDto;
 import com.toy.cnr.port.game.model.InGamePlayerDto;
+import com.toy.cnr.port.game.model.LocationDto;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -29,11 +35,14 @@ import java.util.function.Consumer;
 @Service
 public class LocationService {
 
+    /** 한 번의 배치 요청에 허용하는 최대 좌표 수 */
+    static final int MAX_BATCH_FIXES = 500;
+
     private final LocationStore locationStore;
     private final LocationPublisher locationPublisher;
     private final LocationSubscriber locationSubscriber;
     private final InGamePlayerStore inGamePlayerStore;
-    private final GameStateStore gameStateStore;
+    private final GameGeometryCache gameGeometryCache;
     private final GameEventService gameEventService;
 
     public LocationService(
@@ -41,48 +50,109 @@ public class LocationService {
         LocationPublisher locationPublisher,
         LocationSubscriber locationSubscriber,
         InGamePlayerStore inGamePlayerStore,
-        GameStateStore gameStateStore,
+        GameGeometryCache gameGeometryCache,
         GameEventService gameEventService
     ) {
         this.locationStore = locationStore;
         this.locationPublisher = locationPublisher;
         this.locationSubscriber = locationSubscriber;
         this.inGamePlayerStore = inGamePlayerStore;
-        this.gameStateStore = gameStateStore;
+        this.gameGeometryCache = gameGeometryCache;
         this.gameEventService = gameEventService;
     }
 
     /**
-     * 플레이어 좌표를 GeoHash에 저장하고 Pub/Sub으로 발행합니다.
-     * 체포 상태의 플레이어는 감옥 폴리곤 이탈 여부를 추가로 검사합니다.
+     * 플레이어 좌표를 GeoHash에 저장하고 Pub/Sub으로 발행합니다 (단일 원자 스크립트).
+     * 저장 직전 좌표를 함께 받아 감옥 이탈/제한 구역 진입을 검사합니다.
      */
     public CommandResult<PlayerLocation> publishLocation(LocationPublishCommand command) {
         long timestamp = System.currentTimeMillis();
+        var dto = LocationMapper.toDto(command, timestamp);
 
-        var previousLocation = locationStore.getLocation(command.gameId(), command.playerId());
-        var storeResult = locationStore.saveLocation(
-            command.gameId(),
-            command.playerId(),
-            command.longitude(),
-            command.latitude()
-        );
+        var storeResult = locationStore.updateLocation(command.gameId(), dto);
 
         return ResultMapper.toCommandResult(storeResult)
-            .map(unused -> {
-                var dto = LocationMapper.toDto(command, timestamp);
-                locationPublisher.publish(command.gameId(), command.playerId(), dto);
-                checkPrisonEscape(command.gameId(), command.playerId(), command.latitude(), command.longitude());
-                checkRestrictedAreaEntered(
-                    command.gameId(),
-                    command.playerId(),
-                    previousLocation,
-                    command.latitude(),
-                    command.longitude()
-                );
+            .map(previousLocation -> {
+                var previous = new HashMap<String, LocationDto>();
+                if (previousLocation != null) {
+                    previous.put(command.playerId(), previousLocation);
+                }
+                checkGeofences(command.gameId(), Map.of(command.playerId(), List.of(dto)), previous);
                 return LocationMapper.fromCommand(command, timestamp);
             });
     }
 
+    /**
+     * 버퍼링된 여러 좌표를 한 번에 발행합니다.
+     * <p>
+     * 플레이어별 최신 좌표만 GeoHash에 저장·발행하며, 저장(GEOPOS + GEOADD)과 발행(PUBLISH)은
+     * 각각 하나의 파이프라인으로 전송됩니다. 감옥 이탈/제한 구역 진입은 배치 내 모든 좌표를 시간순으로 검사합니다.
+     * <p>
+     * 미래 측정 시각은 수신 시각으로 맞추고, 이미 저장된 좌표보다 오래된 좌표(늦게 도착한 배치)는
+     * 저장소가 건너뛰므로 발행·검사에서도 제외합니다.
+     *
+     * @return 플레이어별로 저장된 최신 좌표 목록
+     */
+    public CommandResult<List<PlayerLocation>> publishLocations(LocationBatchPublishCommand command) {
+        if (command.fixes() == null || command.fixes().isEmpty()) {
+            return new CommandResult.ValidationError<>(List.of("fixes must not be empty"));
+        }
+        if (command.fixes().size() > MAX_BATCH_FIXES) {
+            return new CommandResult.ValidationError<>(List.of("fixes must be <= " + MAX_BATCH_FIXES));
+        }
+
+        long receivedAt = System.currentTimeMillis();
+        Map<String, List<LocationDto>> fixesByPlayer = new LinkedHashMap<>();
+        for (var fix : command.fixes()) {
+            fixesByPlayer.computeIfAbsent(fix.playerId(), id -> new ArrayList<>())
+                .add(LocationMapper.toDto(fix, receivedAt));
+        }
+        fixesByPlayer.values().forEach(fixes -> fixes.sort(Comparator.comparingLong(LocationDto::timestamp)));
+
+        List<LocationDto> latest = fixesByPlayer.values().stream()
+            .map(List::getLast)
+            .toList();
+
+        var storeResult = locationStore.saveLocations(command.gameId(), latest);
+        return ResultMapper.toCommandResult(storeResult)
+            .map(previous -> {
+                var applied = dropStaleFixes(fixesByPlayer, previous);
+                List<LocationDto> saved = applied.values().stream()
+                    .map(List::getLast)
+                    .toList();
+                if (!saved.isEmpty()) {
+                    locationPublisher.publishAll(command.gameId(), saved);
+                }
+                checkGeofences(command.gameId(), applied, previous);
+                return saved.stream()
+                    .map(dto -> LocationMapper.toDomain(command.gameId(), dto))
+                    .toList();
+            });
+    }
+
+    /**
+     * 저장 직전 좌표보다 오래된 좌표를 뺍니다. 남은 좌표가 없는 플레이어(저장되지 않음)는 결과에서 빠집니다.
+     *
+     * @param fixesByPlayer playerId → 시간순 좌표 목록
+     * @param previous      playerId → 저장 직전 좌표
+     */
+    private static Map<String, List<LocationDto>> dropStaleFixes(
+        Map<String, List<LocationDto>> fixesByPlayer,
+        Map<String, LocationDto> previous
+    ) {
+        Map<String, List<LocationDto>> applied = new LinkedHashMap<>();
+        fixesByPlayer.forEach((playerId, fixes) -> {
+            var stored = previous.get(playerId);
+            var fresh = stored == null
+                ? fixes
+                : fixes.stream().filter(fix -> fix.timestamp() >= stored.timestamp()).toList();
+            if (!fresh.isEmpty()) {
+                applied.put(playerId, fresh);
+            }
+        });
+        return applied;
+    }
+
     /**
      * 저장된 플레이어 좌표를 조회합니다.
      *
@@ -97,104 +167,107 @@ public class LocationService {
     }
 
     /**
-     * 여러 플레이어의 좌표 채널을 구독합니다.
+     * 여러 플레이어의 좌표를 하나의 구독으로 수신합니다.
+     *
+     * @return 구독 해제에 사용할 subscriberId, 구독할 플레이어가 없으면 {@code null}
      */
-    public void subscribe(
+    public String subscribe(
         String gameId,
         List<String> playerIds,
         Consumer<PlayerLocation> onLocation
     ) {
-        for (var playerId : playerIds) {
-            locationSubscriber.subscribe(gameId, playerId, dto ->
-                onLocation.accept(LocationMapper.toDomain(gameId, dto))
-            );
+        if (playerIds.isEmpty()) {
+            return null;
         }
+        return locationSubscriber.subscribe(gameId, Set.copyOf(playerIds), dto ->
+            onLocation.accept(LocationMapper.toDomain(gameId, dto))
+        );
     }
 
     /**
-     * 여러 플레이어의 좌표 채널 구독을 해제합니다.
+     * 좌표 구독을 해제합니다.
      */
-    public void unsubscribe(String gameId, List<String> playerIds) {
-        for (var playerId : playerIds) {
-            locationSubscriber.unsubscribe(gameId, playerId);
+    public void unsubscribe(String subscriberId) {
+        if (subscriberId == null) {
+            return;
         }
+        locationSubscriber.unsubscribe(subscriberId);
     }
 
     /**
-     * 체포된 플레이어의 위치가 감옥 폴리곤을 벗어났는지 검사합니다.
-     * 이탈 감지 시 PrisonEscapeWarning 이벤트를 SSE 스트림으로 발행합니다.
+     * 캐시된 게임 구역 폴리곤으로 플레이어별 좌표 목록에 대해 감옥 이탈/제한 구역 진입을 검사합니다.
+     *
+     * @param fixesByPlayer playerId → 시간순 좌표 목록
+     * @param previous      playerId → 저장 직전 좌표 (없으면 포함되지 않음)
      */
-    private void checkPrisonEscape(String gameId, String playerId, double lat, double lon) {
-        var playerResult = inGamePlayerStore.getPlayer(gameId, playerId);
-        if (!(playerResult instanceof RepositoryResult.Found<InGamePlayerDto> playerFound)) {
+    private void checkGeofences(
+        String gameId,
+        Map<String, List<LocationDto>> fixesByPlayer,
+        Map<String, LocationDto> previous
+    ) {
+        var geometry = gameGeometryCache.get(gameId);
+        if (geometry == null) {
             return;
         }
-        if (!playerFound.data().status().equals(PlayerStatus.ARRESTED.name())) {
+
+        fixesByPlayer.forEach((playerId, fixes) -> {
+            checkPrisonEscape(gameId, playerId, geometry.prisonArea(), fixes);
+            checkRestrictedAreaEntered(gameId, playerId, geometry.restrictedArea(), previous.get(playerId), fixes);
+        });
+    }
+
+    /**
+     * 체포된 플레이어의 위치가 감옥 폴리곤을 벗어났는지 검사합니다.
+     * 이탈 감지 시 PrisonEscapeWarning 이벤트를 SSE 스트림으로 발행합니다 (배치 내 여러 번 이탈해도 1회).
+     */
+    private void checkPrisonEscape(String gameId, String playerId, PreparedPolygon prisonArea, List<LocationDto> fixes) {
+        if (prisonArea.isEmpty()) {
             return;
         }
-
-        var stateResult = gameStateStore.getGameState(gameId);
-        if (!(stateResult instanceof RepositoryResult.Found<GameStateDto> stateFound)) {
+        var playerResult = inGamePlayerStore.getPlayer(gameId, playerId);
+        if (!(playerResult instanceof RepositoryResult.Found<InGamePlayerDto> playerFound)) {
             return;
         }
-
-        var settings = stateFound.data().settings();
-        if (settings == null || settings.prisonArea() == null || settings.prisonArea().isEmpty()) {
+        if (!playerFound.data().status().equals(PlayerStatus.ARRESTED.name())) {
             return;
         }
 
-        List<GeoPoint> prisonArea = settings.prisonArea().stream()
-            .map(p -> new GeoPoint(p.latitude(), p.longitude()))
-            .toList();
-
-        if (!PolygonUtils.contains(prisonArea, lat, lon)) {
-            gameEventService.publish(new GameEvent.PrisonEscapeWarning(
-                gameId, playerId, System.currentTimeMillis()
-            ));
+        for (var fix : fixes) {
+            if (!prisonArea.contains(fix.latitude(), fix.longitude())) {
+                gameEventService.publish(new GameEvent.PrisonEscapeWarning(
+                    gameId, playerId, System.currentTimeMillis()
+                ));
+                return;
+            }
         }
     }
 
     /**
      * 플레이어가 restrictedArea(위험/제한 구역)에 "진입"했는지 검사합니다.
      * <p>
-     * 이전 위치는 saveLocation 이전에 읽은 값으로 판단합니다.
+     * 이전 위치는 저장 이전에 읽은 값으로 판단하며, 배치의 경우 연속한 두 좌표마다 진입 여부를 판단합니다.
      */
     private void checkRestrictedAreaEntered(
         String gameId,
         String playerId,
-        RepositoryResult<com.toy.cnr.port.game.model.LocationDto> previousLocation,
-        double lat,
-        double lon
+        PreparedPolygon restrictedArea,
+        LocationDto previous,
+        List<LocationDto> fixes
     ) {
-        var stateResult = gameStateStore.getGameState(gameId);
-        if (!(stateResult instanceof RepositoryResult.Found<GameStateDto> stateFound)) {
-            return;
-        }
-
-        var settings = stateFound.data().settings();
-        if (settings == null || settings.restrictedArea() == null || settings.restrictedArea().isEmpty()) {
+        if (restrictedArea.isEmpty()) {
             return;
         }
 
-        List<GeoPoint> restrictedArea = settings.restrictedArea().stream()
-            .map(p -> new GeoPoint(p.latitude(), p.longitude()))
-            .toList();
-
-        boolean nowInside = PolygonUtils.contains(restrictedArea, lat, lon);
-        if (!nowInside) {
-            return;
-        }
-
-        boolean prevInside = false;
-        if (previousLocation instanceof RepositoryResult.Found<com.toy.cnr.port.game.model.LocationDto> found) {
-            var prev = found.data();
-            prevInside = PolygonUtils.contains(restrictedArea, prev.latitude(), prev.longitude());
-        }
-
-        if (!prevInside) {
-            gameEventService.publish(new GameEvent.RestrictedAreaEntered(
-                gameId, playerId, lat, lon, System.currentTimeMillis()
-            ));
+        boolean prevInside = previous != null
+            && restrictedArea.contains(previous.latitude(), previous.longitude());
+        for (var fix : fixes) {
+            boolean nowInside = restrictedArea.contains(fix.latitude(), fix.longitude());
+            if (nowInside && !prevInside) {
+                gameEventService.publish(new GameEvent.RestrictedAreaEntered(
+                    gameId, playerId, fix.latitude(), fix.longitude(), System.currentTimeMillis()
+                ));
+            }
+            prevInside = nowInside;
         }
     }
 }
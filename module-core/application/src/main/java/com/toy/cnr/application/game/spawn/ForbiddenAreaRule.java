@@ -0,0 +1,19 @@
+package com.toy.cnr.application.game.spawn;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 금지 구역 규칙.
+ * <p>
+ * 제한 구역(위험 구역, 진입 시 이벤트 발행)과 감옥 구역 안의 후보를 거절해,
+ * 들어가면 안 되는 곳이나 갇힌 도둑만 닿는 곳에 보석이 생기지 않게 합니다.
+ */
+@Component
+public class ForbiddenAreaRule implements GemPlacementRule {
+
+    @Override
+    public boolean accepts(GemPlacementContext context, double latitude, double longitude) {
+        return !context.restrictedArea().contains(latitude, longitude)
+            && !context.prisonArea().contains(latitude, longitude);
+    }
+}
@@ -0,0 +1,60 @@
+package com.toy.cnr.application.game.spawn;
+
+import com.toy.cnr.application.game.util.PreparedPolygon;
+import com.toy.cnr.application.game.util.SpatialGridIndex;
+import com.toy.cnr.domain.room.GeoPoint;
+
+import java.util.List;
+
+/**
+ * 보석 배치 판정에 쓰는 게임 한 판의 현재 상태.
+ * <p>
+ * 보석과 ACTIVE 경찰 위치를 {@link SpatialGridIndex}에 담아 두어, 규칙이 후보 좌표 주변 칸만 훑고 판정하게 합니다.
+ * 스폰 한 번 동안만 쓰며, 같은 스폰에서 놓은 보석은 {@link #addGem}으로 다음 후보 판정에 반영합니다.
+ *
+ * @param gems           AVAILABLE 보석 위치 (key: gemId)
+ * @param police         ACTIVE 경찰 위치 (key: 순번)
+ * @param prisonArea     감옥 구역 (없으면 {@link PreparedPolygon#EMPTY})
+ * @param restrictedArea 제한 구역 (없으면 {@link PreparedPolygon#EMPTY})
+ */
+public record GemPlacementContext(
+    SpatialGridIndex<String> gems,
+    SpatialGridIndex<String> police,
+    PreparedPolygon prisonArea,
+    PreparedPolygon restrictedArea
+) {
+
+    /** 인덱스 칸 크기: 규칙 반경과 비슷하게 잡음 */
+    static final double CELL_METERS = 50;
+
+    /**
+     * @param gems   AVAILABLE 보석 (gemId, 위치)
+     * @param police ACTIVE 경찰 위치
+     */
+    public static GemPlacementContext of(
+        List<Gem> gems,
+        List<GeoPoint> police,
+        PreparedPolygon prisonArea,
+        PreparedPolygon restrictedArea
+    ) {
+        var gemIndex = new SpatialGridIndex<String>(CELL_METERS);
+        for (var gem : gems) {
+            gemIndex.put(gem.gemId(), gem.latitude(), gem.longitude());
+        }
+        var policeIndex = new SpatialGridIndex<String>(CELL_METERS);
+        for (int i = 0; i < police.size(); i++) {
+            policeIndex.put(Integer.toString(i), police.get(i).latitude(), police.get(i).longitude());
+        }
+        return new GemPlacementContext(gemIndex, policeIndex, prisonArea, restrictedArea);
+    }
+
+    /**
+     * 이번 스폰에서 놓은 보석을 인덱스에 더합니다.
+     */
+    public void addGem(String gemId, double latitude, double longitude) {
+        gems.put(gemId, latitude, longitude);
+    }
+
+    /** 배치된 보석 하나 */
+    public record Gem(String gemId, double latitude, double longitude) {}
+}
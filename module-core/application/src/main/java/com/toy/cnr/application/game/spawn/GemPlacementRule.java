@@ -0,0 +1,20 @@
+package com.toy.cnr.application.game.spawn;
+
+/**
+ * 보석 스폰 후보 좌표 판정 규칙.
+ * <p>
+ * GemSpawnService는 플레이 구역에서 후보 좌표를 뽑아 모든 규칙이 받아들이는 첫 좌표에 보석을 놓습니다.
+ * 규칙은 Spring 빈으로 등록하면 자동으로 적용됩니다.
+ */
+public interface GemPlacementRule {
+
+    /**
+     * 후보 좌표에 보석을 놓아도 되는지 판정합니다. 스폰 한 번에 후보마다 호출되므로 객체 할당 없이 빠르게 끝나야 합니다.
+     *
+     * @param context   게임의 현재 보석·경찰 위치 인덱스와 금지 구역
+     * @param latitude  후보 위도
+     * @param longitude 후보 경도
+     * @return 놓아도 되면 true
+     */
+    boolean accepts(GemPlacementContext context, double latitude, double longitude);
+}
@@ -0,0 +1,20 @@
+package com.toy.cnr.application.game.spawn;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 보석 간 최소 간격 규칙 (Poisson-disk).
+ * <p>
+ * 다른 보석 {@value #MIN_SPACING_METERS}m 안의 후보를 거절해, 보석이 한곳에 몰리지 않고 구역에 고르게 퍼지게 합니다.
+ * 후보를 균일하게 뽑아 거절하는 방식(dart throwing)이라 결과가 Poisson-disk 분포를 따릅니다.
+ */
+@Component
+public class GemSpacingRule implements GemPlacementRule {
+
+    static final double MIN_SPACING_METERS = 40;
+
+    @Override
+    public boolean accepts(GemPlacementContext context, double latitude, double longitude) {
+        return !context.gems().anyWithin(latitude, longitude, MIN_SPACING_METERS);
+    }
+}
@@ -0,0 +1,19 @@
+package com.toy.cnr.application.game.spawn;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 경찰 접근 금지 반경 규칙.
+ * <p>
+ * ACTIVE 경찰 {@value #KEEP_OUT_METERS}m 안의 후보를 거절해, 보석이 경찰 발밑에 생겨 도둑을 유인하는 함정이 되지 않게 합니다.
+ */
+@Component
+public class PoliceKeepOutRule implements GemPlacementRule {
+
+    static final double KEEP_OUT_METERS = 30;
+
+    @Override
+    public boolean accepts(GemPlacementContext context, double latitude, double longitude) {
+        return !context.police().anyWithin(latitude, longitude, KEEP_OUT_METERS);
+    }
+}
@@ -0,0 +1,69 @@
+package com.toy.cnr.application.game.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드를 쓰는 일관 해싱 링 (불변).
+ * <p>
+ * 노드마다 {@code virtualNodes}개의 점을 링 위에 흩어 두고, 키는 해시 값에서 시계 방향으로 처음 만나는 점의 노드가 맡습니다.
+ * 노드가 하나 늘거나 줄면 그 노드 몫의 키(약 1/N)만 주인이 바뀌고 나머지 키는 그대로입니다.
+ * 같은 노드 목록이면 어느 노드에서 만들어도 같은 결과를 내므로, 노드 간 조율 없이 각자 자기 몫을 판단할 수 있습니다.
+ */
+public final class ConsistentHashRing {
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * @param nodes        노드 ID 목록
+     * @param virtualNodes 노드당 가상 노드 수 (클수록 고르게 나뉨)
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        for (var node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시 충돌 시 노드 ID가 작은 쪽이 이기도록 해 노드마다 같은 링을 만듦
+                ring.merge(hash(node + "#" + i), node, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+            }
+        }
+    }
+
+    /**
+     * 키를 맡는 노드를 반환합니다.
+     *
+     * @return 노드 ID (노드가 없으면 null)
+     */
+    public String ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    /** 링의 노드가 없으면 true */
+    public boolean isEmpty() {
+        return ring.isEmpty();
+    }
+
+    /**
+     * 64비트 FNV-1a 뒤에 MurmurHash3 finalizer를 거쳐 비슷한 문자열도 링에 고르게 흩어지게 합니다.
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,210 @@
+package com.toy.cnr.application.game.util;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel).
+ * <p>
+ * 마감 시각을 {@code tickMillis} 단위 틱으로 바꿔 4단계 × 512칸 버킷에 넣습니다.
+ * 0단계 한 칸은 1틱, 위 단계 한 칸은 아래 단계 한 바퀴(512배)를 덮으며, 4단계로 2^36틱(1ms 틱 기준 약 2.2년)을 표현합니다.
+ * 시계가 아래 단계 한 바퀴를 돌 때마다 위 단계의 다음 칸을 풀어 아래 단계로 다시 넣습니다(cascade).
+ * <p>
+ * 예약·취소는 버킷의 이중 연결 리스트에 붙이고 떼는 것뿐이라 등록된 타이머 수와 무관하게 O(1)입니다.
+ * 범위를 넘는 마감은 현재 범위의 마지막 틱에 넣어 두었다가 cascade 때 다시 배치합니다.
+ * <p>
+ * 동기화하지 않으므로 여러 스레드에서 쓰려면 호출자가 잠금을 담당합니다.
+ *
+ * @param <T> 타이머 작업 타입 (예: taskId)
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 9;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long RANGE_MASK = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Bucket<T>[][] buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  틱 크기 (밀리초, 마감 시각 해상도)
+     * @param startMillis 시작 시각 (epoch millis)
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.buckets = new Bucket[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                buckets[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    /**
+     * 작업을 예약합니다. 이미 지난 마감은 다음 틱에 만료됩니다.
+     *
+     * @param task           작업
+     * @param deadlineMillis 마감 시각 (epoch millis, 틱 단위로 올림)
+     * @return 취소에 사용할 핸들
+     */
+    public Timeout<T> schedule(T task, long deadlineMillis) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        var timeout = new Timeout<>(task, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 예약을 취소합니다.
+     *
+     * @return 아직 만료되지 않아 제거했으면 true
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * 시계를 {@code nowMillis}까지 진행하며 만료된 작업을 마감 순서대로 넘깁니다.
+     * 예약된 작업이 없으면 틱을 하나씩 돌지 않고 바로 건너뜁니다.
+     */
+    public void advanceTo(long nowMillis, Consumer<T> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                return;
+            }
+            tick(onExpired);
+        }
+    }
+
+    /** 예약된(만료·취소되지 않은) 작업 수 */
+    public int size() {
+        return size;
+    }
+
+    private void tick(Consumer<T> onExpired) {
+        currentTick++;
+
+        // 아래 단계가 한 바퀴를 돈 단계까지, 위 단계부터 풀어 아래로 내립니다.
+        int top = 0;
+        while (top + 1 < LEVELS && (currentTick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            var bucket = buckets[level][(int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK];
+            for (var timeout = bucket.clear(); timeout != null; ) {
+                var next = timeout.next;
+                timeout.next = null;
+                if (timeout.deadlineTick <= currentTick) {
+                    expire(timeout, onExpired);
+                } else {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+        }
+
+        var bucket = buckets[0][(int) currentTick & SLOT_MASK];
+        for (var timeout = bucket.clear(); timeout != null; ) {
+            var next = timeout.next;
+            timeout.next = null;
+            if (timeout.deadlineTick <= currentTick) {
+                expire(timeout, onExpired);
+            } else {
+                // 범위 끝에 임시로 넣어 둔 먼 마감
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void expire(Timeout<T> timeout, Consumer<T> onExpired) {
+        size--;
+        onExpired.accept(timeout.task);
+    }
+
+    /**
+     * 현재 틱과 처음 달라지는 자릿수(단계)의 칸에 넣습니다. 범위를 넘으면 현재 범위의 마지막 틱에 넣습니다.
+     */
+    private void place(Timeout<T> timeout) {
+        long tick = Math.min(timeout.deadlineTick, currentTick | RANGE_MASK);
+        int level = (63 - Long.numberOfLeadingZeros(tick ^ currentTick)) / SLOT_BITS;
+        buckets[level][(int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK].add(timeout);
+    }
+
+    /**
+     * 예약 핸들. 버킷의 이중 연결 리스트 노드를 겸합니다.
+     */
+    public static final class Timeout<T> {
+
+        private final T task;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T task() {
+            return task;
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        /** 버킷을 비우고 기존 리스트의 머리를 반환합니다 (next로 순회). */
+        Timeout<T> clear() {
+            var first = head;
+            head = null;
+            for (var timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+                timeout.prev = null;
+            }
+            return first;
+        }
+    }
+}
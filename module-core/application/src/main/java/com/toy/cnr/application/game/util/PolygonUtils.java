@@ -50,6 +50,7 @@ public class PolygonUtils {
     /**
      * 폴리곤 내부의 랜덤 좌표를 반환합니다.
      * 바운딩 박스 내 랜덤 점을 생성하고 폴리곤 포함 여부를 검사합니다.
+     * 가늘거나 오목한 폴리곤은 자주 실패하므로, 같은 폴리곤에서 반복해 뽑을 때는 {@link TriangulatedPolygon}을 사용합니다.
      *
      * @param polygon 폴리곤 꼭짓점 목록
      * @param random  Random 인스턴스
@@ -59,10 +60,16 @@ public class PolygonUtils {
         if (polygon == null || polygon.size() < 3) {
             return null;
         }
-        double minLat = polygon.stream().mapToDouble(GeoPoint::latitude).min().orElseThrow();
-        double maxLat = polygon.stream().mapToDouble(GeoPoint::latitude).max().orElseThrow();
-        double minLon = polygon.stream().mapToDouble(GeoPoint::longitude).min().orElseThrow();
-        double maxLon = polygon.stream().mapToDouble(GeoPoint::longitude).max().orElseThrow();
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (var point : polygon) {
+            minLat = Math.min(minLat, point.latitude());
+            maxLat = Math.max(maxLat, point.latitude());
+            minLon = Math.min(minLon, point.longitude());
+            maxLon = Math.max(maxLon, point.longitude());
+        }
 
         for (int i = 0; i < MAX_RANDOM_ATTEMPTS; i++) {
             double lat = minLat + random.nextDouble() * (maxLat - minLat);
@@ -0,0 +1,172 @@
+package com.toy.cnr.application.game.util;
+
+import com.toy.cnr.domain.room.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 점 포함 판정을 반복 수행하기 위해 전처리된 불변 폴리곤.
+ * <p>
+ * 꼭짓점을 primitive {@code double[]}로 보관하고 바운딩 박스로 먼저 걸러낸 뒤 Ray Casting을 수행합니다.
+ * 꼭짓점이 {@value #INDEX_THRESHOLD}개 이상이면 위도 구간(band)별로 걸치는 변의 인덱스를 미리 계산해 두어,
+ * 판정 시 해당 구간의 변만 검사합니다.
+ * <p>
+ * {@link #contains(double, double)}는 객체를 할당하지 않으며, 여러 스레드에서 동시에 호출해도 안전합니다.
+ */
+public final class PreparedPolygon {
+
+    /** 위도 구간 인덱스를 만드는 최소 꼭짓점 수 */
+    static final int INDEX_THRESHOLD = 32;
+
+    /** 구간당 평균 변 수 목표치 */
+    private static final int EDGES_PER_BAND = 4;
+
+    public static final PreparedPolygon EMPTY = new PreparedPolygon(new double[0], new double[0]);
+
+    private final double[] lats;
+    private final double[] lons;
+    private final int size;
+
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+
+    /** 위도 구간 → 해당 구간에 걸치는 변의 시작 꼭짓점 인덱스 목록 (인덱스 미사용 시 null) */
+    private final int[][] bands;
+    private final double bandHeight;
+
+    private PreparedPolygon(double[] lats, double[] lons) {
+        this.lats = lats;
+        this.lons = lons;
+        this.size = lats.length;
+
+        double minLatValue = Double.POSITIVE_INFINITY;
+        double maxLatValue = Double.NEGATIVE_INFINITY;
+        double minLonValue = Double.POSITIVE_INFINITY;
+        double maxLonValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            minLatValue = Math.min(minLatValue, lats[i]);
+            maxLatValue = Math.max(maxLatValue, lats[i]);
+            minLonValue = Math.min(minLonValue, lons[i]);
+            maxLonValue = Math.max(maxLonValue, lons[i]);
+        }
+        this.minLat = minLatValue;
+        this.maxLat = maxLatValue;
+        this.minLon = minLonValue;
+        this.maxLon = maxLonValue;
+
+        if (size >= INDEX_THRESHOLD && maxLat > minLat) {
+            int bandCount = Math.max(1, size / EDGES_PER_BAND);
+            this.bandHeight = (maxLat - minLat) / bandCount;
+            this.bands = buildBands(bandCount);
+        } else {
+            this.bandHeight = 0;
+            this.bands = null;
+        }
+    }
+
+    /**
+     * 꼭짓점 목록으로 폴리곤을 준비합니다. 꼭짓점이 3개 미만이면 {@link #EMPTY}를 반환합니다.
+     */
+    public static PreparedPolygon of(List<GeoPoint> polygon) {
+        if (polygon == null || polygon.size() < 3) {
+            return EMPTY;
+        }
+        int n = polygon.size();
+        var lats = new double[n];
+        var lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = polygon.get(i).latitude();
+            lons[i] = polygon.get(i).longitude();
+        }
+        return new PreparedPolygon(lats, lons);
+    }
+
+    public boolean isEmpty() {
+        return size < 3;
+    }
+
+    /**
+     * 점(lat, lon)이 폴리곤 내부에 있는지 판별합니다. {@link PolygonUtils#contains}와 같은 결과를 반환합니다.
+     */
+    public boolean contains(double lat, double lon) {
+        if (size < 3 || lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) {
+            return false;
+        }
+        if (bands == null) {
+            return crossings(lat, lon);
+        }
+
+        int band = Math.min((int) ((lat - minLat) / bandHeight), bands.length - 1);
+        boolean inside = false;
+        for (int i : bands[band]) {
+            if (crosses(i, i == 0 ? size - 1 : i - 1, lat, lon)) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    public double minLat() {
+        return minLat;
+    }
+
+    public double maxLat() {
+        return maxLat;
+    }
+
+    public double minLon() {
+        return minLon;
+    }
+
+    public double maxLon() {
+        return maxLon;
+    }
+
+    private boolean crossings(double lat, double lon) {
+        boolean inside = false;
+        int j = size - 1;
+        for (int i = 0; i < size; i++) {
+            if (crosses(i, j, lat, lon)) {
+                inside = !inside;
+            }
+            j = i;
+        }
+        return inside;
+    }
+
+    /** 변 (j → i)이 점에서 동쪽으로 쏜 반직선과 교차하는지 검사합니다. */
+    private boolean crosses(int i, int j, double lat, double lon) {
+        double yi = lats[i];
+        double yj = lats[j];
+        return ((yi > lat) != (yj > lat))
+            && (lon < (lons[j] - lons[i]) * (lat - yi) / (yj - yi) + lons[i]);
+    }
+
+    private int[][] buildBands(int bandCount) {
+        List<List<Integer>> edges = new ArrayList<>(bandCount);
+        for (int b = 0; b < bandCount; b++) {
+            edges.add(new ArrayList<>());
+        }
+
+        int j = size - 1;
+        for (int i = 0; i < size; i++) {
+            double low = Math.min(lats[i], lats[j]);
+            double high = Math.max(lats[i], lats[j]);
+            int from = Math.min((int) ((low - minLat) / bandHeight), bandCount - 1);
+            int to = Math.min((int) ((high - minLat) / bandHeight), bandCount - 1);
+            for (int b = from; b <= to; b++) {
+                edges.get(b).add(i);
+            }
+            j = i;
+        }
+
+        var result = new int[bandCount][];
+        for (int b = 0; b < bandCount; b++) {
+            result[b] = edges.get(b).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+}
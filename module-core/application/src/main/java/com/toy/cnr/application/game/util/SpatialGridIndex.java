@@ -0,0 +1,191 @@
+package com.toy.cnr.application.game.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * 균일 격자 기반 2차원 공간 인덱스 (키별 좌표 1개).
+ * <p>
+ * 좌표를 {@code cellMeters} 크기의 격자 칸에 넣어 두고, 반경 검색 시 반경을 덮는 칸만 훑은 뒤
+ * 하버사인 거리로 다시 거릅니다. 게임 구역처럼 좁은 범위를 전제로, 처음 넣은 좌표의 위도에서 경도 칸 폭을 정합니다.
+ * <p>
+ * 동기화하지 않으므로 여러 스레드에서 쓰려면 호출자가 잠금을 담당합니다.
+ *
+ * @param <K> 키 타입 (예: playerId)
+ */
+public final class SpatialGridIndex<K> {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE_LAT = 111_320;
+
+    private final double cellMeters;
+    private final double cellLat;
+    private double cellLon = Double.NaN;
+
+    private final Map<K, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<K>> cells = new HashMap<>();
+
+    /**
+     * @param cellMeters 격자 한 칸의 크기 (미터). 자주 쓰는 검색 반경과 비슷하게 잡습니다.
+     */
+    public SpatialGridIndex(double cellMeters) {
+        if (cellMeters <= 0) {
+            throw new IllegalArgumentException("cellMeters must be positive");
+        }
+        this.cellMeters = cellMeters;
+        this.cellLat = cellMeters / METERS_PER_DEGREE_LAT;
+    }
+
+    /**
+     * 키의 좌표를 넣거나 옮깁니다.
+     */
+    public void put(K key, double latitude, double longitude) {
+        if (Double.isNaN(cellLon)) {
+            cellLon = cellMeters / (METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        }
+        long cell = cellOf(latitude, longitude);
+        var previous = entries.put(key, new Entry(latitude, longitude, cell));
+        if (previous != null) {
+            if (previous.cell == cell) {
+                return;
+            }
+            removeFromCell(previous.cell, key);
+        }
+        cells.computeIfAbsent(cell, c -> new HashSet<>()).add(key);
+    }
+
+    /**
+     * @return 제거했으면 true
+     */
+    public boolean remove(K key) {
+        var previous = entries.remove(key);
+        if (previous == null) {
+            return false;
+        }
+        removeFromCell(previous.cell, key);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 두 키 사이의 거리(미터). 어느 한쪽이라도 없으면 {@link Double#NaN}.
+     */
+    public double distanceMeters(K a, K b) {
+        var left = entries.get(a);
+        var right = entries.get(b);
+        if (left == null || right == null) {
+            return Double.NaN;
+        }
+        return distanceMeters(left.latitude, left.longitude, right.latitude, right.longitude);
+    }
+
+    /**
+     * 키의 좌표에서 다른 좌표까지의 거리(미터). 키가 없으면 {@link Double#NaN}.
+     */
+    public double distanceMeters(K key, double latitude, double longitude) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Double.NaN;
+        }
+        return distanceMeters(entry.latitude, entry.longitude, latitude, longitude);
+    }
+
+    /**
+     * 중심에서 반경 이내의 키를 거리와 함께 전달합니다 (순서 없음).
+     */
+    public void forEachWithin(double latitude, double longitude, double radiusMeters, BiConsumer<K, Double> action) {
+        scanWithin(latitude, longitude, radiusMeters, (key, distance) -> {
+            action.accept(key, distance);
+            return false;
+        });
+    }
+
+    /**
+     * 중심에서 반경 이내에 키가 하나라도 있는지 반환합니다. 처음 찾은 키에서 멈춥니다.
+     */
+    public boolean anyWithin(double latitude, double longitude, double radiusMeters) {
+        return scanWithin(latitude, longitude, radiusMeters, (key, distance) -> true);
+    }
+
+    /**
+     * 반경을 덮는 칸을 훑으며 반경 이내의 키를 {@code visitor}에 넘기고, {@code visitor}가 true를 반환하면 멈춥니다.
+     *
+     * @return 도중에 멈췄으면 true
+     */
+    private boolean scanWithin(double latitude, double longitude, double radiusMeters, BiPredicate<K, Double> visitor) {
+        if (entries.isEmpty()) {
+            return false;
+        }
+        long center = cellOf(latitude, longitude);
+        int cx = cellX(center);
+        int cy = cellY(center);
+        int reachY = (int) Math.ceil(radiusMeters / cellMeters);
+        int reachX = (int) Math.ceil(radiusMeters / METERS_PER_DEGREE_LAT
+            / Math.max(Math.cos(Math.toRadians(latitude)), 0.01) / cellLon);
+
+        for (int x = cx - reachX; x <= cx + reachX; x++) {
+            for (int y = cy - reachY; y <= cy + reachY; y++) {
+                var keys = cells.get(cellKey(x, y));
+                if (keys == null) {
+                    continue;
+                }
+                for (var key : keys) {
+                    var entry = entries.get(key);
+                    double distance = distanceMeters(latitude, longitude, entry.latitude, entry.longitude);
+                    if (distance <= radiusMeters && visitor.test(key, distance)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 두 좌표 사이의 하버사인 거리 (미터).
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private void removeFromCell(long cell, K key) {
+        var keys = cells.get(cell);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return cellKey((int) Math.floor(longitude / cellLon), (int) Math.floor(latitude / cellLat));
+    }
+
+    private static long cellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int cellX(long cell) {
+        return (int) (cell >> 32);
+    }
+
+    private static int cellY(long cell) {
+        return (int) cell;
+    }
+
+    private record Entry(double latitude, double longitude, long cell) {}
+}
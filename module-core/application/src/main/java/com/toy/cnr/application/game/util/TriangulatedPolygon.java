@@ -0,0 +1,235 @@
+package com.toy.cnr.application.game.util;
+
+import com.toy.cnr.domain.room.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 폴리곤 내부 균일 샘플링을 위해 삼각 분할해 둔 불변 폴리곤.
+ * <p>
+ * 생성 시 귀 자르기(ear clipping)로 단순 폴리곤(오목 포함)을 삼각형으로 나누고, 삼각형 넓이에 비례하는
+ * 별칭 테이블(Vose alias method)을 만듭니다. {@link #sample(Random)}은 별칭 테이블로 삼각형을 고른 뒤
+ * 삼각형 안의 균일한 점을 만들므로, 기각 없이 O(1)이며 강·도로처럼 가늘거나 오목한 구역에서도 항상 점을 반환합니다.
+ * <p>
+ * 좌표는 위도·경도를 평면으로 보고 계산합니다. 게임 구역처럼 좁은 범위에서는 경도 1도의 길이가 거의 일정하므로
+ * 넓이 비율이 실제와 같습니다. 변이 교차하는(자기 교차) 폴리곤은 분할할 수 없어 {@link #EMPTY}가 됩니다.
+ * <p>
+ * {@link #sample(Random)}은 객체를 하나만 할당하며, 여러 스레드에서 동시에 호출해도 안전합니다.
+ */
+public final class TriangulatedPolygon {
+
+    public static final TriangulatedPolygon EMPTY = new TriangulatedPolygon(new double[0], new double[0], new double[0]);
+
+    /** 삼각형 i의 꼭짓점: (lats[3i], lons[3i]), (lats[3i+1], lons[3i+1]), (lats[3i+2], lons[3i+2]) */
+    private final double[] lats;
+    private final double[] lons;
+    private final int count;
+
+    /** 별칭 테이블: 칸 i를 고르면 확률 probability[i]로 삼각형 i, 아니면 alias[i] */
+    private final double[] probability;
+    private final int[] alias;
+
+    private TriangulatedPolygon(double[] lats, double[] lons, double[] areas) {
+        this.lats = lats;
+        this.lons = lons;
+        this.count = areas.length;
+        this.probability = new double[count];
+        this.alias = new int[count];
+        buildAliasTable(areas);
+    }
+
+    /**
+     * 꼭짓점 목록을 삼각 분할합니다. 꼭짓점이 3개 미만이거나, 넓이가 없거나, 분할할 수 없으면 {@link #EMPTY}를 반환합니다.
+     */
+    public static TriangulatedPolygon of(List<GeoPoint> polygon) {
+        if (polygon == null || polygon.size() < 3) {
+            return EMPTY;
+        }
+        int n = polygon.size();
+        // 닫는 꼭짓점(첫 점 반복)은 제외
+        if (polygon.get(0).equals(polygon.get(n - 1))) {
+            n--;
+        }
+        if (n < 3) {
+            return EMPTY;
+        }
+
+        var xs = new double[n];
+        var ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = polygon.get(i).longitude();
+            ys[i] = polygon.get(i).latitude();
+        }
+
+        var triangles = earClip(xs, ys);
+        if (triangles == null || triangles.isEmpty()) {
+            return EMPTY;
+        }
+
+        int count = triangles.size();
+        var lats = new double[count * 3];
+        var lons = new double[count * 3];
+        var areas = new double[count];
+        for (int t = 0; t < count; t++) {
+            int[] tri = triangles.get(t);
+            for (int k = 0; k < 3; k++) {
+                lats[t * 3 + k] = ys[tri[k]];
+                lons[t * 3 + k] = xs[tri[k]];
+            }
+            areas[t] = Math.abs(cross(xs, ys, tri[0], tri[1], tri[2])) / 2;
+        }
+        return new TriangulatedPolygon(lats, lons, areas);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /** 삼각형 수 */
+    public int triangleCount() {
+        return count;
+    }
+
+    /**
+     * 폴리곤 내부의 균일한 랜덤 좌표를 반환합니다.
+     *
+     * @return 내부 좌표, {@link #EMPTY}이면 null
+     */
+    public GeoPoint sample(Random random) {
+        if (count == 0) {
+            return null;
+        }
+        int column = random.nextInt(count);
+        int t = random.nextDouble() < probability[column] ? column : alias[column];
+
+        // 평행사변형에서 뽑고 바깥 절반은 뒤집어 삼각형 안으로
+        double u = random.nextDouble();
+        double v = random.nextDouble();
+        if (u + v > 1) {
+            u = 1 - u;
+            v = 1 - v;
+        }
+        int a = t * 3;
+        double lat = lats[a] + u * (lats[a + 1] - lats[a]) + v * (lats[a + 2] - lats[a]);
+        double lon = lons[a] + u * (lons[a + 1] - lons[a]) + v * (lons[a + 2] - lons[a]);
+        return new GeoPoint(lat, lon);
+    }
+
+    /**
+     * 귀 자르기. 반시계 방향으로 맞춘 뒤, 볼록하면서 다른 꼭짓점을 품지 않는 꼭짓점(귀)을 하나씩 잘라냅니다.
+     * 일직선 위의 꼭짓점은 넓이 없는 삼각형 없이 버립니다.
+     *
+     * @return 꼭짓점 인덱스 삼각형 목록, 귀를 찾지 못하면(자기 교차) null
+     */
+    private static List<int[]> earClip(double[] xs, double[] ys) {
+        int n = xs.length;
+        var remaining = new ArrayList<Integer>(n);
+        double signedArea = 0;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            signedArea += xs[j] * ys[i] - xs[i] * ys[j];
+        }
+        if (signedArea == 0) {
+            return null;
+        }
+        for (int i = 0; i < n; i++) {
+            remaining.add(signedArea > 0 ? i : n - 1 - i);
+        }
+
+        var triangles = new ArrayList<int[]>(n - 2);
+        int misses = 0;
+        int i = 0;
+        while (remaining.size() > 3) {
+            int size = remaining.size();
+            int prev = remaining.get((i + size - 1) % size);
+            int curr = remaining.get(i % size);
+            int next = remaining.get((i + 1) % size);
+
+            double turn = cross(xs, ys, prev, curr, next);
+            if (turn == 0) {
+                remaining.remove(i % size);
+                misses = 0;
+                continue;
+            }
+            if (turn > 0 && isEar(xs, ys, remaining, prev, curr, next)) {
+                triangles.add(new int[]{prev, curr, next});
+                remaining.remove(i % size);
+                misses = 0;
+                continue;
+            }
+            if (++misses > size) {
+                return null;
+            }
+            i = (i + 1) % size;
+        }
+        if (remaining.size() == 3
+            && cross(xs, ys, remaining.get(0), remaining.get(1), remaining.get(2)) != 0) {
+            triangles.add(new int[]{remaining.get(0), remaining.get(1), remaining.get(2)});
+        }
+        return triangles;
+    }
+
+    private static boolean isEar(double[] xs, double[] ys, List<Integer> remaining, int a, int b, int c) {
+        for (int p : remaining) {
+            if (p == a || p == b || p == c) {
+                continue;
+            }
+            // 경계 위의 점도 귀를 막아 오목 꼭짓점이 변에 닿는 경우를 놓치지 않음
+            if (cross(xs, ys, a, b, p) >= 0 && cross(xs, ys, b, c, p) >= 0 && cross(xs, ys, c, a, p) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** (b - a) × (c - a): 양수면 a → b → c가 반시계 방향 */
+    private static double cross(double[] xs, double[] ys, int a, int b, int c) {
+        return (xs[b] - xs[a]) * (ys[c] - ys[a]) - (ys[b] - ys[a]) * (xs[c] - xs[a]);
+    }
+
+    /**
+     * Vose 별칭 테이블: 평균보다 작은 칸을 큰 칸의 몫으로 채워, 모든 칸이 확률 1을 갖도록 나눕니다.
+     */
+    private void buildAliasTable(double[] weights) {
+        if (count == 0) {
+            return;
+        }
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        var scaled = new double[count];
+        var small = new int[count];
+        var large = new int[count];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < count; i++) {
+            scaled[i] = weights[i] * count / total;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // 부동소수 오차로 남은 칸은 확률 1
+        while (largeSize > 0) {
+            probability[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            probability[small[--smallSize]] = 1;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.toy.cnr.application.game.service;
+
+import com.toy.cnr.domain.common.CommandResult;
+import com.toy.cnr.domain.game.LocationAreaUpdate;
+import com.toy.cnr.domain.game.PlayerRole;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.InGamePlayerStore;
+import com.toy.cnr.port.game.LocationStore;
+import com.toy.cnr.port.game.LocationSubscriber;
+import com.toy.cnr.port.game.model.InGamePlayerDto;
+import com.toy.cnr.port.game.model.LocationDto;
+import com.toy.cnr.port.game.model.NearbyLocationDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AreaOfInterestServiceTest {
+
+    private LocationSubscriber locationSubscriber;
+    private LocationStore locationStore;
+    private InGamePlayerStore inGamePlayerStore;
+    private AreaOfInterestService areaOfInterestService;
+
+    @BeforeEach
+    void setUp() {
+        locationSubscriber = Mockito.mock(LocationSubscriber.class);
+        locationStore = Mockito.mock(LocationStore.class);
+        inGamePlayerStore = Mockito.mock(InGamePlayerStore.class);
+        areaOfInterestService = new AreaOfInterestService(locationSubscriber, locationStore, inGamePlayerStore);
+
+        when(locationSubscriber.subscribeAll(anyString(), any())).thenReturn("upstream-1");
+        when(locationStore.getLocation(anyString(), anyString()))
+            .thenReturn(new RepositoryResult.NotFound<>("no location"));
+    }
+
+    // ────────────────────────────────────────────────────
+    // Fixtures
+    // ────────────────────────────────────────────────────
+
+    private static final String GAME_ID = "game-001";
+    private static final String VIEWER_ID = "police-1";
+
+    /** 위도 0.001도 ≈ 111m */
+    private static final double LAT = 37.4979;
+    private static final double LON = 127.0276;
+
+    private static LocationDto fix(String playerId, double latOffset) {
+        return new LocationDto(playerId, LON, LAT + latOffset, 1_000L);
+    }
+
+    /** subscribeAll에 넘어간 상위 좌표 콜백을 반환합니다. */
+    @SuppressWarnings("unchecked")
+    private Consumer<LocationDto> upstream() {
+        ArgumentCaptor<Consumer<LocationDto>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(locationSubscriber).subscribeAll(eq(GAME_ID), captor.capture());
+        return captor.getValue();
+    }
+
+    private static List<LocationAreaUpdate.Type> types(List<LocationAreaUpdate> updates) {
+        return updates.stream().map(LocationAreaUpdate::type).toList();
+    }
+
+    // ────────────────────────────────────────────────────
+    // subscribe
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("subscribe")
+    class Subscribe {
+
+        @Test
+        @DisplayName("[성공] 구독 시 이미 반경 안에 있는 플레이어를 ENTER로 전달한다")
+        void subscribe_seedsVisiblePlayers() {
+            when(locationStore.getLocation(GAME_ID, VIEWER_ID))
+                .thenReturn(new RepositoryResult.Found<>(fix(VIEWER_ID, 0)));
+            when(locationStore.searchWithinRadius(GAME_ID, VIEWER_ID, 200, false, true))
+                .thenReturn(new RepositoryResult.Found<>(List.of(
+                    new NearbyLocationDto(VIEWER_ID, null, LON, LAT),
+                    new NearbyLocationDto("thief-1", null, LON, LAT + 0.001)
+                )));
+            var updates = new ArrayList<LocationAreaUpdate>();
+
+            var result = areaOfInterestService.subscribe(GAME_ID, VIEWER_ID, 200, null, updates::add);
+
+            assertInstanceOf(CommandResult.Success.class, result);
+            assertEquals(List.of(LocationAreaUpdate.Type.ENTER), types(updates));
+            assertEquals("thief-1", updates.getFirst().location().playerId());
+        }
+
+        @Test
+        @DisplayName("[실패] 반경이 0 이하면 ValidationError를 반환하고 구독하지 않는다")
+        void subscribe_invalidRadius() {
+            var result = areaOfInterestService.subscribe(GAME_ID, VIEWER_ID, 0, null, update -> { });
+
+            assertInstanceOf(CommandResult.ValidationError.class, result);
+            verify(locationSubscriber, never()).subscribeAll(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("[성공] 같은 게임 구독자들은 상위 구독 하나를 공유하고, 마지막 해제 시 상위 구독을 해제한다")
+        void subscribe_sharesUpstreamPerGame() {
+            var first = areaOfInterestService.subscribe(GAME_ID, VIEWER_ID, 200, null, update -> { });
+            var second = areaOfInterestService.subscribe(GAME_ID, "police-2", 200, null, update -> { });
+
+            verify(locationSubscriber, times(1)).subscribeAll(eq(GAME_ID), any());
+
+            areaOfInterestService.unsubscribe(((CommandResult.Success<String>) first).data());
+            verify(locationSubscriber, never()).unsubscribe(anyString());
+
+            areaOfInterestService.unsubscribe(((CommandResult.Success<String>) second).data());
+            verify(locationSubscriber).unsubscribe("upstream-1");
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // 좌표 수신
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("좌표 수신")
+    class OnFix {
+
+        @Test
+        @DisplayName("[성공] 다른 플레이어가 반경에 들어오고, 움직이고, 나가면 ENTER/MOVE/LEAVE를 전달한다")
+        void onFix_enterMoveLeave() {
+            var updates = new ArrayList<LocationAreaUpdate>();
+            areaOfInterestService.subscribe(GAME_ID, VIEWER_ID, 200, null, updates::add);
+            var upstream = upstream();
+
+            upstream.accept(fix(VIEWER_ID, 0));
+            upstream.accept(fix("thief-1", 0.005));   // ≈ 556m: 반경 밖, 전달 없음
+            upstream.accept(fix("thief-1", 0.001));   // ≈ 111m: ENTER
+            upstream.accept(fix("thief-1", 0.0015));  // ≈ 167m: MOVE
+            upstream.accept(fix("thief-1", 0.003));   // ≈ 334m: LEAVE
+            upstream.accept(fix("thief-1", 0.004));   // 반경 밖 유지: 전달 없음
+
+            assertEquals(
+                List.of(LocationAreaUpdate.Type.ENTER, LocationAreaUpdate.Type.MOVE, LocationAreaUpdate.Type.LEAVE),
+                types(updates)
+            );
+        }
+
+        @Test
+        @DisplayName("[성공] 구독자 본인이 움직여 반경이 바뀌면 들어온/나간 플레이어만 전달한다")
+        void onFix_viewerMoves() {
+            var updates = new ArrayList<LocationAreaUpdate>();
+            areaOfInterestService.subscribe(GAME_ID, VIEWER_ID, 200, null, updates::add);
+            var upstream = upstream();
+
+            upstream.accept(fix("thief-1", 0.001));
+            upstream.accept(fix("thief-2", 0.01));
+            upstream.accept(fix(VIEWER_ID, 0));       // thief-1 ENTER
+            upstream.accept(fix(VIEWER_ID, 0.0095));  // thief-1 LEAVE, thief-2 ENTER
+
+            assertEquals(3, updates.size());
+            assertEquals(LocationAreaUpdate.Type.ENTER, updates.get(0).type());
+            assertEquals("thief-1", updates.get(1).location().playerId());
+            assertEquals(LocationAreaUpdate.Type.LEAVE, updates.get(1).type());
+            assertEquals("thief-2", updates.get(2).location().playerId());
+            assertEquals(LocationAreaUpdate.Type.ENTER, updates.get(2).type());
+            // 본인 좌표는 전달하지 않음
+            assertTrue(updates.stream().noneMatch(update -> update.location().playerId().equals(VIEWER_ID)));
+        }
+
+        @Test
+        @DisplayName("[성공] 역할 필터를 지정하면 해당 역할의 플레이어만 전달한다")
+        void onFix_roleFilter() {
+            when(inGamePlayerStore.getAllPlayers(GAME_ID)).thenReturn(new RepositoryResult.Found<>(List.of(
+                new InGamePlayerDto("thief-1", "도둑", "THIEF", "ACTIVE", 0, 0, 0, 0, 0L),
+                new InGamePlayerDto("police-2", "경찰", "POLICE", "ACTIVE", 0, 0, 0, 0, 0L)
+            )));
+            var updates = new ArrayList<LocationAreaUpdate>();
+            areaOfInterestService.subscribe(GAME_ID, VIEWER_ID, 200, PlayerRole.THIEF, updates::add);
+            var upstream = upstream();
+
+            upstream.accept(fix(VIEWER_ID, 0));
+            upstream.accept(fix("police-2", 0.001));
+            upstream.accept(fix("thief-1", 0.001));
+
+            assertEquals(1, updates.size());
+            assertEquals("thief-1", updates.getFirst().location().playerId());
+        }
+
+        @Test
+        @DisplayName("[성공] 해제한 구독자에게는 더 이상 전달하지 않는다")
+        void onFix_afterUnsubscribe() {
+            var updates = new ArrayList<LocationAreaUpdate>();
+            var first = areaOfInterestService.subscribe(GAME_ID, VIEWER_ID, 200, null, updates::add);
+            areaOfInterestService.subscribe(GAME_ID, "police-2", 200, null, update -> { });
+            var upstream = upstream();
+
+            upstream.accept(fix(VIEWER_ID, 0));
+            areaOfInterestService.unsubscribe(((CommandResult.Success<String>) first).data());
+            upstream.accept(fix("thief-1", 0.001));
+
+            assertTrue(updates.isEmpty());
+        }
+    }
+}
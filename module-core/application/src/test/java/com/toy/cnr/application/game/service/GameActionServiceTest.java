@@ -6,10 +6,11 @@ import com.toy.cnr.domain.room.RoomPlayer;
 import com.toy.cnr.domain.room.RoomSettings;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.*;
+import com.toy.cnr.port.game.model.GameActionOutcome;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import com.toy.cnr.port.game.model.GameEventDto;
 import com.toy.cnr.port.game.model.GameStateDto;
-import com.toy.cnr.port.game.model.GemDto;
 import com.toy.cnr.port.game.model.InGamePlayerDto;
-import com.toy.cnr.port.game.model.LocationDto;
 import com.toy.cnr.port.room.model.RoomSettingsDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,7 +30,6 @@ class GameActionServiceTest {
     private GameStateStore gameStateStore;
     private InGamePlayerStore inGamePlayerStore;
     private GemStore gemStore;
-    private LocationStore locationStore;
     private GameEventService gameEventService;
     private GameRegistryStore gameRegistryStore;
     private GameTimerService gameTimerService;
@@ -41,13 +41,12 @@ class GameActionServiceTest {
         gameStateStore = Mockito.mock(GameStateStore.class);
         inGamePlayerStore = Mockito.mock(InGamePlayerStore.class);
         gemStore = Mockito.mock(GemStore.class);
-        locationStore = Mockito.mock(LocationStore.class);
         gameEventService = Mockito.mock(GameEventService.class);
         gameRegistryStore = Mockito.mock(GameRegistryStore.class);
         gameTimerService = Mockito.mock(GameTimerService.class);
         gemSpawnService = Mockito.mock(GemSpawnService.class);
         gameActionService = new GameActionService(
-            gameStateStore, inGamePlayerStore, gemStore, locationStore,
+            gameStateStore, inGamePlayerStore, gemStore,
             gameEventService, gameRegistryStore, gameTimerService, gemSpawnService
         );
     }
@@ -88,31 +87,6 @@ class GameActionServiceTest {
         );
     }
 
-    private static InGamePlayerDto robberDto() {
-        return new InGamePlayerDto(
-            ROBBER_ID, ROBBER_NAME, PlayerRole.THIEF.name(), PlayerStatus.ACTIVE.name(),
-            0, 0, 0, 0, System.currentTimeMillis()
-        );
-    }
-
-    private static InGamePlayerDto arrestedRobberDto() {
-        return new InGamePlayerDto(
-            ROBBER_ID, ROBBER_NAME, PlayerRole.THIEF.name(), PlayerStatus.ARRESTED.name(),
-            0, 0, 0, 0, System.currentTimeMillis()
-        );
-    }
-
-    private static GemDto availableGemDto() {
-        return new GemDto(
-            GEM_ID, 37.0000, 127.0000, GemStatus.AVAILABLE.name(), null, System.currentTimeMillis()
-        );
-    }
-
-    /** 보석과 동일한 좌표에 위치한 도둑 → 거리 0 */
-    private static LocationDto robberAtGemLocation() {
-        return new LocationDto(ROBBER_ID, 127.0000, 37.0000, System.currentTimeMillis());
-    }
-
     // ────────────────────────────────────────────────────
     // startGame
     // ────────────────────────────────────────────────────
@@ -140,8 +114,12 @@ class GameActionServiceTest {
             assertNotNull(gameId);
             assertFalse(gameId.isBlank());
 
-            // 플레이어 수만큼 역할 배정 이벤트 발행
-            verify(gameEventService, times(players.size())).publish(any(GameEvent.RoleAssigned.class));
+            // 역할 배정 이벤트는 플레이어별 개인 채널로만 발행
+            verify(gameEventService).publishToPlayer(eq(COPS_ID), argThat(event ->
+                event instanceof GameEvent.RoleAssigned assigned && assigned.playerId().equals(COPS_ID)));
+            verify(gameEventService).publishToPlayer(eq(ROBBER_ID), argThat(event ->
+                event instanceof GameEvent.RoleAssigned assigned && assigned.playerId().equals(ROBBER_ID)));
+            verify(gameEventService, never()).publish(any(GameEvent.RoleAssigned.class));
             // 게임 시작 이벤트 1회 발행
             verify(gameEventService).publish(any(GameEvent.GameStarted.class));
             verify(gameRegistryStore).register(gameId);
@@ -171,45 +149,30 @@ class GameActionServiceTest {
 
         private final ArrestCommand command = new ArrestCommand(GAME_ID, COPS_ID, ROBBER_ID);
 
+        private void givenArrest(GameActionResultDto actionResult) {
+            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
+            when(inGamePlayerStore.arrest(eq(GAME_ID), eq(COPS_ID), eq(ROBBER_ID), anyDouble(), any()))
+                .thenReturn(new RepositoryResult.Found<>(actionResult));
+        }
+
         @Test
-        @DisplayName("[성공] 범위 내 도둑 체포 → 도둑 ARRESTED, 경찰 arrestCount+1, 이벤트 발행")
+        @DisplayName("[성공] 범위 내 도둑 체포 → 원자적 체포 1회(반경·PlayerArrested 이벤트 전달), 게임 종료 없음")
         void arrest_success() {
             // 아직 체포되지 않은 다른 도둑이 존재 → 게임 종료 조건 미충족
-            var activeRobber2 = new InGamePlayerDto(
-                "robber-002", "Robber2", PlayerRole.THIEF.name(), PlayerStatus.ACTIVE.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, COPS_ID)).thenReturn(new RepositoryResult.Found<>(copsDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberDto()));
-            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
-            when(locationStore.getDistanceMeters(GAME_ID, COPS_ID, ROBBER_ID))
-                .thenReturn(new RepositoryResult.Found<>(WITHIN_RANGE));
-            when(inGamePlayerStore.updatePlayer(anyString(), any())).thenReturn(new RepositoryResult.Found<>(null));
-            when(inGamePlayerStore.getAllPlayers(GAME_ID)).thenReturn(new RepositoryResult.Found<>(
-                List.of(copsDto(), arrestedRobberDto(), activeRobber2)
-            ));
+            givenArrest(new GameActionResultDto(GameActionOutcome.SUCCESS, WITHIN_RANGE, 1L));
 
             var result = gameActionService.arrest(command);
 
             assertInstanceOf(CommandResult.Success.class, result);
 
-            var captor = ArgumentCaptor.forClass(InGamePlayerDto.class);
-            verify(inGamePlayerStore, times(2)).updatePlayer(eq(GAME_ID), captor.capture());
-            var updated = captor.getAllValues();
+            var eventCaptor = ArgumentCaptor.forClass(GameEventDto.class);
+            verify(inGamePlayerStore).arrest(eq(GAME_ID), eq(COPS_ID), eq(ROBBER_ID), eq(ACTION_RADIUS), eventCaptor.capture());
+            assertEquals("PLAYER_ARRESTED", eventCaptor.getValue().type());
 
-            // 도둑 → ARRESTED
-            var updatedRobber = updated.stream()
-                .filter(p -> p.playerId().equals(ROBBER_ID))
-                .findFirst().orElseThrow();
-            assertEquals(PlayerStatus.ARRESTED.name(), updatedRobber.status());
-
-            // 경찰 arrestCount+1
-            var updatedCops = updated.stream()
-                .filter(p -> p.playerId().equals(COPS_ID))
-                .findFirst().orElseThrow();
-            assertEquals(1, updatedCops.arrestCount());
-
-            verify(gameEventService).publish(any(GameEvent.PlayerArrested.class));
+            // 개별 조회/갱신/발행 없이 스크립트 1회로 처리
+            verify(inGamePlayerStore, never()).getPlayer(anyString(), anyString());
+            verify(inGamePlayerStore, never()).updatePlayer(anyString(), any());
+            verifyNoInteractions(gameEventService);
             // 도둑이 남아 있으므로 게임 종료 없음
             verify(gameTimerService, never()).endGame(anyString(), anyString());
         }
@@ -217,16 +180,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[성공] 마지막 도둑 체포 → gameTimerService.endGame(POLICE) 호출")
         void arrest_lastRobber_endsGame() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, COPS_ID)).thenReturn(new RepositoryResult.Found<>(copsDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberDto()));
-            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
-            when(locationStore.getDistanceMeters(GAME_ID, COPS_ID, ROBBER_ID))
-                .thenReturn(new RepositoryResult.Found<>(WITHIN_RANGE));
-            when(inGamePlayerStore.updatePlayer(anyString(), any())).thenReturn(new RepositoryResult.Found<>(null));
-            // 도둑 1명만 존재하며 체포된 상태 → 모든 도둑 체포 완료
-            when(inGamePlayerStore.getAllPlayers(GAME_ID)).thenReturn(new RepositoryResult.Found<>(
-                List.of(copsDto(), arrestedRobberDto())
-            ));
+            givenArrest(new GameActionResultDto(GameActionOutcome.SUCCESS, WITHIN_RANGE, 0L));
 
             gameActionService.arrest(command);
 
@@ -236,11 +190,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] 경찰 역할이 아닌 플레이어가 체포 시도 → BusinessError")
         void arrest_notCops() {
-            var robberAsCops = new InGamePlayerDto(
-                COPS_ID, COPS_NAME, PlayerRole.THIEF.name(), PlayerStatus.ACTIVE.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, COPS_ID)).thenReturn(new RepositoryResult.Found<>(robberAsCops));
+            givenArrest(new GameActionResultDto(GameActionOutcome.ACTOR_ROLE_MISMATCH, null, null));
 
             var result = gameActionService.arrest(command);
 
@@ -251,11 +201,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] ACTIVE 상태가 아닌 경찰이 체포 시도 → BusinessError")
         void arrest_copsNotActive() {
-            var inactiveCops = new InGamePlayerDto(
-                COPS_ID, COPS_NAME, PlayerRole.POLICE.name(), PlayerStatus.ARRESTED.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, COPS_ID)).thenReturn(new RepositoryResult.Found<>(inactiveCops));
+            givenArrest(new GameActionResultDto(GameActionOutcome.ACTOR_NOT_ACTIVE, null, null));
 
             var result = gameActionService.arrest(command);
 
@@ -266,12 +212,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] 타겟이 도둑 역할이 아님 → BusinessError")
         void arrest_targetNotRobber() {
-            var copsAsTarget = new InGamePlayerDto(
-                ROBBER_ID, ROBBER_NAME, PlayerRole.POLICE.name(), PlayerStatus.ACTIVE.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, COPS_ID)).thenReturn(new RepositoryResult.Found<>(copsDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(copsAsTarget));
+            givenArrest(new GameActionResultDto(GameActionOutcome.TARGET_ROLE_MISMATCH, null, null));
 
             var result = gameActionService.arrest(command);
 
@@ -280,31 +221,38 @@ class GameActionServiceTest {
         }
 
         @Test
-        @DisplayName("[실패] 도둑이 이미 체포된 상태 → BusinessError")
+        @DisplayName("[실패] 도둑이 이미 체포된 상태(동시 체포의 후순위 포함) → BusinessError, 게임 종료 없음")
         void arrest_robberAlreadyArrested() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, COPS_ID)).thenReturn(new RepositoryResult.Found<>(copsDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(arrestedRobberDto()));
+            givenArrest(new GameActionResultDto(GameActionOutcome.TARGET_STATUS_MISMATCH, null, null));
 
             var result = gameActionService.arrest(command);
 
             assertInstanceOf(CommandResult.BusinessError.class, result);
             assertEquals("Robber is already arrested", ((CommandResult.BusinessError<Void>) result).reason());
+            verify(gameTimerService, never()).endGame(anyString(), anyString());
         }
 
         @Test
         @DisplayName("[실패] 체포 사거리 초과 → BusinessError")
         void arrest_outOfRange() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, COPS_ID)).thenReturn(new RepositoryResult.Found<>(copsDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberDto()));
-            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
-            when(locationStore.getDistanceMeters(GAME_ID, COPS_ID, ROBBER_ID))
-                .thenReturn(new RepositoryResult.Found<>(OUT_OF_RANGE));
+            givenArrest(new GameActionResultDto(GameActionOutcome.OUT_OF_RANGE, OUT_OF_RANGE, null));
 
             var result = gameActionService.arrest(command);
 
             assertInstanceOf(CommandResult.BusinessError.class, result);
             assertTrue(((CommandResult.BusinessError<Void>) result).reason().startsWith("Robber is out of arrest range"));
         }
+
+        @Test
+        @DisplayName("[실패] 게임 상태 없음 → BusinessError, 체포 스크립트 미실행")
+        void arrest_gameNotFound() {
+            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.NotFound<>("Game not found"));
+
+            var result = gameActionService.arrest(command);
+
+            assertInstanceOf(CommandResult.BusinessError.class, result);
+            verify(inGamePlayerStore, never()).arrest(anyString(), anyString(), anyString(), anyDouble(), any());
+        }
     }
 
     // ────────────────────────────────────────────────────
@@ -316,57 +264,34 @@ class GameActionServiceTest {
     class Rescue {
 
         private static final String RESCUER_ID = "robber-002";
-        private static final String RESCUER_NAME = "RescuerPlayer";
         private final RescueCommand command = new RescueCommand(GAME_ID, RESCUER_ID, ROBBER_ID);
 
-        private InGamePlayerDto rescuerDto() {
-            return new InGamePlayerDto(
-                RESCUER_ID, RESCUER_NAME, PlayerRole.THIEF.name(), PlayerStatus.ACTIVE.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
+        private void givenRescue(GameActionResultDto actionResult) {
+            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
+            when(inGamePlayerStore.rescue(eq(GAME_ID), eq(RESCUER_ID), eq(ROBBER_ID), anyDouble(), any()))
+                .thenReturn(new RepositoryResult.Found<>(actionResult));
         }
 
         @Test
-        @DisplayName("[성공] 범위 내 체포된 동료 구출 → 동료 ACTIVE 복귀, 구출자 rescueCount+1, 이벤트 발행")
+        @DisplayName("[성공] 범위 내 체포된 동료 구출 → 원자적 구출 1회(반경·PlayerRescued 이벤트 전달)")
         void rescue_success() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, RESCUER_ID)).thenReturn(new RepositoryResult.Found<>(rescuerDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(arrestedRobberDto()));
-            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
-            when(locationStore.getDistanceMeters(GAME_ID, RESCUER_ID, ROBBER_ID))
-                .thenReturn(new RepositoryResult.Found<>(WITHIN_RANGE));
-            when(inGamePlayerStore.updatePlayer(anyString(), any())).thenReturn(new RepositoryResult.Found<>(null));
+            givenRescue(new GameActionResultDto(GameActionOutcome.SUCCESS, WITHIN_RANGE, null));
 
             var result = gameActionService.rescue(command);
 
             assertInstanceOf(CommandResult.Success.class, result);
 
-            var captor = ArgumentCaptor.forClass(InGamePlayerDto.class);
-            verify(inGamePlayerStore, times(2)).updatePlayer(eq(GAME_ID), captor.capture());
-            var updated = captor.getAllValues();
-
-            // 체포된 동료 → ACTIVE 복귀
-            var restoredRobber = updated.stream()
-                .filter(p -> p.playerId().equals(ROBBER_ID))
-                .findFirst().orElseThrow();
-            assertEquals(PlayerStatus.ACTIVE.name(), restoredRobber.status());
-
-            // 구출자 rescueCount+1
-            var updatedRescuer = updated.stream()
-                .filter(p -> p.playerId().equals(RESCUER_ID))
-                .findFirst().orElseThrow();
-            assertEquals(1, updatedRescuer.rescueCount());
-
-            verify(gameEventService).publish(any(GameEvent.PlayerRescued.class));
+            var eventCaptor = ArgumentCaptor.forClass(GameEventDto.class);
+            verify(inGamePlayerStore).rescue(eq(GAME_ID), eq(RESCUER_ID), eq(ROBBER_ID), eq(ACTION_RADIUS), eventCaptor.capture());
+            assertEquals("PLAYER_RESCUED", eventCaptor.getValue().type());
+            verify(inGamePlayerStore, never()).updatePlayer(anyString(), any());
+            verifyNoInteractions(gameEventService);
         }
 
         @Test
         @DisplayName("[실패] 구출자가 도둑 역할이 아님 → BusinessError")
         void rescue_rescuerNotRobber() {
-            var copsAsRescuer = new InGamePlayerDto(
-                RESCUER_ID, RESCUER_NAME, PlayerRole.POLICE.name(), PlayerStatus.ACTIVE.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, RESCUER_ID)).thenReturn(new RepositoryResult.Found<>(copsAsRescuer));
+            givenRescue(new GameActionResultDto(GameActionOutcome.ACTOR_ROLE_MISMATCH, null, null));
 
             var result = gameActionService.rescue(command);
 
@@ -377,11 +302,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] 구출자가 ACTIVE 상태가 아님(체포됨) → BusinessError")
         void rescue_rescuerNotActive() {
-            var arrestedRescuer = new InGamePlayerDto(
-                RESCUER_ID, RESCUER_NAME, PlayerRole.THIEF.name(), PlayerStatus.ARRESTED.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, RESCUER_ID)).thenReturn(new RepositoryResult.Found<>(arrestedRescuer));
+            givenRescue(new GameActionResultDto(GameActionOutcome.ACTOR_NOT_ACTIVE, null, null));
 
             var result = gameActionService.rescue(command);
 
@@ -392,8 +313,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] 타겟이 체포 상태가 아님(이미 ACTIVE) → BusinessError")
         void rescue_targetNotArrested() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, RESCUER_ID)).thenReturn(new RepositoryResult.Found<>(rescuerDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberDto()));
+            givenRescue(new GameActionResultDto(GameActionOutcome.TARGET_STATUS_MISMATCH, null, null));
 
             var result = gameActionService.rescue(command);
 
@@ -404,11 +324,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] 구출 사거리 초과 → BusinessError")
         void rescue_outOfRange() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, RESCUER_ID)).thenReturn(new RepositoryResult.Found<>(rescuerDto()));
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(arrestedRobberDto()));
-            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
-            when(locationStore.getDistanceMeters(GAME_ID, RESCUER_ID, ROBBER_ID))
-                .thenReturn(new RepositoryResult.Found<>(OUT_OF_RANGE));
+            givenRescue(new GameActionResultDto(GameActionOutcome.OUT_OF_RANGE, OUT_OF_RANGE, null));
 
             var result = gameActionService.rescue(command);
 
@@ -427,42 +343,33 @@ class GameActionServiceTest {
 
         private final CollectGemCommand command = new CollectGemCommand(GAME_ID, ROBBER_ID, GEM_ID);
 
+        private void givenCollect(GameActionResultDto actionResult) {
+            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
+            when(gemStore.collectGem(eq(GAME_ID), eq(ROBBER_ID), eq(GEM_ID), anyDouble(), any()))
+                .thenReturn(new RepositoryResult.Found<>(actionResult));
+        }
+
         @Test
-        @DisplayName("[성공] 범위 내 보석 획득 → 보석 COLLECTED, gemsCollected+1, 이벤트 발행")
+        @DisplayName("[성공] 범위 내 보석 획득 → 원자적 획득 1회(반경·GemCollected 이벤트 전달)")
         void collectGem_success() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberDto()));
-            when(gemStore.getGem(GAME_ID, GEM_ID)).thenReturn(new RepositoryResult.Found<>(availableGemDto()));
-            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
-            when(locationStore.getLocation(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberAtGemLocation()));
-            when(gemStore.updateGem(anyString(), any())).thenReturn(new RepositoryResult.Found<>(null));
-            when(inGamePlayerStore.updatePlayer(anyString(), any())).thenReturn(new RepositoryResult.Found<>(null));
+            givenCollect(new GameActionResultDto(GameActionOutcome.SUCCESS, 0.0, null));
 
             var result = gameActionService.collectGem(command);
 
             assertInstanceOf(CommandResult.Success.class, result);
 
-            // 보석 상태 → COLLECTED, collectedBy 설정
-            var gemCaptor = ArgumentCaptor.forClass(GemDto.class);
-            verify(gemStore).updateGem(eq(GAME_ID), gemCaptor.capture());
-            assertEquals(GemStatus.COLLECTED.name(), gemCaptor.getValue().status());
-            assertEquals(ROBBER_ID, gemCaptor.getValue().collectedBy());
-
-            // gemsCollected+1
-            var playerCaptor = ArgumentCaptor.forClass(InGamePlayerDto.class);
-            verify(inGamePlayerStore).updatePlayer(eq(GAME_ID), playerCaptor.capture());
-            assertEquals(1, playerCaptor.getValue().gemsCollected());
-
-            verify(gameEventService).publish(any(GameEvent.GemCollected.class));
+            var eventCaptor = ArgumentCaptor.forClass(GameEventDto.class);
+            verify(gemStore).collectGem(eq(GAME_ID), eq(ROBBER_ID), eq(GEM_ID), eq(ACTION_RADIUS), eventCaptor.capture());
+            assertEquals("GEM_COLLECTED", eventCaptor.getValue().type());
+            assertEquals(GEM_ID, eventCaptor.getValue().data().get("gemId"));
+            verify(gemStore, never()).updateGem(anyString(), any());
+            verifyNoInteractions(gameEventService);
         }
 
         @Test
         @DisplayName("[실패] 도둑 역할이 아닌 플레이어가 보석 획득 시도 → BusinessError")
         void collectGem_notRobber() {
-            var copsDto = new InGamePlayerDto(
-                ROBBER_ID, ROBBER_NAME, PlayerRole.POLICE.name(), PlayerStatus.ACTIVE.name(),
-                0, 0, 0, 0, System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(copsDto));
+            givenCollect(new GameActionResultDto(GameActionOutcome.ACTOR_ROLE_MISMATCH, null, null));
 
             var result = gameActionService.collectGem(command);
 
@@ -473,7 +380,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] ACTIVE 상태가 아닌 도둑의 보석 획득 시도 → BusinessError")
         void collectGem_playerNotActive() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(arrestedRobberDto()));
+            givenCollect(new GameActionResultDto(GameActionOutcome.ACTOR_NOT_ACTIVE, null, null));
 
             var result = gameActionService.collectGem(command);
 
@@ -482,13 +389,9 @@ class GameActionServiceTest {
         }
 
         @Test
-        @DisplayName("[실패] 이미 획득된 보석 → BusinessError")
+        @DisplayName("[실패] 이미 획득된 보석(동시 획득의 후순위 포함) → BusinessError")
         void collectGem_alreadyCollected() {
-            var collectedGem = new GemDto(
-                GEM_ID, 37.0, 127.0, GemStatus.COLLECTED.name(), "someone-else", System.currentTimeMillis()
-            );
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberDto()));
-            when(gemStore.getGem(GAME_ID, GEM_ID)).thenReturn(new RepositoryResult.Found<>(collectedGem));
+            givenCollect(new GameActionResultDto(GameActionOutcome.TARGET_STATUS_MISMATCH, null, null));
 
             var result = gameActionService.collectGem(command);
 
@@ -499,12 +402,7 @@ class GameActionServiceTest {
         @Test
         @DisplayName("[실패] 보석 획득 사거리 초과 → BusinessError")
         void collectGem_outOfRange() {
-            when(inGamePlayerStore.getPlayer(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(robberDto()));
-            when(gemStore.getGem(GAME_ID, GEM_ID)).thenReturn(new RepositoryResult.Found<>(availableGemDto()));
-            when(gameStateStore.getGameState(GAME_ID)).thenReturn(new RepositoryResult.Found<>(gameStateDto()));
-            // 도둑 위치를 보석 좌표와 ~100km 떨어진 곳으로 설정
-            var farLocation = new LocationDto(ROBBER_ID, 128.0, 38.0, System.currentTimeMillis());
-            when(locationStore.getLocation(GAME_ID, ROBBER_ID)).thenReturn(new RepositoryResult.Found<>(farLocation));
+            givenCollect(new GameActionResultDto(GameActionOutcome.OUT_OF_RANGE, OUT_OF_RANGE, null));
 
             var result = gameActionService.collectGem(command);
 
@@ -1,9 +1,14 @@
 package com.toy.cnr.application.game.service;
 
+import com.toy.cnr.domain.common.CommandResult;
 import com.toy.cnr.domain.game.GameEvent;
+import com.toy.cnr.domain.game.GameEventEntry;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameEventLogStore;
 import com.toy.cnr.port.game.GameEventPublisher;
 import com.toy.cnr.port.game.GameEventSubscriber;
 import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.GameEventEntryDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,13 +16,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,13 +36,15 @@ class GameEventServiceTest {
 
     private GameEventPublisher publisher;
     private GameEventSubscriber subscriber;
+    private GameEventLogStore eventLogStore;
     private GameEventService gameEventService;
 
     @BeforeEach
     void setUp() {
         publisher = Mockito.mock(GameEventPublisher.class);
         subscriber = Mockito.mock(GameEventSubscriber.class);
-        gameEventService = new GameEventService(publisher, subscriber);
+        eventLogStore = Mockito.mock(GameEventLogStore.class);
+        gameEventService = new GameEventService(publisher, subscriber, eventLogStore);
     }
 
     private static final String GAME_ID = "game-001";
@@ -101,6 +114,20 @@ class GameEventServiceTest {
             assertEquals("GAME_ENDED", captor.getValue().type());
             assertEquals("POLICE", captor.getValue().data().get("winnerRole"));
         }
+
+        @Test
+        @DisplayName("[성공] RoleAssigned 개인 발행 → publisher.publishToPlayer에 수신 플레이어 전달, 게임 채널 발행 없음")
+        void publishToPlayer_roleAssigned() {
+            var event = new GameEvent.RoleAssigned(GAME_ID, "player-1", "THIEF", TIMESTAMP);
+
+            gameEventService.publishToPlayer("player-1", event);
+
+            var captor = ArgumentCaptor.forClass(GameEventDto.class);
+            verify(publisher).publishToPlayer(eq(GAME_ID), eq("player-1"), captor.capture());
+            assertEquals("ROLE_ASSIGNED", captor.getValue().type());
+            assertEquals("THIEF", captor.getValue().data().get("role"));
+            verify(publisher, never()).publish(any(), any());
+        }
     }
 
     // ────────────────────────────────────────────────────
@@ -114,33 +141,133 @@ class GameEventServiceTest {
         @Test
         @DisplayName("[성공] subscribe 호출 → subscriber.subscribe에 gameId 전달, subscriberId 반환")
         void subscribe_returnsSubscriberId() {
-            when(subscriber.subscribe(eq(GAME_ID), any())).thenReturn("sub-001");
+            when(subscriber.subscribe(eq(GAME_ID), isNull(), isNull(), any())).thenReturn("sub-001");
 
-            var id = gameEventService.subscribe(GAME_ID, event -> {});
+            var id = gameEventService.subscribe(GAME_ID, null, null, event -> {});
 
             assertEquals("sub-001", id);
-            verify(subscriber).subscribe(eq(GAME_ID), any());
+            verify(subscriber).subscribe(eq(GAME_ID), isNull(), isNull(), any());
         }
 
         @Test
-        @DisplayName("[성공] 구독 콜백 — DTO 수신 시 도메인 GameEvent로 변환되어 onEvent 호출됨")
+        @DisplayName("[성공] 구독 콜백 — DTO 수신 시 이벤트 ID와 함께 도메인 GameEvent로 변환되어 onEvent 호출됨")
         void subscribe_callbackConvertsDto() {
             // Capture the DTO-level consumer that GameEventService passes to subscriber
             @SuppressWarnings("unchecked")
             var consumerCaptor = ArgumentCaptor.forClass(Consumer.class);
-            when(subscriber.subscribe(eq(GAME_ID), consumerCaptor.capture())).thenReturn("sub-001");
+            when(subscriber.subscribe(eq(GAME_ID), isNull(), isNull(), consumerCaptor.capture())).thenReturn("sub-001");
 
-            AtomicReference<GameEvent> received = new AtomicReference<>();
-            gameEventService.subscribe(GAME_ID, received::set);
+            AtomicReference<GameEventEntry> received = new AtomicReference<>();
+            gameEventService.subscribe(GAME_ID, null, null, received::set);
 
             // Simulate subscriber receiving a raw DTO
-            var dto = new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP);
+            var dto = new GameEventEntryDto("1-0", new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP));
             //noinspection unchecked
             consumerCaptor.getValue().accept(dto);
 
             assertNotNull(received.get());
-            assertInstanceOf(GameEvent.GameStarted.class, received.get());
-            assertEquals(GAME_ID, received.get().gameId());
+            assertEquals("1-0", received.get().id());
+            assertInstanceOf(GameEvent.GameStarted.class, received.get().event());
+            assertEquals(GAME_ID, received.get().event().gameId());
+        }
+
+        @Test
+        @DisplayName("[성공] 플레이어·타입 지정 구독 → subscriber에 playerId와 타입 필터 전달")
+        void subscribe_withPlayerAndTypes() {
+            var types = Set.of("PLAYER_ARRESTED", "ROLE_ASSIGNED");
+            when(subscriber.subscribe(eq(GAME_ID), eq("player-1"), eq(types), any())).thenReturn("sub-002");
+
+            var id = gameEventService.subscribe(GAME_ID, "player-1", types, event -> {});
+
+            assertEquals("sub-002", id);
+            verify(subscriber).subscribe(eq(GAME_ID), eq("player-1"), eq(types), any());
+        }
+
+        @Test
+        @DisplayName("[성공] 개인 채널 구독 → subscriber.subscribeToPlayer에 playerId와 타입 필터 전달")
+        void subscribeToPlayer_delegatesToSubscriber() {
+            var types = Set.of("ROLE_ASSIGNED");
+            when(subscriber.subscribeToPlayer(eq(GAME_ID), eq("player-1"), eq(types), any())).thenReturn("sub-003");
+
+            var id = gameEventService.subscribeToPlayer(GAME_ID, "player-1", types, event -> {});
+
+            assertEquals("sub-003", id);
+            verify(subscriber).subscribeToPlayer(eq(GAME_ID), eq("player-1"), eq(types), any());
+            verify(subscriber, never()).subscribe(any(), any(), any(), any());
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // replay
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("replay")
+    class Replay {
+
+        @Test
+        @DisplayName("[성공] lastEventId 이후 이벤트 → 도메인 이벤트로 변환해 순서대로 반환")
+        void replay_returnsEntriesInOrder() {
+            when(eventLogStore.readAfter(eq(GAME_ID), eq("1-0"), anyInt())).thenReturn(
+                new RepositoryResult.Found<>(List.of(
+                    new GameEventEntryDto("2-0", new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP)),
+                    new GameEventEntryDto("3-0", new GameEventDto(GAME_ID, "GAME_ENDED", Map.of("winnerRole", "POLICE"), TIMESTAMP))
+                ))
+            );
+
+            var result = gameEventService.replay(GAME_ID, "1-0", null);
+
+            assertInstanceOf(CommandResult.Success.class, result);
+            var entries = ((CommandResult.Success<List<GameEventEntry>>) result).data();
+            assertEquals(2, entries.size());
+            assertEquals("2-0", entries.get(0).id());
+            assertInstanceOf(GameEvent.GameStarted.class, entries.get(0).event());
+            assertEquals("3-0", entries.get(1).id());
+            assertInstanceOf(GameEvent.GameEnded.class, entries.get(1).event());
+        }
+
+        @Test
+        @DisplayName("[성공] 타입 지정 재생 → 지정한 타입의 이벤트만 반환")
+        void replay_filtersTypes() {
+            when(eventLogStore.readAfter(eq(GAME_ID), eq("1-0"), anyInt())).thenReturn(
+                new RepositoryResult.Found<>(List.of(
+                    new GameEventEntryDto("2-0", new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP)),
+                    new GameEventEntryDto("3-0", new GameEventDto(GAME_ID, "GAME_ENDED", Map.of("winnerRole", "POLICE"), TIMESTAMP))
+                ))
+            );
+
+            var result = gameEventService.replay(GAME_ID, "1-0", Set.of("GAME_ENDED"));
+
+            var entries = ((CommandResult.Success<List<GameEventEntry>>) result).data();
+            assertEquals(1, entries.size());
+            assertEquals("3-0", entries.getFirst().id());
+        }
+
+        @Test
+        @DisplayName("[실패] 로그가 잘려 재생 구간이 불완전 → BusinessError")
+        void replay_truncated() {
+            when(eventLogStore.readAfter(eq(GAME_ID), eq("1-0"), anyInt()))
+                .thenReturn(new RepositoryResult.NotFound<>("Event log truncated after: 1-0"));
+
+            var result = gameEventService.replay(GAME_ID, "1-0", null);
+
+            assertInstanceOf(CommandResult.BusinessError.class, result);
+        }
+
+        @Test
+        @DisplayName("[실패] 놓친 이벤트가 재생 상한 초과 → BusinessError")
+        void replay_tooManyMissed() {
+            var dto = new GameEventDto(GAME_ID, "GAME_STARTED", Map.of(), TIMESTAMP);
+            var entries = new ArrayList<GameEventEntryDto>();
+            for (int i = 0; i <= GameEventService.MAX_REPLAY_EVENTS; i++) {
+                entries.add(new GameEventEntryDto((i + 2) + "-0", dto));
+            }
+            when(eventLogStore.readAfter(GAME_ID, "1-0", GameEventService.MAX_REPLAY_EVENTS + 1))
+                .thenReturn(new RepositoryResult.Found<>(entries));
+
+            var result = gameEventService.replay(GAME_ID, "1-0", null);
+
+            assertInstanceOf(CommandResult.BusinessError.class, result);
         }
     }
 
@@ -0,0 +1,243 @@
+package com.toy.cnr.application.game.service;
+
+import com.toy.cnr.domain.game.GameEvent;
+import com.toy.cnr.domain.game.GemStatus;
+import com.toy.cnr.domain.room.GeoPoint;
+import com.toy.cnr.port.game.model.GameStateDto;
+import com.toy.cnr.port.game.model.GameTickSnapshotDto;
+import com.toy.cnr.port.game.model.GameTickSnapshotDto.TickPlayerDto;
+import com.toy.cnr.port.game.model.GemDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameTickServiceTest {
+
+    private GemSpawnService gemSpawnService;
+    private GameEventService gameEventService;
+    private GameTickService gameTickService;
+
+    @BeforeEach
+    void setUp() {
+        gemSpawnService = Mockito.mock(GemSpawnService.class);
+        gameEventService = Mockito.mock(GameEventService.class);
+        gameTickService = new GameTickService(gemSpawnService, gameEventService);
+    }
+
+    // ────────────────────────────────────────────────────
+    // Fixtures
+    // ────────────────────────────────────────────────────
+
+    private static final String GAME_ID = "game-001";
+    private static final long STARTED_AT = 1_000_000L;
+    private static final long ENDS_AT = STARTED_AT + 600_000L;
+
+    /** 위도 0.0001도 ≈ 11m */
+    private static final double LAT = 37.4979;
+    private static final double LON = 127.0276;
+
+    private static GameStateDto state(String status) {
+        return new GameStateDto(GAME_ID, "room-001", status, null, STARTED_AT, ENDS_AT);
+    }
+
+    private static GameTickSnapshotDto snapshot(List<TickPlayerDto> players, List<GemDto> gems) {
+        return new GameTickSnapshotDto(GAME_ID, "PLAYING", players, gems);
+    }
+
+    private static TickPlayerDto player(String playerId, String role, long lastSeenAt, double latOffset) {
+        return new TickPlayerDto(playerId, role, "ACTIVE", lastSeenAt, LON, LAT + latOffset);
+    }
+
+    private static GemDto availableGem(String id) {
+        return new GemDto(id, LAT, LON, GemStatus.AVAILABLE.name(), null, STARTED_AT);
+    }
+
+    // ────────────────────────────────────────────────────
+    // 남은 시간 안내
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("남은 시간 안내")
+    class TimeRemaining {
+
+        @Test
+        @DisplayName("[성공] 첫 틱은 기준만 잡고, 안내 구간이 바뀐 틱에만 TimeRemaining을 발행한다")
+        void tick_publishesOnMilestone() {
+            var tickState = new GameTickService.TickState();
+            var empty = snapshot(List.of(), List.of());
+
+            gameTickService.tick(state("PLAYING"), empty, tickState, ENDS_AT - 61_000);
+            gameTickService.tick(state("PLAYING"), empty, tickState, ENDS_AT - 60_500);
+            gameTickService.tick(state("PLAYING"), empty, tickState, ENDS_AT - 59_000);
+
+            var captor = ArgumentCaptor.forClass(GameEvent.class);
+            verify(gameEventService, times(1)).publish(captor.capture());
+            var event = assertInstanceOf(GameEvent.TimeRemaining.class, captor.getValue());
+            assertEquals(60, event.remainingSeconds());
+        }
+
+        @Test
+        @DisplayName("[성공] 안내 구간: 1분 초과는 분 단위, 이후 60/30/10초")
+        void milestone() {
+            assertEquals(180, GameTickService.milestone(121));
+            assertEquals(120, GameTickService.milestone(120));
+            assertEquals(60, GameTickService.milestone(31));
+            assertEquals(30, GameTickService.milestone(30));
+            assertEquals(10, GameTickService.milestone(1));
+        }
+
+        @Test
+        @DisplayName("[성공] 진행 중이 아닌 게임은 아무것도 하지 않는다")
+        void tick_skipsWhenNotInProgress() {
+            var tickState = new GameTickService.TickState();
+            var empty = snapshot(List.of(), List.of());
+
+            gameTickService.tick(state("WAITING"), empty, tickState, ENDS_AT - 61_000);
+            gameTickService.tick(state("WAITING"), empty, tickState, ENDS_AT - 59_000);
+
+            verifyNoInteractions(gameEventService, gemSpawnService);
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // 좌표 끊김 감지
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("좌표 끊김 감지")
+    class StalePlayers {
+
+        @Test
+        @DisplayName("[성공] 끊긴 플레이어는 한 번만 알리고, 다시 좌표를 보낸 뒤 끊기면 다시 알린다")
+        void tick_publishesStaleOnce() {
+            var tickState = new GameTickService.TickState();
+            long now = STARTED_AT + 120_000;
+            var stale = snapshot(List.of(player("thief-1", "THIEF", now - 70_000, 0)), List.of());
+            var fresh = snapshot(List.of(player("thief-1", "THIEF", now, 0)), List.of());
+
+            gameTickService.tick(state("ESCAPE_PHASE"), stale, tickState, now);
+            gameTickService.tick(state("ESCAPE_PHASE"), stale, tickState, now + 1_000);
+            gameTickService.tick(state("ESCAPE_PHASE"), fresh, tickState, now + 2_000);
+            gameTickService.tick(state("ESCAPE_PHASE"), stale, tickState, now + 3_000);
+
+            verify(gameEventService, times(2)).publish(any(GameEvent.PlayerStale.class));
+        }
+
+        @Test
+        @DisplayName("[성공] 좌표를 보낸 적 없는 플레이어는 게임 시작 시각부터 계산한다")
+        void tick_neverSeenCountsFromStart() {
+            var tickState = new GameTickService.TickState();
+            var neverSeen = snapshot(
+                List.of(new TickPlayerDto("thief-1", "THIEF", "ACTIVE", 0L, null, null)), List.of()
+            );
+
+            gameTickService.tick(state("ESCAPE_PHASE"), neverSeen, tickState, STARTED_AT + 30_000);
+            verify(gameEventService, never()).publish(any(GameEvent.PlayerStale.class));
+
+            gameTickService.tick(state("ESCAPE_PHASE"), neverSeen, tickState, STARTED_AT + 60_000);
+            verify(gameEventService).publish(any(GameEvent.PlayerStale.class));
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // 보석 보충
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("보석 보충")
+    class GemTopUp {
+
+        @Test
+        @DisplayName("[성공] 첫 틱 이후 보충 주기가 지나면 스냅샷의 보석으로 spawnIfNeeded를 호출한다")
+        void tick_topsUpOnInterval() {
+            var tickState = new GameTickService.TickState();
+            var gems = snapshot(List.of(), List.of(availableGem("gem-1"), availableGem("gem-2")));
+            long now = STARTED_AT + 100_000;
+
+            gameTickService.tick(state("PLAYING"), gems, tickState, now);
+            gameTickService.tick(state("PLAYING"), gems, tickState, now + 10_000);
+            verify(gemSpawnService, never()).spawnIfNeeded(anyString(), anyList(), anyList(), anyList());
+
+            gameTickService.tick(state("PLAYING"), gems, tickState, now + GameTickService.GEM_TOP_UP_INTERVAL_MILLIS);
+            verify(gemSpawnService).spawnIfNeeded(eq(GAME_ID), anyList(), eq(gems.gems()), eq(List.of()));
+        }
+
+        @Test
+        @DisplayName("[성공] 보석 보충 시 ACTIVE 경찰 위치만 넘긴다")
+        void tick_passesActivePolicePositions() {
+            var tickState = new GameTickService.TickState();
+            long now = STARTED_AT + 100_000;
+            var players = snapshot(List.of(
+                player("police-1", "POLICE", now, 0.01),
+                new TickPlayerDto("police-2", "POLICE", "ARRESTED", now, LON, LAT),
+                player("thief-1", "THIEF", now, 0)
+            ), List.of());
+
+            gameTickService.tick(state("PLAYING"), players, tickState, now);
+            gameTickService.tick(state("PLAYING"), players, tickState, now + GameTickService.GEM_TOP_UP_INTERVAL_MILLIS);
+
+            verify(gemSpawnService).spawnIfNeeded(
+                eq(GAME_ID), anyList(), anyList(), eq(List.of(new GeoPoint(LAT + 0.01, LON)))
+            );
+        }
+
+        @Test
+        @DisplayName("[성공] ESCAPE_PHASE에서는 보석을 보충하지 않는다")
+        void tick_noTopUpDuringEscape() {
+            var tickState = new GameTickService.TickState();
+            var empty = snapshot(List.of(), List.of());
+            long now = STARTED_AT + 100_000;
+
+            gameTickService.tick(state("ESCAPE_PHASE"), empty, tickState, now);
+            gameTickService.tick(state("ESCAPE_PHASE"), empty, tickState, now + 60_000);
+
+            verifyNoInteractions(gemSpawnService);
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // 경찰 접근
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("경찰 접근")
+    class PoliceNearby {
+
+        @Test
+        @DisplayName("[성공] 경찰이 반경 안에 들어오면 그 도둑에게만 한 번 알리고, 나갔다 다시 들어오면 다시 알린다")
+        void tick_publishesToThiefOnEnter() {
+            var tickState = new GameTickService.TickState();
+            long now = STARTED_AT + 100_000;
+            var near = snapshot(List.of(
+                player("thief-1", "THIEF", now, 0),
+                player("thief-2", "THIEF", now, 0.01),     // ≈ 1.1km
+                player("police-1", "POLICE", now, 0.0003)  // ≈ 33m
+            ), List.of());
+            var far = snapshot(List.of(
+                player("thief-1", "THIEF", now, 0),
+                player("police-1", "POLICE", now, 0.002)   // ≈ 222m
+            ), List.of());
+
+            gameTickService.tick(state("PLAYING"), near, tickState, now);
+            gameTickService.tick(state("PLAYING"), near, tickState, now + 1_000);
+            gameTickService.tick(state("PLAYING"), far, tickState, now + 2_000);
+            gameTickService.tick(state("PLAYING"), near, tickState, now + 3_000);
+
+            var captor = ArgumentCaptor.forClass(GameEvent.class);
+            verify(gameEventService, times(2)).publishToPlayer(eq("thief-1"), captor.capture());
+            var event = assertInstanceOf(GameEvent.PoliceNearby.class, captor.getValue());
+            assertTrue(event.distanceMeters() < GameTickService.PROXIMITY_METERS);
+            verify(gameEventService, never()).publishToPlayer(eq("thief-2"), any());
+            verify(gameEventService, never()).publish(any(GameEvent.PoliceNearby.class));
+        }
+    }
+}
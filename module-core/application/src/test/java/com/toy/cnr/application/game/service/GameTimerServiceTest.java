@@ -0,0 +1,206 @@
+package com.toy.cnr.application.game.service;
+
+import com.toy.cnr.domain.game.GameEvent;
+import com.toy.cnr.domain.game.GameStatus;
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.GameRegistryStore;
+import com.toy.cnr.port.game.GameStateStore;
+import com.toy.cnr.port.game.GameTimerPort;
+import com.toy.cnr.port.game.model.GameStateDto;
+import com.toy.cnr.port.room.model.RoomSettingsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameTimerServiceTest {
+
+    private GameTimerPort gameTimerPort;
+    private GameStateStore gameStateStore;
+    private GameRegistryStore gameRegistryStore;
+    private GameEventService gameEventService;
+    private GameTimerService gameTimerService;
+
+    @BeforeEach
+    void setUp() {
+        gameTimerPort = Mockito.mock(GameTimerPort.class);
+        gameStateStore = Mockito.mock(GameStateStore.class);
+        gameRegistryStore = Mockito.mock(GameRegistryStore.class);
+        gameEventService = Mockito.mock(GameEventService.class);
+        gameTimerService = new GameTimerService(
+            gameTimerPort, gameStateStore, gameRegistryStore, gameEventService,
+            Mockito.mock(GameGeometryCache.class)
+        );
+    }
+
+    // ────────────────────────────────────────────────────
+    // Fixtures
+    // ────────────────────────────────────────────────────
+
+    private static final String GAME_ID = "game-001";
+    private static final long MINUTE = 60 * 1000L;
+
+    /** 도망 1분, 전체 10분 */
+    private static GameStateDto stateDto(GameStatus status, long startedAt) {
+        var settings = new RoomSettingsDto(
+            "BASIC", 2, 10, 1, 1, 10, 1, 5.0,
+            null, null, null, null
+        );
+        return new GameStateDto(GAME_ID, "ABCD", status.name(), settings, startedAt, startedAt + 10 * MINUTE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<String> handler(String type) {
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(gameTimerPort).registerHandler(eq(type), captor.capture());
+        return captor.getValue();
+    }
+
+    // ────────────────────────────────────────────────────
+    // scheduleGame / handlers
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("scheduleGame")
+    class ScheduleGame {
+
+        @Test
+        @DisplayName("[성공] escape/end 작업을 taskId로 예약한다")
+        void scheduleGame_schedulesTaskIds() {
+            gameTimerService.scheduleGame(GAME_ID, MINUTE, 10 * MINUTE);
+
+            verify(gameTimerPort).schedule("escape:" + GAME_ID, MINUTE);
+            verify(gameTimerPort).schedule("end:" + GAME_ID, 10 * MINUTE);
+        }
+
+        @Test
+        @DisplayName("[성공] end 핸들러는 PLAYING 게임을 종료하고 GameEnded를 발행한다")
+        void endHandler_endsPlayingGame() {
+            when(gameStateStore.getGameState(GAME_ID))
+                .thenReturn(new RepositoryResult.Found<>(stateDto(GameStatus.PLAYING, 0L)));
+            when(gameStateStore.updateStatus(GAME_ID, GameStatus.ENDED.name()))
+                .thenReturn(new RepositoryResult.Found<>(true));
+
+            handler(GameTimerService.END).accept(GAME_ID);
+
+            verify(gameStateStore).updateStatus(GAME_ID, GameStatus.ENDED.name());
+            verify(gameTimerPort).cancel("end:" + GAME_ID);
+            verify(gameRegistryStore).unregister(GAME_ID);
+            verify(gameEventService).publish(any(GameEvent.GameEnded.class));
+        }
+
+        @Test
+        @DisplayName("[성공] 이미 끝난 게임이면 end 핸들러를 다시 실행해도 아무것도 하지 않는다")
+        void endHandler_idempotent() {
+            when(gameStateStore.getGameState(GAME_ID))
+                .thenReturn(new RepositoryResult.Found<>(stateDto(GameStatus.ENDED, 0L)));
+
+            handler(GameTimerService.END).accept(GAME_ID);
+
+            verify(gameStateStore, never()).updateStatus(anyString(), anyString());
+            verifyNoInteractions(gameEventService);
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // endGame
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("endGame")
+    class EndGame {
+
+        @Test
+        @DisplayName("[성공] 다른 호출이 먼저 종료했으면(Found(false)) GameEnded를 다시 발행하지 않는다")
+        void endGame_alreadyEnded_noEvent() {
+            when(gameStateStore.updateStatus(GAME_ID, GameStatus.ENDED.name()))
+                .thenReturn(new RepositoryResult.Found<>(false));
+
+            gameTimerService.endGame(GAME_ID, "POLICE");
+
+            verifyNoInteractions(gameEventService, gameRegistryStore);
+            verify(gameTimerPort, never()).cancel(anyString());
+        }
+
+        @Test
+        @DisplayName("[성공] 게임 상태가 없으면 타이머·활성 게임 등록만 정리하고 GameEnded는 발행하지 않는다")
+        void endGame_notFound_cleansUpWithoutEvent() {
+            when(gameStateStore.updateStatus(GAME_ID, GameStatus.ENDED.name()))
+                .thenReturn(new RepositoryResult.NotFound<>("GameState not found: " + GAME_ID));
+
+            gameTimerService.endGame(GAME_ID, "POLICE");
+
+            verify(gameTimerPort).cancel("end:" + GAME_ID);
+            verify(gameRegistryStore).unregister(GAME_ID);
+            verifyNoInteractions(gameEventService);
+        }
+
+        @Test
+        @DisplayName("[실패] 상태 저장 오류 → 타이머를 남겨 두고 GameEnded 미발행")
+        void endGame_storeError_keepsTimers() {
+            when(gameStateStore.updateStatus(GAME_ID, GameStatus.ENDED.name()))
+                .thenReturn(new RepositoryResult.Error<>(new RuntimeException("Redis error")));
+
+            gameTimerService.endGame(GAME_ID, "POLICE");
+
+            verify(gameTimerPort, never()).cancel(anyString());
+            verifyNoInteractions(gameEventService, gameRegistryStore);
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // restoreTimers
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("restoreTimers")
+    class RestoreTimers {
+
+        @Test
+        @DisplayName("[성공] 도망 단계 게임은 escape/end를, 남은 시간만큼 없을 때만 예약한다")
+        void restore_escapePhase() {
+            var startedAt = System.currentTimeMillis() - 30_000L;
+            when(gameRegistryStore.getActiveGameIds()).thenReturn(new RepositoryResult.Found<>(Set.of(GAME_ID)));
+            when(gameStateStore.getGameState(GAME_ID))
+                .thenReturn(new RepositoryResult.Found<>(stateDto(GameStatus.ESCAPE_PHASE, startedAt)));
+
+            assertEquals(1, gameTimerService.restoreTimers());
+
+            verify(gameTimerPort).scheduleIfAbsent(eq("escape:" + GAME_ID), longThat(ms -> ms > 0 && ms <= 30_000L));
+            verify(gameTimerPort).scheduleIfAbsent(eq("end:" + GAME_ID), longThat(ms -> ms > 9 * MINUTE));
+            verify(gameTimerPort, never()).schedule(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("[성공] 마감이 지난 PLAYING 게임은 end를 즉시 실행되도록 예약한다")
+        void restore_overdue() {
+            when(gameRegistryStore.getActiveGameIds()).thenReturn(new RepositoryResult.Found<>(Set.of(GAME_ID)));
+            when(gameStateStore.getGameState(GAME_ID))
+                .thenReturn(new RepositoryResult.Found<>(stateDto(GameStatus.PLAYING, 0L)));
+
+            gameTimerService.restoreTimers();
+
+            verify(gameTimerPort).scheduleIfAbsent("end:" + GAME_ID, 0L);
+            verify(gameTimerPort, never()).scheduleIfAbsent(eq("escape:" + GAME_ID), anyLong());
+        }
+
+        @Test
+        @DisplayName("[실패] 활성 게임 조회에 실패하면 아무것도 예약하지 않는다")
+        void restore_registryError() {
+            when(gameRegistryStore.getActiveGameIds())
+                .thenReturn(new RepositoryResult.Error<>(new RuntimeException("redis down")));
+
+            assertEquals(0, gameTimerService.restoreTimers());
+            verify(gameTimerPort, never()).scheduleIfAbsent(anyString(), anyLong());
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.toy.cnr.application.game.service;
 
+import com.toy.cnr.application.game.spawn.ForbiddenAreaRule;
+import com.toy.cnr.application.game.spawn.GemSpacingRule;
+import com.toy.cnr.application.game.spawn.PoliceKeepOutRule;
+import com.toy.cnr.application.game.util.PolygonUtils;
+import com.toy.cnr.application.game.util.PreparedPolygon;
+import com.toy.cnr.application.game.util.SpatialGridIndex;
+import com.toy.cnr.application.game.util.TriangulatedPolygon;
 import com.toy.cnr.domain.game.GameEvent;
 import com.toy.cnr.domain.game.GemStatus;
 import com.toy.cnr.domain.room.GeoPoint;
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.GemStore;
+import com.toy.cnr.port.game.LocationStore;
 import com.toy.cnr.port.game.model.GemDto;
+import com.toy.cnr.port.game.model.NearbyLocationDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,14 +32,21 @@ import static org.mockito.Mockito.*;
 class GemSpawnServiceTest {
 
     private GemStore gemStore;
+    private LocationStore locationStore;
     private GameEventService gameEventService;
+    private GameGeometryCache gameGeometryCache;
     private GemSpawnService gemSpawnService;
 
     @BeforeEach
     void setUp() {
         gemStore = Mockito.mock(GemStore.class);
+        locationStore = Mockito.mock(LocationStore.class);
         gameEventService = Mockito.mock(GameEventService.class);
-        gemSpawnService = new GemSpawnService(gemStore, gameEventService);
+        gameGeometryCache = Mockito.mock(GameGeometryCache.class);
+        gemSpawnService = new GemSpawnService(
+            gemStore, locationStore, gameEventService, gameGeometryCache,
+            List.of(new GemSpacingRule(), new PoliceKeepOutRule(), new ForbiddenAreaRule())
+        );
         when(gemStore.saveGem(anyString(), any())).thenReturn(new RepositoryResult.Found<>(null));
     }
 
@@ -48,6 +65,16 @@ class GemSpawnServiceTest {
         );
     }
 
+    private void givenCachedPlayArea(List<GeoPoint> playArea) {
+        givenCachedGeometry(playArea, PreparedPolygon.EMPTY, PreparedPolygon.EMPTY);
+    }
+
+    private void givenCachedGeometry(List<GeoPoint> playArea, PreparedPolygon prison, PreparedPolygon restricted) {
+        when(gameGeometryCache.get(GAME_ID)).thenReturn(new GameGeometryCache.GameGeometry(
+            PreparedPolygon.of(playArea), prison, restricted, TriangulatedPolygon.of(playArea)
+        ));
+    }
+
     private static GemDto availableGem(String id) {
         return new GemDto(id, 37.5, 127.5, GemStatus.AVAILABLE.name(), null, 1_000L);
     }
@@ -215,4 +242,176 @@ class GemSpawnServiceTest {
             verifyNoInteractions(gameEventService);
         }
     }
+
+    // ────────────────────────────────────────────────────
+    // 스폰 좌표
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("스폰 좌표")
+    class SpawnPoint {
+
+        /** 폭 0.00002도(≈ 2m)로 지그재그하는 강 모양 폴리곤: 바운딩 박스 기각 샘플링이 자주 실패함 */
+        private static List<GeoPoint> riverPlayArea() {
+            var river = new ArrayList<GeoPoint>();
+            for (int i = 0; i <= 40; i++) {
+                river.add(new GeoPoint(37.0 + 0.001 * i, 127.0 + (i % 2 == 0 ? 0 : 0.0005)));
+            }
+            for (int i = 40; i >= 0; i--) {
+                river.add(new GeoPoint(37.0 + 0.001 * i, 127.00002 + (i % 2 == 0 ? 0 : 0.0005)));
+            }
+            return river;
+        }
+
+        @Test
+        @DisplayName("[성공] 캐시된 삼각 분할이 있으면 가는 폴리곤에서도 매번 내부 좌표에 스폰한다")
+        void spawn_usesCachedTriangulation() {
+            var river = riverPlayArea();
+            givenCachedPlayArea(river);
+
+            for (int i = 0; i < 20; i++) {
+                gemSpawnService.spawnIfNeeded(GAME_ID, river, List.of(), List.of());
+            }
+
+            var captor = ArgumentCaptor.forClass(GemDto.class);
+            verify(gemStore, times(20)).saveGem(eq(GAME_ID), captor.capture());
+            captor.getAllValues().forEach(gem ->
+                assertTrue(PolygonUtils.contains(river, gem.latitude(), gem.longitude()))
+            );
+        }
+
+        @Test
+        @DisplayName("[성공] 게임 구역을 캐시에서 읽지 못하면 넘겨받은 폴리곤으로 스폰한다")
+        void spawn_fallsBackWithoutGeometry() {
+            when(gameGeometryCache.get(GAME_ID)).thenReturn(null);
+
+            gemSpawnService.spawnIfNeeded(GAME_ID, squarePlayArea(), List.of(), List.of());
+
+            var captor = ArgumentCaptor.forClass(GemDto.class);
+            verify(gemStore).saveGem(eq(GAME_ID), captor.capture());
+            assertTrue(PolygonUtils.contains(squarePlayArea(), captor.getValue().latitude(), captor.getValue().longitude()));
+        }
+    }
+
+    // ────────────────────────────────────────────────────
+    // 배치 규칙
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("배치 규칙")
+    class PlacementRules {
+
+        /** 위도 0.001도 ≈ 111m 정사각형 */
+        private static final List<GeoPoint> SMALL_AREA = List.of(
+            new GeoPoint(37.000, 127.000),
+            new GeoPoint(37.000, 127.001),
+            new GeoPoint(37.001, 127.001),
+            new GeoPoint(37.001, 127.000)
+        );
+
+        /** SMALL_AREA의 서쪽 절반 */
+        private static final List<GeoPoint> WEST_HALF = List.of(
+            new GeoPoint(37.000, 127.000),
+            new GeoPoint(37.000, 127.0005),
+            new GeoPoint(37.001, 127.0005),
+            new GeoPoint(37.001, 127.000)
+        );
+
+        private List<GemDto> spawned(int times) {
+            var captor = ArgumentCaptor.forClass(GemDto.class);
+            verify(gemStore, times(times)).saveGem(eq(GAME_ID), captor.capture());
+            return captor.getAllValues();
+        }
+
+        @Test
+        @DisplayName("[성공] 초기 보석은 서로 최소 간격 이상 떨어져 놓인다")
+        void spawnInitialGems_keepsSpacing() {
+            // 위도 0.003도 ≈ 333m 정사각형
+            var playArea = List.of(
+                new GeoPoint(37.000, 127.000),
+                new GeoPoint(37.000, 127.003),
+                new GeoPoint(37.003, 127.003),
+                new GeoPoint(37.003, 127.000)
+            );
+            givenCachedPlayArea(playArea);
+
+            gemSpawnService.spawnInitialGems(GAME_ID, playArea);
+
+            var gems = spawned(GemSpawnService.INITIAL_GEM_COUNT);
+            for (int i = 0; i < gems.size(); i++) {
+                for (int j = i + 1; j < gems.size(); j++) {
+                    double distance = SpatialGridIndex.distanceMeters(
+                        gems.get(i).latitude(), gems.get(i).longitude(),
+                        gems.get(j).latitude(), gems.get(j).longitude()
+                    );
+                    assertTrue(distance >= 40, "too close: " + distance);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 제한 구역과 감옥 구역 안에는 놓지 않는다")
+        void spawn_avoidsForbiddenAreas() {
+            givenCachedGeometry(SMALL_AREA, PreparedPolygon.EMPTY, PreparedPolygon.of(WEST_HALF));
+
+            for (int i = 0; i < 20; i++) {
+                gemSpawnService.spawnIfNeeded(GAME_ID, SMALL_AREA, List.of(), List.of());
+            }
+
+            spawned(20).forEach(gem -> assertTrue(gem.longitude() >= 127.0005, "in restricted area: " + gem));
+        }
+
+        @Test
+        @DisplayName("[성공] ACTIVE 경찰 주변 접근 금지 반경 안에는 놓지 않는다")
+        void spawn_keepsAwayFromPolice() {
+            givenCachedPlayArea(SMALL_AREA);
+            var police = new GeoPoint(37.0005, 127.0005);
+
+            for (int i = 0; i < 20; i++) {
+                gemSpawnService.spawnIfNeeded(GAME_ID, SMALL_AREA, List.of(), List.of(police));
+            }
+
+            spawned(20).forEach(gem -> assertTrue(
+                SpatialGridIndex.distanceMeters(police.latitude(), police.longitude(), gem.latitude(), gem.longitude()) > 30
+            ));
+        }
+
+        @Test
+        @DisplayName("[성공] 모든 후보가 거절되면 이번 스폰은 건너뛴다")
+        void spawn_skipsWhenNoCandidateFits() {
+            givenCachedPlayArea(SMALL_AREA);
+            // 0.00025도(≈ 28m × 22m) 간격 경찰 격자가 구역 전체를 접근 금지 반경으로 덮음
+            var police = new ArrayList<GeoPoint>();
+            for (int i = 0; i <= 4; i++) {
+                for (int j = 0; j <= 4; j++) {
+                    police.add(new GeoPoint(37.0 + 0.00025 * i, 127.0 + 0.00025 * j));
+                }
+            }
+
+            gemSpawnService.spawnIfNeeded(GAME_ID, SMALL_AREA, List.of(), police);
+
+            verify(gemStore, never()).saveGem(anyString(), any());
+            verifyNoInteractions(gameEventService);
+        }
+
+        @Test
+        @DisplayName("[성공] 스케줄러 경로는 역할/상태 파티션에서 ACTIVE 경찰 위치를 한 번에 조회한다")
+        void spawnIfNeeded_loadsActivePolice() {
+            givenCachedPlayArea(SMALL_AREA);
+            when(gemStore.getAllGems(GAME_ID)).thenReturn(new RepositoryResult.Found<>(List.of()));
+            when(locationStore.searchWithinRadius(
+                eq(GAME_ID), eq("POLICE"), eq("ACTIVE"), anyDouble(), anyDouble(), anyDouble(), eq(false), eq(true)
+            )).thenReturn(new RepositoryResult.Found<>(List.of(
+                new NearbyLocationDto("police-1", null, 127.0005, 37.0005)
+            )));
+
+            for (int i = 0; i < 10; i++) {
+                gemSpawnService.spawnIfNeeded(GAME_ID, SMALL_AREA);
+            }
+
+            spawned(10).forEach(gem -> assertTrue(
+                SpatialGridIndex.distanceMeters(37.0005, 127.0005, gem.latitude(), gem.longitude()) > 30
+            ));
+        }
+    }
 }
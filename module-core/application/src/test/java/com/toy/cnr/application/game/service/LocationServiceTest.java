@@ -17,6 +17,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -44,7 +46,7 @@ class LocationServiceTest {
         gameEventService = Mockito.mock(GameEventService.class);
         locationService = new LocationService(
             locationStore, locationPublisher, locationSubscriber,
-            inGamePlayerStore, gameStateStore, gameEventService
+            inGamePlayerStore, new GameGeometryCache(gameStateStore), gameEventService
         );
     }
 
@@ -131,7 +133,7 @@ class LocationServiceTest {
         @DisplayName("[성공] 정상 좌표 발행 → locationStore 저장, publisher 호출, PlayerLocation 반환")
         void publishLocation_success() {
             var command = commandAt(LAT_INSIDE, LON_INSIDE);
-            when(locationStore.saveLocation(GAME_ID, PLAYER_ID, LON_INSIDE, LAT_INSIDE))
+            when(locationStore.updateLocation(eq(GAME_ID), any(LocationDto.class)))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(activePlayerDto()));
@@ -145,15 +147,15 @@ class LocationServiceTest {
             assertEquals(LAT_INSIDE, location.latitude());
             assertEquals(LON_INSIDE, location.longitude());
 
-            verify(locationStore).saveLocation(GAME_ID, PLAYER_ID, LON_INSIDE, LAT_INSIDE);
-            verify(locationPublisher).publish(eq(GAME_ID), eq(PLAYER_ID), any(LocationDto.class));
+            verify(locationStore).updateLocation(eq(GAME_ID), any(LocationDto.class));
+            verifyNoInteractions(locationPublisher);
         }
 
         @Test
-        @DisplayName("[성공] publisher에 전달된 LocationDto의 좌표, playerId 검증")
+        @DisplayName("[성공] locationStore.updateLocation에 전달된 LocationDto의 좌표, playerId 검증")
         void publishLocation_publisherReceivesCorrectDto() {
             var command = commandAt(37.1, 127.2);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(activePlayerDto()));
@@ -161,17 +163,17 @@ class LocationServiceTest {
             locationService.publishLocation(command);
 
             var captor = ArgumentCaptor.forClass(LocationDto.class);
-            verify(locationPublisher).publish(eq(GAME_ID), eq(PLAYER_ID), captor.capture());
+            verify(locationStore).updateLocation(eq(GAME_ID), captor.capture());
             assertEquals(PLAYER_ID, captor.getValue().playerId());
             assertEquals(37.1, captor.getValue().latitude());
             assertEquals(127.2, captor.getValue().longitude());
         }
 
         @Test
-        @DisplayName("[실패] locationStore.saveLocation 오류 → BusinessError, publisher 미호출")
+        @DisplayName("[실패] locationStore.updateLocation 오류 → BusinessError, 이벤트 미발행")
         void publishLocation_storeError() {
             var command = commandAt(LAT_INSIDE, LON_INSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Error<>(new RuntimeException("Redis error")));
 
             var result = locationService.publishLocation(command);
@@ -186,7 +188,7 @@ class LocationServiceTest {
         @DisplayName("[성공] ACTIVE 플레이어 좌표 발행 → 감옥 이탈 검사 없음, PrisonEscapeWarning 미발행")
         void publishLocation_activePlayer_noPrisonCheck() {
             var command = commandAt(LAT_OUTSIDE, LON_OUTSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(activePlayerDto()));
@@ -201,7 +203,7 @@ class LocationServiceTest {
         @DisplayName("[성공] ARRESTED 플레이어, 감옥 내 위치 → PrisonEscapeWarning 미발행")
         void publishLocation_arrested_insidePrison_noWarning() {
             var command = commandAt(LAT_INSIDE, LON_INSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(arrestedPlayerDto()));
@@ -217,7 +219,7 @@ class LocationServiceTest {
         @DisplayName("[성공] ARRESTED 플레이어, 감옥 이탈 → PrisonEscapeWarning 이벤트 발행")
         void publishLocation_arrested_outsidePrison_warningPublished() {
             var command = commandAt(LAT_OUTSIDE, LON_OUTSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(arrestedPlayerDto()));
@@ -235,14 +237,11 @@ class LocationServiceTest {
         @Test
         @DisplayName("[성공] restrictedArea 외부 → 내부로 진입 시 RestrictedAreaEntered 이벤트 발행")
         void publishLocation_restrictedArea_enter_publishEvent() {
-            when(locationStore.getLocation(GAME_ID, PLAYER_ID))
+            var command = commandAt(LAT_INSIDE, LON_INSIDE);
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(
                     new LocationDto(PLAYER_ID, 126.0, 36.0, 1_000L)
                 ));
-
-            var command = commandAt(LAT_INSIDE, LON_INSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
-                .thenReturn(new RepositoryResult.Found<>(null));
             when(gameStateStore.getGameState(GAME_ID))
                 .thenReturn(new RepositoryResult.Found<>(gameStateDtoWithRestricted(RESTRICTED_POLYGON)));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
@@ -262,7 +261,7 @@ class LocationServiceTest {
         @DisplayName("[성공] ARRESTED 플레이어, prisonArea 없음(null) → PrisonEscapeWarning 미발행")
         void publishLocation_arrested_noPrisonArea_noWarning() {
             var command = commandAt(LAT_OUTSIDE, LON_OUTSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(arrestedPlayerDto()));
@@ -278,7 +277,7 @@ class LocationServiceTest {
         @DisplayName("[성공] ARRESTED 플레이어, prisonArea 빈 리스트 → PrisonEscapeWarning 미발행")
         void publishLocation_arrested_emptyPrisonArea_noWarning() {
             var command = commandAt(LAT_OUTSIDE, LON_OUTSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(arrestedPlayerDto()));
@@ -294,7 +293,7 @@ class LocationServiceTest {
         @DisplayName("[성공] ARRESTED 플레이어, gameStateStore 오류 → PrisonEscapeWarning 미발행")
         void publishLocation_arrested_stateStoreError_noWarning() {
             var command = commandAt(LAT_OUTSIDE, LON_OUTSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.Found<>(arrestedPlayerDto()));
@@ -310,7 +309,7 @@ class LocationServiceTest {
         @DisplayName("[성공] inGamePlayerStore 조회 실패(NotFound) → 감옥 검사 건너뜀, 정상 완료")
         void publishLocation_playerNotFound_skipsCheck() {
             var command = commandAt(LAT_OUTSIDE, LON_OUTSIDE);
-            when(locationStore.saveLocation(any(), any(), anyDouble(), anyDouble()))
+            when(locationStore.updateLocation(any(), any()))
                 .thenReturn(new RepositoryResult.Found<>(null));
             when(inGamePlayerStore.getPlayer(GAME_ID, PLAYER_ID))
                 .thenReturn(new RepositoryResult.NotFound<>("Player not found"));
@@ -322,6 +321,138 @@ class LocationServiceTest {
         }
     }
 
+    // ────────────────────────────────────────────────────
+    // publishLocations (batch)
+    // ────────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("publishLocations")
+    class PublishLocations {
+
+        private static final String OTHER_PLAYER_ID = "player-002";
+
+        @Test
+        @DisplayName("[성공] 플레이어별 최신 좌표만 저장/발행 → PlayerLocation 목록 반환")
+        void publishLocations_latestPerPlayer() {
+            var command = new LocationBatchPublishCommand(GAME_ID, List.of(
+                new LocationBatchPublishCommand.Fix(PLAYER_ID, 127.2, 37.2, 2_000L),
+                new LocationBatchPublishCommand.Fix(OTHER_PLAYER_ID, 127.3, 37.3, 1_500L),
+                new LocationBatchPublishCommand.Fix(PLAYER_ID, 127.1, 37.1, 1_000L)
+            ));
+            when(locationStore.saveLocations(eq(GAME_ID), anyList()))
+                .thenReturn(new RepositoryResult.Found<>(Map.of()));
+
+            var result = locationService.publishLocations(command);
+
+            assertInstanceOf(CommandResult.Success.class, result);
+            var locations = ((CommandResult.Success<List<PlayerLocation>>) result).data();
+            assertEquals(2, locations.size());
+            assertEquals(PLAYER_ID, locations.get(0).playerId());
+            assertEquals(37.2, locations.get(0).latitude());
+            assertEquals(2_000L, locations.get(0).timestamp());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<LocationDto>> captor = ArgumentCaptor.forClass(List.class);
+            verify(locationStore).saveLocations(eq(GAME_ID), captor.capture());
+            assertEquals(2, captor.getValue().size());
+            verify(locationPublisher).publishAll(GAME_ID, captor.getValue());
+            verify(gameStateStore, times(1)).getGameState(GAME_ID);
+        }
+
+        @Test
+        @DisplayName("[성공] 배치 내 restrictedArea 외부 → 내부 전이 시 RestrictedAreaEntered 발행")
+        void publishLocations_restrictedArea_enterWithinBatch() {
+            var command = new LocationBatchPublishCommand(GAME_ID, List.of(
+                new LocationBatchPublishCommand.Fix(PLAYER_ID, LON_OUTSIDE, LAT_OUTSIDE, 1_000L),
+                new LocationBatchPublishCommand.Fix(PLAYER_ID, LON_INSIDE, LAT_INSIDE, 2_000L)
+            ));
+            when(locationStore.saveLocations(eq(GAME_ID), anyList()))
+                .thenReturn(new RepositoryResult.Found<>(Map.of()));
+            when(gameStateStore.getGameState(GAME_ID))
+                .thenReturn(new RepositoryResult.Found<>(gameStateDtoWithRestricted(RESTRICTED_POLYGON)));
+
+            locationService.publishLocations(command);
+
+            var captor = ArgumentCaptor.forClass(GameEvent.RestrictedAreaEntered.class);
+            verify(gameEventService).publish(captor.capture());
+            assertEquals(PLAYER_ID, captor.getValue().playerId());
+            assertEquals(LAT_INSIDE, captor.getValue().latitude());
+        }
+
+        @Test
+        @DisplayName("[성공] 수신 시각보다 미래인 측정 시각 → 수신 시각으로 맞춰 저장")
+        void publishLocations_futureTimestamp_clampedToReceivedAt() {
+            long future = System.currentTimeMillis() + 3_600_000L;
+            var command = new LocationBatchPublishCommand(GAME_ID, List.of(
+                new LocationBatchPublishCommand.Fix(PLAYER_ID, LON_INSIDE, LAT_INSIDE, future)
+            ));
+            when(locationStore.saveLocations(eq(GAME_ID), anyList()))
+                .thenReturn(new RepositoryResult.Found<>(Map.of()));
+
+            long before = System.currentTimeMillis();
+            locationService.publishLocations(command);
+            long after = System.currentTimeMillis();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<LocationDto>> captor = ArgumentCaptor.forClass(List.class);
+            verify(locationStore).saveLocations(eq(GAME_ID), captor.capture());
+            long saved = captor.getValue().getFirst().timestamp();
+            assertTrue(saved >= before && saved <= after);
+        }
+
+        @Test
+        @DisplayName("[성공] 저장된 좌표보다 오래된 배치 → 해당 플레이어는 발행·반환·구역 검사 제외")
+        void publishLocations_staleBatch_skipped() {
+            var command = new LocationBatchPublishCommand(GAME_ID, List.of(
+                new LocationBatchPublishCommand.Fix(PLAYER_ID, LON_INSIDE, LAT_INSIDE, 1_000L),
+                new LocationBatchPublishCommand.Fix(OTHER_PLAYER_ID, LON_OUTSIDE, LAT_OUTSIDE, 1_500L)
+            ));
+            when(locationStore.saveLocations(eq(GAME_ID), anyList()))
+                .thenReturn(new RepositoryResult.Found<>(Map.of(
+                    PLAYER_ID, new LocationDto(PLAYER_ID, LON_OUTSIDE, LAT_OUTSIDE, 2_000L)
+                )));
+            when(gameStateStore.getGameState(GAME_ID))
+                .thenReturn(new RepositoryResult.Found<>(gameStateDtoWithRestricted(RESTRICTED_POLYGON)));
+
+            var result = locationService.publishLocations(command);
+
+            assertInstanceOf(CommandResult.Success.class, result);
+            var locations = ((CommandResult.Success<List<PlayerLocation>>) result).data();
+            assertEquals(1, locations.size());
+            assertEquals(OTHER_PLAYER_ID, locations.getFirst().playerId());
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<LocationDto>> captor = ArgumentCaptor.forClass(List.class);
+            verify(locationPublisher).publishAll(eq(GAME_ID), captor.capture());
+            assertEquals(List.of(OTHER_PLAYER_ID), captor.getValue().stream().map(LocationDto::playerId).toList());
+            verify(gameEventService, never()).publish(any(GameEvent.RestrictedAreaEntered.class));
+        }
+
+        @Test
+        @DisplayName("[실패] 빈 배치 → ValidationError, 저장소 미호출")
+        void publishLocations_empty_validationError() {
+            var result = locationService.publishLocations(new LocationBatchPublishCommand(GAME_ID, List.of()));
+
+            assertInstanceOf(CommandResult.ValidationError.class, result);
+            verifyNoInteractions(locationStore, locationPublisher);
+        }
+
+        @Test
+        @DisplayName("[실패] locationStore.saveLocations 오류 → BusinessError, publisher 미호출")
+        void publishLocations_storeError() {
+            var command = new LocationBatchPublishCommand(GAME_ID, List.of(
+                new LocationBatchPublishCommand.Fix(PLAYER_ID, LON_INSIDE, LAT_INSIDE, 1_000L)
+            ));
+            when(locationStore.saveLocations(eq(GAME_ID), anyList()))
+                .thenReturn(new RepositoryResult.Error<>(new RuntimeException("Redis error")));
+
+            var result = locationService.publishLocations(command);
+
+            assertInstanceOf(CommandResult.BusinessError.class, result);
+            verifyNoInteractions(locationPublisher, gameEventService);
+        }
+    }
+
     // ────────────────────────────────────────────────────
     // subscribe
     // ────────────────────────────────────────────────────
@@ -331,23 +462,24 @@ class LocationServiceTest {
     class Subscribe {
 
         @Test
-        @DisplayName("[성공] 여러 playerIds → 각 playerId마다 locationSubscriber.subscribe 호출")
+        @DisplayName("[성공] 여러 playerIds → locationSubscriber.subscribe 1회 호출, subscriberId 반환")
         void subscribe_multiplePlayerIds() {
             var playerIds = List.of("player-1", "player-2", "player-3");
+            when(locationSubscriber.subscribe(eq(GAME_ID), anySet(), any())).thenReturn("sub-1");
 
-            locationService.subscribe(GAME_ID, playerIds, loc -> {});
+            var subscriberId = locationService.subscribe(GAME_ID, playerIds, loc -> {});
 
-            verify(locationSubscriber).subscribe(eq(GAME_ID), eq("player-1"), any());
-            verify(locationSubscriber).subscribe(eq(GAME_ID), eq("player-2"), any());
-            verify(locationSubscriber).subscribe(eq(GAME_ID), eq("player-3"), any());
-            verify(locationSubscriber, times(3)).subscribe(eq(GAME_ID), anyString(), any());
+            assertEquals("sub-1", subscriberId);
+            verify(locationSubscriber, times(1))
+                .subscribe(eq(GAME_ID), eq(Set.of("player-1", "player-2", "player-3")), any());
         }
 
         @Test
         @DisplayName("[성공] 빈 playerIds → locationSubscriber.subscribe 미호출")
         void subscribe_emptyPlayerIds_noSubscription() {
-            locationService.subscribe(GAME_ID, List.of(), loc -> {});
+            var subscriberId = locationService.subscribe(GAME_ID, List.of(), loc -> {});
 
+            assertNull(subscriberId);
             verifyNoInteractions(locationSubscriber);
         }
 
@@ -356,7 +488,8 @@ class LocationServiceTest {
         void subscribe_callbackConvertsDtoToDomain() {
             @SuppressWarnings("unchecked")
             var consumerCaptor = ArgumentCaptor.forClass(Consumer.class);
-            doNothing().when(locationSubscriber).subscribe(eq(GAME_ID), eq(PLAYER_ID), consumerCaptor.capture());
+            when(locationSubscriber.subscribe(eq(GAME_ID), eq(Set.of(PLAYER_ID)), consumerCaptor.capture()))
+                .thenReturn("sub-1");
 
             AtomicReference<PlayerLocation> received = new AtomicReference<>();
             locationService.subscribe(GAME_ID, List.of(PLAYER_ID), received::set);
@@ -383,21 +516,17 @@ class LocationServiceTest {
     class Unsubscribe {
 
         @Test
-        @DisplayName("[성공] 여러 playerIds → 각 playerId마다 locationSubscriber.unsubscribe 호출")
-        void unsubscribe_multiplePlayerIds() {
-            var playerIds = List.of("player-1", "player-2");
-
-            locationService.unsubscribe(GAME_ID, playerIds);
+        @DisplayName("[성공] subscriberId → locationSubscriber.unsubscribe 호출")
+        void unsubscribe_subscriberId() {
+            locationService.unsubscribe("sub-1");
 
-            verify(locationSubscriber).unsubscribe(GAME_ID, "player-1");
-            verify(locationSubscriber).unsubscribe(GAME_ID, "player-2");
-            verify(locationSubscriber, times(2)).unsubscribe(eq(GAME_ID), anyString());
+            verify(locationSubscriber).unsubscribe("sub-1");
         }
 
         @Test
-        @DisplayName("[성공] 빈 playerIds → locationSubscriber.unsubscribe 미호출")
-        void unsubscribe_emptyPlayerIds_noCall() {
-            locationService.unsubscribe(GAME_ID, List.of());
+        @DisplayName("[성공] null subscriberId(빈 구독) → locationSubscriber.unsubscribe 미호출")
+        void unsubscribe_nullSubscriberId_noCall() {
+            locationService.unsubscribe(null);
 
             verifyNoInteractions(locationSubscriber);
         }
@@ -0,0 +1,69 @@
+package com.toy.cnr.application.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+
+    private static Map<String, String> owners(ConsistentHashRing ring) {
+        var owners = new HashMap<String, String>();
+        for (int i = 0; i < KEYS; i++) {
+            owners.put("game-" + i, ring.ownerOf("game-" + i));
+        }
+        return owners;
+    }
+
+    @Test
+    @DisplayName("[성공] 노드 순서와 무관하게 같은 노드 목록이면 같은 주인을 고른다")
+    void ownerOf_deterministic() {
+        var a = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        var b = new ConsistentHashRing(List.of("node-c", "node-a", "node-b"), 128);
+
+        assertEquals(owners(a), owners(b));
+    }
+
+    @Test
+    @DisplayName("[성공] 키가 노드마다 고르게 나뉜다")
+    void ownerOf_balanced() {
+        var nodes = List.of("node-a", "node-b", "node-c", "node-d");
+        var ring = new ConsistentHashRing(nodes, 128);
+
+        var counts = new HashMap<String, Integer>();
+        owners(ring).values().forEach(node -> counts.merge(node, 1, Integer::sum));
+
+        assertEquals(nodes.size(), counts.size());
+        for (int count : counts.values()) {
+            assertTrue(Math.abs(count - KEYS / nodes.size()) < KEYS / nodes.size() * 0.25, "skewed: " + counts);
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 노드가 빠지면 그 노드가 맡던 키만 주인이 바뀐다")
+    void ownerOf_minimalMovement() {
+        var before = owners(new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128));
+        var after = owners(new ConsistentHashRing(List.of("node-a", "node-b"), 128));
+
+        for (var entry : before.entrySet()) {
+            if (!entry.getValue().equals("node-c")) {
+                assertEquals(entry.getValue(), after.get(entry.getKey()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 노드가 없으면 null을 반환한다")
+    void ownerOf_empty() {
+        var ring = new ConsistentHashRing(List.of(), 128);
+
+        assertTrue(ring.isEmpty());
+        assertNull(ring.ownerOf("game-1"));
+    }
+}
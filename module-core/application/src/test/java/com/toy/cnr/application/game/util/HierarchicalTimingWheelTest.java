@@ -0,0 +1,104 @@
+package com.toy.cnr.application.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    private static List<String> advance(HierarchicalTimingWheel<String> wheel, long nowMillis) {
+        var expired = new ArrayList<String>();
+        wheel.advanceTo(nowMillis, expired::add);
+        return expired;
+    }
+
+    @Test
+    @DisplayName("[성공] 마감 시각이 된 틱에 만료되고, 그 전에는 만료되지 않는다")
+    void advanceTo_expiresAtDeadline() {
+        var wheel = new HierarchicalTimingWheel<String>(1, START);
+        wheel.schedule("a", START + 10);
+        wheel.schedule("b", START + 700);   // 1단계 칸에서 cascade
+
+        assertTrue(advance(wheel, START + 9).isEmpty());
+        assertEquals(List.of("a"), advance(wheel, START + 10));
+        assertTrue(advance(wheel, START + 699).isEmpty());
+        assertEquals(List.of("b"), advance(wheel, START + 700));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 단계에 걸친 무작위 마감이 모두 정확한 틱에 만료된다")
+    void advanceTo_randomDeadlinesAcrossLevels() {
+        var wheel = new HierarchicalTimingWheel<String>(1, START);
+        var random = new Random(42);
+        var deadlines = new HashMap<String, Long>();
+        for (int i = 0; i < 2_000; i++) {
+            long delay = random.nextInt(4) == 0 ? random.nextInt(600_000) : random.nextInt(5_000);
+            deadlines.put("t" + i, START + 1 + delay);
+            wheel.schedule("t" + i, START + 1 + delay);
+        }
+
+        var firedAt = new HashMap<String, Long>();
+        for (long now = START; now <= START + 601_000; now += 1 + random.nextInt(50)) {
+            long at = now;
+            wheel.advanceTo(now, task -> firedAt.put(task, at));
+        }
+
+        assertEquals(deadlines.keySet(), firedAt.keySet());
+        for (Map.Entry<String, Long> entry : deadlines.entrySet()) {
+            long fired = firedAt.get(entry.getKey());
+            assertTrue(fired >= entry.getValue(), entry.getKey() + " fired early");
+            assertTrue(fired - entry.getValue() <= 50, entry.getKey() + " fired late");
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 취소한 작업은 만료되지 않고, 이미 만료된 작업의 취소는 false를 반환한다")
+    void cancel_removesTimeout() {
+        var wheel = new HierarchicalTimingWheel<String>(1, START);
+        var cancelled = wheel.schedule("cancelled", START + 1_000);
+        var fired = wheel.schedule("fired", START + 5);
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertEquals(List.of("fired"), advance(wheel, START + 2_000));
+        assertFalse(wheel.cancel(fired));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 지난 마감은 다음 틱에 만료된다")
+    void schedule_pastDeadline() {
+        var wheel = new HierarchicalTimingWheel<String>(1, START);
+
+        wheel.schedule("late", START - 1_000);
+
+        assertEquals(List.of("late"), advance(wheel, START + 1));
+    }
+
+    @Test
+    @DisplayName("[성공] 틱 크기 단위로 올림해 일찍 만료되지 않는다")
+    void schedule_roundsUpToTick() {
+        var wheel = new HierarchicalTimingWheel<String>(10, START);
+
+        wheel.schedule("a", START + 15);
+
+        assertTrue(advance(wheel, START + 19).isEmpty());
+        assertEquals(List.of("a"), advance(wheel, START + 20));
+    }
+
+    @Test
+    @DisplayName("[실패] 틱 크기가 0 이하면 예외가 발생한다")
+    void constructor_rejectsNonPositiveTick() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(0, START));
+    }
+}
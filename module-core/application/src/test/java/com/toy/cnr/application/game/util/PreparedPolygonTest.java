@@ -0,0 +1,63 @@
+package com.toy.cnr.application.game.util;
+
+import com.toy.cnr.domain.room.GeoPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreparedPolygonTest {
+
+    /** (37~38°, 127~128°) 정사각형 */
+    private static final List<GeoPoint> SQUARE = List.of(
+        new GeoPoint(37.0, 127.0),
+        new GeoPoint(37.0, 128.0),
+        new GeoPoint(38.0, 128.0),
+        new GeoPoint(38.0, 127.0)
+    );
+
+    @Test
+    @DisplayName("[성공] 내부/외부/바운딩 박스 밖 좌표 판정")
+    void contains_square() {
+        var polygon = PreparedPolygon.of(SQUARE);
+
+        assertTrue(polygon.contains(37.5, 127.5));
+        assertFalse(polygon.contains(36.0, 126.0));
+        assertFalse(polygon.contains(37.5, 129.0));
+    }
+
+    @Test
+    @DisplayName("[성공] 꼭짓점 3개 미만 → EMPTY, 항상 false")
+    void of_degenerate_empty() {
+        var polygon = PreparedPolygon.of(List.of(new GeoPoint(37.0, 127.0), new GeoPoint(38.0, 128.0)));
+
+        assertSame(PreparedPolygon.EMPTY, polygon);
+        assertTrue(polygon.isEmpty());
+        assertFalse(polygon.contains(37.5, 127.5));
+    }
+
+    @Test
+    @DisplayName("[성공] 위도 구간 인덱스를 사용하는 큰 폴리곤 → PolygonUtils.contains와 결과 일치")
+    void contains_indexedPolygon_matchesRayCasting() {
+        // 꼭짓점 수가 INDEX_THRESHOLD 이상인 별 모양(오목) 폴리곤
+        var star = new ArrayList<GeoPoint>();
+        int vertices = PreparedPolygon.INDEX_THRESHOLD * 4;
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double radius = i % 2 == 0 ? 0.01 : 0.004;
+            star.add(new GeoPoint(37.5 + radius * Math.sin(angle), 127.0 + radius * Math.cos(angle)));
+        }
+        var polygon = PreparedPolygon.of(star);
+        var random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            double lat = 37.488 + random.nextDouble() * 0.024;
+            double lon = 126.988 + random.nextDouble() * 0.024;
+            assertEquals(PolygonUtils.contains(star, lat, lon), polygon.contains(lat, lon));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.toy.cnr.application.game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridIndexTest {
+
+    /** 위도 1도 ≈ 111,320m → 0.001도 ≈ 111m */
+    private static final double LAT = 37.4979;
+    private static final double LON = 127.0276;
+
+    private static Map<String, Double> within(SpatialGridIndex<String> index, double lat, double lon, double radius) {
+        var found = new HashMap<String, Double>();
+        index.forEachWithin(lat, lon, radius, found::put);
+        return found;
+    }
+
+    @Test
+    @DisplayName("[성공] 반경 이내의 키만 거리와 함께 반환한다")
+    void forEachWithin_returnsKeysInsideRadius() {
+        var index = new SpatialGridIndex<String>(100);
+        index.put("near", LAT + 0.0005, LON);   // ≈ 56m
+        index.put("mid", LAT + 0.0015, LON);    // ≈ 167m
+        index.put("far", LAT + 0.01, LON);      // ≈ 1.1km
+
+        var found = within(index, LAT, LON, 200);
+
+        assertEquals(2, found.size());
+        assertTrue(found.containsKey("near"));
+        assertTrue(found.containsKey("mid"));
+        assertEquals(56, found.get("near"), 1);
+    }
+
+    @Test
+    @DisplayName("[성공] 격자 칸 경계를 넘어 경도 방향으로 떨어진 키도 찾는다")
+    void forEachWithin_spansCellsInLongitude() {
+        var index = new SpatialGridIndex<String>(50);
+        index.put("east", LAT, LON + 0.002);    // ≈ 176m
+        index.put("west", LAT, LON - 0.002);
+
+        var found = within(index, LAT, LON, 180);
+
+        assertEquals(2, found.size());
+    }
+
+    @Test
+    @DisplayName("[성공] anyWithin은 반경 이내에 키가 있는지만 판정한다")
+    void anyWithin() {
+        var index = new SpatialGridIndex<String>(50);
+        assertFalse(index.anyWithin(LAT, LON, 100));
+
+        index.put("mid", LAT + 0.0015, LON);    // ≈ 167m
+
+        assertFalse(index.anyWithin(LAT, LON, 100));
+        assertTrue(index.anyWithin(LAT, LON, 200));
+    }
+
+    @Test
+    @DisplayName("[성공] 좌표를 옮기면 이전 칸에서 빠지고 새 위치로 검색된다")
+    void put_movesKeyBetweenCells() {
+        var index = new SpatialGridIndex<String>(100);
+        index.put("p1", LAT, LON);
+        index.put("p1", LAT + 0.01, LON);
+
+        assertTrue(within(index, LAT, LON, 200).isEmpty());
+        assertEquals(1, within(index, LAT + 0.01, LON, 10).size());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("[성공] 제거한 키는 검색되지 않는다")
+    void remove_excludesKey() {
+        var index = new SpatialGridIndex<String>(100);
+        index.put("p1", LAT, LON);
+
+        assertTrue(index.remove("p1"));
+        assertFalse(index.remove("p1"));
+        assertFalse(index.contains("p1"));
+        assertTrue(within(index, LAT, LON, 500).isEmpty());
+    }
+
+    @Test
+    @DisplayName("[성공] 키 사이 거리를 계산하고, 없는 키면 NaN을 반환한다")
+    void distanceMeters_betweenKeys() {
+        var index = new SpatialGridIndex<String>(100);
+        index.put("a", LAT, LON);
+        index.put("b", LAT + 0.001, LON);
+
+        assertEquals(111, index.distanceMeters("a", "b"), 1);
+        assertTrue(Double.isNaN(index.distanceMeters("a", "missing")));
+    }
+
+    @Test
+    @DisplayName("[실패] 격자 크기가 0 이하면 예외가 발생한다")
+    void constructor_rejectsNonPositiveCell() {
+        assertThrows(IllegalArgumentException.class, () -> new SpatialGridIndex<String>(0));
+    }
+}
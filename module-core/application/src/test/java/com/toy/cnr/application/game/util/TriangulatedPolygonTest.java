@@ -0,0 +1,107 @@
+package com.toy.cnr.application.game.util;
+
+import com.toy.cnr.domain.room.GeoPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriangulatedPolygonTest {
+
+    /** (37~38°, 127~128°) 정사각형 */
+    private static final List<GeoPoint> SQUARE = List.of(
+        new GeoPoint(37.0, 127.0),
+        new GeoPoint(37.0, 128.0),
+        new GeoPoint(38.0, 128.0),
+        new GeoPoint(38.0, 127.0)
+    );
+
+    /** 위쪽 팔(위도 1~3, 경도 0~1)과 아래쪽 몸통(위도 0~1, 경도 0~2)으로 된 L자: 넓이 2:2 */
+    private static final List<GeoPoint> L_SHAPE = List.of(
+        new GeoPoint(0, 0),
+        new GeoPoint(0, 2),
+        new GeoPoint(1, 2),
+        new GeoPoint(1, 1),
+        new GeoPoint(3, 1),
+        new GeoPoint(3, 0)
+    );
+
+    private static void assertSamplesInside(List<GeoPoint> polygon, TriangulatedPolygon triangulated) {
+        var random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            var point = triangulated.sample(random);
+            assertNotNull(point);
+            assertTrue(PolygonUtils.contains(polygon, point.latitude(), point.longitude()), point.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 볼록 폴리곤은 n-2개 삼각형으로 나뉘고, 꼭짓점 순서(시계/반시계)와 무관하다")
+    void of_convex() {
+        var counterClockwise = TriangulatedPolygon.of(SQUARE);
+        var clockwise = TriangulatedPolygon.of(SQUARE.reversed());
+
+        assertEquals(2, counterClockwise.triangleCount());
+        assertEquals(2, clockwise.triangleCount());
+        assertSamplesInside(SQUARE, counterClockwise);
+        assertSamplesInside(SQUARE, clockwise);
+    }
+
+    @Test
+    @DisplayName("[성공] 오목 폴리곤의 샘플은 모두 내부에 있고, 넓이에 비례해 고르게 뽑힌다")
+    void sample_concaveUniform() {
+        var triangulated = TriangulatedPolygon.of(L_SHAPE);
+        assertSamplesInside(L_SHAPE, triangulated);
+
+        var random = new Random(7);
+        int upper = 0;
+        int samples = 100_000;
+        for (int i = 0; i < samples; i++) {
+            if (triangulated.sample(random).latitude() > 1) {
+                upper++;
+            }
+        }
+        assertEquals(0.5, (double) upper / samples, 0.01);
+    }
+
+    @Test
+    @DisplayName("[성공] 바운딩 박스 기각 샘플링이 자주 실패하는 가는 강 모양에서도 항상 내부 좌표를 반환한다")
+    void sample_thinRiver() {
+        var river = new ArrayList<GeoPoint>();
+        for (int i = 0; i <= 40; i++) {
+            river.add(new GeoPoint(37.0 + 0.001 * i, 127.0 + (i % 2 == 0 ? 0 : 0.0005)));
+        }
+        for (int i = 40; i >= 0; i--) {
+            river.add(new GeoPoint(37.0 + 0.001 * i, 127.00002 + (i % 2 == 0 ? 0 : 0.0005)));
+        }
+
+        assertSamplesInside(river, TriangulatedPolygon.of(river));
+    }
+
+    @Test
+    @DisplayName("[성공] 첫 꼭짓점을 반복해 닫은 폴리곤과 일직선 꼭짓점도 처리한다")
+    void of_closedAndCollinear() {
+        var closed = new ArrayList<>(SQUARE);
+        closed.add(SQUARE.getFirst());
+        var collinear = List.of(
+            new GeoPoint(0, 0), new GeoPoint(0, 1), new GeoPoint(0, 2), new GeoPoint(2, 2), new GeoPoint(2, 0)
+        );
+
+        assertEquals(2, TriangulatedPolygon.of(closed).triangleCount());
+        assertSamplesInside(collinear, TriangulatedPolygon.of(collinear));
+    }
+
+    @Test
+    @DisplayName("[실패] 꼭짓점 3개 미만이거나 자기 교차하는 폴리곤 → EMPTY, sample은 null")
+    void of_invalid_empty() {
+        var bowtie = List.of(new GeoPoint(0, 0), new GeoPoint(1, 1), new GeoPoint(1, 0), new GeoPoint(0, 1));
+
+        assertSame(TriangulatedPolygon.EMPTY, TriangulatedPolygon.of(List.of(new GeoPoint(0, 0), new GeoPoint(1, 1))));
+        assertTrue(TriangulatedPolygon.of(bowtie).isEmpty());
+        assertNull(TriangulatedPolygon.EMPTY.sample(new Random()));
+    }
+}
@@ -16,7 +16,10 @@ public sealed interface GameEvent
             GameEvent.RoleAssigned,
             GameEvent.GemCollected,
             GameEvent.GemSpawned,
-            GameEvent.PingAlert
+            GameEvent.PingAlert,
+            GameEvent.TimeRemaining,
+            GameEvent.PlayerStale,
+            GameEvent.PoliceNearby
 {
     String gameId();
     long timestamp();
@@ -108,4 +111,27 @@ public sealed interface GameEvent
         double longitude,
         long timestamp
     ) implements GameEvent {}
+
+    /** 남은 게임 시간 안내 (매분, 30초/10초 전) */
+    record TimeRemaining(
+        String gameId,
+        long remainingSeconds,
+        long timestamp
+    ) implements GameEvent {}
+
+    /** 플레이어 좌표가 한동안 갱신되지 않음 (연결 끊김 의심) */
+    record PlayerStale(
+        String gameId,
+        String playerId,
+        long lastSeenAt,
+        long timestamp
+    ) implements GameEvent {}
+
+    /** 경찰이 반경 안으로 접근 (해당 도둑에게만 전송) */
+    record PoliceNearby(
+        String gameId,
+        String playerId,
+        double distanceMeters,
+        long timestamp
+    ) implements GameEvent {}
 }
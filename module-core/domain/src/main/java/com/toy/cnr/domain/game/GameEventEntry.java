@@ -0,0 +1,12 @@
+package com.toy.cnr.domain.game;
+
+/**
+ * 이벤트 로그 ID가 붙은 게임 이벤트.
+ *
+ * @param id    이벤트 로그 ID (게임 내에서 단조 증가, 개인 채널 이벤트는 null)
+ * @param event 게임 이벤트
+ */
+public record GameEventEntry(
+    String id,
+    GameEvent event
+) {}
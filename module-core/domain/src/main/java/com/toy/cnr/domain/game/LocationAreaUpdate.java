@@ -0,0 +1,22 @@
+package com.toy.cnr.domain.game;
+
+/**
+ * 관심 영역(반경) 구독에서 전달되는 좌표 변경 한 건.
+ *
+ * @param type     변경 종류
+ * @param location 대상 플레이어 좌표 ({@link Type#LEAVE}이면 마지막으로 알려진 좌표)
+ */
+public record LocationAreaUpdate(
+    Type type,
+    PlayerLocation location
+) {
+
+    public enum Type {
+        /** 반경 안으로 들어옴 */
+        ENTER,
+        /** 반경 안에서 움직임 */
+        MOVE,
+        /** 반경 밖으로 나감 */
+        LEAVE
+    }
+}
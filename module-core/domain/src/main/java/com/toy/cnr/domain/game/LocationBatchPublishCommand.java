@@ -0,0 +1,33 @@
+package com.toy.cnr.domain.game;
+
+import java.util.List;
+
+/**
+ * 좌표 일괄 발행 커맨드.
+ * <p>
+ * 단말(또는 디바이스 게이트웨이)이 버퍼링한 여러 개의 좌표를 한 번에 전달할 때 사용합니다.
+ * 하나의 배치에 여러 플레이어의 좌표가 섞여 있을 수 있습니다.
+ *
+ * @param gameId 게임 세션 ID
+ * @param fixes  버퍼링된 좌표 목록 (플레이어별로 측정 시각 순서)
+ */
+public record LocationBatchPublishCommand(
+    String gameId,
+    List<Fix> fixes
+) {
+
+    /**
+     * 단일 GPS 좌표.
+     *
+     * @param playerId  플레이어 ID
+     * @param longitude 경도
+     * @param latitude  위도
+     * @param timestamp 단말 측정 시각 (epoch millis, 0 이하이면 서버 수신 시각 사용)
+     */
+    public record Fix(
+        String playerId,
+        double longitude,
+        double latitude,
+        long timestamp
+    ) {}
+}
@@ -0,0 +1,25 @@
+package com.toy.cnr.port.game;
+
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.GameEventEntryDto;
+
+import java.util.List;
+
+/**
+ * 게임 이벤트 로그 조회 포트 인터페이스.
+ * <p>
+ * 발행된 게임 이벤트는 게임별 상한이 있는 로그에 함께 기록되며({@link GameEventPublisher}),
+ * 재연결한 클라이언트가 놓친 이벤트를 재생하는 데 사용됩니다.
+ */
+public interface GameEventLogStore {
+
+    /**
+     * {@code lastEventId} 이후에 기록된 이벤트를 오래된 순으로 조회합니다.
+     *
+     * @param gameId      게임 세션 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID
+     * @param limit       최대 조회 개수
+     * @return 이후 이벤트 목록. {@code lastEventId} 이후 구간 일부가 상한으로 잘려 나갔으면 NotFound
+     */
+    RepositoryResult<List<GameEventEntryDto>> readAfter(String gameId, String lastEventId, int limit);
+}
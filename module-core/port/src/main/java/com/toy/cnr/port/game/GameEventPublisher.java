@@ -11,9 +11,20 @@ public interface GameEventPublisher {
 
     /**
      * 게임 이벤트를 발행합니다.
+     * 재연결한 구독자가 재생할 수 있도록 게임별 이벤트 로그({@link GameEventLogStore})에도 함께 기록합니다.
      *
      * @param gameId 게임 세션 ID
      * @param event  발행할 이벤트 DTO
      */
     void publish(String gameId, GameEventDto event);
+
+    /**
+     * 플레이어 한 명에게만 전달할 이벤트를 개인 채널로 발행합니다 (예: 역할 배정).
+     * 게임 이벤트 로그에는 기록하지 않으므로 재연결 재생 대상이 아니며, 놓친 경우 게임 상태 조회로 복구합니다.
+     *
+     * @param gameId   게임 세션 ID
+     * @param playerId 수신 플레이어 ID
+     * @param event    발행할 이벤트 DTO
+     */
+    void publishToPlayer(String gameId, String playerId, GameEventDto event);
 }
@@ -1,7 +1,8 @@
 package com.toy.cnr.port.game;
 
-import com.toy.cnr.port.game.model.GameEventDto;
+import com.toy.cnr.port.game.model.GameEventEntryDto;
 
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -9,17 +10,33 @@ import java.util.function.Consumer;
  * <p>
  * 동일 게임에 복수의 클라이언트가 독립적으로 구독할 수 있도록
  * 구독 단위를 식별하는 {@code subscriberId}를 반환합니다.
+ * <p>
+ * 구독 시 받을 이벤트 타입을 지정하면 구현체가 분배 단계에서 걸러내며,
+ * 플레이어 ID를 지정하면 그 플레이어의 개인 채널 이벤트({@link GameEventPublisher#publishToPlayer})도 함께 받습니다.
  */
 public interface GameEventSubscriber {
 
     /**
-     * 게임 이벤트 채널을 구독합니다.
+     * 게임 이벤트 채널(과 플레이어 개인 채널)을 구독합니다.
+     *
+     * @param gameId    게임 세션 ID
+     * @param playerId  개인 채널을 함께 구독할 플레이어 ID (null이면 게임 채널만)
+     * @param types     받을 이벤트 타입 (null 또는 빈 집합이면 전체)
+     * @param onMessage 이벤트 수신 시 호출되는 콜백 (이벤트 로그 ID 포함, 개인 채널 이벤트는 ID 없음)
+     * @return 구독 해제에 사용할 subscriberId
+     */
+    String subscribe(String gameId, String playerId, Set<String> types, Consumer<GameEventEntryDto> onMessage);
+
+    /**
+     * 플레이어 개인 채널만 구독합니다. 게임 채널은 여러 연결이 공유하고 개인 채널만 따로 받을 때 사용합니다.
      *
      * @param gameId    게임 세션 ID
-     * @param onMessage 이벤트 수신 시 호출되는 콜백
+     * @param playerId  플레이어 ID
+     * @param types     받을 이벤트 타입 (null 또는 빈 집합이면 전체)
+     * @param onMessage 이벤트 수신 시 호출되는 콜백 (ID 없음)
      * @return 구독 해제에 사용할 subscriberId
      */
-    String subscribe(String gameId, Consumer<GameEventDto> onMessage);
+    String subscribeToPlayer(String gameId, String playerId, Set<String> types, Consumer<GameEventEntryDto> onMessage);
 
     /**
      * 구독을 해제합니다.
@@ -0,0 +1,49 @@
+package com.toy.cnr.port.game;
+
+import com.toy.cnr.port.common.RepositoryResult;
+
+import java.util.Set;
+
+/**
+ * 게임 서버 노드 멤버십 포트 인터페이스.
+ * <p>
+ * 노드는 주기적으로 {@link #heartbeat}로 만료 시각을 갱신하고, 만료 시각이 지나지 않은 노드가 살아 있는 노드입니다.
+ * 살아 있는 노드 목록으로 일관 해싱 링을 만들어 활성 게임의 주기 작업을 노드마다 나눠 맡습니다.
+ * 멤버십이 바뀌는 동안 두 노드가 같은 게임을 맡을 수 있으므로, 주기마다 한 번만 실행해야 하는 작업은
+ * {@link #tryAcquireLease}로 게임별 리스를 함께 겁니다.
+ */
+public interface GameNodeStore {
+
+    /**
+     * 노드의 만료 시각을 등록·갱신합니다.
+     *
+     * @param nodeId    노드 ID
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    RepositoryResult<Void> heartbeat(String nodeId, long expiresAt);
+
+    /**
+     * 노드를 즉시 멤버십에서 제거합니다 (정상 종료).
+     *
+     * @param nodeId 노드 ID
+     */
+    RepositoryResult<Void> leave(String nodeId);
+
+    /**
+     * 만료되지 않은 노드 ID 목록을 조회합니다. 만료된 노드는 함께 정리합니다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     */
+    RepositoryResult<Set<String>> getLiveNodes(long now);
+
+    /**
+     * 게임별 작업 리스를 겁니다. 다른 노드가 건 리스가 남아 있으면 실패합니다.
+     *
+     * @param gameId   게임 ID
+     * @param task     작업 이름 (예: gem-spawn)
+     * @param nodeId   리스를 거는 노드 ID
+     * @param ttlMillis 리스 유지 시간
+     * @return 리스를 얻었으면 true
+     */
+    RepositoryResult<Boolean> tryAcquireLease(String gameId, String task, String nodeId, long ttlMillis);
+}
@@ -14,5 +14,10 @@ public interface GameStateStore {
 
     RepositoryResult<GameStateDto> getGameState(String gameId);
 
-    RepositoryResult<Void> updateStatus(String gameId, String status);
+    /**
+     * 게임 status를 바꿉니다. 이미 종료({@code ENDED})된 게임은 바꾸지 않습니다 (원자적 비교 후 갱신).
+     *
+     * @return 바꿨으면 {@code Found(true)}, 이미 종료되어 그대로 뒀으면 {@code Found(false)}, 게임이 없으면 NotFound
+     */
+    RepositoryResult<Boolean> updateStatus(String gameId, String status);
 }
@@ -0,0 +1,23 @@
+package com.toy.cnr.port.game;
+
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.GameTickSnapshotDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 게임 틱 스냅샷 조회 포트 인터페이스.
+ * <p>
+ * 틱마다 게임별로 여러 번 왕복하지 않도록, 여러 게임의 스냅샷을 한 번의 파이프라인으로 읽습니다.
+ */
+public interface GameTickStore {
+
+    /**
+     * 게임들의 틱 스냅샷을 한 번의 왕복으로 조회합니다.
+     *
+     * @param gameIds 게임 ID 목록
+     * @return gameId → 스냅샷
+     */
+    RepositoryResult<Map<String, GameTickSnapshotDto>> loadSnapshots(Collection<String> gameIds);
+}
@@ -1,21 +1,44 @@
 package com.toy.cnr.port.game;
 
+import java.util.function.Consumer;
+
 /**
  * 게임 라이프사이클 타이머 포트 인터페이스.
  * <p>
- * 구현체(SpringGameTimerAdapter)는 batch 모듈에 위치하며,
- * ScheduledExecutorService로 per-game 개별 타이머를 관리합니다.
+ * 구현체는 batch 모듈에 위치하며 {@code cnr.game.timer.mode}로 선택합니다.
+ * <ul>
+ *   <li>{@code local}: SpringGameTimerAdapter — 노드 메모리의 ScheduledExecutorService (재시작 시 유실)</li>
+ *   <li>{@code wheel}: TimingWheelGameTimerAdapter — 노드 메모리의 계층형 타이밍 휠, O(1) 예약·취소 (재시작 시 유실)</li>
+ *   <li>{@code redis}: RedisGameTimerAdapter — {@link GameTimerStore}에 마감 시각을 저장하고 리스로 한 노드만 실행</li>
+ * </ul>
+ * 작업은 다른 노드에서 실행될 수 있으므로 클로저 대신 {@code "{type}:{key}"} 형식의 taskId만 저장하고,
+ * 실행 시 type에 등록된 핸들러에 key를 넘깁니다.
  */
 public interface GameTimerPort {
 
     /**
-     * 지정된 지연 후 task를 한 번 실행합니다.
+     * 작업 타입별 핸들러를 등록합니다. 노드 시작 시 모든 노드에서 동일하게 등록해야 합니다.
+     *
+     * @param type    작업 타입 (taskId의 첫 구간, 예: "escape", "end")
+     * @param handler taskId의 나머지 구간(예: gameId)을 받아 실행하는 핸들러
+     */
+    void registerHandler(String type, Consumer<String> handler);
+
+    /**
+     * 지정된 지연 후 작업을 한 번 실행합니다. 같은 taskId가 이미 있으면 새 지연으로 바꿉니다.
+     *
+     * @param taskId  {@code "{type}:{key}"} 형식의 고유 ID (예: "escape:{gameId}", "end:{gameId}")
+     * @param delayMs 지연 시간 (밀리초)
+     */
+    void schedule(String taskId, long delayMs);
+
+    /**
+     * 같은 taskId가 없을 때만 작업을 예약합니다 (시작 시 복구용).
      *
-     * @param taskId  취소에 사용할 고유 ID (예: "escape:{gameId}", "end:{gameId}")
+     * @param taskId  {@code "{type}:{key}"} 형식의 고유 ID
      * @param delayMs 지연 시간 (밀리초)
-     * @param task    실행할 작업
      */
-    void schedule(String taskId, long delayMs, Runnable task);
+    void scheduleIfAbsent(String taskId, long delayMs);
 
     /**
      * 예약된 작업을 취소합니다. 이미 실행된 경우 무시합니다.
@@ -0,0 +1,60 @@
+package com.toy.cnr.port.game;
+
+import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.ClaimedTimerDto;
+
+import java.util.List;
+
+/**
+ * 게임 타이머 마감 시각 저장 포트 인터페이스.
+ * <p>
+ * Redis ZSET(score = 실행 시각)에 taskId를 보관해 노드 재시작·배포 후에도 타이머가 남도록 합니다.
+ * 실행할 노드는 {@link #claimDue}로 리스를 얻고, 실행 후 {@link #complete}로 제거합니다.
+ * 리스가 만료될 때까지 완료하지 못한 작업(노드 장애, 핸들러 실패)은 다시 만기 상태가 되어 다른 노드가 가져갑니다.
+ * 가져간 횟수를 함께 세어, 계속 실패하는 작업을 호출자가 포기할 수 있게 합니다.
+ */
+public interface GameTimerStore {
+
+    /**
+     * 작업을 예약합니다. 같은 taskId가 있으면 실행 시각을 바꾸고 가져간 횟수를 초기화합니다.
+     *
+     * @param taskId 작업 ID
+     * @param dueAt  실행 시각 (epoch millis)
+     */
+    RepositoryResult<Void> schedule(String taskId, long dueAt);
+
+    /**
+     * 같은 taskId가 없을 때만 작업을 예약합니다.
+     *
+     * @param taskId 작업 ID
+     * @param dueAt  실행 시각 (epoch millis)
+     */
+    RepositoryResult<Void> scheduleIfAbsent(String taskId, long dueAt);
+
+    /**
+     * 예약된 작업을 가져간 횟수와 함께 제거합니다.
+     *
+     * @param taskId 작업 ID
+     */
+    RepositoryResult<Void> cancel(String taskId);
+
+    /**
+     * 만기된 작업을 최대 {@code limit}개 가져오며 리스를 겁니다 (원자적).
+     * 가져간 작업의 실행 시각은 {@code leaseUntil}로 미뤄져 다른 노드에서 보이지 않으며, 가져간 횟수가 1 늘어납니다.
+     *
+     * @param now        현재 시각 (epoch millis)
+     * @param leaseUntil 리스 만료 시각 (epoch millis)
+     * @param limit      최대 개수
+     * @return 가져간 작업 목록
+     */
+    RepositoryResult<List<ClaimedTimerDto>> claimDue(long now, long leaseUntil, int limit);
+
+    /**
+     * 리스를 건 작업을 가져간 횟수와 함께 제거합니다. 실행 중 다시 예약·취소되었거나 리스가 만료되어
+     * 다른 노드가 가져간 경우(실행 시각이 {@code leaseUntil}과 다름)에는 남겨 둡니다.
+     *
+     * @param taskId     작업 ID
+     * @param leaseUntil {@link #claimDue}에 넘긴 리스 만료 시각
+     */
+    RepositoryResult<Void> complete(String taskId, long leaseUntil);
+}
@@ -1,6 +1,8 @@
 package com.toy.cnr.port.game;
 
 import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import com.toy.cnr.port.game.model.GameEventDto;
 import com.toy.cnr.port.game.model.GemDto;
 
 import java.util.List;
@@ -19,4 +21,21 @@ public interface GemStore {
     RepositoryResult<List<GemDto>> getAllGems(String gameId);
 
     RepositoryResult<Void> updateGem(String gameId, GemDto gem);
+
+    /**
+     * 보석 획득을 원자적으로 수행합니다 (서버 측 스크립트, 1 round trip).
+     * <p>
+     * 도둑 역할·상태와 보석 AVAILABLE 상태 검증, 거리 판정, 보석 COLLECTED 전환과 획득 수 증가,
+     * 이벤트 발행을 한 번에 처리합니다. 같은 보석에 대한 동시 획득은 먼저 도착한 요청만 성공합니다.
+     *
+     * @param radiusMeters 획득 반경 (미터)
+     * @param event        성공 시 게임 이벤트 채널로 발행할 이벤트
+     */
+    RepositoryResult<GameActionResultDto> collectGem(
+        String gameId,
+        String robberId,
+        String gemId,
+        double radiusMeters,
+        GameEventDto event
+    );
 }
@@ -1,9 +1,12 @@
 package com.toy.cnr.port.game;
 
 import com.toy.cnr.port.common.RepositoryResult;
+import com.toy.cnr.port.game.model.GameActionResultDto;
+import com.toy.cnr.port.game.model.GameEventDto;
 import com.toy.cnr.port.game.model.InGamePlayerDto;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * 인게임 플레이어 저장/조회 포트 인터페이스.
@@ -19,4 +22,47 @@ public interface InGamePlayerStore {
     RepositoryResult<List<InGamePlayerDto>> getAllPlayers(String gameId);
 
     RepositoryResult<Void> updatePlayer(String gameId, InGamePlayerDto player);
+
+    /**
+     * 역할/상태가 일치하는 플레이어 ID 집합을 조회합니다 (역할·상태별 멤버십 인덱스).
+     *
+     * @param role   {@code PlayerRole} 이름
+     * @param status {@code PlayerStatus} 이름
+     */
+    RepositoryResult<Set<String>> getPlayerIds(String gameId, String role, String status);
+
+    /**
+     * 체포를 원자적으로 수행합니다 (서버 측 스크립트, 1 round trip).
+     * <p>
+     * 경찰/도둑의 역할·상태 검증, GEODIST 거리 판정, 도둑 ARRESTED 전환과 경찰 체포 수 증가,
+     * 이벤트 발행을 한 번에 처리합니다. 같은 도둑에 대한 동시 체포는 먼저 도착한 요청만 성공합니다.
+     *
+     * @param radiusMeters 체포 반경 (미터)
+     * @param event        성공 시 게임 이벤트 채널로 발행할 이벤트
+     * @return 판정 결과. 성공 시 남은 ACTIVE 도둑 수를 포함합니다.
+     */
+    RepositoryResult<GameActionResultDto> arrest(
+        String gameId,
+        String copsId,
+        String robberId,
+        double radiusMeters,
+        GameEventDto event
+    );
+
+    /**
+     * 구출을 원자적으로 수행합니다 (서버 측 스크립트, 1 round trip).
+     * <p>
+     * 구출자 역할·상태와 대상 ARRESTED 상태 검증, GEODIST 거리 판정, 대상 ACTIVE 복귀와 구출 수 증가,
+     * 이벤트 발행을 한 번에 처리합니다.
+     *
+     * @param radiusMeters 구출 반경 (미터)
+     * @param event        성공 시 게임 이벤트 채널로 발행할 이벤트
+     */
+    RepositoryResult<GameActionResultDto> rescue(
+        String gameId,
+        String rescuerId,
+        String rescuedId,
+        double radiusMeters,
+        GameEventDto event
+    );
 }
@@ -2,6 +2,8 @@ package com.toy.cnr.port.game;
 
 import com.toy.cnr.port.game.model.LocationDto;
 
+import java.util.List;
+
 /**
  * 좌표 이벤트 발행 포트 인터페이스.
  * <p>
@@ -10,11 +12,10 @@ import com.toy.cnr.port.game.model.LocationDto;
 public interface LocationPublisher {
 
     /**
-     * 특정 게임의 플레이어 좌표 이벤트를 발행합니다.
+     * 특정 게임의 여러 플레이어 좌표 이벤트를 한 번의 왕복(파이프라인)으로 발행합니다.
      *
-     * @param gameId   게임 세션 ID
-     * @param playerId 플레이어 ID
-     * @param location 좌표 데이터
+     * @param gameId    게임 세션 ID
+     * @param locations 좌표 데이터 목록
      */
-    void publish(String gameId, String playerId, LocationDto location);
+    void publishAll(String gameId, List<LocationDto> locations);
 }
@@ -2,6 +2,10 @@ package com.toy.cnr.port.game;
 
 import com.toy.cnr.port.common.RepositoryResult;
 import com.toy.cnr.port.game.model.LocationDto;
+import com.toy.cnr.port.game.model.NearbyLocationDto;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 좌표 저장/조회 포트 인터페이스.
@@ -11,14 +15,25 @@ import com.toy.cnr.port.game.model.LocationDto;
 public interface LocationStore {
 
     /**
-     * 플레이어 좌표를 저장합니다 (GeoHash).
+     * 플레이어 좌표를 원자적으로 갱신합니다 (서버 측 스크립트, 1 round trip).
+     * <p>
+     * 새 좌표 저장, 측정 시각 기록, 좌표 채널 발행을 한 번에 수행하고 직전 좌표를 반환합니다.
+     *
+     * @param gameId   게임 세션 ID
+     * @param location 새 좌표
+     * @return 직전 좌표. 이전 좌표가 없으면 {@code Found(null)}
      */
-    RepositoryResult<Void> saveLocation(
-        String gameId,
-        String playerId,
-        double longitude,
-        double latitude
-    );
+    RepositoryResult<LocationDto> updateLocation(String gameId, LocationDto location);
+
+    /**
+     * 여러 플레이어의 좌표를 한 번의 왕복으로 원자적으로 저장합니다 (GEOPOS + GEOADD).
+     * 저장된 측정 시각보다 오래된 좌표는 저장하지 않습니다 (반환된 직전 좌표의 측정 시각이 더 늦은 플레이어).
+     *
+     * @param gameId    게임 세션 ID
+     * @param locations 저장할 좌표 목록 (플레이어당 1개)
+     * @return 저장 직전 좌표 (playerId → LocationDto). 이전 좌표가 없던 플레이어는 포함되지 않습니다.
+     */
+    RepositoryResult<Map<String, LocationDto>> saveLocations(String gameId, List<LocationDto> locations);
 
     /**
      * 플레이어 좌표를 조회합니다.
@@ -29,4 +44,41 @@ public interface LocationStore {
      * 두 플레이어 사이의 거리를 미터 단위로 계산합니다 (Redis GEODIST).
      */
     RepositoryResult<Double> getDistanceMeters(String gameId, String playerId1, String playerId2);
+
+    /**
+     * 기준 플레이어 좌표에서 반경 내의 플레이어를 가까운 순으로 조회합니다 (Redis GEOSEARCH 1회).
+     * 기준 플레이어 자신도 결과에 포함됩니다.
+     *
+     * @param gameId       게임 세션 ID
+     * @param centerMember 기준 플레이어 ID
+     * @param radiusMeters 반경 (미터)
+     * @param withDist     거리 포함 여부
+     * @param withCoord    좌표 포함 여부
+     * @return 반경 내 플레이어 목록, 기준 플레이어 좌표가 없으면 NotFound
+     */
+    RepositoryResult<List<NearbyLocationDto>> searchWithinRadius(
+        String gameId,
+        String centerMember,
+        double radiusMeters,
+        boolean withDist,
+        boolean withCoord
+    );
+
+    /**
+     * 지정한 역할/상태의 플레이어만 담긴 파티션에서 좌표 기준 반경 내 플레이어를 가까운 순으로 조회합니다.
+     * 파티션은 좌표 갱신과 역할/상태 변경 시 원자적으로 유지되므로 호출자가 결과를 다시 거를 필요가 없습니다.
+     *
+     * @param role   {@code PlayerRole} 이름
+     * @param status {@code PlayerStatus} 이름
+     */
+    RepositoryResult<List<NearbyLocationDto>> searchWithinRadius(
+        String gameId,
+        String role,
+        String status,
+        double longitude,
+        double latitude,
+        double radiusMeters,
+        boolean withDist,
+        boolean withCoord
+    );
 }
@@ -2,30 +2,41 @@ package com.toy.cnr.port.game;
 
 import com.toy.cnr.port.game.model.LocationDto;
 
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
  * 좌표 이벤트 구독 포트 인터페이스.
  * <p>
- * Redis Pub/Sub 채널을 구독하여 좌표 변경 이벤트를 수신합니다.
- * Consumer 콜백 패턴으로 메시지를 전달합니다.
+ * 게임 단위 좌표 채널을 구독하여 좌표 변경 이벤트를 수신합니다.
+ * 동일 게임·플레이어에 복수의 클라이언트가 독립적으로 구독할 수 있도록
+ * 구독 단위를 식별하는 {@code subscriberId}를 반환합니다.
  */
 public interface LocationSubscriber {
 
     /**
-     * 특정 게임의 플레이어 좌표 채널을 구독합니다.
+     * 특정 게임에서 지정한 플레이어들의 좌표를 구독합니다.
      *
-     * @param gameId     게임 세션 ID
-     * @param playerId   구독할 플레이어 ID
-     * @param onMessage  좌표 수신 시 호출되는 콜백
+     * @param gameId    게임 세션 ID
+     * @param playerIds 좌표를 수신할 플레이어 ID 집합
+     * @param onMessage 좌표 수신 시 호출되는 콜백
+     * @return 구독 해제에 사용할 subscriberId
      */
-    void subscribe(String gameId, String playerId, Consumer<LocationDto> onMessage);
+    String subscribe(String gameId, Set<String> playerIds, Consumer<LocationDto> onMessage);
 
     /**
-     * 특정 게임의 플레이어 좌표 채널 구독을 해제합니다.
+     * 특정 게임의 모든 플레이어 좌표를 구독합니다 (서버 측 관심 영역 필터링용).
      *
-     * @param gameId   게임 세션 ID
-     * @param playerId 구독 해제할 플레이어 ID
+     * @param gameId    게임 세션 ID
+     * @param onMessage 좌표 수신 시 호출되는 콜백
+     * @return 구독 해제에 사용할 subscriberId
      */
-    void unsubscribe(String gameId, String playerId);
+    String subscribeAll(String gameId, Consumer<LocationDto> onMessage);
+
+    /**
+     * 구독을 해제합니다.
+     *
+     * @param subscriberId {@link #subscribe}가 반환한 ID
+     */
+    void unsubscribe(String subscriberId);
 }
@@ -0,0 +1,12 @@
+package com.toy.cnr.port.game.model;
+
+/**
+ * 리스와 함께 가져간 타이머 작업.
+ *
+ * @param taskId   작업 ID
+ * @param attempts 이번을 포함해 이 작업을 가져간 횟수 (완료·재예약·취소 시 초기화)
+ */
+public record ClaimedTimerDto(
+    String taskId,
+    int attempts
+) {}
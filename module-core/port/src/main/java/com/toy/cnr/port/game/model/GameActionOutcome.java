@@ -0,0 +1,26 @@
+package com.toy.cnr.port.game.model;
+
+/**
+ * 원자적 인게임 액션(체포/구출/보석 획득) 스크립트의 판정 결과.
+ * <p>
+ * 검증은 선언 순서대로 수행되며, 처음 실패한 항목이 반환됩니다.
+ */
+public enum GameActionOutcome {
+    SUCCESS,
+    /** 행위자(경찰/구출자/획득자)가 게임에 없음 */
+    ACTOR_NOT_FOUND,
+    /** 행위자 역할이 액션과 맞지 않음 */
+    ACTOR_ROLE_MISMATCH,
+    /** 행위자가 ACTIVE 상태가 아님 */
+    ACTOR_NOT_ACTIVE,
+    /** 대상(도둑/보석)이 없음 */
+    TARGET_NOT_FOUND,
+    /** 대상 역할이 액션과 맞지 않음 */
+    TARGET_ROLE_MISMATCH,
+    /** 대상 상태가 액션과 맞지 않음 (이미 체포됨, 체포되지 않음, 이미 획득됨 등) */
+    TARGET_STATUS_MISMATCH,
+    /** 행위자 또는 대상의 좌표가 없음 */
+    LOCATION_NOT_FOUND,
+    /** 액션 반경 밖 */
+    OUT_OF_RANGE
+}
@@ -0,0 +1,15 @@
+package com.toy.cnr.port.game.model;
+
+/**
+ * 원자적 인게임 액션 실행 결과.
+ *
+ * @param outcome                판정 결과
+ * @param distanceMeters         행위자와 대상 사이 거리 (미터, 거리 판정 전에 실패했으면 null)
+ * @param remainingActiveThieves 액션 직후 ACTIVE 상태 도둑 수 (체포 성공 시에만 채워지며, 그 외에는 null)
+ */
+public record GameActionResultDto(
+    GameActionOutcome outcome,
+    Double distanceMeters,
+    Long remainingActiveThieves
+) {
+}
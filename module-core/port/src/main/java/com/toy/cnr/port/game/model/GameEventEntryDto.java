@@ -0,0 +1,12 @@
+package com.toy.cnr.port.game.model;
+
+/**
+ * 게임 이벤트 로그에 기록된 이벤트.
+ *
+ * @param id    로그 항목 ID (게임 내에서 단조 증가, SSE {@code id:} / {@code Last-Event-ID}로 사용). 개인 채널 이벤트는 null
+ * @param event 이벤트
+ */
+public record GameEventEntryDto(
+    String id,
+    GameEventDto event
+) {}
@@ -0,0 +1,34 @@
+package com.toy.cnr.port.game.model;
+
+import java.util.List;
+
+/**
+ * 게임 틱 한 번에 필요한 게임 상태 스냅샷 (게임 상태, 플레이어 역할·상태·마지막 좌표, 보석).
+ *
+ * @param status  현재 {@code GameStatus} 이름 (status 필드와 이전 포맷 data 모두에서 읽지 못하면 null)
+ * @param players 참가 플레이어
+ * @param gems    게임의 모든 보석
+ */
+public record GameTickSnapshotDto(
+    String gameId,
+    String status,
+    List<TickPlayerDto> players,
+    List<GemDto> gems
+) {
+
+    /**
+     * 플레이어 한 명의 틱 정보.
+     *
+     * @param lastSeenAt 마지막 좌표 측정 시각 (좌표가 없으면 0)
+     * @param longitude  마지막 경도 (좌표가 없으면 null)
+     * @param latitude   마지막 위도 (좌표가 없으면 null)
+     */
+    public record TickPlayerDto(
+        String playerId,
+        String role,
+        String status,
+        long lastSeenAt,
+        Double longitude,
+        Double latitude
+    ) {}
+}
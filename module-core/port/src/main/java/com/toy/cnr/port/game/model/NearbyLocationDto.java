@@ -0,0 +1,17 @@
+package com.toy.cnr.port.game.model;
+
+/**
+ * 반경 검색 결과 항목.
+ *
+ * @param playerId       플레이어 ID
+ * @param distanceMeters 기준 플레이어와의 거리 (미터, 요청하지 않았으면 null)
+ * @param longitude      경도 (요청하지 않았으면 null)
+ * @param latitude       위도 (요청하지 않았으면 null)
+ */
+public record NearbyLocationDto(
+    String playerId,
+    Double distanceMeters,
+    Double longitude,
+    Double latitude
+) {
+}